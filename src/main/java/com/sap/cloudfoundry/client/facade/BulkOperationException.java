@@ -0,0 +1,47 @@
+package com.sap.cloudfoundry.client.facade;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Reports the entities, for which an operation on many entities failed. The operation is not aborted by the first failure, so all of the
+ * other entities have been processed when this exception is thrown. The failures are also added as suppressed exceptions.
+ */
+public class BulkOperationException extends CloudException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String description;
+    private final transient Map<String, Throwable> failures;
+
+    /**
+     * @param description what could not be done, e.g. "Could not delete 2 of 5 applications"
+     * @param failures the failures by the names of the entities, for which they occurred
+     */
+    public BulkOperationException(String description, Map<String, ? extends Throwable> failures) {
+        super(getExceptionMessage(description, failures));
+        this.description = description;
+        this.failures = Collections.unmodifiableMap(new TreeMap<>(failures));
+        this.failures.values()
+                     .forEach(this::addSuppressed);
+    }
+
+    private static String getExceptionMessage(String description, Map<String, ? extends Throwable> failures) {
+        return new TreeMap<>(failures).entrySet()
+                                      .stream()
+                                      .map(failure -> failure.getKey() + ": " + failure.getValue()
+                                                                                       .getMessage())
+                                      .collect(Collectors.joining("; ", description + ": ", ""));
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Map<String, Throwable> getFailures() {
+        return failures;
+    }
+
+}
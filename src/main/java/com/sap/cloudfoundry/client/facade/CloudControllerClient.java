@@ -4,19 +4,26 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.cloudfoundry.client.v3.Metadata;
 import org.springframework.security.oauth2.common.OAuth2AccessToken;
 
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogBatch;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogQuery;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
 import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
 import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
 import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
 import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
 import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
@@ -31,7 +38,9 @@ import com.sap.cloudfoundry.client.facade.domain.CloudStack;
 import com.sap.cloudfoundry.client.facade.domain.CloudTask;
 import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
 import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.EventCursor;
 import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.PolledEvents;
 import com.sap.cloudfoundry.client.facade.domain.Staging;
 import com.sap.cloudfoundry.client.facade.domain.Upload;
 import com.sap.cloudfoundry.client.facade.domain.UserRole;
@@ -129,22 +138,39 @@ public interface CloudControllerClient {
     void createUserProvidedServiceInstance(CloudServiceInstance serviceInstance, Map<String, Object> credentials, String syslogDrainUrl);
 
     /**
-     * Delete all applications.
+     * Delete all applications. The applications are deleted concurrently, and a failed deletion does not abort the others. The service
+     * instances of all applications are unbound concurrently first, and an application is only deleted, if all of its service instances
+     * were unbound.
+     *
+     * @throws BulkOperationException with the failures by application name, if some of the applications could not be deleted
      */
     void deleteAllApplications();
 
     /**
-     * Delete all service instances.
+     * Delete all service instances. The service instances are deleted concurrently, and a failed deletion does not abort the others.
+     *
+     * @throws BulkOperationException with the failures by service instance name, if some of the service instances could not be deleted
      */
     void deleteAllServiceInstances();
 
     /**
-     * Delete application.
+     * Delete application. The Cloud Controller deletes the application asynchronously, so it may still exist when this method returns.
      *
      * @param applicationName name of application
+     * @see #requestApplicationDeletion(String)
      */
     void deleteApplication(String applicationName);
 
+    /**
+     * Delete application, like {@link #deleteApplication(String)}, and return the job of the Cloud Controller, which deletes it
+     * asynchronously.
+     *
+     * @param applicationName name of application
+     * @return the job, which deletes the application, or {@code null} if the Cloud Controller did not return one
+     * @see #awaitJobs(Collection, Duration)
+     */
+    CloudJob requestApplicationDeletion(String applicationName);
+
     /**
      * Delete a private domain in the current organization.
      *
@@ -233,6 +259,26 @@ public interface CloudControllerClient {
      */
     UUID getApplicationGuid(String applicationName);
 
+    /**
+     * Get the GUIDs of the applications with the specified names in the currently targeted space. The names are resolved with a few
+     * batched requests, instead of with one request per name.
+     *
+     * @param applicationNames names of the applications
+     * @return the GUIDs of the applications by name. Names of applications that do not exist are not contained in the map, so callers
+     *         that need all of them must check the keys of the result. No exception is thrown for missing names.
+     */
+    Map<String, UUID> resolveApplicationGuids(Collection<String> applicationNames);
+
+    /**
+     * Forget the cached GUIDs of applications. Reads and updates of an application given by name resolve its GUID through a cache, whose
+     * entries expire after 10 minutes. If the cached GUID is not found, the name is resolved again and the operation is retried once. If
+     * another client renames an application in the meantime, e.g. during a blue-green deployment, its old name keeps resolving to the
+     * renamed application for these operations. Call this after such changes to make the following operations resolve the names again.
+     * Deletes and renames of an application given by name, as well as {@link #getApplicationGuid(String)}, always resolve its current
+     * GUID and are not affected.
+     */
+    void invalidateApplicationGuids();
+
     /**
      * Get application environment variables for the app with the specified name.
      *
@@ -275,6 +321,23 @@ public interface CloudControllerClient {
      */
     List<CloudApplication> getApplications();
 
+    /**
+     * Pass all applications in the currently targeted space to a consumer, as they are retrieved. Unlike {@link #getApplications()}, this
+     * method does not hold all applications in memory at once, and the retrieval of further pages waits for the consumer.
+     *
+     * @param consumer the consumer of the applications
+     */
+    void forEachApplication(Consumer<CloudApplication> consumer);
+
+    /**
+     * Get all applications in the currently targeted space with a fixed number of paginated requests, regardless of the number of
+     * applications. The returned applications do not contain their environment and running instances count, as these can only be
+     * retrieved with one request per application.
+     *
+     * @return list of applications
+     */
+    List<CloudApplication> getApplicationsInBulk();
+
     /**
      * Get the URL used for the cloud controller.
      *
@@ -310,6 +373,25 @@ public interface CloudControllerClient {
      */
     List<CloudEvent> getEvents();
 
+    /**
+     * Get the system events that occurred after the position of a cursor. Start with an empty cursor (optionally restricted to an actee)
+     * and pass the returned cursor to the next poll, so that each poll fetches only the new events. A cursor without a timestamp starts one
+     * minute before the first poll instead of at the beginning of the event history. To read older events, set the timestamp of the first
+     * cursor explicitly.
+     *
+     * @param cursor the position after which to look for events
+     * @return the new events, in chronological order, and the cursor for the next poll
+     */
+    PolledEvents pollEvents(EventCursor cursor);
+
+    /**
+     * Pass all system events to a consumer, as they are retrieved.
+     *
+     * @param consumer the consumer of the events
+     * @see #forEachApplication(Consumer)
+     */
+    void forEachEvent(Consumer<CloudEvent> consumer);
+
     /**
      * Get the organization with the specified name.
      *
@@ -361,6 +443,91 @@ public interface CloudControllerClient {
      */
     List<ApplicationLog> getRecentLogs(UUID applicationGuid);
 
+    /**
+     * Get recent log entries of several apps.
+     *
+     * Get the logs that were recently produced by the apps, merged into a single list that is ordered by timestamp. At most the 10000
+     * newest log entries are returned.
+     *
+     * @param applicationGuids the guids of the applications
+     * @return the list of recent log entries of all applications
+     */
+    List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids);
+
+    /**
+     * Get recent log entries of several apps.
+     *
+     * @param applicationGuids the guids of the applications
+     * @param maxLogs the maximum number of log entries to return. If there are more, the oldest ones are dropped.
+     * @return the list of recent log entries of all applications
+     * @see #getRecentLogs(Collection)
+     */
+    List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids, int maxLogs);
+
+    /**
+     * Get recent log entries in a compact batch.
+     *
+     * Get the same logs as {@link #getRecentLogs(String)}, but store them in a batch that uses much less memory than a list of
+     * {@link ApplicationLog}s. This is preferable when the logs of many apps are processed.
+     *
+     * @param applicationName the name of the application
+     * @return the batch of recent log entries, ordered by timestamp
+     */
+    ApplicationLogBatch getRecentLogBatch(String applicationName);
+
+    /**
+     * Get recent log entries in a compact batch.
+     *
+     * @param applicationGuid the guid of the application
+     * @return the batch of recent log entries, ordered by timestamp
+     * @see #getRecentLogBatch(String)
+     */
+    ApplicationLogBatch getRecentLogBatch(UUID applicationGuid);
+
+    /**
+     * Get log entries from the log cache.
+     *
+     * Get the logs of an app that match a query. The time window, limit and order of the query are applied by the log cache, so only the
+     * requested logs are transferred.
+     *
+     * @param applicationName the name of the application
+     * @param query the query, which the logs must match
+     * @return the list of log entries, in the order of the query
+     */
+    List<ApplicationLog> getRecentLogs(String applicationName, ApplicationLogQuery query);
+
+    /**
+     * Get log entries from the log cache.
+     *
+     * @param applicationGuid the guid of the application
+     * @param query the query, which the logs must match
+     * @return the list of log entries, in the order of the query
+     * @see #getRecentLogs(String, ApplicationLogQuery)
+     */
+    List<ApplicationLog> getRecentLogs(UUID applicationGuid, ApplicationLogQuery query);
+
+    /**
+     * Stream the logs of an application.
+     *
+     * Pass logs to the listener as they are produced by the application, until the returned token is cancelled or the stream is closed
+     * by the server. The listener is called on a separate thread. If it falls behind, the oldest of the buffered logs are dropped.
+     *
+     * @param applicationName the name of the application
+     * @param listener the listener, which receives the logs
+     * @return a token, which can be used to stop streaming
+     */
+    StreamingLogToken streamLogs(String applicationName, ApplicationLogListener listener);
+
+    /**
+     * Stream the logs of an application.
+     *
+     * @param applicationGuid the guid of the application
+     * @param listener the listener, which receives the logs
+     * @return a token, which can be used to stop streaming
+     * @see #streamLogs(String, ApplicationLogListener)
+     */
+    StreamingLogToken streamLogs(UUID applicationGuid, ApplicationLogListener listener);
+
     /**
      * Get the info for all routes for a domain.
      *
@@ -410,6 +577,20 @@ public interface CloudControllerClient {
      */
     CloudServiceInstance getServiceInstance(String serviceInstanceName, boolean required);
 
+    /**
+     * Watch the last operation of a service instance, e.g. after it was created, updated or deleted asynchronously by its broker. The name
+     * is resolved to the GUID of the service instance once, when the watch is registered. All watched service instances are polled
+     * together by their names, with as few list requests as their names fit in, and are matched by their GUIDs, so a service instance,
+     * which was recreated with the same name, is not mistaken for the watched one. The polled service instances only contain their GUIDs,
+     * names, types and last operations.
+     *
+     * @param serviceInstanceName name of the service instance
+     * @return a future, which completes with the service instance, once its last operation has succeeded or failed, or with a
+     *         {@code NOT_FOUND} {@link CloudOperationException}, if the service instance does not exist or once it has been deleted or
+     *         renamed
+     */
+    CompletableFuture<CloudServiceInstance> watchServiceInstance(String serviceInstanceName);
+
     /**
      * Get the bindings for a particular service instance.
      *
@@ -465,6 +646,23 @@ public interface CloudControllerClient {
      */
     List<CloudServiceInstance> getServiceInstances();
 
+    /**
+     * Get the GUIDs of the service instances with the specified names in the currently targeted space.
+     *
+     * @param serviceInstanceNames names of the service instances
+     * @return the GUIDs of the service instances by name. Names of service instances that do not exist are not contained in the map.
+     * @see #resolveApplicationGuids(Collection)
+     */
+    Map<String, UUID> resolveServiceInstanceGuids(Collection<String> serviceInstanceNames);
+
+    /**
+     * Pass all service instances in the currently targeted space to a consumer, as they are retrieved.
+     *
+     * @param consumer the consumer of the service instances
+     * @see #forEachApplication(Consumer)
+     */
+    void forEachServiceInstance(Consumer<CloudServiceInstance> consumer);
+
     /**
      * Get list of all shared domains.
      *
@@ -698,6 +896,10 @@ public interface CloudControllerClient {
     /**
      * Upload an application to Cloud Foundry.
      *
+     * Only the files of the archive, which the Cloud Controller does not have yet, are uploaded. The checksums of the files are cached in
+     * {@code cf-java-client/resource-fingerprints} in {@code $XDG_CACHE_HOME} or {@code ~/.cache}, unless another file is specified by the
+     * system property {@code cloudfoundry.client.resourceFingerprintCache}.
+     *
      * @param applicationName the application name
      * @param file the application archive
      * @param callback a callback interface used to provide progress information or {@code null}
@@ -707,7 +909,8 @@ public interface CloudControllerClient {
     /**
      * Upload an application to Cloud Foundry.
      *
-     * This form of {@code uploadApplication} will read the passed {@code InputStream} and copy the contents to a temporary file for upload.
+     * This form of {@code uploadApplication} will stream the contents of the passed {@code InputStream} to the Cloud Controller, as they
+     * are read. They are copied to a temporary file for upload only if the Cloud Controller does not accept uploads of unknown size.
      *
      * @param applicationName the application name
      * @param inputStream the InputStream to read from
@@ -718,7 +921,8 @@ public interface CloudControllerClient {
     /**
      * Upload an application to Cloud Foundry.
      *
-     * This form of {@code uploadApplication} will read the passed {@code InputStream} and copy the contents to a temporary file for upload.
+     * This form of {@code uploadApplication} will stream the contents of the passed {@code InputStream} to the Cloud Controller, as they
+     * are read. They are copied to a temporary file for upload only if the Cloud Controller does not accept uploads of unknown size.
      *
      * @param applicationName the application name
      * @param inputStream the InputStream to read from
@@ -727,12 +931,93 @@ public interface CloudControllerClient {
      */
     void uploadApplication(String applicationName, InputStream inputStream, UploadStatusCallback callback) throws IOException;
 
+    /**
+     * Upload an application to Cloud Foundry.
+     *
+     * This form of {@code uploadApplication} will stream the contents of the passed {@code InputStream} to the Cloud Controller, as they
+     * are read, without copying them to a temporary file.
+     *
+     * @param applicationName the application name
+     * @param inputStream the InputStream to read from
+     * @param size the number of bytes in the stream, or a negative number if it is not known
+     * @param callback a callback interface used to provide progress information or {@code null}
+     * @throws java.io.IOException
+     */
+    void uploadApplication(String applicationName, InputStream inputStream, long size, UploadStatusCallback callback) throws IOException;
+
+    /**
+     * Upload an application directory to Cloud Foundry.
+     *
+     * The directory is compressed in parallel with the default compression level, while it is uploaded, without writing an archive to
+     * disk. Files and directories excluded by the {@code .cfignore} file of the directory are not uploaded.
+     *
+     * @param applicationName the application name
+     * @param directory the application directory
+     * @throws java.io.IOException
+     */
+    void uploadApplicationDirectory(String applicationName, Path directory) throws IOException;
+
+    /**
+     * Upload an application directory to Cloud Foundry.
+     *
+     * The directory is compressed in parallel, while it is uploaded, without writing an archive to disk. Files and directories excluded by
+     * the {@code .cfignore} file of the directory are not uploaded.
+     *
+     * @param applicationName the application name
+     * @param directory the application directory
+     * @param compressionLevel the level of compression, from 0 (none) to 9 (best), or -1 for the default level
+     * @param callback a callback interface used to provide progress information or {@code null}
+     * @throws java.io.IOException
+     */
+    void uploadApplicationDirectory(String applicationName, Path directory, int compressionLevel, UploadStatusCallback callback)
+        throws IOException;
+
     CloudPackage asyncUploadApplication(String applicationName, Path file);
 
     CloudPackage asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback);
 
     Upload getUploadStatus(UUID packageGuid);
 
+    /**
+     * Monitor an upload until it is processed by the Cloud Controller. The status of the upload is polled often at first and less often
+     * later, without blocking a thread in between polls. Use it to wait for an upload started with
+     * {@link #asyncUploadApplication(String, Path)}. Such an upload is already monitored in the background, so the future of that monitor
+     * is returned, while it is running, and the callback is not used. Cancelling the future stops the polls.
+     *
+     * @param packageGuid the GUID of the uploaded package
+     * @param callback a callback interface used to provide progress information or {@code null}
+     * @return a future, which completes with the last polled status, once the upload is ready, has failed or the callback unsubscribed
+     */
+    CompletableFuture<Upload> monitorUpload(UUID packageGuid, UploadStatusCallback callback);
+
+    /**
+     * Get the current state of an asynchronous job.
+     *
+     * @param jobGuid the GUID of the job
+     * @return the job
+     */
+    CloudJob getJob(UUID jobGuid);
+
+    /**
+     * Wait for asynchronous jobs to finish or fail. Many jobs can be started first, e.g. by deleting applications, and awaited together
+     * afterwards. The jobs, which are still running, are polled in parallel, with an interval that grows up to a few seconds.
+     *
+     * @param jobs the jobs to wait for. {@code null} elements, e.g. for deletions without jobs, are skipped.
+     * @param timeout the maximum time to wait for all of the jobs
+     * @return the jobs in their final states, in the order of the given jobs. Failed jobs contain the details of their errors.
+     * @throws IllegalStateException if the jobs do not complete within the timeout
+     */
+    List<CloudJob> awaitJobs(Collection<CloudJob> jobs, Duration timeout);
+
+    /**
+     * Watch a package until it is {@code READY}, has {@code FAILED} or has {@code EXPIRED}. All watched packages are polled together, with
+     * as few list requests as their GUIDs fit in.
+     *
+     * @param packageGuid the GUID of the package
+     * @return a future, which completes with the package in its terminal state
+     */
+    CompletableFuture<CloudPackage> watchPackage(UUID packageGuid);
+
     CloudTask getTask(UUID taskGuid);
 
     /**
@@ -762,10 +1047,28 @@ public interface CloudControllerClient {
      */
     CloudTask cancelTask(UUID taskGuid);
 
+    /**
+     * Watch a task until it has {@code SUCCEEDED} or {@code FAILED}. All watched tasks are polled together, with as few list requests as
+     * their GUIDs fit in.
+     *
+     * @param taskGuid the GUID of the task
+     * @return a future, which completes with the task in its terminal state
+     */
+    CompletableFuture<CloudTask> watchTask(UUID taskGuid);
+
     CloudBuild createBuild(UUID packageGuid);
 
     CloudBuild getBuild(UUID buildGuid);
 
+    /**
+     * Watch a build until it is {@code STAGED} or has {@code FAILED}. All watched builds are polled together, with as few list requests as
+     * the GUIDs of their packages fit in.
+     *
+     * @param build the build, as returned by {@link #createBuild(UUID)} or {@link #getBuild(UUID)}
+     * @return a future, which completes with the build in its terminal state
+     */
+    CompletableFuture<CloudBuild> watchBuild(CloudBuild build);
+
     void bindDropletToApp(UUID dropletGuid, UUID applicationGuid);
 
     List<CloudBuild> getBuildsForApplication(UUID applicationGuid);
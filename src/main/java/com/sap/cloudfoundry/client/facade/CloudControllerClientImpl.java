@@ -5,11 +5,19 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
 
 import org.cloudfoundry.AbstractCloudFoundryException;
 import org.cloudfoundry.client.v3.Metadata;
@@ -18,10 +26,13 @@ import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.util.Assert;
 
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogBatch;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogQuery;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
 import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
 import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
 import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
 import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
 import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
@@ -36,7 +47,9 @@ import com.sap.cloudfoundry.client.facade.domain.CloudStack;
 import com.sap.cloudfoundry.client.facade.domain.CloudTask;
 import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
 import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.EventCursor;
 import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.PolledEvents;
 import com.sap.cloudfoundry.client.facade.domain.Staging;
 import com.sap.cloudfoundry.client.facade.domain.Upload;
 import com.sap.cloudfoundry.client.facade.domain.UserRole;
@@ -137,12 +150,12 @@ public class CloudControllerClientImpl implements CloudControllerClient {
 
     @Override
     public void deleteAllApplications() {
-        handleExceptions(() -> delegate.deleteAllApplications());
+        handleBulkExceptions(() -> delegate.deleteAllApplications());
     }
 
     @Override
     public void deleteAllServiceInstances() {
-        handleExceptions(() -> delegate.deleteAllServiceInstances());
+        handleBulkExceptions(() -> delegate.deleteAllServiceInstances());
     }
 
     @Override
@@ -150,6 +163,11 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         handleExceptions(() -> delegate.deleteApplication(applicationName));
     }
 
+    @Override
+    public CloudJob requestApplicationDeletion(String applicationName) {
+        return handleExceptions(() -> delegate.requestApplicationDeletion(applicationName));
+    }
+
     @Override
     public void deleteDomain(String domainName) {
         handleExceptions(() -> delegate.deleteDomain(domainName));
@@ -210,6 +228,16 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getApplicationGuid(applicationName));
     }
 
+    @Override
+    public Map<String, UUID> resolveApplicationGuids(Collection<String> applicationNames) {
+        return handleExceptions(() -> delegate.resolveApplicationGuids(applicationNames));
+    }
+
+    @Override
+    public void invalidateApplicationGuids() {
+        delegate.invalidateApplicationGuids();
+    }
+
     @Override
     public Map<String, String> getApplicationEnvironment(UUID applicationGuid) {
         return handleExceptions(() -> delegate.getApplicationEnvironment(applicationGuid));
@@ -240,6 +268,16 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getApplications());
     }
 
+    @Override
+    public void forEachApplication(Consumer<CloudApplication> consumer) {
+        handleExceptions(() -> forEach(delegate.streamApplications(), consumer));
+    }
+
+    @Override
+    public List<CloudApplication> getApplicationsInBulk() {
+        return handleExceptions(() -> delegate.getApplicationsInBulk());
+    }
+
     @Override
     public List<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector) {
         return handleExceptions(() -> delegate.getApplicationsByMetadataLabelSelector(labelSelector));
@@ -270,6 +308,16 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getEvents());
     }
 
+    @Override
+    public PolledEvents pollEvents(EventCursor cursor) {
+        return handleExceptions(() -> delegate.pollEvents(cursor));
+    }
+
+    @Override
+    public void forEachEvent(Consumer<CloudEvent> consumer) {
+        handleExceptions(() -> forEach(delegate.streamEvents(), consumer));
+    }
+
     @Override
     public CloudOrganization getOrganization(String organizationName) {
         return handleExceptions(() -> delegate.getOrganization(organizationName));
@@ -300,6 +348,46 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getRecentLogs(applicationGuid));
     }
 
+    @Override
+    public List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids) {
+        return handleExceptions(() -> delegate.getRecentLogs(applicationGuids));
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids, int maxLogs) {
+        return handleExceptions(() -> delegate.getRecentLogs(applicationGuids, maxLogs));
+    }
+
+    @Override
+    public ApplicationLogBatch getRecentLogBatch(String applicationName) {
+        return handleExceptions(() -> delegate.getRecentLogBatch(applicationName));
+    }
+
+    @Override
+    public ApplicationLogBatch getRecentLogBatch(UUID applicationGuid) {
+        return handleExceptions(() -> delegate.getRecentLogBatch(applicationGuid));
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(String applicationName, ApplicationLogQuery query) {
+        return handleExceptions(() -> delegate.getRecentLogs(applicationName, query));
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(UUID applicationGuid, ApplicationLogQuery query) {
+        return handleExceptions(() -> delegate.getRecentLogs(applicationGuid, query));
+    }
+
+    @Override
+    public StreamingLogToken streamLogs(String applicationName, ApplicationLogListener listener) {
+        return handleExceptions(() -> delegate.streamLogs(applicationName, listener));
+    }
+
+    @Override
+    public StreamingLogToken streamLogs(UUID applicationGuid, ApplicationLogListener listener) {
+        return handleExceptions(() -> delegate.streamLogs(applicationGuid, listener));
+    }
+
     @Override
     public List<CloudRoute> getRoutes(String domainName) {
         return handleExceptions(() -> delegate.getRoutes(domainName));
@@ -330,6 +418,11 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getServiceInstance(serviceInstanceName, required));
     }
 
+    @Override
+    public CompletableFuture<CloudServiceInstance> watchServiceInstance(String serviceInstanceName) {
+        return handleAsyncExceptions(() -> delegate.watchServiceInstance(serviceInstanceName));
+    }
+
     @Override
     public List<CloudServiceBinding> getServiceBindings(UUID serviceInstanceGuid) {
         return handleExceptions(() -> delegate.getServiceBindings(serviceInstanceGuid));
@@ -365,6 +458,16 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getServiceInstances());
     }
 
+    @Override
+    public Map<String, UUID> resolveServiceInstanceGuids(Collection<String> serviceInstanceNames) {
+        return handleExceptions(() -> delegate.resolveServiceInstanceGuids(serviceInstanceNames));
+    }
+
+    @Override
+    public void forEachServiceInstance(Consumer<CloudServiceInstance> consumer) {
+        handleExceptions(() -> forEach(delegate.streamServiceInstances(), consumer));
+    }
+
     @Override
     public List<CloudServiceInstance> getServiceInstancesByMetadataLabelSelector(String labelSelector) {
         return handleExceptions(() -> delegate.getServiceInstancesByMetadataLabelSelector(labelSelector));
@@ -570,6 +673,23 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         handleUploadExceptions(() -> delegate.uploadApplication(applicationName, inputStream, callback));
     }
 
+    @Override
+    public void uploadApplication(String applicationName, InputStream inputStream, long size, UploadStatusCallback callback)
+        throws IOException {
+        handleUploadExceptions(() -> delegate.uploadApplication(applicationName, inputStream, size, callback));
+    }
+
+    @Override
+    public void uploadApplicationDirectory(String applicationName, Path directory) throws IOException {
+        uploadApplicationDirectory(applicationName, directory, Deflater.DEFAULT_COMPRESSION, null);
+    }
+
+    @Override
+    public void uploadApplicationDirectory(String applicationName, Path directory, int compressionLevel, UploadStatusCallback callback)
+        throws IOException {
+        handleUploadExceptions(() -> delegate.uploadApplicationDirectory(applicationName, directory, compressionLevel, callback));
+    }
+
     @Override
     public CloudPackage asyncUploadApplication(String applicationName, Path file) {
         return handleExceptions(() -> delegate.asyncUploadApplication(applicationName, file, null));
@@ -585,6 +705,26 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getUploadStatus(packageGuid));
     }
 
+    @Override
+    public CompletableFuture<Upload> monitorUpload(UUID packageGuid, UploadStatusCallback callback) {
+        return handleAsyncExceptions(() -> delegate.monitorUpload(packageGuid, callback));
+    }
+
+    @Override
+    public CloudJob getJob(UUID jobGuid) {
+        return handleExceptions(() -> delegate.getJob(jobGuid));
+    }
+
+    @Override
+    public List<CloudJob> awaitJobs(Collection<CloudJob> jobs, Duration timeout) {
+        return handleExceptions(() -> delegate.awaitJobs(jobs, timeout));
+    }
+
+    @Override
+    public CompletableFuture<CloudPackage> watchPackage(UUID packageGuid) {
+        return handleAsyncExceptions(() -> delegate.watchPackage(packageGuid));
+    }
+
     @Override
     public CloudBuild createBuild(UUID packageGuid) {
         return handleExceptions(() -> delegate.createBuild(packageGuid));
@@ -595,6 +735,11 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.getBuild(buildGuid));
     }
 
+    @Override
+    public CompletableFuture<CloudBuild> watchBuild(CloudBuild build) {
+        return handleAsyncExceptions(() -> delegate.watchBuild(build));
+    }
+
     @Override
     public CloudTask getTask(UUID taskGuid) {
         return handleExceptions(() -> delegate.getTask(taskGuid));
@@ -615,6 +760,11 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.cancelTask(taskGuid));
     }
 
+    @Override
+    public CompletableFuture<CloudTask> watchTask(UUID taskGuid) {
+        return handleAsyncExceptions(() -> delegate.watchTask(taskGuid));
+    }
+
     @Override
     public void bindDropletToApp(UUID dropletGuid, UUID applicationGuid) {
         handleExceptions(() -> delegate.bindDropletToApp(dropletGuid, applicationGuid));
@@ -654,6 +804,12 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         return handleExceptions(() -> delegate.createDockerPackage(applicationGuid, dockerInfo));
     }
 
+    private <T> void forEach(Stream<T> stream, Consumer<T> consumer) {
+        try (stream) {
+            stream.forEach(consumer);
+        }
+    }
+
     private void handleExceptions(Runnable runnable) {
         handleExceptions(() -> {
             runnable.run();
@@ -669,6 +825,19 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         }
     }
 
+    private void handleBulkExceptions(Runnable runnable) {
+        try {
+            handleExceptions(runnable);
+        } catch (BulkOperationException e) {
+            Map<String, Throwable> failures = e.getFailures()
+                                               .entrySet()
+                                               .stream()
+                                               .collect(Collectors.toMap(Map.Entry::getKey,
+                                                                         failure -> convertAsyncException(failure.getValue())));
+            throw new BulkOperationException(e.getDescription(), failures);
+        }
+    }
+
     private void handleUploadExceptions(UploadRunnable runnable) throws IOException {
         try {
             runnable.run();
@@ -677,6 +846,33 @@ public class CloudControllerClientImpl implements CloudControllerClient {
         }
     }
 
+    /**
+     * Converts the exceptions of the future, like those of the blocking methods. Cancelling the returned future cancels the future of the
+     * delegate, so that it stops polling.
+     */
+    private <T> CompletableFuture<T> handleAsyncExceptions(Supplier<CompletableFuture<T>> futureSupplier) {
+        CompletableFuture<T> future = handleExceptions(futureSupplier);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.whenComplete((value, e) -> {
+            if (e == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(convertAsyncException(e));
+            }
+        });
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                future.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private Throwable convertAsyncException(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof AbstractCloudFoundryException ? convertV3ClientException((AbstractCloudFoundryException) cause) : cause;
+    }
+
     private CloudOperationException convertV3ClientException(AbstractCloudFoundryException e) {
         HttpStatus httpStatus = HttpStatus.valueOf(e.getStatusCode());
         return new CloudOperationException(httpStatus, httpStatus.getReasonPhrase(), e.getMessage(), e);
@@ -7,4 +7,5 @@ public class Constants {
     }
 
     public static final String PACKAGE = "package";
+    public static final String APP = "app";
 }
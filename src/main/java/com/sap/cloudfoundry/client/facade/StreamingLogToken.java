@@ -0,0 +1,15 @@
+package com.sap.cloudfoundry.client.facade;
+
+/**
+ * Handle of a live log stream, started with {@link CloudControllerClient#streamLogs(String, ApplicationLogListener)}.
+ */
+public interface StreamingLogToken {
+
+    /**
+     * Stop streaming logs. No more messages are passed to the listener after this method returns, and neither
+     * {@link ApplicationLogListener#onComplete()} nor {@link ApplicationLogListener#onError(Throwable)} is called. If the listener is
+     * being called at the moment, this method waits for that call to return, unless it is called by the listener itself.
+     */
+    void cancel();
+
+}
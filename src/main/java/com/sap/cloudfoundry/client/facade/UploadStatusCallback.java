@@ -65,4 +65,12 @@ public interface UploadStatusCallback {
     boolean onProgress(String status);
 
     void onError(String description);
+
+    /**
+     * Called while the bits of an application are streamed to the Cloud Controller.
+     *
+     * @param uploadedBytes the number of bytes sent so far
+     */
+    default void onBytesUploaded(long uploadedBytes) {
+    }
 }
@@ -8,10 +8,12 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.logcache.v1.LogCacheClient;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.cloudfoundry.reactor.DefaultConnectionContext;
 import org.cloudfoundry.reactor.client.ReactorCloudFoundryClient;
 import org.cloudfoundry.reactor.doppler.ReactorDopplerClient;
+import org.cloudfoundry.reactor.logcache.v1.ReactorLogCacheClient;
 import org.immutables.value.Value;
 
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
@@ -43,6 +45,13 @@ public abstract class CloudFoundryClientFactory {
                                    .build();
     }
 
+    public LogCacheClient createLogCacheClient(URL controllerUrl, OAuthClient oAuthClient) {
+        return ReactorLogCacheClient.builder()
+                                    .connectionContext(getOrCreateConnectionContext(controllerUrl.getHost()))
+                                    .tokenProvider(oAuthClient.getTokenProvider())
+                                    .build();
+    }
+
     public ConnectionContext getOrCreateConnectionContext(String controllerApiHost) {
         return connectionContextCache.computeIfAbsent(controllerApiHost, this::createConnectionContext);
     }
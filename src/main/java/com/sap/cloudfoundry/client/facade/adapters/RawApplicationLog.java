@@ -9,6 +9,7 @@ import org.cloudfoundry.doppler.MessageType;
 import org.immutables.value.Value;
 
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogBatch;
 import com.sap.cloudfoundry.client.facade.domain.Derivable;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableApplicationLog;
 
@@ -25,15 +26,24 @@ public abstract class RawApplicationLog implements Derivable<ApplicationLog> {
         return ImmutableApplicationLog.builder()
                                       .applicationGuid(logMessage.getApplicationId())
                                       .message(logMessage.getMessage())
-                                      .timestamp(fromLogTimestamp(logMessage))
+                                      .timestamp(new Date(fromLogTimestamp(logMessage)))
                                       .messageType(fromLogMessageType(logMessage))
                                       .sourceId(logMessage.getSourceInstance())
                                       .sourceName(logMessage.getSourceType())
                                       .build();
     }
 
-    private static Date fromLogTimestamp(LogMessage logMessage) {
-        return new Date(TimeUnit.NANOSECONDS.toMillis(logMessage.getTimestamp()));
+    /**
+     * Adds the log message of an envelope to a batch, without deriving an {@link ApplicationLog} for it.
+     */
+    public static void addTo(ApplicationLogBatch.Builder batchBuilder, Envelope envelope) {
+        LogMessage logMessage = envelope.getLogMessage();
+        batchBuilder.add(logMessage.getApplicationId(), logMessage.getMessage(), fromLogTimestamp(logMessage),
+                         fromLogMessageType(logMessage), logMessage.getSourceInstance(), logMessage.getSourceType());
+    }
+
+    private static long fromLogTimestamp(LogMessage logMessage) {
+        return TimeUnit.NANOSECONDS.toMillis(logMessage.getTimestamp());
     }
 
     private static ApplicationLog.MessageType fromLogMessageType(LogMessage logMessage) {
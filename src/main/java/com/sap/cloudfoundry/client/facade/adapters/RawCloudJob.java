@@ -0,0 +1,58 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import org.cloudfoundry.client.v3.Error;
+import org.cloudfoundry.client.v3.jobs.Job;
+import org.cloudfoundry.client.v3.jobs.JobState;
+import org.immutables.value.Value;
+
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
+import com.sap.cloudfoundry.client.facade.domain.ErrorDetails;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudJob;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableErrorDetails;
+
+@Value.Immutable
+public abstract class RawCloudJob extends RawCloudEntity<CloudJob> {
+
+    @Value.Parameter
+    public abstract Job getResource();
+
+    @Override
+    public CloudJob derive() {
+        Job resource = getResource();
+        return ImmutableCloudJob.builder()
+                                .metadata(parseResourceMetadata(resource))
+                                .name(resource.getOperation())
+                                .status(parseStatus(resource.getState()))
+                                .errorDetails(parseErrorDetails(resource))
+                                .build();
+    }
+
+    private static CloudJob.Status parseStatus(JobState state) {
+        if (state == null) {
+            return null;
+        }
+        switch (state) {
+            case COMPLETE:
+                return CloudJob.Status.FINISHED;
+            case FAILED:
+                return CloudJob.Status.FAILED;
+            default:
+                return CloudJob.Status.RUNNING;
+        }
+    }
+
+    private static ErrorDetails parseErrorDetails(Job resource) {
+        if (resource.getErrors() == null || resource.getErrors()
+                                                    .isEmpty()) {
+            return null;
+        }
+        Error error = resource.getErrors()
+                              .get(0);
+        return ImmutableErrorDetails.builder()
+                                    .code(error.getCode() == null ? 0 : error.getCode())
+                                    .description(error.getDetail())
+                                    .errorCode(error.getTitle())
+                                    .build();
+    }
+
+}
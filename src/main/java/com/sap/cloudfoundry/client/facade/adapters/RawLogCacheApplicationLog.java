@@ -0,0 +1,45 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.cloudfoundry.logcache.v1.Envelope;
+import org.cloudfoundry.logcache.v1.Log;
+import org.cloudfoundry.logcache.v1.LogType;
+import org.immutables.value.Value;
+
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.Derivable;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableApplicationLog;
+
+@Value.Immutable
+public abstract class RawLogCacheApplicationLog implements Derivable<ApplicationLog> {
+
+    private static final String SOURCE_TYPE_TAG = "source_type";
+
+    @Value.Parameter
+    public abstract Envelope getEnvelope();
+
+    @Override
+    public ApplicationLog derive() {
+        Envelope envelope = getEnvelope();
+        Log log = envelope.getLog();
+        return ImmutableApplicationLog.builder()
+                                      .applicationGuid(envelope.getSourceId())
+                                      .message(log.getPayloadAsText())
+                                      .timestamp(fromLogTimestamp(envelope))
+                                      .messageType(fromLogType(log))
+                                      .sourceId(envelope.getInstanceId())
+                                      .sourceName(envelope.getTags()
+                                                          .getOrDefault(SOURCE_TYPE_TAG, ""))
+                                      .build();
+    }
+
+    private static Date fromLogTimestamp(Envelope envelope) {
+        return new Date(TimeUnit.NANOSECONDS.toMillis(envelope.getTimestamp()));
+    }
+
+    private static ApplicationLog.MessageType fromLogType(Log log) {
+        return log.getType() == LogType.ERR ? ApplicationLog.MessageType.STDERR : ApplicationLog.MessageType.STDOUT;
+    }
+}
@@ -0,0 +1,181 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.LifecycleType;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.Application;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.droplets.Buildpack;
+import org.cloudfoundry.client.v3.droplets.Droplet;
+import org.cloudfoundry.client.v3.droplets.DropletState;
+import org.cloudfoundry.client.v3.processes.Data;
+import org.cloudfoundry.client.v3.processes.HealthCheck;
+import org.cloudfoundry.client.v3.processes.Process;
+import org.cloudfoundry.client.v3.routes.Route;
+import org.immutables.value.Value;
+
+import com.sap.cloudfoundry.client.facade.Nullable;
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.Derivable;
+import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableDockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableStaging;
+import com.sap.cloudfoundry.client.facade.domain.PackageState;
+import com.sap.cloudfoundry.client.facade.domain.Staging;
+
+/**
+ * Derives a {@link CloudApplication} purely from v3 resources, which can be listed for many applications at once. Unlike
+ * {@link RawCloudApplication}, the result does not contain the environment and the number of running instances of the application, as
+ * they can only be retrieved with one request per application.
+ */
+@Value.Immutable
+public abstract class RawV3CloudApplication extends RawCloudEntity<CloudApplication> {
+
+    public abstract Application getApplication();
+
+    @Nullable
+    public abstract Process getProcess();
+
+    @Nullable
+    public abstract Droplet getDroplet();
+
+    public abstract List<Route> getRoutes();
+
+    public abstract Map<String, String> getDomainNames();
+
+    public abstract List<String> getServices();
+
+    public abstract Derivable<CloudSpace> getSpace();
+
+    @Override
+    public CloudApplication derive() {
+        Application application = getApplication();
+        Process process = getProcess();
+        ImmutableCloudApplication.Builder builder = ImmutableCloudApplication.builder()
+                                                                             .metadata(parseResourceMetadata(application))
+                                                                             .v3Metadata(application.getMetadata())
+                                                                             .name(application.getName())
+                                                                             .routes(parseRoutes(getRoutes(), getDomainNames()))
+                                                                             .state(parseState(application.getState()))
+                                                                             .staging(parseStaging(application.getLifecycle(), process,
+                                                                                                   getDroplet()))
+                                                                             .packageState(parsePackageState(getDroplet()))
+                                                                             .stagingError(parseStagingError(getDroplet()))
+                                                                             .services(getServices())
+                                                                             .env(Collections.emptyMap())
+                                                                             .space(getSpace().derive());
+        if (process != null) {
+            builder.memory(process.getMemoryInMb())
+                   .diskQuota(process.getDiskInMb())
+                   .instances(process.getInstances());
+        }
+        return builder.build();
+    }
+
+    private static CloudApplication.State parseState(ApplicationState state) {
+        return CloudApplication.State.valueOf(state.getValue());
+    }
+
+    private static Staging parseStaging(Lifecycle lifecycle, Process process, Droplet droplet) {
+        ImmutableStaging.Builder builder = ImmutableStaging.builder()
+                                                           .detectedBuildpack(parseDetectedBuildpack(droplet))
+                                                           .dockerInfo(parseDockerInfo(lifecycle, droplet));
+        if (lifecycle.getData() instanceof BuildpackData) {
+            BuildpackData buildpackData = (BuildpackData) lifecycle.getData();
+            builder.buildpacks(buildpackData.getBuildpacks())
+                   .stack(buildpackData.getStack());
+        }
+        if (process != null) {
+            builder.command(process.getCommand());
+            addHealthCheck(builder, process.getHealthCheck());
+        }
+        return builder.build();
+    }
+
+    private static void addHealthCheck(ImmutableStaging.Builder builder, HealthCheck healthCheck) {
+        if (healthCheck == null) {
+            return;
+        }
+        builder.healthCheckType(healthCheck.getType()
+                                           .getValue());
+        Data data = healthCheck.getData();
+        if (data != null) {
+            builder.healthCheckHttpEndpoint(data.getEndpoint())
+                   .healthCheckTimeout(data.getTimeout())
+                   .invocationTimeout(data.getInvocationTimeout());
+        }
+    }
+
+    private static String parseDetectedBuildpack(Droplet droplet) {
+        if (droplet == null || droplet.getBuildpacks() == null || droplet.getBuildpacks()
+                                                                          .isEmpty()) {
+            return null;
+        }
+        Buildpack buildpack = droplet.getBuildpacks()
+                                     .get(0);
+        return buildpack.getDetectOutput() != null ? buildpack.getDetectOutput() : buildpack.getBuildpackName();
+    }
+
+    private static DockerInfo parseDockerInfo(Lifecycle lifecycle, Droplet droplet) {
+        if (lifecycle.getType() != LifecycleType.DOCKER || droplet == null || droplet.getImage() == null) {
+            return null;
+        }
+        return ImmutableDockerInfo.builder()
+                                  .image(droplet.getImage())
+                                  .build();
+    }
+
+    private static PackageState parsePackageState(Droplet droplet) {
+        if (droplet == null) {
+            return PackageState.PENDING;
+        }
+        if (droplet.getState() == DropletState.STAGED) {
+            return PackageState.STAGED;
+        }
+        if (droplet.getState() == DropletState.FAILED) {
+            return PackageState.FAILED;
+        }
+        return PackageState.PENDING;
+    }
+
+    private static String parseStagingError(Droplet droplet) {
+        return droplet == null ? null : droplet.getError();
+    }
+
+    private static Set<CloudRouteSummary> parseRoutes(List<Route> routes, Map<String, String> domainNames) {
+        return routes.stream()
+                     .map(route -> parseRoute(route, domainNames))
+                     .collect(Collectors.toSet());
+    }
+
+    private static CloudRouteSummary parseRoute(Route route, Map<String, String> domainNames) {
+        String domainGuid = getDomainGuid(route);
+        return ImmutableCloudRouteSummary.builder()
+                                         .host(route.getHost())
+                                         .port(route.getPort())
+                                         .path(route.getPath())
+                                         .domain(domainNames.get(domainGuid))
+                                         .domainGuid(parseNullableGuid(domainGuid))
+                                         .guid(parseNullableGuid(route.getId()))
+                                         .build();
+    }
+
+    private static String getDomainGuid(Route route) {
+        ToOneRelationship domain = route.getRelationships()
+                                        .getDomain();
+        return domain.getData()
+                     .getId();
+    }
+
+}
@@ -0,0 +1,275 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.nio.CharBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A compact, read-only batch of application logs, ordered by timestamp. Instead of one {@link ApplicationLog} per entry, the batch keeps
+ * its entries in a few arrays: the timestamps as primitive longs, the message types as bytes, the application GUIDs, source IDs and source
+ * names as indices of strings, which are stored only once, and all messages in a single character buffer. {@link ApplicationLog}s are
+ * only created when they are requested through {@link #get(int)} or {@link #asList()}.
+ */
+public final class ApplicationLogBatch {
+
+    private static final ApplicationLog.MessageType[] MESSAGE_TYPES = ApplicationLog.MessageType.values();
+
+    private final int size;
+    private final long[] timestamps;
+    private final byte[] messageTypes;
+    private final int[] applicationGuids;
+    private final int[] sourceIds;
+    private final int[] sourceNames;
+    private final int[] messageOffsets;
+    private final char[] messages;
+    private final String[] strings;
+
+    private ApplicationLogBatch(int size, long[] timestamps, byte[] messageTypes, int[] applicationGuids, int[] sourceIds,
+                                int[] sourceNames, int[] messageOffsets, char[] messages, String[] strings) {
+        this.size = size;
+        this.timestamps = timestamps;
+        this.messageTypes = messageTypes;
+        this.applicationGuids = applicationGuids;
+        this.sourceIds = sourceIds;
+        this.sourceNames = sourceNames;
+        this.messageOffsets = messageOffsets;
+        this.messages = messages;
+        this.strings = strings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the timestamp of the log at the specified index, in milliseconds since the epoch
+     */
+    public long getTimestamp(int index) {
+        checkIndex(index);
+        return timestamps[index];
+    }
+
+    public ApplicationLog.MessageType getMessageType(int index) {
+        checkIndex(index);
+        return MESSAGE_TYPES[messageTypes[index]];
+    }
+
+    public String getApplicationGuid(int index) {
+        checkIndex(index);
+        return strings[applicationGuids[index]];
+    }
+
+    public String getSourceId(int index) {
+        checkIndex(index);
+        return strings[sourceIds[index]];
+    }
+
+    public String getSourceName(int index) {
+        checkIndex(index);
+        return strings[sourceNames[index]];
+    }
+
+    public String getMessage(int index) {
+        checkIndex(index);
+        return new String(messages, messageOffsets[index], getMessageLength(index));
+    }
+
+    /**
+     * @return a read-only view of the message of the log at the specified index, which can be searched without copying it
+     */
+    public CharSequence getMessageView(int index) {
+        checkIndex(index);
+        return CharBuffer.wrap(messages, messageOffsets[index], getMessageLength(index))
+                         .asReadOnlyBuffer();
+    }
+
+    public ApplicationLog get(int index) {
+        return ImmutableApplicationLog.builder()
+                                      .applicationGuid(getApplicationGuid(index))
+                                      .message(getMessage(index))
+                                      .timestamp(new Date(getTimestamp(index)))
+                                      .messageType(getMessageType(index))
+                                      .sourceId(getSourceId(index))
+                                      .sourceName(getSourceName(index))
+                                      .build();
+    }
+
+    /**
+     * @return a view of the batch, which creates the {@link ApplicationLog} of an entry each time it is accessed
+     */
+    public List<ApplicationLog> asList() {
+        return new ApplicationLogList();
+    }
+
+    private int getMessageLength(int index) {
+        return messageOffsets[index + 1] - messageOffsets[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private class ApplicationLogList extends AbstractList<ApplicationLog> implements RandomAccess {
+
+        @Override
+        public ApplicationLog get(int index) {
+            return ApplicationLogBatch.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    /**
+     * Collects logs for a batch. The logs can be added in any order, as they are sorted by timestamp when the batch is built. Logs with
+     * equal timestamps keep the order in which they were added. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 64;
+        private static final int INITIAL_MESSAGES_CAPACITY = 4096;
+
+        private int size;
+        private long[] timestamps = new long[INITIAL_CAPACITY];
+        private byte[] messageTypes = new byte[INITIAL_CAPACITY];
+        private int[] applicationGuids = new int[INITIAL_CAPACITY];
+        private int[] sourceIds = new int[INITIAL_CAPACITY];
+        private int[] sourceNames = new int[INITIAL_CAPACITY];
+        private int[] messageOffsets = new int[INITIAL_CAPACITY + 1];
+        private char[] messages = new char[INITIAL_MESSAGES_CAPACITY];
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(ApplicationLog log) {
+            return add(log.getApplicationGuid(), log.getMessage(), log.getTimestamp()
+                                                                      .getTime(),
+                       log.getMessageType(), log.getSourceId(), log.getSourceName());
+        }
+
+        /**
+         * @param timestamp the timestamp of the log, in milliseconds since the epoch
+         */
+        public Builder add(String applicationGuid, String message, long timestamp, ApplicationLog.MessageType messageType,
+                           String sourceId, String sourceName) {
+            ensureCapacity(size + 1);
+            ensureMessagesCapacity(messageOffsets[size] + message.length());
+            timestamps[size] = timestamp;
+            messageTypes[size] = (byte) messageType.ordinal();
+            applicationGuids[size] = intern(applicationGuid);
+            sourceIds[size] = intern(sourceId);
+            sourceNames[size] = intern(sourceName);
+            message.getChars(0, message.length(), messages, messageOffsets[size]);
+            messageOffsets[size + 1] = messageOffsets[size] + message.length();
+            size++;
+            return this;
+        }
+
+        public ApplicationLogBatch build() {
+            int[] order = sortByTimestamp();
+            long[] sortedTimestamps = new long[size];
+            byte[] sortedMessageTypes = new byte[size];
+            int[] sortedApplicationGuids = new int[size];
+            int[] sortedSourceIds = new int[size];
+            int[] sortedSourceNames = new int[size];
+            int[] sortedMessageOffsets = new int[size + 1];
+            char[] sortedMessages = new char[messageOffsets[size]];
+            for (int i = 0; i < size; i++) {
+                int index = order[i];
+                sortedTimestamps[i] = timestamps[index];
+                sortedMessageTypes[i] = messageTypes[index];
+                sortedApplicationGuids[i] = applicationGuids[index];
+                sortedSourceIds[i] = sourceIds[index];
+                sortedSourceNames[i] = sourceNames[index];
+                int messageLength = messageOffsets[index + 1] - messageOffsets[index];
+                System.arraycopy(messages, messageOffsets[index], sortedMessages, sortedMessageOffsets[i], messageLength);
+                sortedMessageOffsets[i + 1] = sortedMessageOffsets[i] + messageLength;
+            }
+            return new ApplicationLogBatch(size, sortedTimestamps, sortedMessageTypes, sortedApplicationGuids, sortedSourceIds,
+                                           sortedSourceNames, sortedMessageOffsets, sortedMessages, strings.toArray(new String[0]));
+        }
+
+        private int intern(String string) {
+            Integer index = stringIndices.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.add(string);
+                stringIndices.put(string, index);
+            }
+            return index;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= timestamps.length) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, timestamps.length * 2);
+            timestamps = Arrays.copyOf(timestamps, newCapacity);
+            messageTypes = Arrays.copyOf(messageTypes, newCapacity);
+            applicationGuids = Arrays.copyOf(applicationGuids, newCapacity);
+            sourceIds = Arrays.copyOf(sourceIds, newCapacity);
+            sourceNames = Arrays.copyOf(sourceNames, newCapacity);
+            messageOffsets = Arrays.copyOf(messageOffsets, newCapacity + 1);
+        }
+
+        private void ensureMessagesCapacity(int capacity) {
+            if (capacity > messages.length) {
+                messages = Arrays.copyOf(messages, Math.max(capacity, messages.length * 2));
+            }
+        }
+
+        private int[] sortByTimestamp() {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            mergeSort(order, new int[size], 0, size);
+            return order;
+        }
+
+        private void mergeSort(int[] order, int[] buffer, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            mergeSort(order, buffer, from, middle);
+            mergeSort(order, buffer, middle, to);
+            if (timestamps[order[middle - 1]] <= timestamps[order[middle]]) {
+                return;
+            }
+            System.arraycopy(order, from, buffer, from, to - from);
+            int left = from;
+            int right = middle;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < middle && timestamps[buffer[left]] <= timestamps[buffer[right]])) {
+                    order[i] = buffer[left++];
+                } else {
+                    order[i] = buffer[right++];
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.util.Date;
+import java.util.Set;
+
+import org.immutables.value.Value;
+
+import com.sap.cloudfoundry.client.facade.Nullable;
+
+/**
+ * Restricts the logs of an application, which are read from the log cache. The time window, the limit and the order are applied by the log
+ * cache itself, so only the matching logs are transferred.
+ */
+@Value.Immutable
+public interface ApplicationLogQuery {
+
+    /**
+     * @return the earliest time of the returned logs (inclusive), or {@code null} to read from the oldest cached log
+     */
+    @Nullable
+    Date getStartTime();
+
+    /**
+     * @return the latest time of the returned logs (exclusive), or {@code null} to read up to the newest cached log
+     */
+    @Nullable
+    Date getEndTime();
+
+    /**
+     * @return the maximum number of envelopes to read, or {@code null} for the default of the log cache (100). The log cache does not
+     *         return more than 1000 envelopes for a single read.
+     */
+    @Nullable
+    Integer getLimit();
+
+    /**
+     * @return whether to read the newest logs first. Combined with a limit, this returns the latest logs of the time window.
+     */
+    @Value.Default
+    default boolean isDescending() {
+        return true;
+    }
+
+    /**
+     * @return the types of the returned logs, or an empty set for all types. The limit applies to the logs of these types only.
+     */
+    Set<ApplicationLog.MessageType> getMessageTypes();
+
+}
@@ -0,0 +1,79 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sap.cloudfoundry.client.facade.Nullable;
+
+/**
+ * The position up to which events have been polled. Events are polled with a filter on their timestamp, which the Cloud Controller only
+ * supports with second precision and as an inclusive bound. That is why the cursor also remembers the events with its exact timestamp,
+ * which were already returned.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableEventCursor.class)
+@JsonDeserialize(as = ImmutableEventCursor.class)
+public abstract class EventCursor {
+
+    /**
+     * @return the GUID of the entity, whose events are polled, or {@code null} if all events are polled
+     */
+    @Nullable
+    public abstract UUID getActee();
+
+    /**
+     * @return the timestamp of the latest returned event, or the time from which the first poll looked for events. If {@code null}, the
+     *         first poll looks for the events of the last minute.
+     */
+    @Nullable
+    public abstract Date getTimestamp();
+
+    public abstract Set<UUID> getEventGuidsAtTimestamp();
+
+    public boolean isNew(CloudEvent event) {
+        Date timestamp = getTimestamp();
+        Date eventTimestamp = event.getTimestamp();
+        if (timestamp == null || eventTimestamp == null || eventTimestamp.after(timestamp)) {
+            return true;
+        }
+        return eventTimestamp.equals(timestamp) && !getEventGuidsAtTimestamp().contains(getGuid(event));
+    }
+
+    /**
+     * @return a cursor positioned after the specified events, which must have been returned for this cursor
+     */
+    public EventCursor advance(List<CloudEvent> events) {
+        Date timestamp = getTimestamp();
+        Set<UUID> eventGuidsAtTimestamp = new HashSet<>(getEventGuidsAtTimestamp());
+        for (CloudEvent event : events) {
+            Date eventTimestamp = event.getTimestamp();
+            if (eventTimestamp == null) {
+                continue;
+            }
+            if (timestamp == null || eventTimestamp.after(timestamp)) {
+                timestamp = eventTimestamp;
+                eventGuidsAtTimestamp.clear();
+            }
+            if (eventTimestamp.equals(timestamp)) {
+                eventGuidsAtTimestamp.add(getGuid(event));
+            }
+        }
+        return ImmutableEventCursor.copyOf(this)
+                                   .withTimestamp(timestamp)
+                                   .withEventGuidsAtTimestamp(eventGuidsAtTimestamp);
+    }
+
+    private static UUID getGuid(CloudEvent event) {
+        return event.getMetadata() == null ? null
+            : event.getMetadata()
+                   .getGuid();
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import java.util.List;
+
+import org.immutables.value.Value;
+
+@Value.Immutable
+public interface PolledEvents {
+
+    /**
+     * @return the events that are newer than the polled cursor, in chronological order
+     */
+    List<CloudEvent> getEvents();
+
+    /**
+     * @return the cursor for the next poll
+     */
+    EventCursor getNextCursor();
+
+}
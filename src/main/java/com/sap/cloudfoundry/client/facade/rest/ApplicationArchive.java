@@ -0,0 +1,219 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Helpers for uploading application archives with resource matching: the files in an archive are fingerprinted (see
+ * {@link ResourceFingerprinter}), so that the Cloud Controller can tell which of them it already has, and only the remaining files are put
+ * into a reduced archive for upload.
+ */
+final class ApplicationArchive {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_HEADER_SIGNATURE = 0x06054b50;
+    private static final int END_HEADER_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xffff;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int ZIP64_END_HEADER_SIZE = 56;
+    private static final int UNIX_HOST = 3;
+    private static final int PERMISSION_BITS = 0777;
+
+    private ApplicationArchive() {
+    }
+
+    static boolean isZipArchive(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try {
+            new ZipFile(file.toFile()).close();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    static ResourceFingerprint fingerprint(String path, String mode, InputStream inputStream, byte[] buffer) throws IOException {
+        MessageDigest digest = createSha1Digest();
+        long size = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+            size += read;
+        }
+        return new ResourceFingerprint(path, toHex(digest.digest()), size, mode);
+    }
+
+    /**
+     * Reads the Unix permissions of the entries of an archive from its central directory, as they are not available through
+     * {@link ZipEntry}. Entries, which were not added on a Unix system or have no permissions recorded, are omitted.
+     *
+     * @return the permissions of the entries as octal strings, by entry name
+     */
+    static Map<String, String> readModes(Path archive) throws IOException {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            ByteBuffer centralDirectory = readCentralDirectory(channel);
+            Map<String, String> modes = new HashMap<>();
+            while (centralDirectory.remaining() >= CENTRAL_HEADER_SIZE
+                && centralDirectory.getInt(centralDirectory.position()) == CENTRAL_HEADER_SIGNATURE) {
+                int header = centralDirectory.position();
+                int host = Byte.toUnsignedInt(centralDirectory.get(header + 5));
+                int nameLength = Short.toUnsignedInt(centralDirectory.getShort(header + 28));
+                int extraLength = Short.toUnsignedInt(centralDirectory.getShort(header + 30));
+                int commentLength = Short.toUnsignedInt(centralDirectory.getShort(header + 32));
+                int permissions = (centralDirectory.getInt(header + 38) >>> 16) & PERMISSION_BITS;
+                byte[] name = new byte[nameLength];
+                centralDirectory.position(header + CENTRAL_HEADER_SIZE);
+                centralDirectory.get(name);
+                if (host == UNIX_HOST && permissions != 0) {
+                    modes.put(new String(name, StandardCharsets.UTF_8), Integer.toOctalString(permissions));
+                }
+                centralDirectory.position(centralDirectory.position() + extraLength + commentLength);
+            }
+            return modes;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new ZipException("Invalid central directory in " + archive);
+        }
+    }
+
+    private static ByteBuffer readCentralDirectory(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        int tailSize = (int) Math.min(fileSize, END_HEADER_SIZE + MAX_COMMENT_SIZE + ZIP64_LOCATOR_SIZE);
+        ByteBuffer tail = read(channel, fileSize - tailSize, tailSize);
+        int endHeader = tailSize - END_HEADER_SIZE;
+        while (endHeader >= 0 && tail.getInt(endHeader) != END_HEADER_SIGNATURE) {
+            endHeader--;
+        }
+        if (endHeader < 0) {
+            throw new ZipException("No end of central directory found");
+        }
+        long size = Integer.toUnsignedLong(tail.getInt(endHeader + 12));
+        long offset = Integer.toUnsignedLong(tail.getInt(endHeader + 16));
+        int zip64Locator = endHeader - ZIP64_LOCATOR_SIZE;
+        if (zip64Locator >= 0 && tail.getInt(zip64Locator) == ZIP64_LOCATOR_SIGNATURE) {
+            ByteBuffer zip64EndHeader = read(channel, tail.getLong(zip64Locator + 8), ZIP64_END_HEADER_SIZE);
+            size = zip64EndHeader.getLong(40);
+            offset = zip64EndHeader.getLong(48);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new ZipException("Central directory is too large");
+        }
+        return read(channel, offset, (int) size);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+                                      .order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Copies the entries of an archive, except for the excluded files, to a new archive.
+     *
+     * @return the number of copied entries and their total uncompressed size
+     */
+    static CopyResult copyWithout(Path archive, Set<String> excludedPaths, Path target) throws IOException {
+        int entryCount = 0;
+        long totalSize = 0;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (ZipFile zipFile = new ZipFile(archive.toFile());
+            ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(target))) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (excludedPaths.contains(entry.getName())) {
+                    continue;
+                }
+                ZipEntry copiedEntry = new ZipEntry(entry);
+                // The entry is compressed again, possibly to a different size.
+                copiedEntry.setCompressedSize(-1);
+                outputStream.putNextEntry(copiedEntry);
+                try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                    totalSize += copy(inputStream, outputStream, buffer);
+                }
+                outputStream.closeEntry();
+                entryCount++;
+            }
+            if (entryCount == 0) {
+                // A ZIP file must have at least one entry, so one is written that is never uploaded.
+                outputStream.putNextEntry(new ZipEntry("/"));
+                outputStream.closeEntry();
+            }
+        }
+        return new CopyResult(entryCount, totalSize);
+    }
+
+    private static long copy(InputStream inputStream, OutputStream outputStream, byte[] buffer) throws IOException {
+        long copied = 0;
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+            copied += read;
+        }
+        return copied;
+    }
+
+    private static MessageDigest createSha1Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        return String.format("%0" + (bytes.length * 2) + "x", new BigInteger(1, bytes));
+    }
+
+    static class CopyResult {
+
+        private final int entryCount;
+        private final long totalSize;
+
+        CopyResult(int entryCount, long totalSize) {
+            this.entryCount = entryCount;
+            this.totalSize = totalSize;
+        }
+
+        int getEntryCount() {
+            return entryCount;
+        }
+
+        long getTotalSize() {
+            return totalSize;
+        }
+
+    }
+
+}
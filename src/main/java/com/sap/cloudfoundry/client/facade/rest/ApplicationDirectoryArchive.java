@@ -0,0 +1,424 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.commons.io.IOUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Streams the files of an application directory as a ZIP archive, without writing the archive to disk. The files are read in chunks, which
+ * are deflated in parallel, each into a raw deflate stream of its own. All but the last chunk of a file end with a sync flush, so that the
+ * compressed chunks of a file can be concatenated into a single deflate stream. As the size and checksum of a file are only known after all
+ * of its chunks were read, they are written in a data descriptor after its data. Files and directories excluded by {@link CfIgnore} are
+ * left out. The archive does not use ZIP64 extensions, so it is limited to 65535 files and 4 GiB.
+ */
+class ApplicationDirectoryArchive {
+
+    static final int DEFAULT_COMPRESSION_LEVEL = Deflater.DEFAULT_COMPRESSION;
+    private static final int CHUNK_SIZE = 128 * 1024;
+    private static final int MAX_ENTRIES = 0xFFFF;
+    private static final long MAX_SIZE = 0xFFFFFFFFL;
+    private static final int DEFAULT_FILE_MODE = 0644;
+    private static final int EXECUTABLE_FILE_MODE = 0755;
+    private static final int REGULAR_FILE_TYPE = 0100000;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int VERSION_NEEDED = 20;
+    private static final int VERSION_MADE_BY_UNIX = 3 << 8 | VERSION_NEEDED;
+    private static final int FLAGS_DATA_DESCRIPTOR_AND_UTF8 = 1 << 3 | 1 << 11;
+    private static final int METHOD_DEFLATED = 8;
+
+    private final List<FileEntry> files;
+    private final int compressionLevel;
+    private final int parallelism;
+
+    private ApplicationDirectoryArchive(List<FileEntry> files, int compressionLevel, int parallelism) {
+        this.files = files;
+        this.compressionLevel = compressionLevel;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param compressionLevel the level of compression, from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}, or
+     *        {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    static ApplicationDirectoryArchive of(Path directory, int compressionLevel) throws IOException {
+        Assert.isTrue(Files.isDirectory(directory), "Directory " + directory + " does not exist");
+        Assert.isTrue(compressionLevel == Deflater.DEFAULT_COMPRESSION
+            || (compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION),
+                      "Compression level must be between 0 and 9");
+        List<FileEntry> files = listFiles(directory, CfIgnore.load(directory));
+        if (files.size() > MAX_ENTRIES) {
+            throw new IOException("Directory " + directory + " contains more than " + MAX_ENTRIES + " files");
+        }
+        return new ApplicationDirectoryArchive(files, compressionLevel, Schedulers.DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * @return the paths of the archived files, relative to the application directory
+     */
+    public List<String> getFilePaths() {
+        List<String> paths = new ArrayList<>(files.size());
+        for (FileEntry file : files) {
+            paths.add(file.name);
+        }
+        return paths;
+    }
+
+    /**
+     * @return the archive as a cold publisher, which reads and compresses the files anew for each subscriber. The files are read on the
+     *         bounded elastic scheduler and compressed on the parallel scheduler, with at most as many chunks in flight as there are
+     *         workers of the parallel scheduler.
+     */
+    public Flux<DataBuffer> toDataBuffers(DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            ZipWriter zipWriter = new ZipWriter();
+            return Flux.fromIterable(files)
+                       .concatMap(this::readChunks, 1)
+                       .subscribeOn(Schedulers.boundedElastic())
+                       .flatMapSequential(chunk -> Mono.fromCallable(() -> compress(chunk))
+                                                       .subscribeOn(Schedulers.parallel()),
+                                          parallelism, 1)
+                       .map(zipWriter::write)
+                       .concatWith(Mono.fromCallable(zipWriter::finish))
+                       .map(bufferFactory::wrap);
+        });
+    }
+
+    private static List<FileEntry> listFiles(Path directory, CfIgnore cfIgnore) throws IOException {
+        List<FileEntry> files = new ArrayList<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+                if (!dir.equals(directory) && cfIgnore.isIgnored(getRelativePath(directory, dir), true)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                String relativePath = getRelativePath(directory, file);
+                if (Files.isRegularFile(file) && !cfIgnore.isIgnored(relativePath, false)) {
+                    files.add(new FileEntry(file, relativePath, getMode(file), attributes.size(), attributes.lastModifiedTime()
+                                                                                                            .toMillis()));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+        });
+        Collections.sort(files, (file, otherFile) -> file.name.compareTo(otherFile.name));
+        return files;
+    }
+
+    private static String getRelativePath(Path directory, Path file) {
+        StringBuilder relativePath = new StringBuilder();
+        for (Path name : directory.relativize(file)) {
+            if (relativePath.length() > 0) {
+                relativePath.append('/');
+            }
+            relativePath.append(name.toString());
+        }
+        return relativePath.toString();
+    }
+
+    private static int getMode(Path file) throws IOException {
+        try {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(file);
+            int mode = 0;
+            for (PosixFilePermission permission : PosixFilePermission.values()) {
+                mode <<= 1;
+                if (permissions.contains(permission)) {
+                    mode |= 1;
+                }
+            }
+            return mode;
+        } catch (UnsupportedOperationException e) {
+            return Files.isExecutable(file) ? EXECUTABLE_FILE_MODE : DEFAULT_FILE_MODE;
+        }
+    }
+
+    private Flux<Chunk> readChunks(FileEntry file) {
+        return Flux.using(() -> Files.newInputStream(file.path),
+                          inputStream -> Flux.generate(() -> new ChunkReader(file, inputStream), ChunkReader::next),
+                          IOUtils::closeQuietly);
+    }
+
+    private CompressedChunk compress(Chunk chunk) {
+        Deflater deflater = new Deflater(compressionLevel, true);
+        try {
+            deflater.setInput(chunk.data, 0, chunk.length);
+            if (chunk.last) {
+                deflater.finish();
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(chunk.length / 2 + 64);
+            byte[] buffer = new byte[Math.max(chunk.length / 2, 1024)];
+            int flushMode = chunk.last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH;
+            while (true) {
+                int count = deflater.deflate(buffer, 0, buffer.length, flushMode);
+                outputStream.write(buffer, 0, count);
+                if (chunk.last ? deflater.finished() : count < buffer.length) {
+                    break;
+                }
+            }
+            return new CompressedChunk(chunk, outputStream.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static class FileEntry {
+
+        private final Path path;
+        private final String name;
+        private final int mode;
+        private final long size;
+        private final long lastModified;
+
+        FileEntry(Path path, String name, int mode, long size, long lastModified) {
+            this.path = path;
+            this.name = name;
+            this.mode = mode;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+    }
+
+    private static class Chunk {
+
+        private final FileEntry file;
+        private final byte[] data;
+        private final int length;
+        private final boolean first;
+        private final boolean last;
+        private final long crc;
+        private final long size;
+
+        Chunk(FileEntry file, byte[] data, int length, boolean first, boolean last, long crc, long size) {
+            this.file = file;
+            this.data = data;
+            this.length = length;
+            this.first = first;
+            this.last = last;
+            this.crc = crc;
+            this.size = size;
+        }
+
+    }
+
+    private static class CompressedChunk {
+
+        private final Chunk chunk;
+        private final byte[] data;
+
+        CompressedChunk(Chunk chunk, byte[] data) {
+            this.chunk = chunk;
+            this.data = data;
+        }
+
+    }
+
+    /**
+     * Reads a file in chunks. A chunk, which is not full, is the last one of its file. The checksum and size of the whole file are attached
+     * to its last chunk.
+     */
+    private static class ChunkReader {
+
+        private final FileEntry file;
+        private final InputStream inputStream;
+        private final CRC32 crc = new CRC32();
+        private long size;
+
+        ChunkReader(FileEntry file, InputStream inputStream) {
+            this.file = file;
+            this.inputStream = inputStream;
+        }
+
+        ChunkReader next(SynchronousSink<Chunk> sink) {
+            try {
+                byte[] data = new byte[getNextChunkSize()];
+                int length = inputStream.readNBytes(data, 0, data.length);
+                boolean first = size == 0;
+                boolean last = length < data.length;
+                crc.update(data, 0, length);
+                size += length;
+                if (size > MAX_SIZE) {
+                    throw new IOException("File " + file.path + " is larger than " + MAX_SIZE + " bytes");
+                }
+                sink.next(new Chunk(file, data, length, first, last, crc.getValue(), size));
+                if (last) {
+                    sink.complete();
+                }
+            } catch (IOException e) {
+                sink.error(e);
+            }
+            return this;
+        }
+
+        /**
+         * @return the size of the next chunk, which is one byte larger than the rest of the file, so that the end of the file is detected
+         *         without reading another chunk. Once a file turns out to be larger than listed (e.g. as it grew or as it is linked),
+         *         full chunks are read.
+         */
+        private int getNextChunkSize() {
+            long remainingSize = file.size - size;
+            return remainingSize < 0 ? CHUNK_SIZE : (int) Math.min(CHUNK_SIZE, remainingSize + 1);
+        }
+
+    }
+
+    /**
+     * Writes the ZIP structures around the compressed chunks. Not thread-safe, as the chunks are written sequentially.
+     */
+    private static class ZipWriter {
+
+        private final List<byte[]> centralDirectory = new ArrayList<>();
+        private long offset;
+        private long localHeaderOffset;
+        private long compressedSize;
+
+        byte[] write(CompressedChunk compressedChunk) {
+            Chunk chunk = compressedChunk.chunk;
+            LittleEndianOutput output = new LittleEndianOutput();
+            byte[] name = chunk.file.name.getBytes(StandardCharsets.UTF_8);
+            int dosTime = toDosTime(chunk.file.lastModified);
+            if (chunk.first) {
+                localHeaderOffset = offset;
+                compressedSize = 0;
+                output.writeInt(LOCAL_FILE_HEADER_SIGNATURE);
+                output.writeShort(VERSION_NEEDED);
+                output.writeShort(FLAGS_DATA_DESCRIPTOR_AND_UTF8);
+                output.writeShort(METHOD_DEFLATED);
+                output.writeInt(dosTime);
+                output.writeInt(0);
+                output.writeInt(0);
+                output.writeInt(0);
+                output.writeShort(name.length);
+                output.writeShort(0);
+                output.write(name);
+            }
+            output.write(compressedChunk.data);
+            compressedSize += compressedChunk.data.length;
+            if (chunk.last) {
+                checkSize(compressedSize);
+                output.writeInt(DATA_DESCRIPTOR_SIGNATURE);
+                output.writeInt((int) chunk.crc);
+                output.writeInt((int) compressedSize);
+                output.writeInt((int) chunk.size);
+                centralDirectory.add(toCentralDirectoryHeader(chunk, name, dosTime));
+            }
+            byte[] bytes = output.toByteArray();
+            offset += bytes.length;
+            return bytes;
+        }
+
+        byte[] finish() {
+            checkSize(offset);
+            LittleEndianOutput output = new LittleEndianOutput();
+            for (byte[] header : centralDirectory) {
+                output.write(header);
+            }
+            long centralDirectorySize = output.size();
+            checkSize(offset + centralDirectorySize);
+            output.writeInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+            output.writeShort(0);
+            output.writeShort(0);
+            output.writeShort(centralDirectory.size());
+            output.writeShort(centralDirectory.size());
+            output.writeInt((int) centralDirectorySize);
+            output.writeInt((int) offset);
+            output.writeShort(0);
+            return output.toByteArray();
+        }
+
+        private byte[] toCentralDirectoryHeader(Chunk chunk, byte[] name, int dosTime) {
+            checkSize(localHeaderOffset);
+            LittleEndianOutput output = new LittleEndianOutput();
+            output.writeInt(CENTRAL_DIRECTORY_HEADER_SIGNATURE);
+            output.writeShort(VERSION_MADE_BY_UNIX);
+            output.writeShort(VERSION_NEEDED);
+            output.writeShort(FLAGS_DATA_DESCRIPTOR_AND_UTF8);
+            output.writeShort(METHOD_DEFLATED);
+            output.writeInt(dosTime);
+            output.writeInt((int) chunk.crc);
+            output.writeInt((int) compressedSize);
+            output.writeInt((int) chunk.size);
+            output.writeShort(name.length);
+            output.writeShort(0);
+            output.writeShort(0);
+            output.writeShort(0);
+            output.writeShort(0);
+            output.writeInt((REGULAR_FILE_TYPE | chunk.file.mode) << 16);
+            output.writeInt((int) localHeaderOffset);
+            output.write(name);
+            return output.toByteArray();
+        }
+
+        private static void checkSize(long size) {
+            if (size > MAX_SIZE) {
+                throw new UncheckedIOException(new IOException("The archive of the application directory is larger than " + MAX_SIZE
+                    + " bytes"));
+            }
+        }
+
+        private static int toDosTime(long time) {
+            LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+            if (dateTime.getYear() < 1980) {
+                return (1 << 21) | (1 << 16);
+            }
+            return (dateTime.getYear() - 1980) << 25 | dateTime.getMonthValue() << 21 | dateTime.getDayOfMonth() << 16
+                | dateTime.getHour() << 11 | dateTime.getMinute() << 5 | dateTime.getSecond() >> 1;
+        }
+
+    }
+
+    private static class LittleEndianOutput extends ByteArrayOutputStream {
+
+        void writeShort(int value) {
+            write(value);
+            write(value >>> 8);
+        }
+
+        void writeInt(int value) {
+            writeShort(value);
+            writeShort(value >>> 16);
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+
+/**
+ * The intervals between the polls of a status, which start short and are doubled after each poll, up to a maximum.
+ */
+class Backoff {
+
+    private final Duration maxInterval;
+    private Duration interval;
+
+    Backoff(Duration initialInterval, Duration maxInterval) {
+        this.interval = initialInterval;
+        this.maxInterval = maxInterval;
+    }
+
+    Duration nextInterval() {
+        Duration currentInterval = interval;
+        Duration doubledInterval = interval.multipliedBy(2);
+        interval = doubledInterval.compareTo(maxInterval) < 0 ? doubledInterval : maxInterval;
+        return currentInterval;
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import org.immutables.value.Value;
+
+@Value.Immutable
+public abstract class CacheStatistics {
+
+    /**
+     * @return the number of lookups that were served from the cache
+     */
+    public abstract long getHitCount();
+
+    /**
+     * @return the number of lookups that were sent to the Cloud Controller
+     */
+    public abstract long getMissCount();
+
+    public double getHitRatio() {
+        long lookupCount = getHitCount() + getMissCount();
+        return lookupCount == 0 ? 0 : (double) getHitCount() / lookupCount;
+    }
+
+}
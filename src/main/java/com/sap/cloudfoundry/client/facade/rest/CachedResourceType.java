@@ -0,0 +1,9 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+/**
+ * The resources of the targeted space, which are kept in the snapshot of a {@link CachingCloudControllerRestClient} and whose time to
+ * live can be overridden in the {@link SnapshotCacheSettings}.
+ */
+public enum CachedResourceType {
+    APPLICATIONS, SERVICE_INSTANCES, ROUTES, DOMAINS
+}
@@ -0,0 +1,1150 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.cloudfoundry.client.v3.Metadata;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.StreamingLogToken;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogBatch;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogQuery;
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
+import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
+import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
+import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
+import com.sap.cloudfoundry.client.facade.domain.CloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBinding;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBroker;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceKey;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceOffering;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.CloudStack;
+import com.sap.cloudfoundry.client.facade.domain.CloudTask;
+import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.EventCursor;
+import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.PolledEvents;
+import com.sap.cloudfoundry.client.facade.domain.Staging;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+import com.sap.cloudfoundry.client.facade.domain.UserRole;
+import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorates a {@link CloudControllerRestClient} with a snapshot of the applications, service instances, routes and domains of its target.
+ * Lookups of these resources are served from the snapshot until their time to live expires. Mutations through this client invalidate
+ * only the affected entries, even if they fail, since they may have changed some of the entries before failing. Changes made by other
+ * clients are not visible before the entries expire. Operations on other resources, as well as the {@link #getReactiveClient() reactive}
+ * and streaming operations, are always delegated. Mutations through the reactive client bypass the snapshot, so they do not invalidate
+ * it either.
+ */
+public class CachingCloudControllerRestClient implements CloudControllerRestClient {
+
+    private static final String ALL_KEY = "*";
+    private static final String DOMAINS_KEY = "domains";
+    private static final String ORGANIZATION_DOMAINS_KEY = "organization-domains";
+    private static final String PRIVATE_DOMAINS_KEY = "private-domains";
+    private static final String SHARED_DOMAINS_KEY = "shared-domains";
+
+    private final CloudControllerRestClient delegate;
+    private final ResourceCache<String, CloudApplication> applicationsByName;
+    private final ResourceCache<String, List<CloudApplication>> allApplications;
+    private final ResourceCache<String, CloudServiceInstance> serviceInstancesByName;
+    private final ResourceCache<String, List<CloudServiceInstance>> allServiceInstances;
+    private final ResourceCache<String, List<CloudRoute>> routesByDomainName;
+    private final ResourceCache<String, List<CloudDomain>> domains;
+    private final ResourceCache<String, CloudDomain> defaultDomain;
+    private final Map<UUID, String> applicationNamesByGuid = new ConcurrentHashMap<>();
+    private final Map<UUID, String> serviceInstanceNamesByGuid = new ConcurrentHashMap<>();
+
+    public CachingCloudControllerRestClient(CloudControllerRestClient delegate) {
+        this(delegate, SnapshotCacheSettings.DEFAULT);
+    }
+
+    public CachingCloudControllerRestClient(CloudControllerRestClient delegate, SnapshotCacheSettings settings) {
+        this.delegate = delegate;
+        this.applicationsByName = createCache(settings, CachedResourceType.APPLICATIONS);
+        this.allApplications = createCache(settings, CachedResourceType.APPLICATIONS);
+        this.serviceInstancesByName = createCache(settings, CachedResourceType.SERVICE_INSTANCES);
+        this.allServiceInstances = createCache(settings, CachedResourceType.SERVICE_INSTANCES);
+        this.routesByDomainName = createCache(settings, CachedResourceType.ROUTES);
+        this.domains = createCache(settings, CachedResourceType.DOMAINS);
+        this.defaultDomain = createCache(settings, CachedResourceType.DOMAINS);
+    }
+
+    private static <K, V> ResourceCache<K, V> createCache(SnapshotCacheSettings settings, CachedResourceType resourceType) {
+        return new ResourceCache<>(settings.getTimeToLive(resourceType), settings.getMaxSize());
+    }
+
+    /**
+     * @return the number of lookups of each resource type, which were served from the snapshot or sent to the Cloud Controller
+     */
+    public Map<CachedResourceType, CacheStatistics> getCacheStatistics() {
+        Map<CachedResourceType, CacheStatistics> statistics = new EnumMap<>(CachedResourceType.class);
+        statistics.put(CachedResourceType.APPLICATIONS, computeStatistics(applicationsByName, allApplications));
+        statistics.put(CachedResourceType.SERVICE_INSTANCES, computeStatistics(serviceInstancesByName, allServiceInstances));
+        statistics.put(CachedResourceType.ROUTES, computeStatistics(routesByDomainName));
+        statistics.put(CachedResourceType.DOMAINS, computeStatistics(domains, defaultDomain));
+        return statistics;
+    }
+
+    public void invalidateAll() {
+        invalidateAllApplications();
+        invalidateAllServiceInstances();
+        routesByDomainName.invalidateAll();
+        invalidateDomains();
+    }
+
+    @Override
+    public void addDomain(String domainName) {
+        try {
+            delegate.addDomain(domainName);
+        } finally {
+            invalidateDomains();
+        }
+    }
+
+    @Override
+    public void addRoute(String host, String domainName, String path) {
+        try {
+            delegate.addRoute(host, domainName, path);
+        } finally {
+            routesByDomainName.invalidate(domainName);
+        }
+    }
+
+    @Override
+    public void bindServiceInstance(String applicationName, String serviceInstanceName) {
+        try {
+            delegate.bindServiceInstance(applicationName, serviceInstanceName);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void bindServiceInstance(String applicationName, String serviceInstanceName, Map<String, Object> parameters) {
+        try {
+            delegate.bindServiceInstance(applicationName, serviceInstanceName, parameters);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void createApplication(String applicationName, Staging staging, Integer disk, Integer memory, Set<CloudRouteSummary> routes) {
+        try {
+            delegate.createApplication(applicationName, staging, disk, memory, routes);
+        } finally {
+            invalidateApplication(applicationName);
+            invalidateRoutes(routes);
+        }
+    }
+
+    @Override
+    public void createServiceInstance(CloudServiceInstance serviceInstance) {
+        try {
+            delegate.createServiceInstance(serviceInstance);
+        } finally {
+            invalidateServiceInstance(serviceInstance.getName());
+        }
+    }
+
+    @Override
+    public void createServiceBroker(CloudServiceBroker serviceBroker) {
+        delegate.createServiceBroker(serviceBroker);
+    }
+
+    @Override
+    public CloudServiceKey createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters) {
+        return delegate.createServiceKey(serviceInstanceName, serviceKeyName, parameters);
+    }
+
+    @Override
+    public void createUserProvidedServiceInstance(CloudServiceInstance serviceInstance, Map<String, Object> credentials) {
+        try {
+            delegate.createUserProvidedServiceInstance(serviceInstance, credentials);
+        } finally {
+            invalidateServiceInstance(serviceInstance.getName());
+        }
+    }
+
+    @Override
+    public void createUserProvidedServiceInstance(CloudServiceInstance serviceInstance, Map<String, Object> credentials,
+                                                  String syslogDrainUrl) {
+        try {
+            delegate.createUserProvidedServiceInstance(serviceInstance, credentials, syslogDrainUrl);
+        } finally {
+            invalidateServiceInstance(serviceInstance.getName());
+        }
+    }
+
+    @Override
+    public void deleteAllApplications() {
+        try {
+            delegate.deleteAllApplications();
+        } finally {
+            invalidateAllApplications();
+            routesByDomainName.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteAllServiceInstances() {
+        try {
+            delegate.deleteAllServiceInstances();
+        } finally {
+            invalidateAllServiceInstances();
+        }
+    }
+
+    @Override
+    public void deleteApplication(String applicationName) {
+        requestApplicationDeletion(applicationName);
+    }
+
+    @Override
+    public CloudJob requestApplicationDeletion(String applicationName) {
+        Set<String> routeDomainNames = getCachedRouteDomainNames(applicationName);
+        try {
+            return delegate.requestApplicationDeletion(applicationName);
+        } finally {
+            invalidateApplication(applicationName);
+            invalidateRoutesOfDomains(routeDomainNames);
+        }
+    }
+
+    @Override
+    public void deleteDomain(String domainName) {
+        try {
+            delegate.deleteDomain(domainName);
+        } finally {
+            invalidateDomains();
+            routesByDomainName.invalidate(domainName);
+        }
+    }
+
+    @Override
+    public List<CloudRoute> deleteOrphanedRoutes() {
+        List<CloudRoute> deletedRoutes = null;
+        try {
+            deletedRoutes = delegate.deleteOrphanedRoutes();
+            return deletedRoutes;
+        } finally {
+            if (deletedRoutes == null) {
+                routesByDomainName.invalidateAll();
+            } else {
+                deletedRoutes.stream()
+                             .map(CloudRoute::getDomain)
+                             .map(CloudDomain::getName)
+                             .distinct()
+                             .forEach(routesByDomainName::invalidate);
+            }
+        }
+    }
+
+    @Override
+    public void deleteRoute(String host, String domainName, String path) {
+        try {
+            delegate.deleteRoute(host, domainName, path);
+        } finally {
+            routesByDomainName.invalidate(domainName);
+        }
+    }
+
+    @Override
+    public void deleteServiceInstance(String serviceInstanceName) {
+        try {
+            delegate.deleteServiceInstance(serviceInstanceName);
+        } finally {
+            invalidateServiceInstance(serviceInstanceName);
+        }
+    }
+
+    @Override
+    public void deleteServiceInstance(CloudServiceInstance serviceInstance) {
+        try {
+            delegate.deleteServiceInstance(serviceInstance);
+        } finally {
+            invalidateServiceInstance(serviceInstance.getName());
+        }
+    }
+
+    @Override
+    public void deleteServiceBroker(String name) {
+        delegate.deleteServiceBroker(name);
+    }
+
+    @Override
+    public void deleteServiceKey(String serviceInstanceName, String serviceKeyName) {
+        delegate.deleteServiceKey(serviceInstanceName, serviceKeyName);
+    }
+
+    @Override
+    public void deleteServiceKey(CloudServiceKey serviceKey) {
+        delegate.deleteServiceKey(serviceKey);
+    }
+
+    @Override
+    public CloudApplication getApplication(String applicationName) {
+        return getApplication(applicationName, true);
+    }
+
+    @Override
+    public CloudApplication getApplication(String applicationName, boolean required) {
+        CloudApplication application = get(applicationsByName, applicationName,
+                                           name -> rememberApplication(delegate.getApplication(name, false)));
+        if (application == null && required) {
+            throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Application " + applicationName + " not found.");
+        }
+        return application;
+    }
+
+    @Override
+    public CloudApplication getApplication(UUID applicationGuid) {
+        return rememberApplication(delegate.getApplication(applicationGuid));
+    }
+
+    @Override
+    public UUID getApplicationGuid(String applicationName) {
+        return getGuid(getApplication(applicationName));
+    }
+
+    @Override
+    public Map<String, String> getApplicationEnvironment(UUID applicationGuid) {
+        return delegate.getApplicationEnvironment(applicationGuid);
+    }
+
+    @Override
+    public Map<String, String> getApplicationEnvironment(String applicationName) {
+        return delegate.getApplicationEnvironment(applicationName);
+    }
+
+    @Override
+    public List<CloudEvent> getApplicationEvents(String applicationName) {
+        return delegate.getApplicationEvents(applicationName);
+    }
+
+    @Override
+    public List<CloudEvent> getEventsByActee(UUID uuid) {
+        return delegate.getEventsByActee(uuid);
+    }
+
+    @Override
+    public InstancesInfo getApplicationInstances(CloudApplication app) {
+        return delegate.getApplicationInstances(app);
+    }
+
+    @Override
+    public List<CloudApplication> getApplications() {
+        return getList(allApplications, ALL_KEY, key -> {
+            List<CloudApplication> applications = delegate.getApplications();
+            applications.forEach(application -> applicationsByName.put(application.getName(), application));
+            applications.forEach(this::rememberApplication);
+            return applications;
+        });
+    }
+
+    @Override
+    public List<CloudApplication> getApplicationsInBulk() {
+        return delegate.getApplicationsInBulk();
+    }
+
+    @Override
+    public URL getControllerUrl() {
+        return delegate.getControllerUrl();
+    }
+
+    @Override
+    public CloudDomain getDefaultDomain() {
+        return get(defaultDomain, ALL_KEY, key -> delegate.getDefaultDomain());
+    }
+
+    @Override
+    public List<CloudDomain> getDomains() {
+        return getList(domains, DOMAINS_KEY, key -> delegate.getDomains());
+    }
+
+    @Override
+    public List<CloudDomain> getDomainsForOrganization() {
+        return getList(domains, ORGANIZATION_DOMAINS_KEY, key -> delegate.getDomainsForOrganization());
+    }
+
+    @Override
+    public List<CloudEvent> getEvents() {
+        return delegate.getEvents();
+    }
+
+    @Override
+    public PolledEvents pollEvents(EventCursor cursor) {
+        return delegate.pollEvents(cursor);
+    }
+
+    @Override
+    public CloudOrganization getOrganization(String organizationName) {
+        return delegate.getOrganization(organizationName);
+    }
+
+    @Override
+    public CloudOrganization getOrganization(String organizationName, boolean required) {
+        return delegate.getOrganization(organizationName, required);
+    }
+
+    @Override
+    public List<CloudOrganization> getOrganizations() {
+        return delegate.getOrganizations();
+    }
+
+    @Override
+    public List<CloudDomain> getPrivateDomains() {
+        return getList(domains, PRIVATE_DOMAINS_KEY, key -> delegate.getPrivateDomains());
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(String applicationName) {
+        return delegate.getRecentLogs(applicationName);
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(UUID applicationGuid) {
+        return delegate.getRecentLogs(applicationGuid);
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids) {
+        return delegate.getRecentLogs(applicationGuids);
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids, int maxLogs) {
+        return delegate.getRecentLogs(applicationGuids, maxLogs);
+    }
+
+    @Override
+    public ApplicationLogBatch getRecentLogBatch(String applicationName) {
+        return delegate.getRecentLogBatch(applicationName);
+    }
+
+    @Override
+    public ApplicationLogBatch getRecentLogBatch(UUID applicationGuid) {
+        return delegate.getRecentLogBatch(applicationGuid);
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(String applicationName, ApplicationLogQuery query) {
+        return delegate.getRecentLogs(applicationName, query);
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(UUID applicationGuid, ApplicationLogQuery query) {
+        return delegate.getRecentLogs(applicationGuid, query);
+    }
+
+    @Override
+    public StreamingLogToken streamLogs(String applicationName, ApplicationLogListener listener) {
+        return delegate.streamLogs(applicationName, listener);
+    }
+
+    @Override
+    public StreamingLogToken streamLogs(UUID applicationGuid, ApplicationLogListener listener) {
+        return delegate.streamLogs(applicationGuid, listener);
+    }
+
+    @Override
+    public List<CloudRoute> getRoutes(String domainName) {
+        return getList(routesByDomainName, domainName, delegate::getRoutes);
+    }
+
+    @Override
+    public CloudServiceInstance getServiceInstance(String serviceInstanceName) {
+        return getServiceInstance(serviceInstanceName, true);
+    }
+
+    @Override
+    public CloudServiceInstance getServiceInstance(String serviceInstanceName, boolean required) {
+        CloudServiceInstance serviceInstance = get(serviceInstancesByName, serviceInstanceName,
+                                                   name -> rememberServiceInstance(delegate.getServiceInstance(name, false)));
+        if (serviceInstance == null && required) {
+            throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Service instance " + serviceInstanceName + " not found.");
+        }
+        return serviceInstance;
+    }
+
+    @Override
+    public CompletableFuture<CloudServiceInstance> watchServiceInstance(String serviceInstanceName) {
+        return delegate.watchServiceInstance(serviceInstanceName)
+                       .whenComplete((serviceInstance, e) -> invalidateServiceInstance(serviceInstanceName));
+    }
+
+    @Override
+    public List<CloudServiceBinding> getServiceBindings(UUID serviceInstanceGuid) {
+        return delegate.getServiceBindings(serviceInstanceGuid);
+    }
+
+    @Override
+    public CloudServiceBroker getServiceBroker(String name) {
+        return delegate.getServiceBroker(name);
+    }
+
+    @Override
+    public CloudServiceBroker getServiceBroker(String name, boolean required) {
+        return delegate.getServiceBroker(name, required);
+    }
+
+    @Override
+    public List<CloudServiceBroker> getServiceBrokers() {
+        return delegate.getServiceBrokers();
+    }
+
+    @Override
+    public List<CloudServiceKey> getServiceKeys(String serviceInstanceName) {
+        return delegate.getServiceKeys(serviceInstanceName);
+    }
+
+    @Override
+    public List<CloudServiceKey> getServiceKeys(CloudServiceInstance serviceInstance) {
+        return delegate.getServiceKeys(serviceInstance);
+    }
+
+    @Override
+    public List<CloudServiceOffering> getServiceOfferings() {
+        return delegate.getServiceOfferings();
+    }
+
+    @Override
+    public List<CloudServiceInstance> getServiceInstances() {
+        return getList(allServiceInstances, ALL_KEY, key -> {
+            List<CloudServiceInstance> serviceInstances = delegate.getServiceInstances();
+            serviceInstances.forEach(serviceInstance -> serviceInstancesByName.put(serviceInstance.getName(), serviceInstance));
+            serviceInstances.forEach(this::rememberServiceInstance);
+            return serviceInstances;
+        });
+    }
+
+    @Override
+    public List<CloudDomain> getSharedDomains() {
+        return getList(domains, SHARED_DOMAINS_KEY, key -> delegate.getSharedDomains());
+    }
+
+    @Override
+    public CloudSpace getSpace(UUID spaceGuid) {
+        return delegate.getSpace(spaceGuid);
+    }
+
+    @Override
+    public CloudSpace getSpace(String organizationName, String spaceName) {
+        return delegate.getSpace(organizationName, spaceName);
+    }
+
+    @Override
+    public CloudSpace getSpace(String organizationName, String spaceName, boolean required) {
+        return delegate.getSpace(organizationName, spaceName, required);
+    }
+
+    @Override
+    public CloudSpace getSpace(String spaceName) {
+        return delegate.getSpace(spaceName);
+    }
+
+    @Override
+    public CloudSpace getSpace(String spaceName, boolean required) {
+        return delegate.getSpace(spaceName, required);
+    }
+
+    @Override
+    public List<CloudSpace> getSpaces() {
+        return delegate.getSpaces();
+    }
+
+    @Override
+    public List<CloudSpace> getSpaces(String organizationName) {
+        return delegate.getSpaces(organizationName);
+    }
+
+    @Override
+    public CloudStack getStack(String name) {
+        return delegate.getStack(name);
+    }
+
+    @Override
+    public CloudStack getStack(String name, boolean required) {
+        return delegate.getStack(name, required);
+    }
+
+    @Override
+    public List<CloudStack> getStacks() {
+        return delegate.getStacks();
+    }
+
+    @Override
+    public OAuth2AccessToken login() {
+        return delegate.login();
+    }
+
+    @Override
+    public void logout() {
+        delegate.logout();
+    }
+
+    @Override
+    public void rename(String applicationName, String newName) {
+        try {
+            delegate.rename(applicationName, newName);
+        } finally {
+            invalidateApplication(applicationName);
+            invalidateApplication(newName);
+        }
+    }
+
+    @Override
+    public Map<String, UUID> resolveApplicationGuids(Collection<String> applicationNames) {
+        return delegate.resolveApplicationGuids(applicationNames);
+    }
+
+    @Override
+    public void invalidateApplicationGuids() {
+        delegate.invalidateApplicationGuids();
+    }
+
+    @Override
+    public Map<String, UUID> resolveServiceInstanceGuids(Collection<String> serviceInstanceNames) {
+        return delegate.resolveServiceInstanceGuids(serviceInstanceNames);
+    }
+
+    @Override
+    public void restartApplication(String applicationName) {
+        try {
+            delegate.restartApplication(applicationName);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void startApplication(String applicationName) {
+        try {
+            delegate.startApplication(applicationName);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void stopApplication(String applicationName) {
+        try {
+            delegate.stopApplication(applicationName);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public Stream<CloudApplication> streamApplications() {
+        return delegate.streamApplications();
+    }
+
+    @Override
+    public Stream<CloudEvent> streamEvents() {
+        return delegate.streamEvents();
+    }
+
+    @Override
+    public Stream<CloudServiceInstance> streamServiceInstances() {
+        return delegate.streamServiceInstances();
+    }
+
+    @Override
+    public void unbindServiceInstance(String applicationName, String serviceInstanceName) {
+        try {
+            delegate.unbindServiceInstance(applicationName, serviceInstanceName);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void unbindServiceInstance(CloudApplication application, CloudServiceInstance serviceInstance) {
+        try {
+            delegate.unbindServiceInstance(application, serviceInstance);
+        } finally {
+            invalidateApplication(application.getName());
+        }
+    }
+
+    @Override
+    public void updateApplicationDiskQuota(String applicationName, int disk) {
+        try {
+            delegate.updateApplicationDiskQuota(applicationName, disk);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void updateApplicationEnv(String applicationName, Map<String, String> env) {
+        try {
+            delegate.updateApplicationEnv(applicationName, env);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void updateApplicationInstances(String applicationName, int instances) {
+        try {
+            delegate.updateApplicationInstances(applicationName, instances);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void updateApplicationMemory(String applicationName, int memory) {
+        try {
+            delegate.updateApplicationMemory(applicationName, memory);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void updateApplicationStaging(String applicationName, Staging staging) {
+        try {
+            delegate.updateApplicationStaging(applicationName, staging);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void updateApplicationRoutes(String applicationName, Set<CloudRouteSummary> routes) {
+        Set<String> routeDomainNames = getCachedRouteDomainNames(applicationName);
+        try {
+            delegate.updateApplicationRoutes(applicationName, routes);
+        } finally {
+            invalidateApplication(applicationName);
+            invalidateRoutesOfDomains(routeDomainNames);
+            invalidateRoutes(routes);
+        }
+    }
+
+    @Override
+    public void updateServiceBroker(CloudServiceBroker serviceBroker) {
+        delegate.updateServiceBroker(serviceBroker);
+    }
+
+    @Override
+    public void updateServicePlanVisibilityForBroker(String name, boolean visibility) {
+        delegate.updateServicePlanVisibilityForBroker(name, visibility);
+    }
+
+    @Override
+    public void updateServicePlan(String serviceName, String planName) {
+        try {
+            delegate.updateServicePlan(serviceName, planName);
+        } finally {
+            invalidateServiceInstance(serviceName);
+        }
+    }
+
+    @Override
+    public void updateServiceParameters(String serviceName, Map<String, Object> parameters) {
+        try {
+            delegate.updateServiceParameters(serviceName, parameters);
+        } finally {
+            invalidateServiceInstance(serviceName);
+        }
+    }
+
+    @Override
+    public void updateServiceTags(String serviceName, List<String> tags) {
+        try {
+            delegate.updateServiceTags(serviceName, tags);
+        } finally {
+            invalidateServiceInstance(serviceName);
+        }
+    }
+
+    @Override
+    public void uploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
+        try {
+            delegate.uploadApplication(applicationName, file, callback);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void uploadApplication(String applicationName, InputStream inputStream, UploadStatusCallback callback) throws IOException {
+        try {
+            delegate.uploadApplication(applicationName, inputStream, callback);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void uploadApplication(String applicationName, InputStream inputStream, long size, UploadStatusCallback callback)
+        throws IOException {
+        try {
+            delegate.uploadApplication(applicationName, inputStream, size, callback);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public void uploadApplicationDirectory(String applicationName, Path directory, int compressionLevel, UploadStatusCallback callback)
+        throws IOException {
+        try {
+            delegate.uploadApplicationDirectory(applicationName, directory, compressionLevel, callback);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public CloudPackage asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
+        try {
+            return delegate.asyncUploadApplication(applicationName, file, callback);
+        } finally {
+            invalidateApplication(applicationName);
+        }
+    }
+
+    @Override
+    public Upload getUploadStatus(UUID packageGuid) {
+        return delegate.getUploadStatus(packageGuid);
+    }
+
+    @Override
+    public CompletableFuture<Upload> monitorUpload(UUID packageGuid, UploadStatusCallback callback) {
+        return delegate.monitorUpload(packageGuid, callback);
+    }
+
+    @Override
+    public CloudJob getJob(UUID jobGuid) {
+        return delegate.getJob(jobGuid);
+    }
+
+    @Override
+    public List<CloudJob> awaitJobs(Collection<CloudJob> jobs, Duration timeout) {
+        return delegate.awaitJobs(jobs, timeout);
+    }
+
+    @Override
+    public CompletableFuture<CloudPackage> watchPackage(UUID packageGuid) {
+        return delegate.watchPackage(packageGuid);
+    }
+
+    @Override
+    public CloudTask getTask(UUID taskGuid) {
+        return delegate.getTask(taskGuid);
+    }
+
+    @Override
+    public List<CloudTask> getTasks(String applicationName) {
+        return delegate.getTasks(applicationName);
+    }
+
+    @Override
+    public CloudTask runTask(String applicationName, CloudTask task) {
+        return delegate.runTask(applicationName, task);
+    }
+
+    @Override
+    public CloudTask cancelTask(UUID taskGuid) {
+        return delegate.cancelTask(taskGuid);
+    }
+
+    @Override
+    public CompletableFuture<CloudTask> watchTask(UUID taskGuid) {
+        return delegate.watchTask(taskGuid);
+    }
+
+    @Override
+    public CloudBuild createBuild(UUID packageGuid) {
+        try {
+            return delegate.createBuild(packageGuid);
+        } finally {
+            // The application of the package is not known here:
+            invalidateAllApplications();
+        }
+    }
+
+    @Override
+    public CloudBuild getBuild(UUID packageGuid) {
+        return delegate.getBuild(packageGuid);
+    }
+
+    @Override
+    public CompletableFuture<CloudBuild> watchBuild(CloudBuild build) {
+        return delegate.watchBuild(build);
+    }
+
+    @Override
+    public void bindDropletToApp(UUID dropletGuid, UUID applicationGuid) {
+        try {
+            delegate.bindDropletToApp(dropletGuid, applicationGuid);
+        } finally {
+            invalidateApplication(applicationGuid);
+        }
+    }
+
+    @Override
+    public List<CloudBuild> getBuildsForApplication(UUID applicationGuid) {
+        return delegate.getBuildsForApplication(applicationGuid);
+    }
+
+    @Override
+    public ReactiveCloudControllerRestClient getReactiveClient() {
+        return delegate.getReactiveClient();
+    }
+
+    @Override
+    public WebClient getWebClient() {
+        return delegate.getWebClient();
+    }
+
+    @Override
+    public OAuthClient getOAuthClient() {
+        return delegate.getOAuthClient();
+    }
+
+    @Override
+    public Map<String, Object> getServiceInstanceParameters(UUID guid) {
+        return delegate.getServiceInstanceParameters(guid);
+    }
+
+    @Override
+    public Map<String, Object> getServiceBindingParameters(UUID guid) {
+        return delegate.getServiceBindingParameters(guid);
+    }
+
+    @Override
+    public List<CloudBuild> getBuildsForPackage(UUID packageGuid) {
+        return delegate.getBuildsForPackage(packageGuid);
+    }
+
+    @Override
+    public List<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector) {
+        return delegate.getApplicationsByMetadataLabelSelector(labelSelector);
+    }
+
+    @Override
+    public List<CloudServiceInstance> getServiceInstancesByMetadataLabelSelector(String labelSelector) {
+        return delegate.getServiceInstancesByMetadataLabelSelector(labelSelector);
+    }
+
+    @Override
+    public List<CloudServiceInstance> getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(String labelSelector) {
+        return delegate.getServiceInstancesWithoutAuxiliaryContentByMetadataLabelSelector(labelSelector);
+    }
+
+    @Override
+    public void updateApplicationMetadata(UUID guid, Metadata metadata) {
+        try {
+            delegate.updateApplicationMetadata(guid, metadata);
+        } finally {
+            invalidateApplication(guid);
+        }
+    }
+
+    @Override
+    public void updateServiceInstanceMetadata(UUID guid, Metadata metadata) {
+        try {
+            delegate.updateServiceInstanceMetadata(guid, metadata);
+        } finally {
+            invalidateServiceInstance(guid);
+        }
+    }
+
+    @Override
+    public DropletInfo getCurrentDropletForApplication(UUID applicationGuid) {
+        return delegate.getCurrentDropletForApplication(applicationGuid);
+    }
+
+    @Override
+    public CloudPackage getPackage(UUID packageGuid) {
+        return delegate.getPackage(packageGuid);
+    }
+
+    @Override
+    public List<CloudPackage> getPackagesForApplication(UUID applicationGuid) {
+        return delegate.getPackagesForApplication(applicationGuid);
+    }
+
+    @Override
+    public List<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid) {
+        return delegate.getUserRolesBySpaceAndUser(spaceGuid, userGuid);
+    }
+
+    @Override
+    public CloudPackage createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo) {
+        try {
+            return delegate.createDockerPackage(applicationGuid, dockerInfo);
+        } finally {
+            invalidateApplication(applicationGuid);
+        }
+    }
+
+    private <K, V> V get(ResourceCache<K, V> cache, K key, Function<K, V> loader) {
+        return cache.get(key, k -> Mono.fromSupplier(() -> loader.apply(k)))
+                    .block();
+    }
+
+    /**
+     * Caches an unmodifiable copy of the loaded list, so that callers cannot modify the snapshot.
+     */
+    private <K, V> List<V> getList(ResourceCache<K, List<V>> cache, K key, Function<K, List<V>> loader) {
+        return get(cache, key, k -> {
+            List<V> list = loader.apply(k);
+            return list == null ? null : List.copyOf(list);
+        });
+    }
+
+    private CloudApplication rememberApplication(CloudApplication application) {
+        remember(application, applicationNamesByGuid);
+        return application;
+    }
+
+    private CloudServiceInstance rememberServiceInstance(CloudServiceInstance serviceInstance) {
+        remember(serviceInstance, serviceInstanceNamesByGuid);
+        return serviceInstance;
+    }
+
+    private static void remember(CloudEntity entity, Map<UUID, String> namesByGuid) {
+        UUID guid = getGuid(entity);
+        if (guid != null) {
+            namesByGuid.put(guid, entity.getName());
+        }
+    }
+
+    private void invalidateApplication(String applicationName) {
+        applicationsByName.invalidate(applicationName);
+        allApplications.invalidateAll();
+    }
+
+    private void invalidateApplication(UUID applicationGuid) {
+        invalidate(applicationNamesByGuid.get(applicationGuid), this::invalidateApplication, this::invalidateAllApplications);
+    }
+
+    private void invalidateAllApplications() {
+        applicationsByName.invalidateAll();
+        allApplications.invalidateAll();
+    }
+
+    private void invalidateServiceInstance(String serviceInstanceName) {
+        serviceInstancesByName.invalidate(serviceInstanceName);
+        allServiceInstances.invalidateAll();
+    }
+
+    private void invalidateServiceInstance(UUID serviceInstanceGuid) {
+        invalidate(serviceInstanceNamesByGuid.get(serviceInstanceGuid), this::invalidateServiceInstance,
+                   this::invalidateAllServiceInstances);
+    }
+
+    private void invalidateAllServiceInstances() {
+        serviceInstancesByName.invalidateAll();
+        allServiceInstances.invalidateAll();
+    }
+
+    private static void invalidate(String name, Consumer<String> invalidator, Runnable fallback) {
+        if (name == null) {
+            fallback.run();
+            return;
+        }
+        invalidator.accept(name);
+    }
+
+    private void invalidateRoutes(Collection<CloudRouteSummary> routes) {
+        if (routes == null) {
+            return;
+        }
+        routes.stream()
+              .map(CloudRouteSummary::getDomain)
+              .distinct()
+              .forEach(routesByDomainName::invalidate);
+    }
+
+    /**
+     * @param domainNames the domain names, or {@code null} if they are not known, in which case the routes of all domains are invalidated
+     */
+    private void invalidateRoutesOfDomains(Set<String> domainNames) {
+        if (domainNames == null) {
+            routesByDomainName.invalidateAll();
+            return;
+        }
+        domainNames.forEach(routesByDomainName::invalidate);
+    }
+
+    private void invalidateDomains() {
+        domains.invalidateAll();
+        defaultDomain.invalidateAll();
+    }
+
+    /**
+     * @return the domains of the routes of the application, if the application is in the snapshot, or {@code null} otherwise
+     */
+    private Set<String> getCachedRouteDomainNames(String applicationName) {
+        CloudApplication application = applicationsByName.getIfPresent(applicationName)
+                                                         .block();
+        if (application == null) {
+            return null;
+        }
+        return application.getRoutes()
+                          .stream()
+                          .map(CloudRouteSummary::getDomain)
+                          .collect(Collectors.toSet());
+    }
+
+    private static UUID getGuid(CloudEntity entity) {
+        return entity == null || entity.getMetadata() == null ? null
+            : entity.getMetadata()
+                    .getGuid();
+    }
+
+    private static CacheStatistics computeStatistics(ResourceCache<?, ?>... caches) {
+        long hitCount = 0;
+        long missCount = 0;
+        for (ResourceCache<?, ?> cache : caches) {
+            hitCount += cache.getHitCount();
+            missCount += cache.getLoadCount();
+        }
+        return ImmutableCacheStatistics.builder()
+                                       .hitCount(hitCount)
+                                       .missCount(missCount)
+                                       .build();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The exclusions of a {@code .cfignore} file, which follow the syntax of {@code .gitignore} files: blank lines and lines starting with
+ * {@code #} are skipped, a leading {@code !} negates a pattern, a trailing {@code /} restricts a pattern to directories, and a pattern that
+ * contains a {@code /} other than a trailing one is relative to the application directory, while any other pattern matches files and
+ * directories at any depth. {@code *} and {@code ?} do not match {@code /}, but {@code **} does. The last matching pattern decides. The
+ * same files as in the cf CLI are excluded by default.
+ */
+class CfIgnore {
+
+    static final String FILE_NAME = ".cfignore";
+    private static final List<String> DEFAULT_PATTERNS = List.of(".cfignore", "/manifest.yml", ".gitignore", ".git", ".hg", ".svn",
+                                                                 "_darcs", ".DS_Store");
+
+    private final List<Rule> rules;
+
+    private CfIgnore(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * @return the exclusions of the {@code .cfignore} file of the directory, in addition to the default ones
+     */
+    static CfIgnore load(Path directory) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return parse(Collections.emptyList());
+        }
+        return parse(Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    static CfIgnore parse(List<String> lines) {
+        List<Rule> rules = new ArrayList<>();
+        for (String line : DEFAULT_PATTERNS) {
+            rules.add(Rule.parse(line));
+        }
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+            if (!trimmedLine.isEmpty() && !trimmedLine.startsWith("#")) {
+                rules.add(Rule.parse(trimmedLine));
+            }
+        }
+        return new CfIgnore(rules);
+    }
+
+    /**
+     * @param relativePath the path of a file or directory, relative to the application directory and separated by {@code /}
+     */
+    public boolean isIgnored(String relativePath, boolean isDirectory) {
+        boolean ignored = false;
+        for (Rule rule : rules) {
+            if (rule.negated == ignored && rule.matches(relativePath, isDirectory)) {
+                ignored = !rule.negated;
+            }
+        }
+        return ignored;
+    }
+
+    private static class Rule {
+
+        private final Pattern pattern;
+        private final boolean negated;
+        private final boolean directoryOnly;
+        private final boolean anchored;
+
+        private Rule(Pattern pattern, boolean negated, boolean directoryOnly, boolean anchored) {
+            this.pattern = pattern;
+            this.negated = negated;
+            this.directoryOnly = directoryOnly;
+            this.anchored = anchored;
+        }
+
+        static Rule parse(String line) {
+            boolean negated = line.startsWith("!");
+            String glob = negated ? line.substring(1) : line;
+            boolean directoryOnly = glob.endsWith("/");
+            if (directoryOnly) {
+                glob = glob.substring(0, glob.length() - 1);
+            }
+            boolean anchored = glob.contains("/");
+            if (glob.startsWith("/")) {
+                glob = glob.substring(1);
+            }
+            return new Rule(Pattern.compile(toRegex(glob)), negated, directoryOnly, anchored);
+        }
+
+        boolean matches(String relativePath, boolean isDirectory) {
+            if (directoryOnly && !isDirectory) {
+                return false;
+            }
+            if (anchored) {
+                return pattern.matcher(relativePath)
+                              .matches();
+            }
+            String name = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+            return pattern.matcher(name)
+                          .matches();
+        }
+
+        private static String toRegex(String glob) {
+            StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < glob.length(); i++) {
+                char c = glob.charAt(i);
+                if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                    boolean followedBySlash = i + 2 < glob.length() && glob.charAt(i + 2) == '/';
+                    regex.append(followedBySlash ? "(.*/)?" : ".*");
+                    i += followedBySlash ? 2 : 1;
+                } else if (c == '*') {
+                    regex.append("[^/]*");
+                } else if (c == '?') {
+                    regex.append("[^/]");
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            return regex.toString();
+        }
+
+    }
+
+}
@@ -4,21 +4,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.cloudfoundry.client.v3.Metadata;
 import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.StreamingLogToken;
 import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogBatch;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogQuery;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
 import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
 import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
 import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
 import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
 import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
@@ -33,7 +42,9 @@ import com.sap.cloudfoundry.client.facade.domain.CloudStack;
 import com.sap.cloudfoundry.client.facade.domain.CloudTask;
 import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
 import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.EventCursor;
 import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.PolledEvents;
 import com.sap.cloudfoundry.client.facade.domain.Staging;
 import com.sap.cloudfoundry.client.facade.domain.Upload;
 import com.sap.cloudfoundry.client.facade.domain.UserRole;
@@ -71,6 +82,11 @@ public interface CloudControllerRestClient {
 
     void deleteApplication(String applicationName);
 
+    /**
+     * @return the job, which deletes the application asynchronously, or {@code null} if the Cloud Controller did not return one
+     */
+    CloudJob requestApplicationDeletion(String applicationName);
+
     void deleteDomain(String domainName);
 
     List<CloudRoute> deleteOrphanedRoutes();
@@ -107,6 +123,8 @@ public interface CloudControllerRestClient {
 
     List<CloudApplication> getApplications();
 
+    List<CloudApplication> getApplicationsInBulk();
+
     URL getControllerUrl();
 
     CloudDomain getDefaultDomain();
@@ -117,6 +135,12 @@ public interface CloudControllerRestClient {
 
     List<CloudEvent> getEvents();
 
+    /**
+     * Fetch the events that occurred after the position of the specified cursor. Only the events with a timestamp not earlier than the
+     * one of the cursor are requested from the Cloud Controller.
+     */
+    PolledEvents pollEvents(EventCursor cursor);
+
     CloudOrganization getOrganization(String organizationName);
 
     CloudOrganization getOrganization(String organizationName, boolean required);
@@ -129,12 +153,62 @@ public interface CloudControllerRestClient {
 
     List<ApplicationLog> getRecentLogs(UUID applicationGuid);
 
+    /**
+     * Get the recent logs of several applications, merged into a single list that is ordered by timestamp. The logs of the applications
+     * are fetched concurrently, as configured for {@link FetchOperation#RECENT_LOGS}. At most 10000 logs are returned.
+     */
+    List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids);
+
+    /**
+     * Variant of {@link #getRecentLogs(Collection)}, which returns at most the specified number of logs. If there are more, the oldest
+     * ones are dropped. The logs of all applications are added to a single heap as they are received, so no more than this number of
+     * logs is held at any time.
+     */
+    List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids, int maxLogs);
+
+    /**
+     * Compact variant of {@link #getRecentLogs(String)}. The logs are added to the batch as they are received, without creating an
+     * {@link ApplicationLog} for each of them.
+     */
+    ApplicationLogBatch getRecentLogBatch(String applicationName);
+
+    ApplicationLogBatch getRecentLogBatch(UUID applicationGuid);
+
+    /**
+     * Read the logs of an application from the log cache. Unlike {@link #getRecentLogs(String)}, only the logs matching the query are
+     * transferred, and they are returned in the order of the query instead of being sorted on the client.
+     *
+     * @throws IllegalStateException if the client was created without a log cache client
+     */
+    List<ApplicationLog> getRecentLogs(String applicationName, ApplicationLogQuery query);
+
+    List<ApplicationLog> getRecentLogs(UUID applicationGuid, ApplicationLogQuery query);
+
+    /**
+     * Pass the logs of an application to a listener as they are produced. The listener is called on a separate thread. If it cannot keep
+     * up, only a bounded number of logs is buffered for it and the oldest ones are dropped.
+     */
+    StreamingLogToken streamLogs(String applicationName, ApplicationLogListener listener);
+
+    StreamingLogToken streamLogs(UUID applicationGuid, ApplicationLogListener listener);
+
     List<CloudRoute> getRoutes(String domainName);
 
     CloudServiceInstance getServiceInstance(String serviceInstanceName);
 
     CloudServiceInstance getServiceInstance(String serviceInstanceName, boolean required);
 
+    /**
+     * Watches the last operation of a service instance together with the last operations of the other watched service instances, which are
+     * all polled by their names with the same list requests and matched by their GUIDs. The name is resolved to the GUID once, when the
+     * watch is registered. The polled service instances are not enriched with their plans and offerings.
+     *
+     * @return a future, which completes with the service instance, once its last operation is no longer in progress, or with a
+     *         {@code NOT_FOUND} {@link com.sap.cloudfoundry.client.facade.CloudOperationException}, if it does not exist or once it has
+     *         been deleted or renamed
+     */
+    CompletableFuture<CloudServiceInstance> watchServiceInstance(String serviceInstanceName);
+
     List<CloudServiceBinding> getServiceBindings(UUID serviceInstanceGuid);
 
     CloudServiceBroker getServiceBroker(String name);
@@ -179,12 +253,42 @@ public interface CloudControllerRestClient {
 
     void rename(String applicationName, String newName);
 
+    /**
+     * @return the GUIDs of the applications by name. Names of applications that do not exist are not contained in the map, so callers
+     *         that need all of them must check the keys of the result.
+     */
+    Map<String, UUID> resolveApplicationGuids(Collection<String> applicationNames);
+
+    void invalidateApplicationGuids();
+
+    /**
+     * @return the GUIDs of the service instances by name. Names of service instances that do not exist are not contained in the map.
+     * @see #resolveApplicationGuids(Collection)
+     */
+    Map<String, UUID> resolveServiceInstanceGuids(Collection<String> serviceInstanceNames);
+
     void restartApplication(String applicationName);
 
     void startApplication(String applicationName);
 
     void stopApplication(String applicationName);
 
+    /**
+     * Streaming variant of {@link #getApplications()}. A page of applications is requested only once all applications of the previous page
+     * have been consumed, so at most one page of them is held in memory. The requests are made by the thread consuming the stream.
+     */
+    Stream<CloudApplication> streamApplications();
+
+    /**
+     * Streaming variant of {@link #getEvents()}. Events are requested page by page as the returned stream is consumed.
+     */
+    Stream<CloudEvent> streamEvents();
+
+    /**
+     * Streaming variant of {@link #getServiceInstances()}. Service instances are requested page by page as the returned stream is consumed.
+     */
+    Stream<CloudServiceInstance> streamServiceInstances();
+
     void unbindServiceInstance(String applicationName, String serviceInstanceName);
 
     void unbindServiceInstance(CloudApplication application, CloudServiceInstance serviceInstance);
@@ -215,10 +319,53 @@ public interface CloudControllerRestClient {
 
     void uploadApplication(String applicationName, InputStream inputStream, UploadStatusCallback callback) throws IOException;
 
+    /**
+     * Upload the bits of an application as they are read from the input stream. If the size of the bits is not known, pass a negative
+     * size. The stream is then sent with chunked transfer encoding, unless the Cloud Controller was found to require a content length, in
+     * which case it is copied to a temporary file first.
+     */
+    void uploadApplication(String applicationName, InputStream inputStream, long size, UploadStatusCallback callback)
+        throws IOException;
+
+    /**
+     * Upload the files of an application directory, except for those excluded by its {@code .cfignore} file. The directory is compressed
+     * in parallel, as it is uploaded, without writing an archive to disk.
+     *
+     * @param compressionLevel the level of compression, from 0 (none) to 9 (best), or -1 for the default level
+     */
+    void uploadApplicationDirectory(String applicationName, Path directory, int compressionLevel, UploadStatusCallback callback)
+        throws IOException;
+
     CloudPackage asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback);
 
     Upload getUploadStatus(UUID packageGuid);
 
+    /**
+     * Polls the status of an upload, until the upload is processed by the Cloud Controller, without blocking a thread in between polls.
+     *
+     * @param callback notified of each polled status and of failed uploads, or {@code null}
+     * @return a future, which completes with the last polled status, once the upload is ready, has failed or the callback unsubscribed
+     */
+    CompletableFuture<Upload> monitorUpload(UUID packageGuid, UploadStatusCallback callback);
+
+    CloudJob getJob(UUID jobGuid);
+
+    /**
+     * Waits for asynchronous jobs, e.g. the ones returned by {@link #requestApplicationDeletion(String)}, to finish or fail. The jobs,
+     * which are still running, are polled in parallel with an increasing interval. {@code null} jobs are skipped.
+     *
+     * @return the jobs in their final states, in the order of the given jobs
+     * @throws IllegalStateException if the jobs do not complete within the timeout
+     */
+    List<CloudJob> awaitJobs(Collection<CloudJob> jobs, Duration timeout);
+
+    /**
+     * Watches a package together with the other watched packages, which are all polled with the same list requests.
+     *
+     * @return a future, which completes with the package, once it is {@code READY}, has {@code FAILED} or has {@code EXPIRED}
+     */
+    CompletableFuture<CloudPackage> watchPackage(UUID packageGuid);
+
     CloudTask getTask(UUID taskGuid);
 
     List<CloudTask> getTasks(String applicationName);
@@ -227,14 +374,31 @@ public interface CloudControllerRestClient {
 
     CloudTask cancelTask(UUID taskGuid);
 
+    /**
+     * Watches a task together with the other watched tasks, which are all polled with the same list requests.
+     *
+     * @return a future, which completes with the task, once it has {@code SUCCEEDED} or {@code FAILED}
+     */
+    CompletableFuture<CloudTask> watchTask(UUID taskGuid);
+
     CloudBuild createBuild(UUID packageGuid);
 
     CloudBuild getBuild(UUID packageGuid);
 
+    /**
+     * Watches a build together with the other watched builds, which are all polled with the same list requests. Builds are listed by the
+     * GUIDs of their packages, so the package of the build must be known.
+     *
+     * @return a future, which completes with the build, once it is {@code STAGED} or has {@code FAILED}
+     */
+    CompletableFuture<CloudBuild> watchBuild(CloudBuild build);
+
     void bindDropletToApp(UUID dropletGuid, UUID applicationGuid);
 
     List<CloudBuild> getBuildsForApplication(UUID applicationGuid);
 
+    ReactiveCloudControllerRestClient getReactiveClient();
+
     WebClient getWebClient();
 
     OAuthClient getOAuthClient();
@@ -14,6 +14,7 @@ import java.util.Optional;
 
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.logcache.v1.LogCacheClient;
 import org.cloudfoundry.reactor.ConnectionContext;
 import org.immutables.value.Value;
 import org.springframework.util.StringUtils;
@@ -45,6 +46,23 @@ public abstract class CloudControllerRestClientFactory {
 
     public abstract Optional<Integer> getThreadPoolSize();
 
+    /**
+     * @return the concurrency settings for fetching the auxiliary content of listed resources, used unless overridden for a specific
+     *         operation
+     */
+    @Value.Default
+    public ConcurrencySettings getConcurrencySettings() {
+        return ConcurrencySettings.DEFAULT;
+    }
+
+    public abstract Map<FetchOperation, ConcurrencySettings> getConcurrencySettingsOverrides();
+
+    /**
+     * @return the settings of the snapshot of the targeted space, if the created clients should serve repeated lookups from it, as
+     *         described in {@link CachingCloudControllerRestClient}
+     */
+    public abstract Optional<SnapshotCacheSettings> getSnapshotCacheSettings();
+
     @Value.Default
     public boolean shouldTrustSelfSignedCertificates() {
         return false;
@@ -86,8 +104,13 @@ public abstract class CloudControllerRestClientFactory {
         WebClient webClient = createWebClient(credentials, oAuthClient, exchangeFilters);
         CloudFoundryClient delegate = getCloudFoundryClientFactory().createClient(controllerUrl, oAuthClient);
         DopplerClient dopplerClient = getCloudFoundryClientFactory().createDopplerClient(controllerUrl, oAuthClient);
+        LogCacheClient logCacheClient = getCloudFoundryClientFactory().createLogCacheClient(controllerUrl, oAuthClient);
 
-        return new CloudControllerRestClientImpl(controllerUrl, credentials, webClient, oAuthClient, delegate, dopplerClient, target);
+        CloudControllerRestClient client = new CloudControllerRestClientImpl(controllerUrl, credentials, webClient, oAuthClient, delegate,
+                                                                             dopplerClient, logCacheClient, target,
+                                                                             getConcurrencySettings(), getConcurrencySettingsOverrides());
+        return getSnapshotCacheSettings().<CloudControllerRestClient> map(settings -> new CachingCloudControllerRestClient(client, settings))
+                                         .orElse(client);
     }
 
     private OAuthClient createOAuthClient(URL controllerUrl, String origin) {
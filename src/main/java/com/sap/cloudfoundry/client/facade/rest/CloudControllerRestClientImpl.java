@@ -2,28 +2,48 @@ package com.sap.cloudfoundry.client.facade.rest;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.IOUtils;
 import org.cloudfoundry.AbstractCloudFoundryException;
 import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.OrderDirection;
 import org.cloudfoundry.client.v2.Resource;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesRequest;
 import org.cloudfoundry.client.v2.applications.ApplicationInstancesResponse;
@@ -45,11 +65,11 @@ import org.cloudfoundry.client.v2.privatedomains.PrivateDomainEntity;
 import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsRequest;
 import org.cloudfoundry.client.v2.routemappings.RouteMappingEntity;
 import org.cloudfoundry.client.v2.routes.CreateRouteRequest;
-import org.cloudfoundry.client.v2.routes.CreateRouteResponse;
 import org.cloudfoundry.client.v2.routes.DeleteRouteRequest;
 import org.cloudfoundry.client.v2.routes.RouteEntity;
 import org.cloudfoundry.client.v2.servicebindings.CreateServiceBindingRequest;
 import org.cloudfoundry.client.v2.servicebindings.DeleteServiceBindingRequest;
+import org.cloudfoundry.client.v2.servicebindings.DeleteServiceBindingResponse;
 import org.cloudfoundry.client.v2.servicebindings.GetServiceBindingParametersRequest;
 import org.cloudfoundry.client.v2.servicebindings.GetServiceBindingParametersResponse;
 import org.cloudfoundry.client.v2.servicebindings.ListServiceBindingsRequest;
@@ -61,8 +81,10 @@ import org.cloudfoundry.client.v2.servicebrokers.ServiceBrokerEntity;
 import org.cloudfoundry.client.v2.servicebrokers.UpdateServiceBrokerRequest;
 import org.cloudfoundry.client.v2.serviceinstances.CreateServiceInstanceRequest;
 import org.cloudfoundry.client.v2.serviceinstances.DeleteServiceInstanceRequest;
+import org.cloudfoundry.client.v2.serviceinstances.DeleteServiceInstanceResponse;
 import org.cloudfoundry.client.v2.serviceinstances.GetServiceInstanceParametersRequest;
 import org.cloudfoundry.client.v2.serviceinstances.GetServiceInstanceParametersResponse;
+import org.cloudfoundry.client.v2.serviceinstances.LastOperation;
 import org.cloudfoundry.client.v2.serviceinstances.UnionServiceInstanceEntity;
 import org.cloudfoundry.client.v2.servicekeys.CreateServiceKeyRequest;
 import org.cloudfoundry.client.v2.servicekeys.DeleteServiceKeyRequest;
@@ -99,7 +121,6 @@ import org.cloudfoundry.client.v3.applications.ApplicationRelationships;
 import org.cloudfoundry.client.v3.applications.ApplicationResource;
 import org.cloudfoundry.client.v3.applications.ApplicationState;
 import org.cloudfoundry.client.v3.applications.CreateApplicationRequest;
-import org.cloudfoundry.client.v3.applications.CreateApplicationResponse;
 import org.cloudfoundry.client.v3.applications.DeleteApplicationRequest;
 import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletRequest;
 import org.cloudfoundry.client.v3.applications.GetApplicationCurrentDropletResponse;
@@ -127,10 +148,14 @@ import org.cloudfoundry.client.v3.domains.Domain;
 import org.cloudfoundry.client.v3.domains.DomainRelationships;
 import org.cloudfoundry.client.v3.domains.DomainResource;
 import org.cloudfoundry.client.v3.domains.ListDomainsRequest;
+import org.cloudfoundry.client.v3.droplets.Droplet;
+import org.cloudfoundry.client.v3.droplets.ListDropletsRequest;
+import org.cloudfoundry.client.v3.jobs.GetJobRequest;
+import org.cloudfoundry.client.v3.jobs.Job;
 import org.cloudfoundry.client.v3.organizations.GetOrganizationDefaultDomainRequest;
 import org.cloudfoundry.client.v3.packages.CreatePackageRequest;
-import org.cloudfoundry.client.v3.packages.CreatePackageResponse;
 import org.cloudfoundry.client.v3.packages.GetPackageRequest;
+import org.cloudfoundry.client.v3.packages.ListPackagesRequest;
 import org.cloudfoundry.client.v3.packages.PackageRelationships;
 import org.cloudfoundry.client.v3.packages.PackageResource;
 import org.cloudfoundry.client.v3.packages.PackageType;
@@ -138,9 +163,13 @@ import org.cloudfoundry.client.v3.packages.UploadPackageRequest;
 import org.cloudfoundry.client.v3.processes.Data;
 import org.cloudfoundry.client.v3.processes.HealthCheck;
 import org.cloudfoundry.client.v3.processes.HealthCheckType;
+import org.cloudfoundry.client.v3.processes.ListProcessesRequest;
+import org.cloudfoundry.client.v3.processes.Process;
 import org.cloudfoundry.client.v3.processes.UpdateProcessRequest;
 import org.cloudfoundry.client.v3.roles.ListRolesRequest;
 import org.cloudfoundry.client.v3.roles.RoleResource;
+import org.cloudfoundry.client.v3.routes.ListRoutesRequest;
+import org.cloudfoundry.client.v3.routes.Route;
 import org.cloudfoundry.client.v3.serviceInstances.ListServiceInstancesRequest;
 import org.cloudfoundry.client.v3.serviceInstances.ServiceInstanceResource;
 import org.cloudfoundry.client.v3.serviceInstances.UpdateServiceInstanceRequest;
@@ -150,25 +179,46 @@ import org.cloudfoundry.client.v3.tasks.GetTaskRequest;
 import org.cloudfoundry.client.v3.tasks.ListTasksRequest;
 import org.cloudfoundry.client.v3.tasks.Task;
 import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.doppler.Envelope;
+import org.cloudfoundry.doppler.EventType;
 import org.cloudfoundry.doppler.RecentLogsRequest;
+import org.cloudfoundry.doppler.StreamRequest;
+import org.cloudfoundry.logcache.v1.EnvelopeType;
+import org.cloudfoundry.logcache.v1.LogCacheClient;
+import org.cloudfoundry.logcache.v1.ReadRequest;
 import org.cloudfoundry.util.PaginationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.BulkOperationException;
 import com.sap.cloudfoundry.client.facade.CloudCredentials;
 import com.sap.cloudfoundry.client.facade.CloudOperationException;
 import com.sap.cloudfoundry.client.facade.Constants;
+import com.sap.cloudfoundry.client.facade.StreamingLogToken;
 import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawApplicationLog;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudApplication;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudBuild;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudEvent;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudJob;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudOrganization;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudPackage;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudPrivateDomain;
@@ -184,14 +234,20 @@ import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudSpace;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudStack;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawCloudTask;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawInstancesInfo;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawLogCacheApplicationLog;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawUserRole;
+import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawV3CloudApplication;
 import com.sap.cloudfoundry.client.facade.adapters.ImmutableRawV3CloudDomain;
+import com.sap.cloudfoundry.client.facade.adapters.RawApplicationLog;
 import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogBatch;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogQuery;
 import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
 import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
 import com.sap.cloudfoundry.client.facade.domain.CloudDomain;
 import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
 import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
 import com.sap.cloudfoundry.client.facade.domain.CloudMetadata;
 import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
 import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
@@ -211,23 +267,35 @@ import com.sap.cloudfoundry.client.facade.domain.DockerCredentials;
 import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
 import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
 import com.sap.cloudfoundry.client.facade.domain.ErrorDetails;
+import com.sap.cloudfoundry.client.facade.domain.EventCursor;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudJob;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudServiceInstance;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableDropletInfo;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableErrorDetails;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableEventCursor;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableInstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.ImmutablePolledEvents;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableUpload;
 import com.sap.cloudfoundry.client.facade.domain.InstancesInfo;
+import com.sap.cloudfoundry.client.facade.domain.PolledEvents;
 import com.sap.cloudfoundry.client.facade.domain.ServiceInstanceType;
+import com.sap.cloudfoundry.client.facade.domain.ServiceOperation;
 import com.sap.cloudfoundry.client.facade.domain.Staging;
 import com.sap.cloudfoundry.client.facade.domain.Status;
 import com.sap.cloudfoundry.client.facade.domain.Upload;
 import com.sap.cloudfoundry.client.facade.domain.UserRole;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
 import com.sap.cloudfoundry.client.facade.util.EnvironmentUtil;
+import com.sap.cloudfoundry.client.facade.util.JsonUtil;
 
+import io.netty.buffer.PooledByteBufAllocator;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
@@ -238,8 +306,34 @@ import reactor.util.function.Tuples;
 public class CloudControllerRestClientImpl implements CloudControllerRestClient {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CloudControllerRestClientImpl.class);
-    private static final long JOB_POLLING_PERIOD = TimeUnit.SECONDS.toMillis(5);
     private static final int MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST = 4000;
+    /**
+     * The number of entities that are enriched with metadata together and that are buffered ahead of the consumer of a stream. A batch of
+     * application or service instance GUIDs of this size fits in a single metadata request.
+     */
+    private static final int STREAMING_BATCH_SIZE = 100;
+    /**
+     * The maximum number of logs that are buffered for a listener, which cannot keep up with a log stream. The thread, which delivers the
+     * logs to the listener, requests them one at a time, so it does not hold a second buffer of its own.
+     */
+    static final int LOG_STREAMING_BUFFER_SIZE = 1000;
+    private static final int DEFAULT_MAX_MERGED_LOGS = 10000;
+    private static final int DEFAULT_LOG_CACHE_LIMIT = 100;
+    private static final long UNKNOWN_UPLOAD_SIZE = -1;
+    private static final int MAX_RESOURCES_PER_MATCH_REQUEST = 5000;
+    private static final Set<FetchOperation> BULK_MUTATIONS = EnumSet.of(FetchOperation.DELETE_APPLICATIONS,
+                                                                         FetchOperation.UNBIND_SERVICE_INSTANCES,
+                                                                         FetchOperation.DELETE_SERVICE_INSTANCES);
+    private static final int UPLOAD_BUFFER_SIZE = 64 * 1024;
+    /**
+     * How many bytes of a stream of unknown size are kept in memory while it is sent, so that it can still be spooled to a temporary file,
+     * if the Cloud Controller turns out to require the content length of uploads.
+     */
+    private static final int MAX_REPLAYED_UPLOAD_SIZE = 16 * UPLOAD_BUFFER_SIZE;
+    private static final DataBufferFactory UPLOAD_BUFFER_FACTORY = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private static final Duration APPLICATION_GUID_TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final int APPLICATION_GUID_CACHE_MAX_SIZE = 1000;
+    private static final Duration INITIAL_EVENT_POLL_LOOKBACK = Duration.ofMinutes(1);
 
     private CloudCredentials credentials;
     private URL controllerUrl;
@@ -249,12 +343,32 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     private CloudFoundryClient delegate;
     private DopplerClient dopplerClient;
+    private LogCacheClient logCacheClient;
+    private StackCache stackCache;
+    private ServiceOfferingCache serviceOfferingCache;
+    private ConcurrencySettings concurrencySettings = ConcurrencySettings.DEFAULT;
+    private Map<FetchOperation, ConcurrencySettings> concurrencySettingsOverrides = Collections.emptyMap();
+    private final ReactiveCloudControllerRestClient reactiveClient = new ReactiveClient();
+    private final ResourceCache<String, UUID> applicationGuids = new ResourceCache<>(APPLICATION_GUID_TIME_TO_LIVE,
+                                                                                     APPLICATION_GUID_CACHE_MAX_SIZE);
+    private final DomainIndex domainIndex = new DomainIndex(this::getDomainGuidsFromController);
+    private final UploadStatusPoller uploadStatusPoller = new UploadStatusPoller(this::getExistingUploadStatus);
+    private final Map<UUID, CompletableFuture<Upload>> backgroundUploadMonitors = new ConcurrentHashMap<>();
+    private final JobAwaiter jobAwaiter = new JobAwaiter(this::getJobMono);
+    private StatusWatcher<UUID, CloudPackage> packageWatcher;
+    private StatusWatcher<UUID, CloudBuild> buildWatcher;
+    private StatusWatcher<UUID, CloudTask> taskWatcher;
+    private StatusWatcher<String, CloudServiceInstance> serviceInstanceWatcher;
+    private volatile boolean contentLengthRequired;
 
     /**
      * Only for unit tests. This works around the fact that the initialize method is called within the constructor and hence can not be
      * overloaded, making it impossible to write unit tests that don't trigger network calls.
      */
     protected CloudControllerRestClientImpl() {
+        this.stackCache = new StackCache(StackCache.DEFAULT_TIME_TO_LIVE);
+        this.serviceOfferingCache = new ServiceOfferingCache();
+        initializeStatusWatchers(StatusWatcher.DEFAULT_POLLING_INTERVAL);
     }
 
     public CloudControllerRestClientImpl(URL controllerUrl, CloudCredentials credentials, WebClient webClient, OAuthClient oAuthClient,
@@ -264,6 +378,33 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     public CloudControllerRestClientImpl(URL controllerUrl, CloudCredentials credentials, WebClient webClient, OAuthClient oAuthClient,
                                          CloudFoundryClient delegate, DopplerClient dopplerClient, CloudSpace target) {
+        this(controllerUrl, credentials, webClient, oAuthClient, delegate, dopplerClient, target, ConcurrencySettings.DEFAULT,
+             Collections.emptyMap());
+    }
+
+    public CloudControllerRestClientImpl(URL controllerUrl, CloudCredentials credentials, WebClient webClient, OAuthClient oAuthClient,
+                                         CloudFoundryClient delegate, DopplerClient dopplerClient, CloudSpace target,
+                                         ConcurrencySettings concurrencySettings,
+                                         Map<FetchOperation, ConcurrencySettings> concurrencySettingsOverrides) {
+        this(controllerUrl, credentials, webClient, oAuthClient, delegate, dopplerClient, null, target, concurrencySettings,
+             concurrencySettingsOverrides);
+    }
+
+    public CloudControllerRestClientImpl(URL controllerUrl, CloudCredentials credentials, WebClient webClient, OAuthClient oAuthClient,
+                                         CloudFoundryClient delegate, DopplerClient dopplerClient, LogCacheClient logCacheClient,
+                                         CloudSpace target, ConcurrencySettings concurrencySettings,
+                                         Map<FetchOperation, ConcurrencySettings> concurrencySettingsOverrides) {
+        this(controllerUrl, credentials, webClient, oAuthClient, delegate, dopplerClient, logCacheClient, target, concurrencySettings,
+             concurrencySettingsOverrides, StatusWatcher.DEFAULT_POLLING_INTERVAL);
+    }
+
+    /**
+     * @param statusPollingInterval the interval, in which the states of watched packages, builds, tasks and service instances are polled
+     */
+    CloudControllerRestClientImpl(URL controllerUrl, CloudCredentials credentials, WebClient webClient, OAuthClient oAuthClient,
+                                  CloudFoundryClient delegate, DopplerClient dopplerClient, LogCacheClient logCacheClient,
+                                  CloudSpace target, ConcurrencySettings concurrencySettings,
+                                  Map<FetchOperation, ConcurrencySettings> concurrencySettingsOverrides, Duration statusPollingInterval) {
         Assert.notNull(controllerUrl, "CloudControllerUrl cannot be null");
         Assert.notNull(webClient, "WebClient cannot be null");
         Assert.notNull(oAuthClient, "OAuthClient cannot be null");
@@ -276,6 +417,30 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
         this.delegate = delegate;
         this.dopplerClient = dopplerClient;
+        this.logCacheClient = logCacheClient;
+        this.stackCache = StackCache.forController(controllerUrl);
+        this.serviceOfferingCache = new ServiceOfferingCache();
+        this.concurrencySettings = concurrencySettings;
+        this.concurrencySettingsOverrides = concurrencySettingsOverrides;
+        initializeStatusWatchers(statusPollingInterval);
+    }
+
+    private void initializeStatusWatchers(Duration pollingInterval) {
+        this.packageWatcher = StatusWatcher.byGuid(this::getPackagesByGuids, this::toBatches,
+                                                   CloudControllerRestClientImpl::isInTerminalState, pollingInterval);
+        this.buildWatcher = StatusWatcher.byGuid(this::getBuildsByPackageGuids, this::toBatches,
+                                                 CloudControllerRestClientImpl::isInTerminalState, pollingInterval);
+        this.taskWatcher = StatusWatcher.byGuid(this::getTasksByGuids, this::toBatches, CloudControllerRestClientImpl::isInTerminalState,
+                                                pollingInterval);
+        this.serviceInstanceWatcher = new StatusWatcher<>(this::getServiceInstancesByNames, this::toBatches,
+                                                          serviceInstance -> getGuid(serviceInstance).toString(),
+                                                          CloudControllerRestClientImpl::isInTerminalState, pollingInterval,
+                                                          Schedulers.parallel());
+    }
+
+    @Override
+    public ReactiveCloudControllerRestClient getReactiveClient() {
+        return reactiveClient;
     }
 
     @Override
@@ -295,18 +460,14 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public void addDomain(String domainName) {
-        assertSpaceProvided("add domain");
-        CloudDomain domain = findDomainByName(domainName);
-        if (domain == null) {
-            doCreateDomain(domainName);
-        }
+        reactiveClient.addDomain(domainName)
+                      .block();
     }
 
     @Override
     public void addRoute(String host, String domainName, String path) {
-        assertSpaceProvided("add route for domain");
-        UUID domainGuid = getRequiredDomainGuid(domainName);
-        doAddRoute(domainGuid, host, path);
+        reactiveClient.addRoute(host, domainName, path)
+                      .block();
     }
 
     @Override
@@ -316,37 +477,36 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public void bindServiceInstance(String applicationName, String serviceInstanceName, Map<String, Object> parameters) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        UUID serviceInstanceGuid = getServiceInstance(serviceInstanceName).getMetadata()
-                                                                          .getGuid();
-        delegate.serviceBindingsV2()
-                .create(CreateServiceBindingRequest.builder()
-                                                   .applicationId(applicationGuid.toString())
-                                                   .serviceInstanceId(serviceInstanceGuid.toString())
-                                                   .parameters(parameters)
-                                                   .build())
-                .block();
+        reactiveClient.bindServiceInstance(applicationName, serviceInstanceName, parameters)
+                      .block();
+    }
+
+    private Mono<Void> doBindServiceInstance(String applicationName, UUID serviceInstanceGuid, Map<String, Object> parameters) {
+        return getWithApplicationGuidMono(applicationName,
+                                          applicationGuid -> doBindServiceInstance(applicationGuid, serviceInstanceGuid, parameters));
+    }
+
+    private Mono<Void> doBindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid, Map<String, Object> parameters) {
+        CreateServiceBindingRequest request = CreateServiceBindingRequest.builder()
+                                                                         .applicationId(applicationGuid.toString())
+                                                                         .serviceInstanceId(serviceInstanceGuid.toString())
+                                                                         .parameters(parameters)
+                                                                         .build();
+        return delegate.serviceBindingsV2()
+                       .create(request)
+                       .then();
     }
 
     @Override
     public void createApplication(String name, Staging staging, Integer disk, Integer memory, Set<CloudRouteSummary> routes) {
-        CreateApplicationRequest applicationRequest = createApplicationRequestBuilder(name).lifecycle(buildApplicationLifecycle(staging))
-                                                                                           .build();
-        doCreateApplication(staging, disk, memory, routes, applicationRequest);
+        reactiveClient.createApplication(name, staging, disk, memory, routes)
+                      .block();
     }
 
     private Lifecycle buildApplicationLifecycle(Staging staging) {
         return staging.getDockerInfo() != null ? createDockerLifecycle() : createBuildpackLifecycle(staging);
     }
 
-    private void doCreateApplication(Staging staging, Integer disk, Integer memory, Set<CloudRouteSummary> routes,
-                                     CreateApplicationRequest applicationRequest) {
-        CreateApplicationResponse createApplicationResponse = delegate.applicationsV3()
-                                                                      .create(applicationRequest)
-                                                                      .block();
-        updateApplicationAttributes(staging, disk, memory, routes, createApplicationResponse);
-    }
-
     private CreateApplicationRequest.Builder createApplicationRequestBuilder(String name) {
         return CreateApplicationRequest.builder()
                                        .name(name)
@@ -365,22 +525,19 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return buildpackDataBuilder.build();
     }
 
-    private void updateApplicationAttributes(Staging staging, Integer disk, Integer memory, Set<CloudRouteSummary> routes,
-                                             CreateApplicationResponse createApplicationResponse) {
-        UUID createdApplicationGuid = UUID.fromString(createApplicationResponse.getId());
-        GetApplicationProcessResponse applicationProcess = getApplicationProcess(createdApplicationGuid);
-        updateApplicationProcess(createdApplicationGuid, staging, applicationProcess);
-        delegate.applicationsV3()
-                .scale(ScaleApplicationRequest.builder()
-                                              .applicationId(createdApplicationGuid.toString())
-                                              .type("web")
-                                              .memoryInMb(memory)
-                                              .diskInMb(disk)
-                                              .build())
-                .block();
-        if (!CollectionUtils.isEmpty(routes)) {
-            addRoutes(routes, createdApplicationGuid);
-        }
+    private Mono<Void> updateApplicationAttributes(UUID applicationGuid, Staging staging, Integer disk, Integer memory,
+                                                   Set<CloudRouteSummary> routes) {
+        Mono<Void> scale = Mono.defer(() -> delegate.applicationsV3()
+                                                    .scale(ScaleApplicationRequest.builder()
+                                                                                  .applicationId(applicationGuid.toString())
+                                                                                  .type("web")
+                                                                                  .memoryInMb(memory)
+                                                                                  .diskInMb(disk)
+                                                                                  .build())
+                                                    .then());
+        Mono<Void> routesAddition = Mono.defer(() -> CollectionUtils.isEmpty(routes) ? Mono.empty() : addRoutes(routes, applicationGuid));
+        return updateApplicationProcess(applicationGuid, staging).then(scale)
+                                                                 .then(routesAddition);
     }
 
     private Lifecycle createBuildpackLifecycle(Staging staging) {
@@ -405,38 +562,42 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                        .build();
     }
 
-    private GetApplicationProcessResponse getApplicationProcess(UUID applicationGuid) {
+    private Mono<GetApplicationProcessResponse> getApplicationProcess(UUID applicationGuid) {
         return delegate.applicationsV3()
                        .getProcess(GetApplicationProcessRequest.builder()
                                                                .type("web")
                                                                .applicationId(applicationGuid.toString())
-                                                               .build())
-                       .block();
+                                                               .build());
     }
 
-    private void updateApplicationProcess(UUID applicationGuid, Staging staging, GetApplicationProcessResponse applicationProcess) {
-        if (staging.isSshEnabled() != null) {
-            updateSsh(applicationGuid, staging.isSshEnabled());
-        }
+    private Mono<Void> updateApplicationProcess(UUID applicationGuid, Staging staging) {
+        return getApplicationProcess(applicationGuid).flatMap(applicationProcess -> updateSsh(applicationGuid, staging)
+            .then(Mono.defer(() -> updateProcess(staging, applicationProcess))));
+    }
+
+    private Mono<Void> updateProcess(Staging staging, GetApplicationProcessResponse applicationProcess) {
         UpdateProcessRequest.Builder updateProcessRequestBuilder = UpdateProcessRequest.builder()
                                                                                        .processId(applicationProcess.getId())
                                                                                        .command(staging.getCommand());
         if (staging.getHealthCheckType() != null) {
             updateProcessRequestBuilder.healthCheck(buildHealthCheck(staging));
         }
-        delegate.processes()
-                .update(updateProcessRequestBuilder.build())
-                .block();
+        return delegate.processes()
+                       .update(updateProcessRequestBuilder.build())
+                       .then();
     }
 
-    private void updateSsh(UUID applicationGuid, boolean isSshEnabled) {
-        delegate.applicationsV3()
-                .updateFeature(UpdateApplicationFeatureRequest.builder()
-                                                              .featureName("ssh")
-                                                              .enabled(isSshEnabled)
-                                                              .applicationId(applicationGuid.toString())
-                                                              .build())
-                .block();
+    private Mono<Void> updateSsh(UUID applicationGuid, Staging staging) {
+        if (staging.isSshEnabled() == null) {
+            return Mono.empty();
+        }
+        return delegate.applicationsV3()
+                       .updateFeature(UpdateApplicationFeatureRequest.builder()
+                                                                     .featureName("ssh")
+                                                                     .enabled(staging.isSshEnabled())
+                                                                     .applicationId(applicationGuid.toString())
+                                                                     .build())
+                       .then();
     }
 
     private HealthCheck buildHealthCheck(Staging staging) {
@@ -458,47 +619,42 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public void createServiceInstance(CloudServiceInstance serviceInstance) {
-        assertSpaceProvided("create service instance");
-        Assert.notNull(serviceInstance, "Service instance must not be null.");
+        reactiveClient.createServiceInstance(serviceInstance)
+                      .block();
+    }
 
-        CloudServicePlan servicePlan = findPlanForService(serviceInstance, serviceInstance.getPlan());
-        UUID servicePlanGuid = servicePlan.getMetadata()
-                                          .getGuid();
-        delegate.serviceInstances()
-                .create(CreateServiceInstanceRequest.builder()
-                                                    .spaceId(getTargetSpaceGuid().toString())
-                                                    .name(serviceInstance.getName())
-                                                    .servicePlanId(servicePlanGuid.toString())
-                                                    .addAllTags(serviceInstance.getTags())
-                                                    .parameters(serviceInstance.getCredentials())
-                                                    .acceptsIncomplete(true)
-                                                    .build())
-                .block();
+    private Mono<Void> doCreateServiceInstance(CloudServiceInstance serviceInstance, UUID servicePlanGuid) {
+        return delegate.serviceInstances()
+                       .create(CreateServiceInstanceRequest.builder()
+                                                           .spaceId(getTargetSpaceGuid().toString())
+                                                           .name(serviceInstance.getName())
+                                                           .servicePlanId(servicePlanGuid.toString())
+                                                           .addAllTags(serviceInstance.getTags())
+                                                           .parameters(serviceInstance.getCredentials())
+                                                           .acceptsIncomplete(true)
+                                                           .build())
+                       .then();
     }
 
     @Override
     public void createServiceBroker(CloudServiceBroker serviceBroker) {
-        Assert.notNull(serviceBroker, "Service broker must not be null.");
-
-        delegate.serviceBrokers()
-                .create(CreateServiceBrokerRequest.builder()
-                                                  .name(serviceBroker.getName())
-                                                  .brokerUrl(serviceBroker.getUrl())
-                                                  .authenticationUsername(serviceBroker.getUsername())
-                                                  .authenticationPassword(serviceBroker.getPassword())
-                                                  .spaceId(serviceBroker.getSpaceGuid())
-                                                  .build())
-                .block();
+        reactiveClient.createServiceBroker(serviceBroker)
+                      .block();
     }
 
     @Override
     public CloudServiceKey createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters) {
-        CloudServiceInstance serviceInstance = getServiceInstance(serviceInstanceName);
-        return fetch(() -> createServiceKeyResource(serviceInstance, serviceKeyName, parameters),
-                     resource -> ImmutableRawCloudServiceKey.builder()
-                                                            .serviceInstance(serviceInstance)
-                                                            .resource(resource)
-                                                            .build());
+        return reactiveClient.createServiceKey(serviceInstanceName, serviceKeyName, parameters)
+                             .block();
+    }
+
+    private Mono<CloudServiceKey> doCreateServiceKey(CloudServiceInstance serviceInstance, String serviceKeyName,
+                                                     Map<String, Object> parameters) {
+        return fetchMono(() -> createServiceKeyResource(serviceInstance, serviceKeyName, parameters),
+                         resource -> ImmutableRawCloudServiceKey.builder()
+                                                                .serviceInstance(serviceInstance)
+                                                                .resource(resource)
+                                                                .build());
     }
 
     @Override
@@ -509,62 +665,144 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     @Override
     public void createUserProvidedServiceInstance(CloudServiceInstance serviceInstance, Map<String, Object> credentials,
                                                   String syslogDrainUrl) {
-        assertSpaceProvided("create service instance");
-        Assert.notNull(serviceInstance, "Service instance must not be null.");
-
-        delegate.userProvidedServiceInstances()
-                .create(CreateUserProvidedServiceInstanceRequest.builder()
-                                                                .spaceId(getTargetSpaceGuid().toString())
-                                                                .name(serviceInstance.getName())
-                                                                .credentials(credentials)
-                                                                .syslogDrainUrl(syslogDrainUrl)
-                                                                .build())
-                .block();
+        reactiveClient.createUserProvidedServiceInstance(serviceInstance, credentials, syslogDrainUrl)
+                      .block();
     }
 
     @Override
     public void deleteAllApplications() {
-        List<UUID> applicationIds = getApplicationIds();
-        for (UUID applicationGuid : applicationIds) {
-            deleteApplication(applicationGuid);
-        }
+        reactiveClient.deleteAllApplications()
+                      .block();
+    }
+
+    private Mono<Void> deleteApplications(List<? extends Application> applications) {
+        Function<Application, Mono<?>> deletion = application -> deleteApplicationResourceMono(UUID.fromString(application.getId()));
+        return unbindServiceInstances(applications).flatMap(unbindFailures -> deleteAll(FetchOperation.DELETE_APPLICATIONS, "applications",
+                                                                                        Flux.fromIterable(applications),
+                                                                                        Application::getName, deletion, unbindFailures));
+    }
+
+    /**
+     * Unbinds the service instances from all of the applications. The concurrency of {@link FetchOperation#UNBIND_SERVICE_INSTANCES}
+     * bounds the unbinds of all applications together, not those of each application.
+     *
+     * @return the first failure by application name, for the applications whose service instances could not all be unbound
+     */
+    private Mono<Map<String, Throwable>> unbindServiceInstances(List<? extends Application> applications) {
+        ConcurrencySettings listingSettings = getConcurrencySettings(FetchOperation.DELETE_APPLICATIONS);
+        ConcurrencySettings unbindSettings = getConcurrencySettings(FetchOperation.UNBIND_SERVICE_INSTANCES);
+        return Mono.defer(() -> {
+            Map<String, Throwable> failures = new ConcurrentHashMap<>();
+            return Flux.fromIterable(applications)
+                       .flatMap(application -> getServiceBindingResourcesByApplicationGuid(UUID.fromString(application.getId()))
+                           .map(binding -> Tuples.of(application.getName(), getGuid(binding)))
+                           .onErrorResume(e -> {
+                               failures.putIfAbsent(application.getName(), e);
+                               return Mono.empty();
+                           }), listingSettings.getConcurrency(), listingSettings.getPrefetch())
+                       .flatMap(binding -> unbindServiceInstanceMono(binding.getT2()).then()
+                                                                                     .onErrorResume(e -> {
+                                                                                         failures.putIfAbsent(binding.getT1(), e);
+                                                                                         return Mono.empty();
+                                                                                     }),
+                                unbindSettings.getConcurrency(), unbindSettings.getPrefetch())
+                       .then(Mono.fromSupplier(() -> failures));
+        });
     }
 
     @Override
     public void deleteAllServiceInstances() {
-        List<CloudServiceInstance> serviceInstances = getServiceInstances();
-        for (CloudServiceInstance serviceInstance : serviceInstances) {
-            doDeleteServiceInstance(serviceInstance);
-        }
+        reactiveClient.deleteAllServiceInstances()
+                      .block();
+    }
+
+    private <R> Mono<Void> deleteAll(FetchOperation operation, String entityType, Flux<R> resources, Function<R, String> nameExtractor,
+                                     Function<R, Mono<?>> deletion) {
+        return deleteAll(operation, entityType, resources, nameExtractor, deletion, Collections.emptyMap());
+    }
+
+    /**
+     * Deletes the entities concurrently, bounded by the {@link ConcurrencySettings} of the operation. A failed deletion does not abort the
+     * others, and all of the failures are reported together by a {@link BulkOperationException}, once every deletion has completed. The
+     * entities, which could not be prepared for their deletion, are not deleted, and are reported along with the failed deletions.
+     */
+    private <R> Mono<Void> deleteAll(FetchOperation operation, String entityType, Flux<R> resources, Function<R, String> nameExtractor,
+                                     Function<R, Mono<?>> deletion, Map<String, Throwable> preparationFailures) {
+        ConcurrencySettings settings = getConcurrencySettings(operation);
+        return Mono.defer(() -> {
+            Map<String, Throwable> failures = new ConcurrentHashMap<>(preparationFailures);
+            AtomicLong deletedCount = new AtomicLong();
+            return resources.filter(resource -> !preparationFailures.containsKey(nameExtractor.apply(resource)))
+                            .flatMap(resource -> deletion.apply(resource)
+                                                         .doOnSuccess(result -> deletedCount.incrementAndGet())
+                                                         .then()
+                                                         .onErrorResume(e -> {
+                                                             failures.put(nameExtractor.apply(resource), e);
+                                                             return Mono.empty();
+                                                         }), settings.getConcurrency(), settings.getPrefetch())
+                            .then(Mono.defer(() -> {
+                                if (failures.isEmpty()) {
+                                    return Mono.empty();
+                                }
+                                String description = MessageFormat.format("Could not delete {0} of {1} {2}", failures.size(),
+                                                                          failures.size() + deletedCount.get(), entityType);
+                                return Mono.error(new BulkOperationException(description, failures));
+                            }));
+        });
     }
 
     @Override
     public void deleteApplication(String applicationName) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        deleteApplication(applicationGuid);
+        requestApplicationDeletion(applicationName);
+    }
+
+    @Override
+    public CloudJob requestApplicationDeletion(String applicationName) {
+        return reactiveClient.requestApplicationDeletion(applicationName)
+                             .block();
+    }
+
+    /**
+     * Unbinds the service instances from the application, one at a time, and deletes it afterwards.
+     */
+    private Mono<CloudJob> doDeleteApplication(UUID applicationGuid) {
+        return getServiceBindingResourcesByApplicationGuid(applicationGuid).map(this::getGuid)
+                                                                           .concatMap(this::unbindServiceInstanceMono)
+                                                                           .then(deleteApplicationResourceMono(applicationGuid));
+    }
+
+    private Mono<CloudJob> deleteApplicationResourceMono(UUID applicationGuid) {
+        return Mono.defer(() -> delegate.applicationsV3()
+                                        .delete(DeleteApplicationRequest.builder()
+                                                                        .applicationId(applicationGuid.toString())
+                                                                        .build()))
+                   .map(CloudControllerRestClientImpl::toJob);
     }
 
-    private void deleteApplication(UUID applicationGuid) {
-        List<UUID> serviceBindingGuids = getServiceBindingGuids(applicationGuid);
-        for (UUID serviceBindingGuid : serviceBindingGuids) {
-            doUnbindServiceInstance(serviceBindingGuid);
+    private static CloudJob toJob(String jobId) {
+        if (jobId == null) {
+            return null;
         }
-        delegate.applicationsV3()
-                .delete(DeleteApplicationRequest.builder()
-                                                .applicationId(applicationGuid.toString())
-                                                .build())
-                .block();
+        return ImmutableCloudJob.builder()
+                                .metadata(ImmutableCloudMetadata.of(UUID.fromString(jobId)))
+                                .build();
     }
 
     @Override
     public void deleteDomain(String domainName) {
-        assertSpaceProvided("delete domain");
-        CloudDomain domain = findDomainByName(domainName, true);
-        List<CloudRoute> routes = findRoutes(domain);
-        if (!routes.isEmpty()) {
-            throw new IllegalStateException("Unable to remove domain that is in use --" + " it has " + routes.size() + " routes.");
-        }
-        doDeleteDomain(getGuid(domain));
+        reactiveClient.deleteDomain(domainName)
+                      .block();
+    }
+
+    private Mono<Void> deleteUnusedDomain(CloudDomain domain) {
+        return findRoutes(domain).count()
+                                 .flatMap(routeCount -> {
+                                     if (routeCount > 0) {
+                                         String message = "Unable to remove domain that is in use -- it has " + routeCount + " routes.";
+                                         return Mono.error(new IllegalStateException(message));
+                                     }
+                                     return doDeleteDomain(getGuid(domain));
+                                 });
     }
 
     /**
@@ -574,75 +812,59 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
      */
     @Override
     public List<CloudRoute> deleteOrphanedRoutes() {
-        List<CloudRoute> orphanRoutes = new ArrayList<>();
-        for (CloudDomain domain : getDomainsForOrganization()) {
-            orphanRoutes.addAll(fetchOrphanRoutes(domain.getName()));
-        }
+        return reactiveClient.deleteOrphanedRoutes()
+                             .collectList()
+                             .block();
+    }
 
-        List<CloudRoute> deletedRoutes = new ArrayList<>();
-        for (CloudRoute orphanRoute : orphanRoutes) {
-            deleteRoute(orphanRoute.getHost(), orphanRoute.getDomain()
-                                                          .getName(),
-                        orphanRoute.getPath());
-            deletedRoutes.add(orphanRoute);
-        }
-        return deletedRoutes;
+    private Mono<Void> deleteOrphanRoute(CloudRoute route) {
+        String domainName = route.getDomain()
+                                 .getName();
+        return reactiveClient.deleteRoute(route.getHost(), domainName, route.getPath());
     }
 
     @Override
     public void deleteRoute(String host, String domainName, String path) {
-        assertSpaceProvided("delete route for domain");
-        UUID routeGuid = getRouteGuid(getRequiredDomainGuid(domainName), host, path);
-        if (routeGuid == null) {
-            throw new CloudOperationException(HttpStatus.NOT_FOUND,
-                                              "Not Found",
-                                              "Host " + host + " not found for domain " + domainName + ".");
-        }
-        doDeleteRoute(routeGuid);
+        reactiveClient.deleteRoute(host, domainName, path)
+                      .block();
     }
 
     @Override
     public void deleteServiceInstance(String serviceInstanceName) {
-        CloudServiceInstance serviceInstance = getServiceInstance(serviceInstanceName);
-        doDeleteServiceInstance(serviceInstance);
+        reactiveClient.deleteServiceInstance(serviceInstanceName)
+                      .block();
     }
 
     @Override
     public void deleteServiceInstance(CloudServiceInstance serviceInstance) {
-        doDeleteServiceInstance(serviceInstance);
+        reactiveClient.deleteServiceInstance(serviceInstance)
+                      .block();
     }
 
     @Override
     public void deleteServiceBroker(String name) {
-        CloudServiceBroker broker = getServiceBroker(name);
-        UUID guid = broker.getMetadata()
-                          .getGuid();
-        delegate.serviceBrokers()
-                .delete(DeleteServiceBrokerRequest.builder()
-                                                  .serviceBrokerId(guid.toString())
-                                                  .build())
-                .block();
+        reactiveClient.deleteServiceBroker(name)
+                      .block();
+    }
+
+    private Mono<Void> doDeleteServiceBroker(UUID serviceBrokerGuid) {
+        return delegate.serviceBrokers()
+                       .delete(DeleteServiceBrokerRequest.builder()
+                                                         .serviceBrokerId(serviceBrokerGuid.toString())
+                                                         .build())
+                       .then(Mono.fromRunnable(serviceOfferingCache::invalidateAll));
     }
 
     @Override
     public void deleteServiceKey(String serviceInstanceName, String serviceKeyName) {
-        List<CloudServiceKey> serviceKeys = getServiceKeys(serviceInstanceName);
-        for (CloudServiceKey serviceKey : serviceKeys) {
-            if (serviceKey.getName()
-                          .equals(serviceKeyName)) {
-                doDeleteServiceKey(serviceKey.getMetadata()
-                                             .getGuid());
-                return;
-            }
-        }
-        throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Service key " + serviceKeyName + " not found.");
+        reactiveClient.deleteServiceKey(serviceInstanceName, serviceKeyName)
+                      .block();
     }
 
     @Override
     public void deleteServiceKey(CloudServiceKey serviceKey) {
-        UUID serviceKeyGuid = serviceKey.getMetadata()
-                                        .getGuid();
-        doDeleteServiceKey(serviceKeyGuid);
+        reactiveClient.deleteServiceKey(serviceKey)
+                      .block();
     }
 
     @Override
@@ -652,50 +874,53 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public CloudApplication getApplication(String applicationName, boolean required) {
-        CloudApplication application = findApplicationByName(applicationName, required);
-        return addMetadataIfNotNull(application);
+        CloudApplication application = reactiveClient.getApplication(applicationName)
+                                                     .block();
+        if (application == null && required) {
+            throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Application " + applicationName + " not found.");
+        }
+        return application;
     }
 
     @Override
     public CloudApplication getApplication(UUID applicationGuid) {
-        final CloudApplication application = findApplication(applicationGuid);
-        return addMetadataIfNotNull(application);
+        return reactiveClient.getApplication(applicationGuid)
+                             .block();
     }
 
     @Override
     public UUID getApplicationGuid(String applicationName) {
-        return getRequiredApplicationGuid(applicationName);
+        return getCurrentApplicationGuid(applicationName);
     }
 
     @Override
     public Map<String, String> getApplicationEnvironment(UUID applicationGuid) {
-        GetApplicationEnvironmentResponse applicationEnvironmentResponse = getApplicationEnvironmentResponse(applicationGuid);
-        return EnvironmentUtil.parse(applicationEnvironmentResponse.getEnvironmentVariables());
+        return reactiveClient.getApplicationEnvironment(applicationGuid)
+                             .block();
     }
 
-    private GetApplicationEnvironmentResponse getApplicationEnvironmentResponse(UUID applicationGuid) {
+    private Mono<GetApplicationEnvironmentResponse> getApplicationEnvironmentResponse(UUID applicationGuid) {
         return delegate.applicationsV3()
                        .getEnvironment(GetApplicationEnvironmentRequest.builder()
                                                                        .applicationId(applicationGuid.toString())
-                                                                       .build())
-                       .block();
+                                                                       .build());
     }
 
     @Override
     public Map<String, String> getApplicationEnvironment(String applicationName) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        return getApplicationEnvironment(applicationGuid);
+        return getWithApplicationGuid(applicationName, this::getApplicationEnvironment);
     }
 
     @Override
     public List<CloudEvent> getApplicationEvents(String applicationName) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        return getEventsByActee(applicationGuid);
+        return getWithApplicationGuid(applicationName, this::getEventsByActee);
     }
 
     @Override
     public List<CloudEvent> getEventsByActee(UUID uuid) {
-        return findEventsByActee(uuid.toString());
+        return reactiveClient.getEventsByActee(uuid)
+                             .collectList()
+                             .block();
     }
 
     @Override
@@ -711,25 +936,55 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudApplication> getApplications() {
-        List<CloudApplication> applications = fetchListWithAuxiliaryContent(this::getApplicationResources,
-                                                                            this::zipWithAuxiliaryApplicationContent);
-        return addMetadataIfNotEmpty(applications);
+        return reactiveClient.getApplications()
+                             .collectList()
+                             .block();
+    }
+
+    @Override
+    public List<CloudApplication> getApplicationsInBulk() {
+        List<? extends Application> applications = getApplicationResources().collectList()
+                                                                            .block();
+        if (applications.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<UUID> applicationGuids = applications.stream()
+                                                  .map(this::getGuid)
+                                                  .collect(Collectors.toList());
+        return Mono.zip(getWebProcessesByApplicationGuid(applicationGuids), getLatestDropletsByApplicationGuid(applicationGuids),
+                        getRoutesByApplicationGuid(applicationGuids), getServiceNamesByApplicationGuid(applicationGuids))
+                   .map(tuple -> applications.stream()
+                                             .map(application -> ImmutableRawV3CloudApplication.builder()
+                                                                                               .application(application)
+                                                                                               .process(tuple.getT1()
+                                                                                                             .get(application.getId()))
+                                                                                               .droplet(tuple.getT2()
+                                                                                                             .get(application.getId()))
+                                                                                               .routes(tuple.getT3()
+                                                                                                            .getT1()
+                                                                                                            .getOrDefault(application.getId(),
+                                                                                                                          Collections.emptyList()))
+                                                                                               .domainNames(tuple.getT3()
+                                                                                                                 .getT2())
+                                                                                               .services(tuple.getT4()
+                                                                                                              .getOrDefault(application.getId(),
+                                                                                                                            Collections.emptyList()))
+                                                                                               .space(target)
+                                                                                               .build())
+                                             .map(Derivable::derive)
+                                             .collect(Collectors.toList()))
+                   .block();
     }
 
     @Override
     public List<CloudApplication> getApplicationsByMetadataLabelSelector(String labelSelector) {
         Map<String, Metadata> applicationsMetadata = getApplicationsMetadataByLabelSelector(labelSelector);
-        List<CloudApplication> cloudApplications = fetchListWithAuxiliaryContent(() -> getApplicationResourcesByNamesInBatches(applicationsMetadata.keySet()),
+        List<CloudApplication> cloudApplications = fetchListWithAuxiliaryContent(FetchOperation.APPLICATIONS,
+                                                                                 () -> getApplicationResourcesByNamesInBatches(applicationsMetadata.keySet()),
                                                                                  this::zipWithAuxiliaryApplicationContent);
         return addMetadata(cloudApplications, applicationsMetadata);
     }
 
-    private List<UUID> getApplicationIds() {
-        return getApplicationResources().map(this::getGuid)
-                                        .collectList()
-                                        .block();
-    }
-
     private Map<String, Metadata> getApplicationsMetadataByLabelSelector(String labelSelector) {
         IntFunction<ListApplicationsRequest> pageRequestSupplier = page -> ListApplicationsRequest.builder()
                                                                                                   .spaceId(getTargetSpaceGuid().toString())
@@ -767,7 +1022,8 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     @Override
     public List<CloudDomain> getDomainsForOrganization() {
         assertSpaceProvided("access organization domains");
-        return findDomainsByOrganizationGuid(getTargetOrganizationGuid());
+        return findDomainsByOrganizationGuid(getTargetOrganizationGuid()).collectList()
+                                                                         .block();
     }
 
     @Override
@@ -777,7 +1033,25 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudEvent> getEvents() {
-        return fetchList(this::getEventResources, ImmutableRawCloudEvent::of);
+        return reactiveClient.getEvents()
+                             .collectList()
+                             .block();
+    }
+
+    @Override
+    public PolledEvents pollEvents(EventCursor cursor) {
+        return reactiveClient.pollEvents(cursor)
+                             .block();
+    }
+
+    private static EventCursor getStartCursor(EventCursor cursor) {
+        if (cursor.getTimestamp() != null) {
+            return cursor;
+        }
+        Instant start = Instant.now()
+                               .minus(INITIAL_EVENT_POLL_LOOKBACK);
+        return ImmutableEventCursor.copyOf(cursor)
+                                   .withTimestamp(Date.from(start));
     }
 
     @Override
@@ -794,7 +1068,8 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
      */
     @Override
     public CloudOrganization getOrganization(String organizationName, boolean required) {
-        CloudOrganization organization = findOrganization(organizationName);
+        CloudOrganization organization = reactiveClient.getOrganization(organizationName)
+                                                       .block();
         if (organization == null && required) {
             throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Organization " + organizationName + " not found.");
         }
@@ -803,29 +1078,202 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudOrganization> getOrganizations() {
-        return fetchList(this::getOrganizationResources, ImmutableRawCloudOrganization::of);
+        return reactiveClient.getOrganizations()
+                             .collectList()
+                             .block();
     }
 
     @Override
     public List<ApplicationLog> getRecentLogs(String applicationName) {
-        UUID appGuid = getRequiredApplicationGuid(applicationName);
-        return getRecentLogs(appGuid);
+        return getWithApplicationGuid(applicationName, this::getRecentLogs);
     }
 
     @Override
     public List<ApplicationLog> getRecentLogs(UUID applicationGuid) {
+        return reactiveClient.getRecentLogs(applicationGuid)
+                             .collectList()
+                             .block();
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids) {
+        return getRecentLogs(applicationGuids, DEFAULT_MAX_MERGED_LOGS);
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids, int maxLogs) {
+        return reactiveClient.getRecentLogs(applicationGuids, maxLogs)
+                             .collectList()
+                             .block();
+    }
+
+    private Flux<ApplicationLog> getNewestRecentLogs(Collection<UUID> applicationGuids, int maxLogs) {
+        Assert.isTrue(maxLogs > 0, "The maximum number of logs must be positive");
+        int concurrency = getConcurrencySettings(FetchOperation.RECENT_LOGS).getConcurrency();
+        List<UUID> distinctApplicationGuids = new ArrayList<>(new LinkedHashSet<>(applicationGuids));
+        return Flux.defer(() -> {
+            NewestApplicationLogs newestLogs = new NewestApplicationLogs(maxLogs);
+            return Flux.range(0, distinctApplicationGuids.size())
+                       .flatMap(index -> getRecentLogsFlux(distinctApplicationGuids.get(index)).doOnNext(log -> newestLogs.add(log, index)),
+                                concurrency)
+                       .thenMany(Flux.defer(() -> Flux.fromIterable(newestLogs.toSortedList())));
+        });
+    }
+
+    private Flux<ApplicationLog> getRecentLogsFlux(UUID applicationGuid) {
+        RecentLogsRequest request = RecentLogsRequest.builder()
+                                                     .applicationId(applicationGuid.toString())
+                                                     .build();
+        return fetchFlux(() -> dopplerClient.recentLogs(request), ImmutableRawApplicationLog::of);
+    }
+
+    @Override
+    public ApplicationLogBatch getRecentLogBatch(String applicationName) {
+        return getWithApplicationGuid(applicationName, this::getRecentLogBatch);
+    }
+
+    @Override
+    public ApplicationLogBatch getRecentLogBatch(UUID applicationGuid) {
+        return reactiveClient.getRecentLogBatch(applicationGuid)
+                             .block();
+    }
+
+    private Mono<ApplicationLogBatch> getRecentLogBatchMono(UUID applicationGuid) {
         RecentLogsRequest request = RecentLogsRequest.builder()
                                                      .applicationId(applicationGuid.toString())
                                                      .build();
-        return fetchFlux(() -> dopplerClient.recentLogs(request), ImmutableRawApplicationLog::of).collectSortedList()
-                                                                                                 .block();
+        return Flux.defer(() -> dopplerClient.recentLogs(request))
+                   .filter(envelope -> envelope.getLogMessage() != null)
+                   .collect(ApplicationLogBatch::builder, RawApplicationLog::addTo)
+                   .map(ApplicationLogBatch.Builder::build);
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(String applicationName, ApplicationLogQuery query) {
+        return getWithApplicationGuid(applicationName, applicationGuid -> getRecentLogs(applicationGuid, query));
+    }
+
+    @Override
+    public List<ApplicationLog> getRecentLogs(UUID applicationGuid, ApplicationLogQuery query) {
+        return reactiveClient.getRecentLogs(applicationGuid, query)
+                             .collectList()
+                             .block();
+    }
+
+    /**
+     * The log cache cannot filter logs by their type, so if only some types are requested, it is read page by page, moving the time
+     * window past the last read log, until the limit of matching logs is reached or the time window is exhausted. Logs, which have the
+     * same timestamp as the last log of a page, but did not fit in it, are skipped.
+     */
+    private Flux<ApplicationLog> readLogCache(UUID applicationGuid, ApplicationLogQuery query) {
+        if (logCacheClient == null) {
+            return Flux.error(new IllegalStateException("Cannot read logs from the log cache, because this client was created without a "
+                + "LogCacheClient"));
+        }
+        ReadRequest request = ReadRequest.builder()
+                                         .sourceId(applicationGuid.toString())
+                                         .envelopeType(EnvelopeType.LOG)
+                                         .startTime(toLogCacheTime(query.getStartTime()))
+                                         .endTime(toLogCacheTime(query.getEndTime()))
+                                         .limit(query.getLimit())
+                                         .descending(query.isDescending())
+                                         .build();
+        if (query.getMessageTypes()
+                 .isEmpty()) {
+            return fetchFlux(() -> getLogCacheEnvelopes(request), ImmutableRawLogCacheApplicationLog::of);
+        }
+        int limit = query.getLimit() == null ? DEFAULT_LOG_CACHE_LIMIT : query.getLimit();
+        Flux<ApplicationLog> logs = fetchFlux(() -> getLogCachePages(request, limit).filter(CloudControllerRestClientImpl::hasLog),
+                                              ImmutableRawLogCacheApplicationLog::of);
+        return logs.filter(log -> hasMessageType(log, query))
+                   .take(limit);
+    }
+
+    private Flux<org.cloudfoundry.logcache.v1.Envelope> getLogCachePages(ReadRequest request, int limit) {
+        return getLogCachePage(request).flatMapMany(page -> Flux.fromIterable(page)
+                                                                .concatWith(Flux.defer(() -> getNextLogCachePages(request, page, limit))));
+    }
+
+    private Flux<org.cloudfoundry.logcache.v1.Envelope> getNextLogCachePages(ReadRequest request,
+                                                                          List<org.cloudfoundry.logcache.v1.Envelope> page, int limit) {
+        if (page.size() < limit) {
+            return Flux.empty();
+        }
+        return getLogCachePages(getNextLogCacheRequest(request, page), limit);
+    }
+
+    private Mono<List<org.cloudfoundry.logcache.v1.Envelope>> getLogCachePage(ReadRequest request) {
+        return logCacheClient.read(request)
+                             .map(response -> response.getEnvelopes()
+                                                      .getBatch());
+    }
+
+    private static ReadRequest getNextLogCacheRequest(ReadRequest request, List<org.cloudfoundry.logcache.v1.Envelope> page) {
+        long lastTimestamp = page.get(page.size() - 1)
+                                 .getTimestamp();
+        if (Boolean.TRUE.equals(request.getDescending())) {
+            return ReadRequest.builder()
+                              .from(request)
+                              .endTime(lastTimestamp)
+                              .build();
+        }
+        return ReadRequest.builder()
+                          .from(request)
+                          .startTime(lastTimestamp + 1)
+                          .build();
+    }
+
+    private Flux<org.cloudfoundry.logcache.v1.Envelope> getLogCacheEnvelopes(ReadRequest request) {
+        return logCacheClient.read(request)
+                             .flatMapIterable(response -> response.getEnvelopes()
+                                                                  .getBatch())
+                             .filter(CloudControllerRestClientImpl::hasLog);
+    }
+
+    private static boolean hasLog(org.cloudfoundry.logcache.v1.Envelope envelope) {
+        return envelope.getLog() != null;
+    }
+
+    private static Long toLogCacheTime(Date date) {
+        return date == null ? null : TimeUnit.MILLISECONDS.toNanos(date.getTime());
+    }
+
+    private static boolean hasMessageType(ApplicationLog log, ApplicationLogQuery query) {
+        return query.getMessageTypes()
+                    .contains(log.getMessageType());
+    }
+
+    @Override
+    public StreamingLogToken streamLogs(String applicationName, ApplicationLogListener listener) {
+        return getWithApplicationGuid(applicationName, applicationGuid -> streamLogs(applicationGuid, listener));
+    }
+
+    @Override
+    public StreamingLogToken streamLogs(UUID applicationGuid, ApplicationLogListener listener) {
+        LogStreamSubscription subscription = new LogStreamSubscription(applicationGuid, listener);
+        Flux<ApplicationLog> logs = reactiveClient.streamLogs(applicationGuid);
+        return subscription.subscribeTo(logs.onBackpressureBuffer(LOG_STREAMING_BUFFER_SIZE, subscription::onDropped,
+                                                                  BufferOverflowStrategy.DROP_OLDEST)
+                                            .publishOn(Schedulers.boundedElastic(), 1));
+    }
+
+    private Flux<ApplicationLog> getLogStream(UUID applicationGuid) {
+        StreamRequest request = StreamRequest.builder()
+                                             .applicationId(applicationGuid.toString())
+                                             .build();
+        return fetchFlux(() -> getLogMessages(request), ImmutableRawApplicationLog::of);
+    }
+
+    private Flux<Envelope> getLogMessages(StreamRequest request) {
+        return dopplerClient.stream(request)
+                            .filter(envelope -> envelope.getEventType() == EventType.LOG_MESSAGE);
     }
 
     @Override
     public List<CloudRoute> getRoutes(String domainName) {
-        assertSpaceProvided("get routes for domain");
-        CloudDomain domain = findDomainByName(domainName, true);
-        return findRoutes(domain);
+        return reactiveClient.getRoutes(domainName)
+                             .collectList()
+                             .block();
     }
 
     @Override
@@ -833,12 +1281,6 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return getServiceInstance(serviceInstanceName, true);
     }
 
-    private CloudServiceInstance getServiceInstanceWithMetadata(CloudServiceInstance serviceInstance) {
-        List<CloudServiceInstance> serviceInstances = Collections.singletonList(serviceInstance);
-        Map<String, Metadata> serviceInstancesMetadata = getServiceInstancesMetadataInBatches(getServiceInstanceNames(serviceInstances));
-        return getServiceInstancesWithMetadata(serviceInstances, serviceInstancesMetadata).get(0);
-    }
-
     private List<CloudServiceInstance> getServiceInstancesWithMetadata(List<CloudServiceInstance> serviceInstances,
                                                                        Map<String, Metadata> serviceInstancesMetadata) {
         return serviceInstances.stream()
@@ -856,16 +1298,78 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public CloudServiceInstance getServiceInstance(String serviceInstanceName, boolean required) {
-        CloudServiceInstance serviceInstance = findServiceInstanceByName(serviceInstanceName);
+        CloudServiceInstance serviceInstance = reactiveClient.getServiceInstance(serviceInstanceName)
+                                                             .block();
         if (serviceInstance == null && required) {
             throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Service instance " + serviceInstanceName + " not found.");
         }
-        return serviceInstance == null ? null : getServiceInstanceWithMetadata(serviceInstance);
+        return serviceInstance;
+    }
+
+    @Override
+    public CompletableFuture<CloudServiceInstance> watchServiceInstance(String serviceInstanceName) {
+        return reactiveClient.watchServiceInstance(serviceInstanceName)
+                             .toFuture();
+    }
+
+    private static boolean isInTerminalState(CloudServiceInstance serviceInstance) {
+        ServiceOperation lastOperation = serviceInstance.getLastOperation();
+        return lastOperation == null || lastOperation.getState() != ServiceOperation.State.IN_PROGRESS;
+    }
+
+    /**
+     * Lists the service instances with the given names, without their plans and offerings, as only their GUIDs, names, types and last
+     * operations are needed to watch them. The watches are keyed by GUID, so a service instance, which was recreated with the same name,
+     * is not mistaken for the watched one.
+     */
+    private Flux<CloudServiceInstance> getServiceInstancesByNames(List<String> serviceInstanceNames) {
+        return getServiceInstanceResourcesByNames(serviceInstanceNames).map(this::toWatchedServiceInstance);
+    }
+
+    private CloudServiceInstance toWatchedServiceInstance(Resource<UnionServiceInstanceEntity> resource) {
+        UnionServiceInstanceEntity entity = resource.getEntity();
+        return ImmutableCloudServiceInstance.builder()
+                                            .metadata(ImmutableCloudMetadata.of(getGuid(resource)))
+                                            .name(entity.getName())
+                                            .type(ServiceInstanceType.valueOfWithDefault(entity.getType()))
+                                            .lastOperation(toWatchedServiceOperation(entity.getLastOperation()))
+                                            .build();
+    }
+
+    private static ServiceOperation toWatchedServiceOperation(LastOperation lastOperation) {
+        if (lastOperation == null) {
+            return null;
+        }
+        return new ServiceOperation(toWatchedServiceOperationType(lastOperation.getType()), lastOperation.getDescription(),
+                                    toWatchedServiceOperationState(lastOperation.getState()));
+    }
+
+    private static ServiceOperation.Type toWatchedServiceOperationType(String type) {
+        try {
+            return ServiceOperation.Type.fromString(type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * An unknown state is treated as failed, so that the watch of the service instance ends, instead of failing the polls of all watched
+     * service instances.
+     */
+    private static ServiceOperation.State toWatchedServiceOperationState(String state) {
+        try {
+            return ServiceOperation.State.fromString(state);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn(MessageFormat.format("Unknown state \"{0}\" of service operation, treating it as failed", state));
+            return ServiceOperation.State.FAILED;
+        }
     }
 
     @Override
     public List<CloudServiceBinding> getServiceBindings(UUID serviceInstanceGuid) {
-        return fetchList(() -> getServiceBindingResourcesByServiceInstanceGuid(serviceInstanceGuid), ImmutableRawCloudServiceBinding::of);
+        return reactiveClient.getServiceBindings(serviceInstanceGuid)
+                             .collectList()
+                             .block();
     }
 
     @Override
@@ -875,7 +1379,8 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public CloudServiceBroker getServiceBroker(String name, boolean required) {
-        CloudServiceBroker serviceBroker = findServiceBrokerByName(name);
+        CloudServiceBroker serviceBroker = reactiveClient.getServiceBroker(name)
+                                                         .block();
         if (serviceBroker == null && required) {
             throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Service broker " + name + " not found.");
         }
@@ -884,7 +1389,9 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudServiceBroker> getServiceBrokers() {
-        return fetchList(this::getServiceBrokerResources, ImmutableRawCloudServiceBroker::of);
+        return reactiveClient.getServiceBrokers()
+                             .collectList()
+                             .block();
     }
 
     @Override
@@ -895,7 +1402,12 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudServiceKey> getServiceKeys(CloudServiceInstance serviceInstance) {
-        return fetchList(() -> getServiceKeyTuple(serviceInstance), tuple -> ImmutableRawCloudServiceKey.builder()
+        return getServiceKeysFlux(serviceInstance).collectList()
+                                                  .block();
+    }
+
+    private Flux<CloudServiceKey> getServiceKeysFlux(CloudServiceInstance serviceInstance) {
+        return fetchFlux(() -> getServiceKeyTuple(serviceInstance), tuple -> ImmutableRawCloudServiceKey.builder()
                                                                                                         .resource(tuple.getT1())
                                                                                                         .serviceInstance(tuple.getT2())
                                                                                                         .build());
@@ -923,79 +1435,94 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudServiceOffering> getServiceOfferings() {
-        return fetchListWithAuxiliaryContent(this::getServiceResources, this::zipWithAuxiliaryServiceOfferingContent);
+        return reactiveClient.getServiceOfferings()
+                             .collectList()
+                             .block();
     }
 
     @Override
     public void updateServicePlan(String serviceName, String planName) {
-        CloudServiceInstance service = getServiceInstance(serviceName);
+        reactiveClient.updateServicePlan(serviceName, planName)
+                      .block();
+    }
+
+    private Mono<Void> doUpdateServicePlan(CloudServiceInstance service, String planName) {
         if (service.isUserProvided()) {
-            return;
+            return Mono.empty();
         }
-        CloudServicePlan plan = findPlanForService(service, planName);
-        delegate.serviceInstances()
-                .update(org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceRequest.builder()
-                                                                                                .serviceInstanceId(service.getGuid()
-                                                                                                                          .toString())
-                                                                                                .servicePlanId(plan.getGuid()
-                                                                                                                   .toString())
-                                                                                                .acceptsIncomplete(true)
-                                                                                                .build())
-                .block();
+        return findPlanForService(service, planName).flatMap(plan -> updateServiceInstancePlan(service.getGuid(), plan.getGuid()));
+    }
+
+    private Mono<Void> updateServiceInstancePlan(UUID serviceInstanceGuid, UUID servicePlanGuid) {
+        String instanceId = serviceInstanceGuid.toString();
+        String planId = servicePlanGuid.toString();
+        return delegate.serviceInstances()
+                       .update(org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceRequest.builder()
+                                                                                                       .serviceInstanceId(instanceId)
+                                                                                                       .servicePlanId(planId)
+                                                                                                       .acceptsIncomplete(true)
+                                                                                                       .build())
+                       .then();
     }
 
     @Override
     public void updateServiceParameters(String serviceName, Map<String, Object> parameters) {
-        CloudServiceInstance service = getServiceInstance(serviceName);
+        reactiveClient.updateServiceParameters(serviceName, parameters)
+                      .block();
+    }
+
+    private Mono<Void> doUpdateServiceParameters(CloudServiceInstance service, Map<String, Object> parameters) {
         if (service.isUserProvided()) {
-            delegate.userProvidedServiceInstances()
-                    .update(UpdateUserProvidedServiceInstanceRequest.builder()
-                                                                    .userProvidedServiceInstanceId(service.getGuid()
-                                                                                                          .toString())
-                                                                    .credentials(parameters)
-                                                                    .build())
-                    .block();
-            return;
-        }
-        delegate.serviceInstances()
-                .update(org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceRequest.builder()
-                                                                                                .serviceInstanceId(service.getGuid()
-                                                                                                                          .toString())
-                                                                                                .parameters(parameters)
-                                                                                                .acceptsIncomplete(true)
-                                                                                                .build())
-                .block();
+            return delegate.userProvidedServiceInstances()
+                           .update(UpdateUserProvidedServiceInstanceRequest.builder()
+                                                                           .userProvidedServiceInstanceId(service.getGuid()
+                                                                                                                 .toString())
+                                                                           .credentials(parameters)
+                                                                           .build())
+                           .then();
+        }
+        String serviceInstanceId = service.getGuid()
+                                          .toString();
+        return delegate.serviceInstances()
+                       .update(org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceRequest.builder()
+                                                                                                       .serviceInstanceId(serviceInstanceId)
+                                                                                                       .parameters(parameters)
+                                                                                                       .acceptsIncomplete(true)
+                                                                                                       .build())
+                       .then();
     }
 
     @Override
     public void updateServiceTags(String serviceName, List<String> tags) {
-        CloudServiceInstance service = getServiceInstance(serviceName);
+        reactiveClient.updateServiceTags(serviceName, tags)
+                      .block();
+    }
+
+    private Mono<Void> doUpdateServiceTags(CloudServiceInstance service, List<String> tags) {
+        String serviceInstanceId = service.getGuid()
+                                          .toString();
         if (service.isUserProvided()) {
-            delegate.userProvidedServiceInstances()
-                    .update(UpdateUserProvidedServiceInstanceRequest.builder()
-                                                                    .userProvidedServiceInstanceId(service.getGuid()
-                                                                                                          .toString())
-                                                                    .tags(tags)
-                                                                    .build())
-                    .block();
-            return;
-        }
-        delegate.serviceInstances()
-                .update(org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceRequest.builder()
-                                                                                                .serviceInstanceId(service.getGuid()
-                                                                                                                          .toString())
-                                                                                                .tags(tags)
-                                                                                                .acceptsIncomplete(true)
-                                                                                                .build())
-                .block();
+            return delegate.userProvidedServiceInstances()
+                           .update(UpdateUserProvidedServiceInstanceRequest.builder()
+                                                                           .userProvidedServiceInstanceId(serviceInstanceId)
+                                                                           .tags(tags)
+                                                                           .build())
+                           .then();
+        }
+        return delegate.serviceInstances()
+                       .update(org.cloudfoundry.client.v2.serviceinstances.UpdateServiceInstanceRequest.builder()
+                                                                                                       .serviceInstanceId(serviceInstanceId)
+                                                                                                       .tags(tags)
+                                                                                                       .acceptsIncomplete(true)
+                                                                                                       .build())
+                       .then();
     }
 
     @Override
     public List<CloudServiceInstance> getServiceInstances() {
-        List<CloudServiceInstance> serviceInstances = fetchListWithAuxiliaryContent(this::getServiceInstanceResources,
-                                                                                    this::zipWithAuxiliaryServiceInstanceContent);
-        Map<String, Metadata> serviceInstancesMetadata = getServiceInstancesMetadataInBatches(getServiceInstanceNames(serviceInstances));
-        return getServiceInstancesWithMetadata(serviceInstances, serviceInstancesMetadata);
+        return reactiveClient.getServiceInstances()
+                             .collectList()
+                             .block();
     }
 
     private List<String> getServiceInstanceNames(List<CloudServiceInstance> serviceInstances) {
@@ -1004,12 +1531,20 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                .collect(Collectors.toList());
     }
 
-    private Map<String, Metadata> getServiceInstancesMetadataInBatches(List<String> serviceInstanceNames) {
-        Map<String, Metadata> serviceInstancesMetadata = new HashMap<>();
-        for (List<String> batchOfServiceInstanceNames : toBatches(serviceInstanceNames, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST)) {
-            serviceInstancesMetadata.putAll(getServiceInstancesMetadata(batchOfServiceInstanceNames));
-        }
-        return serviceInstancesMetadata;
+    private Flux<CloudServiceInstance> addServiceInstancesMetadata(List<CloudServiceInstance> serviceInstances) {
+        List<String> serviceInstanceNames = getServiceInstanceNames(serviceInstances);
+        return getServiceInstancesMetadataInBatches(serviceInstanceNames).flatMapIterable(serviceInstancesMetadata -> getServiceInstancesWithMetadata(serviceInstances,
+                                                                                                                                                     serviceInstancesMetadata));
+    }
+
+    private Mono<Map<String, Metadata>> getServiceInstancesMetadataInBatches(List<String> serviceInstanceNames) {
+        return Flux.fromIterable(toBatches(serviceInstanceNames, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getServiceInstancesMetadata)
+                   .collectMap(ServiceInstanceResource::getName, ServiceInstanceResource::getMetadata);
+    }
+
+    private <T> List<List<T>> toBatches(List<T> largeList) {
+        return toBatches(largeList, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST);
     }
 
     private <T> List<List<T>> toBatches(Collection<T> largeList, int maxCharLength) {
@@ -1036,7 +1571,7 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return batches;
     }
 
-    private Map<String, Metadata> getServiceInstancesMetadata(List<String> serviceInstanceNames) {
+    private Flux<? extends ServiceInstanceResource> getServiceInstancesMetadata(List<String> serviceInstanceNames) {
         String spaceGuid = getTargetSpaceGuid().toString();
         IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
                                                                                                           .spaceId(spaceGuid)
@@ -1044,15 +1579,14 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                                                           .page(page)
                                                                                                           .build();
         return PaginationUtils.requestClientV3Resources(page -> delegate.serviceInstancesV3()
-                                                                        .list(pageRequestSupplier.apply(page)))
-                              .collectMap(ServiceInstanceResource::getName, ServiceInstanceResource::getMetadata)
-                              .block();
+                                                                        .list(pageRequestSupplier.apply(page)));
     }
 
     @Override
     public List<CloudServiceInstance> getServiceInstancesByMetadataLabelSelector(String labelSelector) {
         Map<String, Metadata> serviceInstancesMetadata = getServiceInstancesMetadataByLabelSelector(labelSelector);
-        List<CloudServiceInstance> serviceInstances = fetchListWithAuxiliaryContent(() -> getServiceInstanceResourcesByNamesInBatches(serviceInstancesMetadata.keySet()),
+        List<CloudServiceInstance> serviceInstances = fetchListWithAuxiliaryContent(FetchOperation.SERVICE_INSTANCES,
+                                                                                    () -> getServiceInstanceResourcesByNamesInBatches(serviceInstancesMetadata.keySet()),
                                                                                     this::zipWithAuxiliaryServiceInstanceContent);
         return getServiceInstancesWithMetadata(serviceInstances, serviceInstancesMetadata);
     }
@@ -1084,7 +1618,8 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public CloudSpace getSpace(UUID spaceGuid) {
-        return fetchWithAuxiliaryContent(() -> getSpaceResource(spaceGuid), this::zipWithAuxiliarySpaceContent);
+        return reactiveClient.getSpace(spaceGuid)
+                             .block();
     }
 
     @Override
@@ -1111,7 +1646,9 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudSpace> getSpaces() {
-        return fetchListWithAuxiliaryContent(this::getSpaceResources, this::zipWithAuxiliarySpaceContent);
+        return reactiveClient.getSpaces()
+                             .collectList()
+                             .block();
     }
 
     @Override
@@ -1127,7 +1664,8 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public CloudStack getStack(String name, boolean required) {
-        CloudStack stack = findStackResource(name);
+        CloudStack stack = reactiveClient.getStack(name)
+                                         .block();
         if (stack == null && required) {
             throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Stack " + name + " not found.");
         }
@@ -1136,7 +1674,9 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudStack> getStacks() {
-        return fetchList(this::getStackResources, ImmutableRawCloudStack::of);
+        return reactiveClient.getStacks()
+                             .collectList()
+                             .block();
     }
 
     @Override
@@ -1152,149 +1692,241 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public void rename(String applicationName, String newName) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        delegate.applicationsV3()
-                .update(UpdateApplicationRequest.builder()
-                                                .applicationId(applicationGuid.toString())
-                                                .name(newName)
-                                                .build())
-                .block();
+        reactiveClient.rename(applicationName, newName)
+                      .block();
     }
 
-    @Override
-    public void restartApplication(String applicationName) {
-        stopApplication(applicationName);
-        startApplication(applicationName);
+    private Mono<Void> renameApplication(UUID applicationGuid, String applicationName, String newName) {
+        return delegate.applicationsV3()
+                       .update(UpdateApplicationRequest.builder()
+                                                       .applicationId(applicationGuid.toString())
+                                                       .name(newName)
+                                                       .build())
+                       .then(Mono.fromRunnable(() -> {
+                           applicationGuids.invalidate(applicationName);
+                           applicationGuids.put(newName, applicationGuid);
+                       }));
     }
 
     @Override
-    public void startApplication(String applicationName) {
-        Application application = getApplicationByName(applicationName).block();
-        if (application.getState() == ApplicationState.STARTED) {
-            return;
-        }
-        UUID applicationGuid = UUID.fromString(application.getId());
-        delegate.applicationsV3()
-                .start(StartApplicationRequest.builder()
-                                              .applicationId(applicationGuid.toString())
-                                              .build())
-                .block();
+    public Map<String, UUID> resolveApplicationGuids(Collection<String> applicationNames) {
+        assertSpaceProvided("resolve application GUIDs");
+        return getApplicationResourcesByNamesInBatches(new LinkedHashSet<>(applicationNames)).collectMap(Application::getName,
+                                                                                                         this::getGuid)
+                                                                                             .doOnNext(guids -> guids.forEach(applicationGuids::put))
+                                                                                             .block();
     }
 
     @Override
-    public void stopApplication(String applicationName) {
-        Application application = getApplicationByName(applicationName).block();
-        if (application.getState() == ApplicationState.STOPPED) {
-            return;
-        }
-        UUID applicationGuid = UUID.fromString(application.getId());
-        delegate.applicationsV3()
-                .stop(StopApplicationRequest.builder()
-                                            .applicationId(applicationGuid.toString())
-                                            .build())
-                .block();
+    public void invalidateApplicationGuids() {
+        applicationGuids.invalidateAll();
     }
 
     @Override
-    public void unbindServiceInstance(String applicationName, String serviceInstanceName) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        UUID serviceInstanceGuid = getServiceInstance(serviceInstanceName).getMetadata()
-                                                                          .getGuid();
-        doUnbindServiceInstance(applicationGuid, serviceInstanceGuid);
+    public Map<String, UUID> resolveServiceInstanceGuids(Collection<String> serviceInstanceNames) {
+        assertSpaceProvided("resolve service instance GUIDs");
+        return getServiceInstanceResourcesByNamesInBatches(new LinkedHashSet<>(serviceInstanceNames)).collectMap(serviceInstance -> serviceInstance.getEntity()
+                                                                                                                                                 .getName(),
+                                                                                                                 this::getGuid)
+                                                                                                     .block();
     }
 
     @Override
-    public void unbindServiceInstance(CloudApplication application, CloudServiceInstance serviceInstance) {
-        UUID applicationGuid = getGuid(application);
-        UUID serviceInstanceGuid = getGuid(serviceInstance);
-
-        doUnbindServiceInstance(applicationGuid, serviceInstanceGuid);
+    public void restartApplication(String applicationName) {
+        reactiveClient.restartApplication(applicationName)
+                      .block();
     }
 
     @Override
-    public void updateApplicationDiskQuota(String applicationName, int diskQuota) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        delegate.applicationsV3()
-                .scale(ScaleApplicationRequest.builder()
-                                              .applicationId(applicationGuid.toString())
-                                              .type("web")
-                                              .diskInMb(diskQuota)
-                                              .build())
-                .block();
+    public void startApplication(String applicationName) {
+        reactiveClient.startApplication(applicationName)
+                      .block();
     }
 
-    @Override
-    public void updateApplicationEnv(String applicationName, Map<String, String> env) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        delegate.applicationsV3()
-                .updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest.builder()
-                                                                                        .applicationId(applicationGuid.toString())
-                                                                                        .vars(env)
-                                                                                        .build())
-                .block();
+    private Mono<Void> doStartApplication(String applicationName) {
+        return getRequiredApplicationByName(applicationName).filter(application -> application.getState() != ApplicationState.STARTED)
+                                                            .flatMap(application -> requestStartApplication(application.getId()));
     }
 
-    @Override
-    public void updateApplicationInstances(String applicationName, int instances) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        delegate.applicationsV3()
-                .scale(ScaleApplicationRequest.builder()
-                                              .applicationId(applicationGuid.toString())
-                                              .type("web")
-                                              .instances(instances)
-                                              .build())
-                .block();
+    private Mono<Void> requestStartApplication(String applicationId) {
+        return delegate.applicationsV3()
+                       .start(StartApplicationRequest.builder()
+                                                     .applicationId(applicationId)
+                                                     .build())
+                       .then();
+    }
+
+    private Mono<? extends Application> getRequiredApplicationByName(String applicationName) {
+        return getApplicationByName(applicationName).switchIfEmpty(notFoundError("Application " + applicationName + " not found."));
+    }
+
+    @Override
+    public Stream<CloudApplication> streamApplications() {
+        IntFunction<ListApplicationsRequest> pageRequestSupplier = page -> ListApplicationsRequest.builder()
+                                                                                                  .spaceId(getTargetSpaceGuid().toString())
+                                                                                                  .page(page)
+                                                                                                  .build();
+        return PageByPageIterator.stream(page -> delegate.applicationsV3()
+                                                         .list(pageRequestSupplier.apply(page)),
+                                         response -> getTotalPages(response.getPagination()
+                                                                           .getTotalPages()),
+                                         response -> fetchFluxWithAuxiliaryContent(FetchOperation.APPLICATIONS,
+                                                                                   () -> Flux.fromIterable(response.getResources()),
+                                                                                   this::zipWithAuxiliaryApplicationContent).collectList()
+                                                                                                                            .flatMapMany(this::addMetadata)
+                                                                                                                            .collectList());
+    }
+
+    @Override
+    public Stream<CloudEvent> streamEvents() {
+        IntFunction<ListEventsRequest> pageRequestSupplier = page -> ListEventsRequest.builder()
+                                                                                      .page(page)
+                                                                                      .build();
+        return PageByPageIterator.stream(page -> delegate.events()
+                                                         .list(pageRequestSupplier.apply(page)),
+                                         response -> getTotalPages(response.getTotalPages()),
+                                         response -> fetchFlux(() -> Flux.fromIterable(response.getResources()),
+                                                               ImmutableRawCloudEvent::of).collectList());
+    }
+
+    @Override
+    public Stream<CloudServiceInstance> streamServiceInstances() {
+        IntFunction<ListSpaceServiceInstancesRequest> pageRequestSupplier = page -> ListSpaceServiceInstancesRequest.builder()
+                                                                                                                    .returnUserProvidedServiceInstances(true)
+                                                                                                                    .spaceId(getTargetSpaceGuid().toString())
+                                                                                                                    .page(page)
+                                                                                                                    .build();
+        return PageByPageIterator.stream(page -> delegate.spaces()
+                                                         .listServiceInstances(pageRequestSupplier.apply(page)),
+                                         response -> getTotalPages(response.getTotalPages()),
+                                         response -> fetchFluxWithAuxiliaryContent(FetchOperation.SERVICE_INSTANCES,
+                                                                                   () -> Flux.fromIterable(response.getResources()),
+                                                                                   this::zipWithAuxiliaryServiceInstanceContent).collectList()
+                                                                                                                                .flatMapMany(this::addServiceInstancesMetadata)
+                                                                                                                                .collectList());
+    }
+
+    private static int getTotalPages(Integer totalPages) {
+        return totalPages == null ? 1 : totalPages;
+    }
+
+    @Override
+    public void stopApplication(String applicationName) {
+        reactiveClient.stopApplication(applicationName)
+                      .block();
+    }
+
+    private Mono<Void> doStopApplication(String applicationName) {
+        return getRequiredApplicationByName(applicationName).filter(application -> application.getState() != ApplicationState.STOPPED)
+                                                            .flatMap(application -> requestStopApplication(application.getId()));
+    }
+
+    private Mono<Void> requestStopApplication(String applicationId) {
+        return delegate.applicationsV3()
+                       .stop(StopApplicationRequest.builder()
+                                                   .applicationId(applicationId)
+                                                   .build())
+                       .then();
+    }
+
+    @Override
+    public void unbindServiceInstance(String applicationName, String serviceInstanceName) {
+        reactiveClient.unbindServiceInstance(applicationName, serviceInstanceName)
+                      .block();
+    }
+
+    @Override
+    public void unbindServiceInstance(CloudApplication application, CloudServiceInstance serviceInstance) {
+        reactiveClient.unbindServiceInstance(application, serviceInstance)
+                      .block();
+    }
+
+    private Mono<Void> doUnbindServiceInstance(String applicationName, UUID serviceInstanceGuid) {
+        return getWithApplicationGuidMono(applicationName,
+                                          applicationGuid -> doUnbindServiceInstance(applicationGuid, serviceInstanceGuid));
+    }
+
+    @Override
+    public void updateApplicationDiskQuota(String applicationName, int diskQuota) {
+        reactiveClient.updateApplicationDiskQuota(applicationName, diskQuota)
+                      .block();
+    }
+
+    @Override
+    public void updateApplicationEnv(String applicationName, Map<String, String> env) {
+        reactiveClient.updateApplicationEnv(applicationName, env)
+                      .block();
+    }
+
+    @Override
+    public void updateApplicationInstances(String applicationName, int instances) {
+        reactiveClient.updateApplicationInstances(applicationName, instances)
+                      .block();
     }
 
     @Override
     public void updateApplicationMemory(String applicationName, int memory) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        delegate.applicationsV3()
-                .scale(ScaleApplicationRequest.builder()
-                                              .applicationId(applicationGuid.toString())
-                                              .type("web")
-                                              .memoryInMb(memory)
-                                              .build())
-                .block();
+        reactiveClient.updateApplicationMemory(applicationName, memory)
+                      .block();
+    }
+
+    private Mono<Void> scaleApplication(UUID applicationGuid, UnaryOperator<ScaleApplicationRequest.Builder> scaling) {
+        ScaleApplicationRequest.Builder requestBuilder = ScaleApplicationRequest.builder()
+                                                                                .applicationId(applicationGuid.toString())
+                                                                                .type("web");
+        return delegate.applicationsV3()
+                       .scale(scaling.apply(requestBuilder)
+                                     .build())
+                       .then();
+    }
+
+    private Mono<Void> updateApplicationEnvironment(UUID applicationGuid, Map<String, String> env) {
+        return delegate.applicationsV3()
+                       .updateEnvironmentVariables(UpdateApplicationEnvironmentVariablesRequest.builder()
+                                                                                               .applicationId(applicationGuid.toString())
+                                                                                               .vars(env)
+                                                                                               .build())
+                       .then();
     }
 
     @Override
-    public void updateApplicationMetadata(UUID guid, org.cloudfoundry.client.v3.Metadata metadata) {
-        delegate.applicationsV3()
-                .update(org.cloudfoundry.client.v3.applications.UpdateApplicationRequest.builder()
-                                                                                        .applicationId(guid.toString())
-                                                                                        .metadata(metadata)
-                                                                                        .build())
-                .block();
+    public void updateApplicationMetadata(UUID guid, Metadata metadata) {
+        reactiveClient.updateApplicationMetadata(guid, metadata)
+                      .block();
     }
 
     @Override
     public void updateApplicationStaging(String applicationName, Staging staging) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
+        reactiveClient.updateApplicationStaging(applicationName, staging)
+                      .block();
+    }
+
+    private Mono<Void> doUpdateApplicationStaging(UUID applicationGuid, Staging staging) {
         UpdateApplicationRequest updateApplicationRequest = UpdateApplicationRequest.builder()
                                                                                     .applicationId(applicationGuid.toString())
                                                                                     .lifecycle(buildApplicationLifecycle(staging))
                                                                                     .build();
-        delegate.applicationsV3()
-                .update(updateApplicationRequest)
-                .block();
-        GetApplicationProcessResponse applicationProcess = getApplicationProcess(applicationGuid);
-        updateApplicationProcess(applicationGuid, staging, applicationProcess);
+        return delegate.applicationsV3()
+                       .update(updateApplicationRequest)
+                       .then(Mono.defer(() -> updateApplicationProcess(applicationGuid, staging)));
     }
 
     @Override
     public void updateApplicationRoutes(String applicationName, Set<CloudRouteSummary> updatedRoutes) {
-        CloudApplication application = getApplication(applicationName);
+        reactiveClient.updateApplicationRoutes(applicationName, updatedRoutes)
+                      .block();
+    }
+
+    private Mono<Void> doUpdateApplicationRoutes(CloudApplication application, Set<CloudRouteSummary> updatedRoutes) {
         Set<CloudRouteSummary> currentRoutes = application.getRoutes();
 
         Set<CloudRouteSummary> outdatedRoutes = selectRoutesOnlyInFirst(currentRoutes, updatedRoutes);
 
         Set<CloudRouteSummary> newRoutes = selectRoutesOnlyInFirst(updatedRoutes, currentRoutes);
 
-        removeRoutes(outdatedRoutes, application.getMetadata()
-                                                .getGuid());
-        addRoutes(newRoutes, application.getMetadata()
-                                        .getGuid());
+        UUID applicationGuid = application.getMetadata()
+                                          .getGuid();
+        return removeRoutes(outdatedRoutes, applicationGuid).then(Mono.defer(() -> addRoutes(newRoutes, applicationGuid)));
     }
 
     protected Set<CloudRouteSummary> selectRoutesOnlyInFirst(Set<CloudRouteSummary> allRoutes, Set<CloudRouteSummary> routesToSubtract) {
@@ -1305,96 +1937,193 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public void updateServiceBroker(CloudServiceBroker serviceBroker) {
-        Assert.notNull(serviceBroker, "Service broker must not be null.");
+        reactiveClient.updateServiceBroker(serviceBroker)
+                      .block();
+    }
 
-        CloudServiceBroker existingBroker = getServiceBroker(serviceBroker.getName());
+    private Mono<Void> doUpdateServiceBroker(CloudServiceBroker serviceBroker, CloudServiceBroker existingBroker) {
         UUID brokerGuid = existingBroker.getMetadata()
                                         .getGuid();
-
-        delegate.serviceBrokers()
-                .update(UpdateServiceBrokerRequest.builder()
-                                                  .serviceBrokerId(brokerGuid.toString())
-                                                  .name(serviceBroker.getName())
-                                                  .authenticationUsername(serviceBroker.getUsername())
-                                                  .authenticationPassword(serviceBroker.getPassword())
-                                                  .brokerUrl(serviceBroker.getUrl())
-                                                  .build())
-                .block();
+        return delegate.serviceBrokers()
+                       .update(UpdateServiceBrokerRequest.builder()
+                                                         .serviceBrokerId(brokerGuid.toString())
+                                                         .name(serviceBroker.getName())
+                                                         .authenticationUsername(serviceBroker.getUsername())
+                                                         .authenticationPassword(serviceBroker.getPassword())
+                                                         .brokerUrl(serviceBroker.getUrl())
+                                                         .build())
+                       .then(Mono.fromRunnable(serviceOfferingCache::invalidateAll));
     }
 
     @Override
-    public void updateServiceInstanceMetadata(UUID guid, org.cloudfoundry.client.v3.Metadata metadata) {
-        delegate.serviceInstancesV3()
-                .update(UpdateServiceInstanceRequest.builder()
-                                                    .serviceInstanceId(guid.toString())
-                                                    .metadata(metadata)
-                                                    .build())
-                .block();
+    public void updateServiceInstanceMetadata(UUID guid, Metadata metadata) {
+        reactiveClient.updateServiceInstanceMetadata(guid, metadata)
+                      .block();
     }
 
     @Override
     public void updateServicePlanVisibilityForBroker(String name, boolean visibility) {
-        CloudServiceBroker broker = getServiceBroker(name);
-        List<CloudServicePlan> servicePlans = findServicePlansByBrokerGuid(getGuid(broker));
-        for (CloudServicePlan servicePlan : servicePlans) {
-            updateServicePlanVisibility(servicePlan, visibility);
-        }
+        reactiveClient.updateServicePlanVisibilityForBroker(name, visibility)
+                      .block();
     }
 
     @Override
     public CloudTask getTask(UUID taskGuid) {
-        return fetch(() -> getTaskResource(taskGuid), ImmutableRawCloudTask::of);
+        return reactiveClient.getTask(taskGuid)
+                             .block();
     }
 
     @Override
     public List<CloudTask> getTasks(String applicationName) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        return fetchList(() -> getTaskResourcesByApplicationGuid(applicationGuid), ImmutableRawCloudTask::of);
+        return reactiveClient.getTasks(applicationName)
+                             .collectList()
+                             .block();
     }
 
     @Override
     public CloudTask runTask(String applicationName, CloudTask task) {
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        return createTask(applicationGuid, task);
+        return reactiveClient.runTask(applicationName, task)
+                             .block();
     }
 
     @Override
     public CloudTask cancelTask(UUID taskGuid) {
-        return fetch(() -> cancelTaskResource(taskGuid), ImmutableRawCloudTask::of);
+        return reactiveClient.cancelTask(taskGuid)
+                             .block();
+    }
+
+    @Override
+    public CompletableFuture<CloudTask> watchTask(UUID taskGuid) {
+        return reactiveClient.watchTask(taskGuid)
+                             .toFuture();
+    }
+
+    private static boolean isInTerminalState(CloudTask task) {
+        return task.getState() == CloudTask.State.SUCCEEDED || task.getState() == CloudTask.State.FAILED;
     }
 
     @Override
     public void uploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
-        CloudPackage cloudPackage = startUpload(applicationName, file);
-        processAsyncUpload(cloudPackage, callback);
+        reactiveClient.uploadApplication(applicationName, file, callback)
+                      .block();
     }
 
     @Override
     public void uploadApplication(String applicationName, InputStream inputStream, UploadStatusCallback callback) throws IOException {
+        uploadApplication(applicationName, inputStream, UNKNOWN_UPLOAD_SIZE, callback);
+    }
+
+    @Override
+    public void uploadApplication(String applicationName, InputStream inputStream, long size, UploadStatusCallback callback)
+        throws IOException {
+        Assert.notNull(applicationName, "AppName must not be null");
         Assert.notNull(inputStream, "InputStream must not be null");
+        UploadStatusCallback uploadCallback = callback == null ? UploadStatusCallback.NONE : callback;
 
-        Path file = null;
         try {
-            file = createTemporaryUploadFile(inputStream);
-            uploadApplication(applicationName, file, callback);
+            UUID packageGuid = createPackageForApplication(applicationName).block();
+            if (size < 0 && contentLengthRequired) {
+                uploadSpooledPackageBits(packageGuid, inputStream, uploadCallback);
+            } else {
+                streamPackageBits(packageGuid, inputStream, size, uploadCallback);
+            }
+            uploadStatusPoller.poll(packageGuid, uploadCallback)
+                          .block();
         } finally {
             IOUtils.closeQuietly(inputStream);
-            if (file != null) {
-                Files.deleteIfExists(file);
-            }
         }
     }
 
+    @Override
+    public void uploadApplicationDirectory(String applicationName, Path directory, int compressionLevel, UploadStatusCallback callback)
+        throws IOException {
+        Assert.notNull(applicationName, "AppName must not be null");
+        Assert.notNull(directory, "Directory must not be null");
+        UploadStatusCallback uploadCallback = callback == null ? UploadStatusCallback.NONE : callback;
+
+        ApplicationDirectoryArchive archive = ApplicationDirectoryArchive.of(directory, compressionLevel);
+        UUID packageGuid = createPackageForApplication(applicationName).block();
+        streamDirectoryPackageBits(packageGuid, archive, uploadCallback);
+        uploadStatusPoller.poll(packageGuid, uploadCallback)
+                          .block();
+    }
+
     @Override
     public CloudPackage asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
-        CloudPackage cloudPackage = startUpload(applicationName, file);
-        processAsyncUploadInBackground(cloudPackage, callback);
-        return cloudPackage;
+        return reactiveClient.asyncUploadApplication(applicationName, file, callback)
+                             .block();
     }
 
     @Override
     public Upload getUploadStatus(UUID packageGuid) {
-        CloudPackage cloudPackage = getPackage(packageGuid);
+        return toUpload(getPackage(packageGuid));
+    }
+
+    /**
+     * Returns the future of the monitor, which was started in the background by {@link #asyncUploadApplication(String, Path)} for the
+     * package, if it is still running, so that the upload is not polled twice and its callback is not invoked twice. The given callback is
+     * not used in this case.
+     */
+    @Override
+    public CompletableFuture<Upload> monitorUpload(UUID packageGuid, UploadStatusCallback callback) {
+        CompletableFuture<Upload> backgroundUploadMonitor = backgroundUploadMonitors.get(packageGuid);
+        if (backgroundUploadMonitor != null) {
+            return backgroundUploadMonitor;
+        }
+        return reactiveClient.monitorUpload(packageGuid, callback)
+                             .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<CloudPackage> watchPackage(UUID packageGuid) {
+        return reactiveClient.watchPackage(packageGuid)
+                             .toFuture();
+    }
+
+    private static boolean isInTerminalState(CloudPackage cloudPackage) {
+        Status status = cloudPackage.getStatus();
+        return status == Status.READY || status == Status.FAILED || status == Status.EXPIRED;
+    }
+
+    private Flux<CloudPackage> getPackagesByGuids(List<UUID> packageGuids) {
+        return fetchFlux(() -> getPackageResourcesByGuids(packageGuids), ImmutableRawCloudPackage::of);
+    }
+
+    private Flux<? extends PackageResource> getPackageResourcesByGuids(List<UUID> packageGuids) {
+        IntFunction<ListPackagesRequest> pageRequestSupplier = page -> ListPackagesRequest.builder()
+                                                                                          .addAllPackageIds(toString(packageGuids))
+                                                                                          .page(page)
+                                                                                          .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.packages()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
+    @Override
+    public CloudJob getJob(UUID jobGuid) {
+        return reactiveClient.getJob(jobGuid)
+                             .block();
+    }
+
+    @Override
+    public List<CloudJob> awaitJobs(Collection<CloudJob> jobs, Duration timeout) {
+        return reactiveClient.awaitJobs(jobs, timeout)
+                             .collectList()
+                             .block();
+    }
+
+    private Mono<CloudJob> getJobMono(UUID jobGuid) {
+        return fetchMono(() -> getJobResource(jobGuid), ImmutableRawCloudJob::of);
+    }
+
+    private Mono<? extends Job> getJobResource(UUID jobGuid) {
+        GetJobRequest request = GetJobRequest.builder()
+                                             .jobId(jobGuid.toString())
+                                             .build();
+        return delegate.jobsV3()
+                       .get(request);
+    }
+
+    private Upload toUpload(CloudPackage cloudPackage) {
         ErrorDetails errorDetails = ImmutableErrorDetails.builder()
                                                          .description(cloudPackage.getData()
                                                                                   .getError())
@@ -1406,46 +2135,62 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                               .build();
     }
 
+    private Mono<Upload> getExistingUploadStatus(UUID packageGuid) {
+        return reactiveClient.getUploadStatus(packageGuid)
+                             .switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found",
+                                                                                         "Package " + packageGuid + " not found.")));
+    }
+
     @Override
     public CloudBuild getBuild(UUID buildGuid) {
-        return fetch(() -> getBuildResource(buildGuid), ImmutableRawCloudBuild::of);
+        return reactiveClient.getBuild(buildGuid)
+                             .block();
     }
 
     @Override
     public List<CloudBuild> getBuildsForApplication(UUID applicationGuid) {
-        return fetchList(() -> getBuildResourcesByApplicationGuid(applicationGuid), ImmutableRawCloudBuild::of);
+        return reactiveClient.getBuildsForApplication(applicationGuid)
+                             .collectList()
+                             .block();
     }
 
     @Override
     public List<CloudBuild> getBuildsForPackage(UUID packageGuid) {
-        return fetchList(() -> getBuildResourcesByPackageGuid(packageGuid), ImmutableRawCloudBuild::of);
+        return reactiveClient.getBuildsForPackage(packageGuid)
+                             .collectList()
+                             .block();
+    }
+
+    @Override
+    public CompletableFuture<CloudBuild> watchBuild(CloudBuild build) {
+        return reactiveClient.watchBuild(build)
+                             .toFuture();
+    }
+
+    private static boolean isInTerminalState(CloudBuild build) {
+        return build.getState() == CloudBuild.State.STAGED || build.getState() == CloudBuild.State.FAILED;
+    }
+
+    private Flux<CloudBuild> getBuildsByPackageGuids(List<UUID> packageGuids) {
+        return fetchFlux(() -> getBuildResourcesByPackageGuids(packageGuids), ImmutableRawCloudBuild::of);
     }
 
     @Override
     public CloudBuild createBuild(UUID packageGuid) {
-        return fetch(() -> createBuildResource(packageGuid), ImmutableRawCloudBuild::of);
+        return reactiveClient.createBuild(packageGuid)
+                             .block();
     }
 
     @Override
     public void bindDropletToApp(UUID dropletGuid, UUID applicationGuid) {
-        delegate.applicationsV3()
-                .setCurrentDroplet(SetApplicationCurrentDropletRequest.builder()
-                                                                      .applicationId(applicationGuid.toString())
-                                                                      .data(Relationship.builder()
-                                                                                        .id(dropletGuid.toString())
-                                                                                        .build())
-                                                                      .build())
-                .block();
+        reactiveClient.bindDropletToApp(dropletGuid, applicationGuid)
+                      .block();
     }
 
     @Override
     public DropletInfo getCurrentDropletForApplication(UUID applicationGuid) {
-        GetApplicationCurrentDropletResponse getApplicationCurrentDropletResponse = delegate.applicationsV3()
-                                                                                            .getCurrentDroplet(GetApplicationCurrentDropletRequest.builder()
-                                                                                                                                                  .applicationId(applicationGuid.toString())
-                                                                                                                                                  .build())
-                                                                                            .block();
-        return tryParseDropletInfo(getApplicationCurrentDropletResponse);
+        return reactiveClient.getCurrentDropletForApplication(applicationGuid)
+                             .block();
     }
 
     private DropletInfo tryParseDropletInfo(GetApplicationCurrentDropletResponse getApplicationCurrentDropletResponse) {
@@ -1461,10 +2206,7 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         String packageUrl = getApplicationCurrentDropletResponse.getLinks()
                                                                 .get(Constants.PACKAGE)
                                                                 .getHref();
-        if (packageUrl.endsWith("/")) {
-            packageUrl = packageUrl.substring(0, packageUrl.lastIndexOf("/"));
-        }
-        String packageGuid = packageUrl.substring(packageUrl.lastIndexOf("/") + 1);
+        String packageGuid = getLastPathSegment(packageUrl);
         return ImmutableDropletInfo.builder()
                                    .guid(UUID.fromString(getApplicationCurrentDropletResponse.getId()))
                                    .packageGuid(UUID.fromString(packageGuid))
@@ -1473,7 +2215,9 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<CloudPackage> getPackagesForApplication(UUID applicationGuid) {
-        return fetchList(() -> getPackages(applicationGuid.toString()), ImmutableRawCloudPackage::of);
+        return reactiveClient.getPackagesForApplication(applicationGuid)
+                             .collectList()
+                             .block();
     }
 
     private Flux<? extends PackageResource> getPackages(String applicationGuid) {
@@ -1487,10 +2231,18 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     @Override
     public List<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid) {
-        return fetchList(() -> getRoles(spaceGuid, userGuid), ImmutableRawUserRole::of);
+        return reactiveClient.getUserRolesBySpaceAndUser(spaceGuid, userGuid)
+                             .collectList()
+                             .block();
     }
 
+    @Override
     public CloudPackage createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo) {
+        return reactiveClient.createDockerPackage(applicationGuid, dockerInfo)
+                             .block();
+    }
+
+    private Mono<CloudPackage> doCreateDockerPackage(UUID applicationGuid, DockerInfo dockerInfo) {
         org.cloudfoundry.client.v3.packages.DockerData.Builder dockerDataBuilder = org.cloudfoundry.client.v3.packages.DockerData.builder()
                                                                                                                                  .image(dockerInfo.getImage());
         if (dockerInfo.getCredentials() != null) {
@@ -1501,10 +2253,9 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                   .data(dockerDataBuilder.build())
                                                                   .relationships(buildPackageRelationships(applicationGuid))
                                                                   .build();
-        CreatePackageResponse packageResponse = delegate.packages()
-                                                        .create(packageRequest)
-                                                        .block();
-        return getPackage(UUID.fromString(packageResponse.getId()));
+        return delegate.packages()
+                       .create(packageRequest)
+                       .flatMap(packageResponse -> getRequiredPackage(UUID.fromString(packageResponse.getId())));
     }
 
     private void addNonNullDockerCredentials(DockerCredentials dockerCredentials,
@@ -1529,34 +2280,20 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
-    private CloudApplication addMetadataIfNotNull(CloudApplication application) {
-        return application == null ? null : addMetadata(application);
-    }
-
-    private CloudApplication addMetadata(CloudApplication application) {
-        UUID appGuid = getGuid(application);
-        Map<String, Metadata> applicationsMetadata = getApplicationsMetadataInBatches(Collections.singletonList(appGuid));
-        return addMetadata(Collections.singletonList(application), applicationsMetadata).get(0);
-    }
-
-    private Map<String, Metadata> getApplicationsMetadataInBatches(List<UUID> appGuids) {
-        Map<String, Metadata> applicationsMetadata = new HashMap<>();
-        for (List<UUID> batchOfAppGuids : toBatches(appGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST)) {
-            applicationsMetadata.putAll(getApplicationsMetadata(batchOfAppGuids));
-        }
-        return applicationsMetadata;
+    private Mono<Map<String, Metadata>> getApplicationsMetadataInBatches(List<UUID> appGuids) {
+        return Flux.fromIterable(toBatches(appGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getApplicationsMetadata)
+                   .collectMap(ApplicationResource::getName, ApplicationResource::getMetadata);
     }
 
-    private Map<String, Metadata> getApplicationsMetadata(List<UUID> appGuids) {
+    private Flux<? extends ApplicationResource> getApplicationsMetadata(List<UUID> appGuids) {
         IntFunction<ListApplicationsRequest> pageRequestSupplier = page -> ListApplicationsRequest.builder()
                                                                                                   .spaceId(getTargetSpaceGuid().toString())
                                                                                                   .addAllApplicationIds(toString(appGuids))
                                                                                                   .page(page)
                                                                                                   .build();
         return PaginationUtils.requestClientV3Resources(page -> delegate.applicationsV3()
-                                                                        .list(pageRequestSupplier.apply(page)))
-                              .collectMap(ApplicationResource::getName, ApplicationResource::getMetadata)
-                              .block();
+                                                                        .list(pageRequestSupplier.apply(page)));
     }
 
     private List<String> toString(List<UUID> guids) {
@@ -1565,16 +2302,20 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                     .collect(Collectors.toList());
     }
 
-    private List<CloudApplication> addMetadataIfNotEmpty(List<CloudApplication> applications) {
-        return applications.isEmpty() ? applications : addMetadata(applications);
+    private Flux<CloudApplication> addMetadata(List<CloudApplication> applications) {
+        if (applications.isEmpty()) {
+            return Flux.empty();
+        }
+        List<UUID> applicationGuids = applications.stream()
+                                                  .map(CloudApplication::getMetadata)
+                                                  .map(CloudMetadata::getGuid)
+                                                  .collect(Collectors.toList());
+        return getApplicationsMetadataInBatches(applicationGuids).flatMapIterable(applicationsMetadata -> addMetadata(applications,
+                                                                                                                      applicationsMetadata));
     }
 
-    private List<CloudApplication> addMetadata(List<CloudApplication> applications) {
-        Map<String, Metadata> applicationsMetadata = getApplicationsMetadataInBatches(applications.stream()
-                                                                                                  .map(CloudApplication::getMetadata)
-                                                                                                  .map(CloudMetadata::getGuid)
-                                                                                                  .collect(Collectors.toList()));
-        return addMetadata(applications, applicationsMetadata);
+    private Mono<CloudApplication> addMetadata(CloudApplication application) {
+        return addMetadata(Collections.singletonList(application)).next();
     }
 
     private List<CloudApplication> addMetadata(List<CloudApplication> applications, Map<String, Metadata> applicationsMetadata) {
@@ -1590,22 +2331,6 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                         .withV3Metadata(metadata);
     }
 
-    private CloudApplication findApplicationByName(String name, boolean required) {
-        CloudApplication application = findApplicationByName(name);
-        if (application == null && required) {
-            throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Application " + name + " not found.");
-        }
-        return application;
-    }
-
-    private CloudApplication findApplicationByName(String name) {
-        return fetchWithAuxiliaryContent(() -> getApplicationByName(name), this::zipWithAuxiliaryApplicationContent);
-    }
-
-    private CloudApplication findApplication(UUID guid) {
-        return fetchWithAuxiliaryContent(() -> getApplicationByGuid(guid), this::zipWithAuxiliaryApplicationContent);
-    }
-
     private Flux<? extends Application> getApplicationResources() {
         IntFunction<ListApplicationsRequest> pageRequestSupplier = page -> ListApplicationsRequest.builder()
                                                                                                   .spaceId(getTargetSpaceGuid().toString())
@@ -1651,6 +2376,151 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
+    private Mono<Map<String, Process>> getWebProcessesByApplicationGuid(List<UUID> applicationGuids) {
+        return Flux.fromIterable(toBatches(applicationGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getWebProcessResourcesByApplicationGuids)
+                   .collectMap(this::getApplicationGuidFromLinks, Function.identity());
+    }
+
+    private Flux<? extends Process> getWebProcessResourcesByApplicationGuids(List<UUID> applicationGuids) {
+        IntFunction<ListProcessesRequest> pageRequestSupplier = page -> ListProcessesRequest.builder()
+                                                                                            .addAllApplicationIds(toString(applicationGuids))
+                                                                                            .type("web")
+                                                                                            .page(page)
+                                                                                            .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.processes()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<Map<String, Droplet>> getLatestDropletsByApplicationGuid(List<UUID> applicationGuids) {
+        return Flux.fromIterable(toBatches(applicationGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getDropletResourcesByApplicationGuids)
+                   .collect(HashMap::new, (droplets, droplet) -> droplets.merge(getApplicationGuidFromLinks(droplet), droplet,
+                                                                                this::getLatestDroplet));
+    }
+
+    private Droplet getLatestDroplet(Droplet droplet, Droplet otherDroplet) {
+        return droplet.getCreatedAt()
+                      .compareTo(otherDroplet.getCreatedAt()) >= 0 ? droplet : otherDroplet;
+    }
+
+    private Flux<? extends Droplet> getDropletResourcesByApplicationGuids(List<UUID> applicationGuids) {
+        IntFunction<ListDropletsRequest> pageRequestSupplier = page -> ListDropletsRequest.builder()
+                                                                                          .addAllApplicationIds(toString(applicationGuids))
+                                                                                          .page(page)
+                                                                                          .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.droplets()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<Tuple2<Map<String, List<Route>>, Map<String, String>>> getRoutesByApplicationGuid(List<UUID> applicationGuids) {
+        return Flux.fromIterable(toBatches(applicationGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getRouteResourcesByApplicationGuids)
+                   .collectList()
+                   .zipWhen(this::getDomainNamesForRoutes)
+                   .map(tuple -> Tuples.of(groupRoutesByApplicationGuid(tuple.getT1()), tuple.getT2()));
+    }
+
+    private Flux<? extends Route> getRouteResourcesByApplicationGuids(List<UUID> applicationGuids) {
+        IntFunction<ListRoutesRequest> pageRequestSupplier = page -> ListRoutesRequest.builder()
+                                                                                      .addAllApplicationIds(toString(applicationGuids))
+                                                                                      .page(page)
+                                                                                      .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.routesV3()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Map<String, List<Route>> groupRoutesByApplicationGuid(List<? extends Route> routes) {
+        Map<String, List<Route>> routesByApplicationGuid = new HashMap<>();
+        for (Route route : routes) {
+            route.getDestinations()
+                 .stream()
+                 .map(destination -> destination.getApplication()
+                                                .getApplicationId())
+                 .distinct()
+                 .forEach(applicationGuid -> routesByApplicationGuid.computeIfAbsent(applicationGuid, key -> new ArrayList<>())
+                                                                    .add(route));
+        }
+        return routesByApplicationGuid;
+    }
+
+    private Mono<Map<String, String>> getDomainNamesForRoutes(List<? extends Route> routes) {
+        Set<String> domainGuids = routes.stream()
+                                        .map(route -> route.getRelationships()
+                                                           .getDomain()
+                                                           .getData()
+                                                           .getId())
+                                        .collect(Collectors.toSet());
+        return Flux.fromIterable(toBatches(domainGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getDomainResourcesByGuids)
+                   .collectMap(DomainResource::getId, DomainResource::getName);
+    }
+
+    private Flux<? extends DomainResource> getDomainResourcesByGuids(List<String> domainGuids) {
+        IntFunction<ListDomainsRequest> pageRequestSupplier = page -> ListDomainsRequest.builder()
+                                                                                        .addAllDomainIds(domainGuids)
+                                                                                        .page(page)
+                                                                                        .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.domainsV3()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<Map<String, List<String>>> getServiceNamesByApplicationGuid(List<UUID> applicationGuids) {
+        Mono<Map<String, Collection<String>>> serviceInstanceGuidsByApplicationGuid = Flux.fromIterable(toBatches(applicationGuids,
+                                                                                                                  MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                                                                                          .flatMap(this::getServiceBindingResourcesByApplicationGuids)
+                                                                                          .map(Resource::getEntity)
+                                                                                          .collectMultimap(ServiceBindingEntity::getApplicationId,
+                                                                                                           ServiceBindingEntity::getServiceInstanceId);
+        return Mono.zip(serviceInstanceGuidsByApplicationGuid, getServiceInstanceNamesByGuid())
+                   .map(tuple -> resolveServiceNames(tuple.getT1(), tuple.getT2()));
+    }
+
+    private Flux<? extends Resource<ServiceBindingEntity>> getServiceBindingResourcesByApplicationGuids(List<UUID> applicationGuids) {
+        IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
+                                                                                                        .addAllApplicationIds(toString(applicationGuids))
+                                                                                                        .page(page)
+                                                                                                        .build();
+        return PaginationUtils.requestClientV2Resources(page -> delegate.serviceBindingsV2()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
+    private Mono<Map<String, String>> getServiceInstanceNamesByGuid() {
+        IntFunction<ListServiceInstancesRequest> pageRequestSupplier = page -> ListServiceInstancesRequest.builder()
+                                                                                                          .spaceId(getTargetSpaceGuid().toString())
+                                                                                                          .page(page)
+                                                                                                          .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.serviceInstancesV3()
+                                                                        .list(pageRequestSupplier.apply(page)))
+                              .collectMap(ServiceInstanceResource::getId, ServiceInstanceResource::getName);
+    }
+
+    private Map<String, List<String>> resolveServiceNames(Map<String, Collection<String>> serviceInstanceGuidsByApplicationGuid,
+                                                          Map<String, String> serviceInstanceNames) {
+        Map<String, List<String>> serviceNamesByApplicationGuid = new HashMap<>();
+        serviceInstanceGuidsByApplicationGuid.forEach((applicationGuid,
+                                                       serviceInstanceGuids) -> serviceNamesByApplicationGuid.put(applicationGuid,
+                                                                                                                  serviceInstanceGuids.stream()
+                                                                                                                                      .map(serviceInstanceNames::get)
+                                                                                                                                      .filter(Objects::nonNull)
+                                                                                                                                      .collect(Collectors.toList())));
+        return serviceNamesByApplicationGuid;
+    }
+
+    private String getApplicationGuidFromLinks(org.cloudfoundry.client.v3.Resource resource) {
+        String applicationUrl = resource.getLinks()
+                                        .get(Constants.APP)
+                                        .getHref();
+        return getLastPathSegment(applicationUrl);
+    }
+
+    private String getLastPathSegment(String url) {
+        if (url.endsWith("/")) {
+            url = url.substring(0, url.lastIndexOf("/"));
+        }
+        return url.substring(url.lastIndexOf("/") + 1);
+    }
+
     private Mono<Derivable<CloudApplication>> zipWithAuxiliaryApplicationContent(Application application) {
         UUID applicationGuid = getGuid(application);
         return getApplicationSummary(applicationGuid).zipWhen(this::getApplicationStackResource)
@@ -1679,10 +2549,6 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return getStackResource(stackGuid);
     }
 
-    private CloudServiceInstance findServiceInstanceByName(String name) {
-        return fetchWithAuxiliaryContent(() -> getServiceInstanceResourceByName(name), this::zipWithAuxiliaryServiceInstanceContent);
-    }
-
     private Flux<? extends Resource<UnionServiceInstanceEntity>> getServiceInstanceResources() {
         IntFunction<ListSpaceServiceInstancesRequest> pageRequestSupplier = page -> ListSpaceServiceInstancesRequest.builder()
                                                                                                                     .returnUserProvidedServiceInstances(true)
@@ -1747,11 +2613,6 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                   .equals(ServiceInstanceType.USER_PROVIDED);
     }
 
-    private List<UUID> getServiceBindingGuids(UUID applicationGuid) {
-        Flux<? extends Resource<ServiceBindingEntity>> bindings = getServiceBindingResourcesByApplicationGuid(applicationGuid);
-        return getGuids(bindings);
-    }
-
     private Flux<? extends Resource<ServiceBindingEntity>> getServiceBindingResourcesByServiceInstanceGuid(UUID serviceInstanceGuid) {
         IntFunction<ListServiceBindingsRequest> pageRequestSupplier = page -> ListServiceBindingsRequest.builder()
                                                                                                         .serviceInstanceId(serviceInstanceGuid.toString())
@@ -1785,30 +2646,18 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .listServiceBindings(pageRequestSupplier.apply(page)));
     }
 
-    private List<CloudServicePlan> findServicePlansByBrokerGuid(UUID brokerGuid) {
-        List<CloudServiceOffering> offerings = findServiceOfferingsByBrokerGuid(brokerGuid);
-        return getPlans(offerings);
-    }
-
-    private List<CloudServicePlan> getPlans(List<CloudServiceOffering> offerings) {
-        return offerings.stream()
-                        .map(CloudServiceOffering::getServicePlans)
-                        .flatMap(Collection::stream)
-                        .collect(Collectors.toList());
-    }
-
-    private void updateServicePlanVisibility(CloudServicePlan servicePlan, boolean visibility) {
-        updateServicePlanVisibility(getGuid(servicePlan), visibility);
+    private Flux<CloudServicePlan> findServicePlansByBrokerGuid(UUID brokerGuid) {
+        return findServiceOfferingsByBrokerGuid(brokerGuid).flatMapIterable(CloudServiceOffering::getServicePlans);
     }
 
-    private void updateServicePlanVisibility(UUID servicePlanGuid, boolean visibility) {
+    private Mono<Void> updateServicePlanVisibility(CloudServicePlan servicePlan, boolean visibility) {
         UpdateServicePlanRequest request = UpdateServicePlanRequest.builder()
-                                                                   .servicePlanId(servicePlanGuid.toString())
+                                                                   .servicePlanId(getGuid(servicePlan).toString())
                                                                    .publiclyVisible(visibility)
                                                                    .build();
-        delegate.servicePlans()
-                .update(request)
-                .block();
+        return delegate.servicePlans()
+                       .update(request)
+                       .then();
     }
 
     private Mono<? extends Task> getTaskResource(UUID guid) {
@@ -1819,6 +2668,10 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                        .get(request);
     }
 
+    private Flux<CloudTask> getTasksFlux(UUID applicationGuid) {
+        return fetchFlux(() -> getTaskResourcesByApplicationGuid(applicationGuid), ImmutableRawCloudTask::of);
+    }
+
     private Flux<? extends Task> getTaskResourcesByApplicationGuid(UUID applicationGuid) {
         IntFunction<ListTasksRequest> pageRequestSupplier = page -> ListTasksRequest.builder()
                                                                                     .applicationId(applicationGuid.toString())
@@ -1828,8 +2681,17 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
-    private CloudTask createTask(UUID applicationGuid, CloudTask task) {
-        return fetch(() -> createTaskResource(applicationGuid, task), ImmutableRawCloudTask::of);
+    private Flux<CloudTask> getTasksByGuids(List<UUID> taskGuids) {
+        return fetchFlux(() -> getTaskResourcesByGuids(taskGuids), ImmutableRawCloudTask::of);
+    }
+
+    private Flux<? extends Task> getTaskResourcesByGuids(List<UUID> taskGuids) {
+        IntFunction<ListTasksRequest> pageRequestSupplier = page -> ListTasksRequest.builder()
+                                                                                    .addAllTaskIds(toString(taskGuids))
+                                                                                    .page(page)
+                                                                                    .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.tasks()
+                                                                        .list(pageRequestSupplier.apply(page)));
     }
 
     private Mono<? extends Task> createTaskResource(UUID applicationGuid, CloudTask task) {
@@ -1868,50 +2730,335 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     private Path createTemporaryUploadFile(InputStream inputStream) throws IOException {
         Path file = Files.createTempFile("cfjava", null);
-        Files.copy(inputStream, file);
+        Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
         return file;
     }
 
-    private CloudPackage startUpload(String applicationName, Path file) {
+    private Mono<CloudPackage> startUpload(String applicationName, Path file, UploadStatusCallback callback) {
         Assert.notNull(applicationName, "AppName must not be null");
         Assert.notNull(file, "File must not be null");
+        UploadStatusCallback uploadCallback = callback == null ? UploadStatusCallback.NONE : callback;
 
-        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
-        UUID packageGuid = getGuid(createPackageForApplication(applicationGuid));
+        return createPackageForApplication(applicationName).flatMap(packageGuid -> uploadFilePackageBits(packageGuid, file, uploadCallback)
+            .then(Mono.defer(() -> getRequiredPackage(packageGuid))));
+    }
 
-        delegate.packages()
-                .upload(UploadPackageRequest.builder()
-                                            .bits(file)
-                                            .packageId(packageGuid.toString())
-                                            .build())
-                .block();
+    private Mono<Void> uploadFilePackageBits(UUID packageGuid, Path file, UploadStatusCallback callback) {
+        return fromFileOperation(() -> ApplicationArchive.isZipArchive(file)).flatMap(isZipArchive -> isZipArchive
+            ? uploadUnmatchedPackageBits(packageGuid, file, callback)
+            : uploadPackageBits(packageGuid, file));
+    }
 
-        return getPackage(packageGuid);
+    /**
+     * Uploads only those files of the archive, which the Cloud Controller does not already have in its resource cache. The files of the
+     * archive are fingerprinted and matched against the cache, after which the unmatched files are uploaded in a reduced archive, along
+     * with the list of matched resources, which the Cloud Controller copies into the package from its cache.
+     */
+    private Mono<Void> uploadUnmatchedPackageBits(UUID packageGuid, Path file, UploadStatusCallback callback) {
+        Mono<List<ResourceFingerprint>> fingerprints = fromFileOperation(() -> ResourceFingerprinter.getDefault()
+                                                                                                    .fingerprint(file));
+        return fingerprints.zipWhen(this::matchResourcesIfAvailable)
+                           .flatMap(fingerprintsAndMatches -> uploadUnmatchedPackageBits(packageGuid, file, fingerprintsAndMatches.getT1(),
+                                                                                         fingerprintsAndMatches.getT2(), callback));
+    }
+
+    private Mono<Void> uploadUnmatchedPackageBits(UUID packageGuid, Path file, List<ResourceFingerprint> fingerprints,
+                                                  List<MatchedResource> matchedResources, UploadStatusCallback callback) {
+        callback.onCheckResources();
+        Set<String> matchedPaths = matchedResources.stream()
+                                                   .map(MatchedResource::getPath)
+                                                   .collect(Collectors.toSet());
+        callback.onMatchedFileNames(getUnmatchedPaths(fingerprints, matchedPaths));
+        if (matchedResources.isEmpty()) {
+            callback.onProcessMatchedResources(toIntLength(getTotalSize(fingerprints)));
+            return uploadPackageBits(packageGuid, file);
+        }
+        return uploadReducedPackageBits(packageGuid, file, matchedResources, matchedPaths, callback);
     }
 
-    private CloudPackage createPackageForApplication(UUID applicationGuid) {
-        return fetch(() -> createPackageResource(applicationGuid), ImmutableRawCloudPackage::of);
+    /**
+     * Resource matching is only an optimization, so if the Cloud Controller does not support it or fails to match the resources, nothing
+     * is treated as matched and the whole archive is uploaded.
+     */
+    private Mono<List<MatchedResource>> matchResourcesIfAvailable(List<ResourceFingerprint> fingerprints) {
+        return matchResources(fingerprints).onErrorResume(CloudOperationException.class, e -> {
+            HttpStatus status = e.getStatusCode();
+            if (status != HttpStatus.NOT_FOUND && status != HttpStatus.UNPROCESSABLE_ENTITY && !status.is5xxServerError()) {
+                return Mono.error(e);
+            }
+            LOGGER.warn(MessageFormat.format("Could not match resources, uploading the whole archive instead: {0}", e.getMessage()), e);
+            return Mono.just(Collections.emptyList());
+        });
     }
 
-    private Mono<? extends org.cloudfoundry.client.v3.packages.Package> createPackageResource(UUID applicationGuid) {
-        CreatePackageRequest request = CreatePackageRequest.builder()
-                                                           .type(PackageType.BITS)
-                                                           .relationships(buildPackageRelationships(applicationGuid))
-                                                           .build();
-        return delegate.packages()
-                       .create(request);
+    private Mono<List<MatchedResource>> matchResources(List<ResourceFingerprint> fingerprints) {
+        return Flux.fromIterable(fingerprints)
+                   .buffer(MAX_RESOURCES_PER_MATCH_REQUEST)
+                   .concatMap(this::matchResourceBatch)
+                   .collectList();
     }
 
-    private PackageRelationships buildPackageRelationships(UUID applicationGuid) {
-        return PackageRelationships.builder()
-                                   .application(buildToOneRelationship(applicationGuid))
-                                   .build();
+    /**
+     * The client library has no request for resource matching with the V3 API, so it is sent through the web client. A response, which
+     * cannot be read, is reported as {@link HttpStatus#BAD_GATEWAY}, so that the whole archive is uploaded instead.
+     */
+    private Flux<MatchedResource> matchResourceBatch(List<ResourceFingerprint> fingerprints) {
+        ResourceMatches request = ImmutableResourceMatches.builder()
+                                                          .resources(fingerprints.stream()
+                                                                                 .map(ResourceFingerprint::toMatchedResource)
+                                                                                 .collect(Collectors.toList()))
+                                                          .build();
+        return webClient.post()
+                        .uri(controllerUrl + "/v3/resource_matches")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(ResourceMatches.class)
+                        .flatMapIterable(ResourceMatches::getResources)
+                        .onErrorMap(WebClientResponseException.class, this::toCloudOperationException)
+                        .onErrorMap(CodecException.class,
+                                    e -> new CloudOperationException(HttpStatus.BAD_GATEWAY, HttpStatus.BAD_GATEWAY.getReasonPhrase(),
+                                                                     "Invalid response of resource matching: " + e.getMessage(), e));
+    }
+
+    private Mono<Void> uploadReducedPackageBits(UUID packageGuid, Path file, List<MatchedResource> matchedResources,
+                                                Set<String> matchedPaths, UploadStatusCallback callback) {
+        Mono<Void> upload = Mono.using(() -> Files.createTempFile("cfjava", ".zip"),
+                                       reducedFile -> {
+                                           Mono<ApplicationArchive.CopyResult> copy = copyWithout(file, matchedPaths, reducedFile);
+                                           return copy.flatMap(copyResult -> sendReducedPackageBits(packageGuid, reducedFile, copyResult,
+                                                                                                    matchedResources, callback));
+                                       },
+                                       CloudControllerRestClientImpl::deleteTemporaryFile);
+        return upload.onErrorMap(IOException.class, UncheckedIOException::new)
+                     .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static Mono<ApplicationArchive.CopyResult> copyWithout(Path file, Set<String> excludedPaths, Path target) {
+        return fromFileOperation(() -> ApplicationArchive.copyWithout(file, excludedPaths, target));
+    }
+
+    private Mono<Void> sendReducedPackageBits(UUID packageGuid, Path reducedFile, ApplicationArchive.CopyResult copyResult,
+                                              List<MatchedResource> matchedResources, UploadStatusCallback callback) {
+        callback.onProcessMatchedResources(toIntLength(copyResult.getTotalSize()));
+        MultipartBodyBuilder multipartBodyBuilder = new MultipartBodyBuilder();
+        multipartBodyBuilder.part("resources", JsonUtil.convertToJson(matchedResources));
+        if (copyResult.getEntryCount() > 0) {
+            multipartBodyBuilder.part("bits", new FileSystemResource(reducedFile))
+                                .contentType(MediaType.parseMediaType("application/zip"))
+                                .filename("application.zip");
+        }
+        return webClient.post()
+                        .uri(controllerUrl + "/v3/packages/{packageGuid}/upload", packageGuid)
+                        .body(BodyInserters.fromMultipartData(multipartBodyBuilder.build()))
+                        .retrieve()
+                        .toBodilessEntity()
+                        .onErrorMap(WebClientResponseException.class, this::toCloudOperationException)
+                        .then();
     }
 
-    private ToOneRelationship buildToOneRelationship(UUID guid) {
-        return ToOneRelationship.builder()
-                                .data(buildRelationship(guid))
-                                .build();
+    /**
+     * Runs a blocking file operation on a worker thread, so that it never runs on the threads of the HTTP client, and reports its
+     * {@link IOException} as an {@link UncheckedIOException}, which {@link Mono#block()} rethrows as it is.
+     */
+    private static <T> Mono<T> fromFileOperation(Callable<T> operation) {
+        return Mono.fromCallable(operation)
+                   .onErrorMap(IOException.class, UncheckedIOException::new)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static void deleteTemporaryFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format("Could not delete temporary file \"{0}\": {1}", file, e.getMessage()), e);
+        }
+    }
+
+    private static Set<String> getUnmatchedPaths(List<ResourceFingerprint> fingerprints, Set<String> matchedPaths) {
+        return fingerprints.stream()
+                           .map(ResourceFingerprint::getPath)
+                           .filter(path -> !matchedPaths.contains(path))
+                           .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static long getTotalSize(List<ResourceFingerprint> fingerprints) {
+        return fingerprints.stream()
+                           .mapToLong(ResourceFingerprint::getSize)
+                           .sum();
+    }
+
+    private static int toIntLength(long length) {
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    private CloudOperationException toCloudOperationException(WebClientResponseException e) {
+        return new CloudOperationException(e.getStatusCode(), e.getStatusText(), e.getResponseBodyAsString(), e);
+    }
+
+    private Mono<Void> uploadPackageBits(UUID packageGuid, Path file) {
+        return Mono.defer(() -> delegate.packages()
+                                        .upload(UploadPackageRequest.builder()
+                                                                    .bits(file)
+                                                                    .packageId(packageGuid.toString())
+                                                                    .build()))
+                   .then();
+    }
+
+    private void uploadSpooledPackageBits(UUID packageGuid, InputStream inputStream, UploadStatusCallback callback) throws IOException {
+        Path file = createTemporaryUploadFile(inputStream);
+        try {
+            uploadPackageBits(packageGuid, file, callback);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Uploads a file through the Cloud Foundry client, which does not report its progress, so the whole file is reported as uploaded once
+     * the upload has succeeded.
+     */
+    private void uploadPackageBits(UUID packageGuid, Path file, UploadStatusCallback callback) throws IOException {
+        long size = Files.size(file);
+        uploadPackageBits(packageGuid, file).block();
+        callback.onBytesUploaded(size);
+    }
+
+    /**
+     * Sends the bits of a package as they are read from the input stream, without copying them to a temporary file first. The stream is
+     * read into pooled direct buffers on demand, so only a bounded number of buffers are held at a time. If the size is unknown, the
+     * request body is sent with chunked transfer encoding. Should the Cloud Controller reject that, the stream is spooled to a temporary
+     * file instead, and so are the streams of all later uploads of unknown size. This is only possible, if none of the bytes read from
+     * the stream so far are lost, so up to {@link #MAX_REPLAYED_UPLOAD_SIZE} of them are kept until the request completes. The stream
+     * itself is never closed here, as it is still needed for the retry.
+     */
+    private void streamPackageBits(UUID packageGuid, InputStream inputStream, long size, UploadStatusCallback callback)
+        throws IOException {
+        ReplayableInputStream replayableInputStream = new ReplayableInputStream(inputStream, size < 0 ? MAX_REPLAYED_UPLOAD_SIZE : 0);
+        AtomicLong uploadedBytes = new AtomicLong();
+        Flux<DataBuffer> bits = DataBufferUtils.readInputStream(() -> replayableInputStream, UPLOAD_BUFFER_FACTORY, UPLOAD_BUFFER_SIZE)
+                                               .doOnNext(buffer -> reportUploadedBytes(buffer, uploadedBytes, callback));
+        try {
+            sendPackageBits(packageGuid, bits, size);
+        } catch (WebClientResponseException e) {
+            if (size < 0 && e.getStatusCode() == HttpStatus.LENGTH_REQUIRED) {
+                contentLengthRequired = true;
+                if (replayableInputStream.isReplayable()) {
+                    uploadSpooledPackageBits(packageGuid, replayableInputStream.replay(), callback);
+                    return;
+                }
+            }
+            throw toCloudOperationException(e);
+        } catch (RuntimeException e) {
+            throw unwrapIOException(e);
+        }
+    }
+
+    private void sendPackageBits(UUID packageGuid, Flux<DataBuffer> bits, long size) {
+        String boundary = new String(MimeTypeUtils.generateMultipartBoundary(), StandardCharsets.US_ASCII);
+        byte[] preamble = getMultipartPreamble(boundary);
+        byte[] epilogue = getMultipartEpilogue(boundary);
+        Flux<DataBuffer> body = Flux.concat(Mono.fromSupplier(() -> UPLOAD_BUFFER_FACTORY.wrap(preamble)), bits,
+                                            Mono.fromSupplier(() -> UPLOAD_BUFFER_FACTORY.wrap(epilogue)));
+        webClient.post()
+                 .uri(controllerUrl + "/v3/packages/{packageGuid}/upload", packageGuid)
+                 .contentType(new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", boundary)))
+                 .headers(headers -> {
+                     if (size >= 0) {
+                         headers.setContentLength(preamble.length + size + epilogue.length);
+                     }
+                 })
+                 .body(BodyInserters.fromDataBuffers(body))
+                 .retrieve()
+                 .toBodilessEntity()
+                 .block();
+    }
+
+    private static void reportUploadedBytes(DataBuffer buffer, AtomicLong uploadedBytes, UploadStatusCallback callback) {
+        long totalBytes = uploadedBytes.addAndGet(buffer.readableByteCount());
+        callback.onBytesUploaded(totalBytes);
+    }
+
+    /**
+     * Sends the archive of an application directory, as it is compressed, without writing it to a temporary file first. The archive is
+     * only spooled to a temporary file, if the Cloud Controller requires the content length of uploads. The archive is a cold publisher,
+     * so it can simply be compressed again for that. Writing it to the file is not reported as progress, only its upload is.
+     */
+    private void streamDirectoryPackageBits(UUID packageGuid, ApplicationDirectoryArchive archive, UploadStatusCallback callback)
+        throws IOException {
+        if (!contentLengthRequired) {
+            AtomicLong uploadedBytes = new AtomicLong();
+            Flux<DataBuffer> bits = archive.toDataBuffers(UPLOAD_BUFFER_FACTORY)
+                                           .doOnNext(buffer -> reportUploadedBytes(buffer, uploadedBytes, callback));
+            try {
+                sendPackageBits(packageGuid, bits, UNKNOWN_UPLOAD_SIZE);
+                return;
+            } catch (WebClientResponseException e) {
+                if (e.getStatusCode() != HttpStatus.LENGTH_REQUIRED) {
+                    throw toCloudOperationException(e);
+                }
+                contentLengthRequired = true;
+            } catch (RuntimeException e) {
+                throw unwrapIOException(e);
+            }
+        }
+        Path file = Files.createTempFile("cfjava", ".zip");
+        try {
+            DataBufferUtils.write(archive.toDataBuffers(UPLOAD_BUFFER_FACTORY), file)
+                           .block();
+            uploadPackageBits(packageGuid, file, callback);
+        } catch (RuntimeException e) {
+            throw unwrapIOException(e);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RuntimeException unwrapIOException(RuntimeException e) throws IOException {
+        Throwable cause = Exceptions.unwrap(e);
+        if (cause instanceof UncheckedIOException) {
+            throw ((UncheckedIOException) cause).getCause();
+        }
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        return e;
+    }
+
+    private static byte[] getMultipartPreamble(String boundary) {
+        String preamble = "--" + boundary + "\r\n"
+            + "Content-Disposition: form-data; name=\"bits\"; filename=\"application.zip\"\r\n"
+            + "Content-Type: application/zip\r\n\r\n";
+        return preamble.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] getMultipartEpilogue(String boundary) {
+        return ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private Mono<UUID> createPackageForApplication(String applicationName) {
+        return getWithApplicationGuidMono(applicationName, applicationGuid -> createPackageResource(applicationGuid).map(this::getGuid));
+    }
+
+    private Mono<? extends org.cloudfoundry.client.v3.packages.Package> createPackageResource(UUID applicationGuid) {
+        CreatePackageRequest request = CreatePackageRequest.builder()
+                                                           .type(PackageType.BITS)
+                                                           .relationships(buildPackageRelationships(applicationGuid))
+                                                           .build();
+        return delegate.packages()
+                       .create(request);
+    }
+
+    private PackageRelationships buildPackageRelationships(UUID applicationGuid) {
+        return PackageRelationships.builder()
+                                   .application(buildToOneRelationship(applicationGuid))
+                                   .build();
+    }
+
+    private ToOneRelationship buildToOneRelationship(UUID guid) {
+        return ToOneRelationship.builder()
+                                .data(buildRelationship(guid))
+                                .build();
     }
 
     private Relationship buildRelationship(UUID guid) {
@@ -1954,26 +3101,53 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
+    private Flux<? extends Build> getBuildResourcesByPackageGuids(List<UUID> packageGuids) {
+        IntFunction<ListBuildsRequest> pageRequestSupplier = page -> ListBuildsRequest.builder()
+                                                                                      .addAllPackageIds(toString(packageGuids))
+                                                                                      .page(page)
+                                                                                      .build();
+        return PaginationUtils.requestClientV3Resources(page -> delegate.builds()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
     private void assertSpaceProvided(String operation) {
         Assert.notNull(target, "Unable to " + operation + " without specifying organization and space to use.");
     }
 
-    private void removeRoutes(Set<CloudRouteSummary> routes, UUID applicationGuid) {
-        for (CloudRouteSummary route : routes) {
-            unbindRoute(route.getGuid(), applicationGuid);
-        }
+    private Mono<Void> removeRoutes(Set<CloudRouteSummary> routes, UUID applicationGuid) {
+        return Flux.fromIterable(routes)
+                   .concatMap(route -> unbindRoute(route.getGuid(), applicationGuid))
+                   .then();
     }
 
-    private void addRoutes(Set<CloudRouteSummary> routes, UUID applicationGuid) {
-        Map<String, UUID> domains = getDomainGuids();
-        for (CloudRouteSummary route : routes) {
-            validateDomainForRoute(route, domains);
-            UUID domainGuid = domains.get(route.getDomain());
+    private Mono<Void> addRoutes(Set<CloudRouteSummary> routes, UUID applicationGuid) {
+        return getDomainGuidsOfRoutes(routes).flatMapMany(domains -> Flux.fromIterable(routes)
+                                                                        .concatMap(route -> addApplicationRoute(route, domains,
+                                                                                                                applicationGuid)))
+                                             .then();
+    }
 
-            UUID routeGuid = getOrAddRoute(domainGuid, route.getHost(), route.getPath());
+    private Mono<Map<String, UUID>> getDomainGuidsOfRoutes(Set<CloudRouteSummary> routes) {
+        return domainIndex.getDomainGuids()
+                          .flatMap(domains -> {
+                              if (containsDomainsOfRoutes(domains, routes)) {
+                                  return Mono.just(domains);
+                              }
+                              // The domains may have been created after the index was last refreshed:
+                              return domainIndex.refresh();
+                          });
+    }
 
-            bindRoute(routeGuid, applicationGuid);
-        }
+    private Mono<Void> addApplicationRoute(CloudRouteSummary route, Map<String, UUID> domains, UUID applicationGuid) {
+        validateDomainForRoute(route, domains);
+        UUID domainGuid = domains.get(route.getDomain());
+        return getOrAddRoute(domainGuid, route.getHost(), route.getPath()).flatMap(routeGuid -> bindRoute(routeGuid, applicationGuid));
+    }
+
+    private boolean containsDomainsOfRoutes(Map<String, UUID> domains, Set<CloudRouteSummary> routes) {
+        return routes.stream()
+                     .map(CloudRouteSummary::getDomain)
+                     .allMatch(domains::containsKey);
     }
 
     protected void validateDomainForRoute(CloudRouteSummary route, Map<String, UUID> existingDomains) {
@@ -1984,118 +3158,111 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         }
     }
 
-    private void unbindRoute(UUID routeGuid, UUID applicationGuid) {
-        delegate.applicationsV2()
-                .removeRoute(RemoveApplicationRouteRequest.builder()
-                                                          .applicationId(applicationGuid.toString())
-                                                          .routeId(routeGuid.toString())
-                                                          .build())
-                .block();
+    private Mono<Void> unbindRoute(UUID routeGuid, UUID applicationGuid) {
+        return delegate.applicationsV2()
+                       .removeRoute(RemoveApplicationRouteRequest.builder()
+                                                                 .applicationId(applicationGuid.toString())
+                                                                 .routeId(routeGuid.toString())
+                                                                 .build());
     }
 
-    private void bindRoute(UUID routeGuid, UUID applicationGuid) {
-        delegate.applicationsV2()
-                .associateRoute(AssociateApplicationRouteRequest.builder()
-                                                                .applicationId(applicationGuid.toString())
-                                                                .routeId(routeGuid.toString())
-                                                                .build())
-                .block();
+    private Mono<Void> bindRoute(UUID routeGuid, UUID applicationGuid) {
+        return delegate.applicationsV2()
+                       .associateRoute(AssociateApplicationRouteRequest.builder()
+                                                                       .applicationId(applicationGuid.toString())
+                                                                       .routeId(routeGuid.toString())
+                                                                       .build())
+                       .then();
     }
 
-    private UUID getOrAddRoute(UUID domainGuid, String host, String path) {
-        UUID routeGuid = getRouteGuid(domainGuid, host, path);
-        if (routeGuid == null) {
-            routeGuid = doAddRoute(domainGuid, host, path);
-        }
-        return routeGuid;
+    private Mono<UUID> getOrAddRoute(UUID domainGuid, String host, String path) {
+        return getRouteGuid(domainGuid, host, path).switchIfEmpty(Mono.defer(() -> doAddRoute(domainGuid, host, path)));
     }
 
-    private UUID doAddRoute(UUID domainGuid, String host, String path) {
+    private Mono<UUID> doAddRoute(UUID domainGuid, String host, String path) {
         assertSpaceProvided("add route");
-        CreateRouteResponse response = delegate.routes()
-                                               .create(CreateRouteRequest.builder()
-                                                                         .domainId(domainGuid.toString())
-                                                                         .host(host)
-                                                                         .path(path)
-                                                                         .spaceId(getTargetSpaceGuid().toString())
-                                                                         .build())
-                                               .block();
-        return getGuid(response);
+        return delegate.routes()
+                       .create(CreateRouteRequest.builder()
+                                                 .domainId(domainGuid.toString())
+                                                 .host(host)
+                                                 .path(path)
+                                                 .spaceId(getTargetSpaceGuid().toString())
+                                                 .build())
+                       .map(this::getGuid);
+    }
+
+    private Mono<UUID> doCreateDomain(String name) {
+        return delegate.domainsV3()
+                       .create(CreateDomainRequest.builder()
+                                                  .name(name)
+                                                  .relationships(DomainRelationships.builder()
+                                                                                    .organization(buildToOneRelationship(getTargetOrganizationGuid()))
+                                                                                    .build())
+                                                  .build())
+                       .map(this::getGuid);
     }
 
-    private void doCreateDomain(String name) {
-        delegate.domainsV3()
-                .create(CreateDomainRequest.builder()
-                                           .name(name)
-                                           .relationships(DomainRelationships.builder()
-                                                                             .organization(buildToOneRelationship(getTargetOrganizationGuid()))
-                                                                             .build())
-                                           .build())
-                .block();
+    private Mono<Void> doDeleteDomain(UUID guid) {
+        return delegate.privateDomains()
+                       .delete(DeletePrivateDomainRequest.builder()
+                                                         .privateDomainId(guid.toString())
+                                                         .build())
+                       .then();
     }
 
-    private void doDeleteDomain(UUID guid) {
-        delegate.privateDomains()
-                .delete(DeletePrivateDomainRequest.builder()
-                                                  .privateDomainId(guid.toString())
-                                                  .build())
-                .block();
+    private Mono<Void> doDeleteRoute(UUID guid) {
+        return delegate.routes()
+                       .delete(DeleteRouteRequest.builder()
+                                                 .routeId(guid.toString())
+                                                 .build())
+                       .then();
     }
 
-    private void doDeleteRoute(UUID guid) {
-        delegate.routes()
-                .delete(DeleteRouteRequest.builder()
-                                          .routeId(guid.toString())
-                                          .build())
-                .block();
+    private Mono<DeleteServiceInstanceResponse> deleteServiceInstanceMono(UUID serviceInstanceGuid) {
+        return delegate.serviceInstances()
+                       .delete(DeleteServiceInstanceRequest.builder()
+                                                           .acceptsIncomplete(true)
+                                                           .serviceInstanceId(serviceInstanceGuid.toString())
+                                                           .build());
     }
 
-    private void doDeleteServiceInstance(CloudServiceInstance serviceInstance) {
-        UUID serviceInstanceGuid = serviceInstance.getMetadata()
-                                                  .getGuid();
-        delegate.serviceInstances()
-                .delete(DeleteServiceInstanceRequest.builder()
-                                                    .acceptsIncomplete(true)
-                                                    .serviceInstanceId(serviceInstanceGuid.toString())
-                                                    .build())
-                .block();
+    private Mono<Void> doUnbindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid) {
+        String description = "Service instance " + serviceInstanceGuid + " is not bound to application " + applicationGuid + ".";
+        return getServiceBindingGuid(applicationGuid, serviceInstanceGuid).switchIfEmpty(notFoundError(description))
+                                                                          .flatMap(this::unbindServiceInstanceMono)
+                                                                          .then();
     }
 
-    private void doUnbindServiceInstance(UUID applicationGuid, UUID serviceInstanceGuid) {
-        UUID serviceBindingGuid = getServiceBindingGuid(applicationGuid, serviceInstanceGuid);
-        doUnbindServiceInstance(serviceBindingGuid);
+    private Mono<UUID> getServiceBindingGuid(UUID applicationGuid, UUID serviceInstanceGuid) {
+        return getServiceBindingResourceByApplicationGuidAndServiceInstanceGuid(applicationGuid, serviceInstanceGuid).map(this::getGuid);
     }
 
-    private void doUnbindServiceInstance(UUID serviceBindingGuid) {
-        delegate.serviceBindingsV2()
-                .delete(DeleteServiceBindingRequest.builder()
-                                                   .serviceBindingId(serviceBindingGuid.toString())
-                                                   .build())
-                .block();
+    private Mono<DeleteServiceBindingResponse> unbindServiceInstanceMono(UUID serviceBindingGuid) {
+        return delegate.serviceBindingsV2()
+                       .delete(DeleteServiceBindingRequest.builder()
+                                                          .serviceBindingId(serviceBindingGuid.toString())
+                                                          .build());
     }
 
-    private void doDeleteServiceKey(UUID guid) {
-        delegate.serviceKeys()
-                .delete(DeleteServiceKeyRequest.builder()
-                                               .serviceKeyId(guid.toString())
-                                               .build())
-                .block();
+    private Mono<Void> doDeleteServiceKey(UUID guid) {
+        return delegate.serviceKeys()
+                       .delete(DeleteServiceKeyRequest.builder()
+                                                      .serviceKeyId(guid.toString())
+                                                      .build())
+                       .then();
     }
 
-    private CloudDomain findDomainByName(String name, boolean required) {
-        CloudDomain domain = findDomainByName(name);
-        if (domain == null && required) {
-            throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Domain " + name + " not found.");
-        }
-        return domain;
+    private Mono<CloudDomain> getRequiredDomain(String name) {
+        return findDomainByName(name).switchIfEmpty(Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found",
+                                                                                                 "Domain " + name + " not found.")));
     }
 
-    private CloudDomain findDomainByName(String name) {
-        return fetch(() -> getDomainResourceByName(name), ImmutableRawV3CloudDomain::of);
+    private Mono<CloudDomain> findDomainByName(String name) {
+        return fetchMono(() -> getDomainResourceByName(name), ImmutableRawV3CloudDomain::of);
     }
 
-    private List<CloudDomain> findDomainsByOrganizationGuid(UUID organizationGuid) {
-        return fetchList(() -> getPrivateDomainResourcesByOrganizationGuid(organizationGuid), ImmutableRawCloudPrivateDomain::of);
+    private Flux<CloudDomain> findDomainsByOrganizationGuid(UUID organizationGuid) {
+        return fetchFlux(() -> getPrivateDomainResourcesByOrganizationGuid(organizationGuid), ImmutableRawCloudPrivateDomain::of);
     }
 
     private Mono<? extends DomainResource> getDomainResourceByName(String name) {
@@ -2134,7 +3301,7 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     private List<CloudSpace> findSpacesByOrganizationGuid(UUID organizationGuid) {
-        return fetchListWithAuxiliaryContent(() -> getSpaceResourcesByOrganizationGuid(organizationGuid),
+        return fetchListWithAuxiliaryContent(FetchOperation.SPACES, () -> getSpaceResourcesByOrganizationGuid(organizationGuid),
                                              this::zipWithAuxiliarySpaceContent);
     }
 
@@ -2205,10 +3372,6 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return fetchMono(() -> getOrganizationResource(guid), ImmutableRawCloudOrganization::of);
     }
 
-    private CloudOrganization findOrganization(String name) {
-        return fetch(() -> getOrganizationResourceByName(name), ImmutableRawCloudOrganization::of);
-    }
-
     private Flux<? extends Resource<OrganizationEntity>> getOrganizationResources() {
         IntFunction<ListOrganizationsRequest> pageRequestSupplier = page -> ListOrganizationsRequest.builder()
                                                                                                     .page(page)
@@ -2238,13 +3401,12 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
-    private List<CloudRoute> findRoutes(CloudDomain domain) {
-        return fetchListWithAuxiliaryContent(() -> getRouteTuple(domain, getTargetSpaceGuid()), this::zipWithAuxiliaryRouteContent);
-    }
-
-    private Flux<Tuple2<? extends Resource<RouteEntity>, CloudDomain>> getRouteTuple(CloudDomain domain, UUID spaceGuid) {
+    private Flux<CloudRoute> findRoutes(CloudDomain domain) {
         UUID domainGuid = getGuid(domain);
-        return getRouteResourcesByDomainGuidAndSpaceGuid(domainGuid, spaceGuid).map(routeResource -> Tuples.of(routeResource, domain));
+        return getRouteResourcesByDomainGuidAndSpaceGuid(domainGuid, getTargetSpaceGuid()).collectList()
+                                                                                          .flatMapMany(routeResources -> zipWithAuxiliaryRouteContent(routeResources,
+                                                                                                                                                      domain))
+                                                                                          .map(Derivable::derive);
     }
 
     private Flux<? extends Resource<RouteEntity>> getRouteResourcesByDomainGuidAndSpaceGuid(UUID domainGuid, UUID spaceGuid) {
@@ -2273,33 +3435,54 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                                                   .build()));
     }
 
-    private Mono<Derivable<CloudRoute>> zipWithAuxiliaryRouteContent(Tuple2<? extends Resource<RouteEntity>, CloudDomain> routeTuple) {
-        UUID routeGuid = getGuid(routeTuple.getT1());
-        return getRouteMappingResourcesByRouteGuid(routeGuid).collectList()
-                                                             .map(routeMappingResources -> ImmutableRawCloudRoute.builder()
-                                                                                                                 .resource(routeTuple.getT1())
-                                                                                                                 .domain(routeTuple.getT2())
-                                                                                                                 .routeMappingResources(routeMappingResources)
-                                                                                                                 .build());
+    private Flux<Derivable<CloudRoute>> zipWithAuxiliaryRouteContent(List<? extends Resource<RouteEntity>> routeResources,
+                                                                     CloudDomain domain) {
+        List<UUID> routeGuids = routeResources.stream()
+                                              .map(this::getGuid)
+                                              .collect(Collectors.toList());
+        return getRouteMappingResourcesByRouteGuids(routeGuids).flatMapIterable(routeMappingResources -> routeResources.stream()
+                                                                                                                       .map(routeResource -> toRawCloudRoute(routeResource,
+                                                                                                                                                             domain,
+                                                                                                                                                             routeMappingResources))
+                                                                                                                       .collect(Collectors.toList()));
+    }
+
+    private Derivable<CloudRoute> toRawCloudRoute(Resource<RouteEntity> routeResource, CloudDomain domain,
+                                                  Map<String, Collection<Resource<RouteMappingEntity>>> routeMappingResources) {
+        String routeGuid = getGuid(routeResource).toString();
+        return ImmutableRawCloudRoute.builder()
+                                     .resource(routeResource)
+                                     .domain(domain)
+                                     .routeMappingResources(routeMappingResources.getOrDefault(routeGuid, Collections.emptyList()))
+                                     .build();
+    }
+
+    private Mono<Map<String, Collection<Resource<RouteMappingEntity>>>> getRouteMappingResourcesByRouteGuids(List<UUID> routeGuids) {
+        return Flux.fromIterable(toBatches(routeGuids, MAX_CHAR_LENGTH_FOR_PARAMS_IN_REQUEST))
+                   .flatMap(this::getRouteMappingResourcesByRouteGuidsBatch)
+                   .<Resource<RouteMappingEntity>> map(Function.identity())
+                   .collectMultimap(routeMappingResource -> routeMappingResource.getEntity()
+                                                                                .getRouteId());
     }
 
-    private Flux<? extends Resource<RouteMappingEntity>> getRouteMappingResourcesByRouteGuid(UUID routeGuid) {
+    private Flux<? extends Resource<RouteMappingEntity>> getRouteMappingResourcesByRouteGuidsBatch(List<UUID> routeGuids) {
         IntFunction<ListRouteMappingsRequest> pageRequestSupplier = page -> ListRouteMappingsRequest.builder()
-                                                                                                    .routeId(routeGuid.toString())
+                                                                                                    .addAllRouteIds(toString(routeGuids))
                                                                                                     .page(page)
                                                                                                     .build();
         return PaginationUtils.requestClientV2Resources(page -> delegate.routeMappings()
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
-    private List<CloudServiceOffering> findServiceOfferingsByBrokerGuid(UUID brokerGuid) {
-        return fetchListWithAuxiliaryContent(() -> getServiceResourcesByBrokerGuid(brokerGuid),
+    private Flux<CloudServiceOffering> findServiceOfferingsByBrokerGuid(UUID brokerGuid) {
+        return fetchFluxWithAuxiliaryContent(FetchOperation.SERVICE_OFFERINGS, () -> getServiceResourcesByBrokerGuid(brokerGuid),
                                              this::zipWithAuxiliaryServiceOfferingContent);
     }
 
-    private List<CloudServiceOffering> findServiceOfferingsByLabel(String label) {
+    private Flux<CloudServiceOffering> findServiceOfferingsByLabel(String label) {
         Assert.notNull(label, "Service label must not be null");
-        return fetchListWithAuxiliaryContent(() -> getServiceResourcesByLabel(label), this::zipWithAuxiliaryServiceOfferingContent);
+        return fetchFluxWithAuxiliaryContent(FetchOperation.SERVICE_OFFERINGS, () -> getServiceResourcesByLabel(label),
+                                             this::zipWithAuxiliaryServiceOfferingContent);
     }
 
     private Flux<? extends Resource<ServiceEntity>> getServiceResources() {
@@ -2311,6 +3494,10 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     protected Mono<? extends Resource<ServiceEntity>> getServiceResource(UUID serviceGuid) {
+        return serviceOfferingCache.getService(serviceGuid, this::getServiceResourceFromController);
+    }
+
+    private Mono<? extends Resource<ServiceEntity>> getServiceResourceFromController(UUID serviceGuid) {
         GetServiceRequest request = GetServiceRequest.builder()
                                                      .serviceId(serviceGuid.toString())
                                                      .build();
@@ -2341,7 +3528,8 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
 
     private Flux<? extends Resource<ServiceEntity>> getServiceResources(IntFunction<ListSpaceServicesRequest> pageRequestSupplier) {
         return PaginationUtils.requestClientV2Resources(page -> delegate.spaces()
-                                                                        .listServices(pageRequestSupplier.apply(page)));
+                                                                        .listServices(pageRequestSupplier.apply(page)))
+                              .doOnNext(serviceOfferingCache::putService);
     }
 
     private Mono<Derivable<CloudServiceOffering>> zipWithAuxiliaryServiceOfferingContent(Resource<ServiceEntity> resource) {
@@ -2358,6 +3546,10 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     protected Mono<? extends Resource<ServicePlanEntity>> getServicePlanResource(UUID servicePlanGuid) {
+        return serviceOfferingCache.getServicePlan(servicePlanGuid, this::getServicePlanResourceFromController);
+    }
+
+    private Mono<? extends Resource<ServicePlanEntity>> getServicePlanResourceFromController(UUID servicePlanGuid) {
         GetServicePlanRequest request = GetServicePlanRequest.builder()
                                                              .servicePlanId(servicePlanGuid.toString())
                                                              .build();
@@ -2369,6 +3561,10 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     private Flux<? extends Resource<ServicePlanEntity>> getServicePlanResourcesByServiceGuid(UUID serviceGuid) {
+        return serviceOfferingCache.getServicePlans(serviceGuid, this::getServicePlanResourcesByServiceGuidFromController);
+    }
+
+    private Flux<? extends Resource<ServicePlanEntity>> getServicePlanResourcesByServiceGuidFromController(UUID serviceGuid) {
         IntFunction<ListServicePlansRequest> pageRequestSupplier = page -> ListServicePlansRequest.builder()
                                                                                                   .serviceId(serviceGuid.toString())
                                                                                                   .page(page)
@@ -2393,17 +3589,16 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
-    private List<CloudRoute> fetchOrphanRoutes(String domainName) {
-        return getRoutes(domainName).stream()
-                                    .filter(route -> !route.isUsed())
-                                    .collect(Collectors.toList());
+    private Flux<CloudRoute> fetchOrphanRoutes(String domainName) {
+        return reactiveClient.getRoutes(domainName)
+                             .filter(route -> !route.isUsed());
     }
 
-    private CloudStack findStackResource(String name) {
-        return fetch(() -> getStackResourceByName(name), ImmutableRawCloudStack::of);
+    private Flux<? extends Resource<StackEntity>> getStackResources() {
+        return stackCache.getStacks(this::getStackResourcesFromController);
     }
 
-    private Flux<? extends Resource<StackEntity>> getStackResources() {
+    private Flux<? extends Resource<StackEntity>> getStackResourcesFromController() {
         IntFunction<ListStacksRequest> pageRequestSupplier = page -> ListStacksRequest.builder()
                                                                                       .page(page)
                                                                                       .build();
@@ -2411,6 +3606,10 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     private Mono<? extends Resource<StackEntity>> getStackResource(UUID guid) {
+        return stackCache.getStack(guid, this::getStackResourceFromController);
+    }
+
+    private Mono<? extends Resource<StackEntity>> getStackResourceFromController(UUID guid) {
         GetStackRequest request = GetStackRequest.builder()
                                                  .stackId(guid.toString())
                                                  .build();
@@ -2419,6 +3618,10 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
     }
 
     private Mono<? extends Resource<StackEntity>> getStackResourceByName(String name) {
+        return stackCache.getStack(name, this::getStackResourceByNameFromController);
+    }
+
+    private Mono<? extends Resource<StackEntity>> getStackResourceByNameFromController(String name) {
         IntFunction<ListStacksRequest> pageRequestSupplier = page -> ListStacksRequest.builder()
                                                                                       .name(name)
                                                                                       .page(page)
@@ -2431,10 +3634,6 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(requestForPage.apply(page)));
     }
 
-    private List<CloudEvent> findEventsByActee(String actee) {
-        return fetchList(() -> getEventResourcesByActee(actee), ImmutableRawCloudEvent::of);
-    }
-
     private Flux<? extends Resource<EventEntity>> getEventResources() {
         IntFunction<ListEventsRequest> pageRequestSupplier = page -> ListEventsRequest.builder()
                                                                                       .page(page)
@@ -2452,6 +3651,32 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
+    /**
+     * The events are listed in ascending order, because the Cloud Controller only supports an inclusive lower bound on their timestamps.
+     * With it, a poll pages forward from the cursor and stops at the newest event, and the new events are already in chronological order.
+     */
+    private Flux<? extends Resource<EventEntity>> getEventResourcesSince(UUID actee, Date timestamp) {
+        IntFunction<ListEventsRequest> pageRequestSupplier = page -> {
+            ListEventsRequest.Builder requestBuilder = ListEventsRequest.builder()
+                                                                        .orderDirection(OrderDirection.ASCENDING)
+                                                                        .page(page);
+            if (actee != null) {
+                requestBuilder.actee(actee.toString());
+            }
+            if (timestamp != null) {
+                requestBuilder.timestamp(toEventTimestamp(timestamp));
+            }
+            return requestBuilder.build();
+        };
+        return PaginationUtils.requestClientV2Resources(page -> delegate.events()
+                                                                        .list(pageRequestSupplier.apply(page)));
+    }
+
+    private static String toEventTimestamp(Date date) {
+        return DateTimeFormatter.ISO_INSTANT.format(date.toInstant()
+                                                        .truncatedTo(ChronoUnit.SECONDS));
+    }
+
     private InstancesInfo findApplicationInstances(UUID applicationGuid) {
         return fetch(() -> getApplicationInstancesResource(applicationGuid), ImmutableRawInstancesInfo::of);
     }
@@ -2465,10 +3690,6 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                        .instances(request);
     }
 
-    private CloudServiceBroker findServiceBrokerByName(String name) {
-        return fetch(() -> getServiceBrokerResourceByName(name), ImmutableRawCloudServiceBroker::of);
-    }
-
     private Flux<? extends Resource<ServiceBrokerEntity>> getServiceBrokerResources() {
         IntFunction<ListServiceBrokersRequest> pageRequestSupplier = page -> ListServiceBrokersRequest.builder()
                                                                                                       .page(page)
@@ -2490,118 +3711,142 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                                                         .list(pageRequestSupplier.apply(page)));
     }
 
-    private CloudServicePlan findPlanForService(CloudServiceInstance service, String planName) {
-        List<CloudServiceOffering> offerings = findServiceOfferingsByLabel(service.getLabel());
-        for (CloudServiceOffering offering : offerings) {
-            if (service.getBroker() != null && !service.getBroker()
-                                                       .equals(offering.getBrokerName())) {
-                continue;
-            }
-            if (service.getVersion() == null || service.getVersion()
-                                                       .equals(offering.getVersion())) {
-                for (CloudServicePlan plan : offering.getServicePlans()) {
-                    if (plan.getName()
-                            .equals(planName)) {
-                        return plan;
-                    }
-                }
-            }
+    private Mono<CloudServicePlan> findPlanForService(CloudServiceInstance service, String planName) {
+        return findServiceOfferingsByLabel(service.getLabel()).filter(offering -> isOfferingOfService(offering, service))
+                                                              .flatMapIterable(CloudServiceOffering::getServicePlans)
+                                                              .filter(plan -> plan.getName()
+                                                                                  .equals(planName))
+                                                              .next()
+                                                              .switchIfEmpty(notFoundError("Service plan " + planName + " not found."));
+    }
+
+    private static boolean isOfferingOfService(CloudServiceOffering offering, CloudServiceInstance service) {
+        if (service.getBroker() != null && !service.getBroker()
+                                                   .equals(offering.getBrokerName())) {
+            return false;
         }
-        throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Service plan " + service.getPlan() + " not found.");
+        return service.getVersion() == null || service.getVersion()
+                                                      .equals(offering.getVersion());
     }
 
     private UUID getRequiredApplicationGuid(String name) {
-        org.cloudfoundry.client.v3.Resource applicationResource = getApplicationByName(name).block();
-        if (applicationResource == null) {
-            throw new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", "Application " + name + " not found.");
-        }
-        return UUID.fromString(applicationResource.getId());
+        return getRequiredApplicationGuidMono(name).block();
     }
 
-    private UUID getRequiredDomainGuid(String name) {
-        return getGuid(findDomainByName(name, true));
+    private Mono<UUID> getRequiredApplicationGuidMono(String name) {
+        return applicationGuids.get(name, key -> getApplicationByName(key).map(this::getGuid))
+                               .switchIfEmpty(notFoundError("Application " + name + " not found."));
     }
 
-    private UUID getOrganizationGuid(String organizationName, boolean required) {
-        CloudOrganization organization = getOrganization(organizationName, required);
-        return organization != null ? organization.getMetadata()
-                                                  .getGuid()
-            : null;
+    /**
+     * Resolves the GUID of the application from the Cloud Controller, and not from the cache, and refreshes the cache with it. Another
+     * client may have renamed the cached application and created a new one with its name, e.g. during a blue-green deployment, which no
+     * 404 reveals, so deletes and renames, which cannot be undone, and GUIDs handed out to callers must not rely on the cached GUID.
+     */
+    private UUID getCurrentApplicationGuid(String applicationName) {
+        return getCurrentApplicationGuidMono(applicationName).block();
     }
 
-    private Map<String, UUID> getDomainGuids() {
-        List<CloudDomain> availableDomains = new ArrayList<>();
-        availableDomains.addAll(getDomainsForOrganization());
-        availableDomains.addAll(getSharedDomains());
-        Map<String, UUID> domains = new HashMap<>(availableDomains.size());
-        for (CloudDomain availableDomain : availableDomains) {
-            domains.put(availableDomain.getName(), availableDomain.getMetadata()
-                                                                  .getGuid());
-        }
-        return domains;
+    private Mono<UUID> getCurrentApplicationGuidMono(String applicationName) {
+        return Mono.defer(() -> {
+            applicationGuids.invalidate(applicationName);
+            return getRequiredApplicationGuidMono(applicationName);
+        });
     }
 
-    private UUID getRouteGuid(UUID domainGuid, String host, String path) {
-        List<? extends Resource<RouteEntity>> routeEntitiesResource = getRouteResourcesByDomainGuidHostAndPath(domainGuid, host,
-                                                                                                               path).collect(Collectors.toList())
-                                                                                                                    .block();
-        if (CollectionUtils.isEmpty(routeEntitiesResource)) {
-            return null;
+    /**
+     * Applies the operation to the GUID of the application, which is usually resolved from the cache. If the Cloud Controller reports that
+     * the cached GUID is not found, e.g. because the application was recreated by another client, the GUID is resolved again and the
+     * operation is retried once. Renames made by other clients, e.g. during a blue-green deployment, are not detected, so such cached
+     * GUIDs stay in use until they expire or {@link #invalidateApplicationGuids()} is called.
+     */
+    private <T> T getWithApplicationGuid(String applicationName, Function<UUID, T> operation) {
+        UUID applicationGuid = getRequiredApplicationGuid(applicationName);
+        try {
+            return operation.apply(applicationGuid);
+        } catch (AbstractCloudFoundryException e) {
+            if (!isNotFound(e)) {
+                throw e;
+            }
+            applicationGuids.invalidate(applicationName);
+            UUID currentApplicationGuid = getRequiredApplicationGuid(applicationName);
+            if (currentApplicationGuid.equals(applicationGuid)) {
+                throw e;
+            }
+            return operation.apply(currentApplicationGuid);
         }
-        return getGuid(routeEntitiesResource.get(0));
     }
 
-    private UUID getServiceBindingGuid(UUID applicationGuid, UUID serviceInstanceGuid) {
-        return getServiceBindingResourceByApplicationGuidAndServiceInstanceGuid(applicationGuid, serviceInstanceGuid).map(this::getGuid)
-                                                                                                                     .block();
+    /**
+     * The non-blocking variant of {@link #getWithApplicationGuid(String, Function)}, for operations, which send their requests only once
+     * they are subscribed to.
+     */
+    private <T> Mono<T> getWithApplicationGuidMono(String applicationName, Function<UUID, Mono<T>> operation) {
+        return getRequiredApplicationGuidMono(applicationName).flatMap(applicationGuid -> Mono.defer(() -> operation.apply(applicationGuid))
+            .onErrorResume(AbstractCloudFoundryException.class,
+                           e -> retryWithCurrentApplicationGuid(applicationName, applicationGuid, e, operation)));
     }
 
-    private List<UUID> getGuids(Flux<? extends Resource<?>> resources) {
-        return resources.map(this::getGuid)
-                        .collectList()
-                        .block();
+    private <T> Mono<T> retryWithCurrentApplicationGuid(String applicationName, UUID applicationGuid, AbstractCloudFoundryException e,
+                                                        Function<UUID, Mono<T>> operation) {
+        if (!isNotFound(e)) {
+            return Mono.error(e);
+        }
+        return getCurrentApplicationGuidMono(applicationName).flatMap(currentApplicationGuid -> {
+            if (currentApplicationGuid.equals(applicationGuid)) {
+                return Mono.error(e);
+            }
+            return operation.apply(currentApplicationGuid);
+        });
     }
 
-    private void processAsyncUploadInBackground(CloudPackage cloudPackage, UploadStatusCallback callback) {
-        String threadName = String.format("App upload monitor: %s", cloudPackage.getGuid());
-        new Thread(() -> processAsyncUpload(cloudPackage, callback), threadName).start();
+    private Mono<UUID> getRequiredDomainGuid(String name) {
+        Mono<UUID> indexedDomainGuid = domainIndex.getDomainGuids()
+                                                  .flatMap(domains -> Mono.justOrEmpty(domains.get(name)));
+        return indexedDomainGuid.switchIfEmpty(Mono.defer(() -> getRequiredDomain(name).map(this::getGuid)));
     }
 
-    private void processAsyncUpload(CloudPackage cloudPackage, UploadStatusCallback callback) {
-        if (callback == null) {
-            callback = UploadStatusCallback.NONE;
-        }
-        while (true) {
-            Upload upload = getUploadStatus(cloudPackage.getGuid());
-            Status uploadStatus = upload.getStatus();
-            boolean unsubscribe = callback.onProgress(uploadStatus.toString());
-            if (unsubscribe || isUploadReady(uploadStatus)) {
-                return;
-            }
-            if (hasUploadFailed(uploadStatus)) {
-                callback.onError(upload.getErrorDetails()
-                                       .getDescription());
-                return;
-            }
-            try {
-                Thread.sleep(JOB_POLLING_PERIOD);
-            } catch (InterruptedException e) {
-                return;
-            }
-        }
+    private UUID getOrganizationGuid(String organizationName, boolean required) {
+        CloudOrganization organization = getOrganization(organizationName, required);
+        return organization != null ? organization.getMetadata()
+                                                  .getGuid()
+            : null;
     }
 
-    private boolean isUploadReady(Status status) {
-        return status == Status.READY;
+    private Mono<Map<String, UUID>> getDomainGuidsFromController() {
+        Flux<CloudDomain> privateDomains = fetchFlux(() -> getPrivateDomainResourcesByOrganizationGuid(getTargetOrganizationGuid()),
+                                                     ImmutableRawCloudPrivateDomain::of);
+        Flux<CloudDomain> sharedDomains = fetchFlux(this::getSharedDomainResources, ImmutableRawCloudSharedDomain::of);
+        return Flux.merge(privateDomains, sharedDomains)
+                   .collectMap(CloudDomain::getName, this::getGuid);
     }
 
-    private boolean hasUploadFailed(Status status) {
-        return status == Status.EXPIRED || status == Status.FAILED;
+    private Mono<UUID> getRouteGuid(UUID domainGuid, String host, String path) {
+        return getRouteResourcesByDomainGuidHostAndPath(domainGuid, host, path).next()
+                                                                               .map(this::getGuid);
+    }
+
+    private void processAsyncUploadInBackground(CloudPackage cloudPackage, UploadStatusCallback callback) {
+        UUID packageGuid = cloudPackage.getGuid();
+        CompletableFuture<Upload> uploadMonitor = uploadStatusPoller.poll(packageGuid, callback)
+                                                                    .toFuture();
+        backgroundUploadMonitors.put(packageGuid, uploadMonitor);
+        uploadMonitor.whenComplete((upload, e) -> {
+            backgroundUploadMonitors.remove(packageGuid, uploadMonitor);
+            if (e == null || uploadMonitor.isCancelled()) {
+                return;
+            }
+            LOGGER.warn(MessageFormat.format("Could not monitor the upload of package {0}: {1}", packageGuid, e.getMessage()), e);
+            if (callback != null) {
+                callback.onError(e.getMessage());
+            }
+        });
     }
 
     @Override
     public CloudPackage getPackage(UUID packageGuid) {
-        return fetch(() -> getPackageResource(packageGuid), ImmutableRawCloudPackage::of);
+        return reactiveClient.getPackage(packageGuid)
+                             .block();
     }
 
     private Mono<? extends org.cloudfoundry.client.v3.packages.Package> getPackageResource(UUID guid) {
@@ -2662,17 +3907,38 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
         return e.getStatusCode() == HttpStatus.FORBIDDEN.value();
     }
 
-    private <T, R, D extends Derivable<T>> Flux<T> fetchFluxWithAuxiliaryContent(Supplier<Flux<R>> resourceSupplier,
+    private boolean isNotFound(AbstractCloudFoundryException e) {
+        return e.getStatusCode() == HttpStatus.NOT_FOUND.value();
+    }
+
+    private <T, R, D extends Derivable<T>> Flux<T> fetchFluxWithAuxiliaryContent(FetchOperation operation,
+                                                                                 Supplier<Flux<R>> resourceSupplier,
                                                                                  Function<R, Mono<D>> resourceMapper) {
-        return resourceSupplier.get()
-                               .flatMap(resourceMapper)
-                               .map(Derivable::derive);
+        ConcurrencySettings settings = getConcurrencySettings(operation);
+        Flux<R> resources = resourceSupplier.get();
+        Flux<D> resourcesWithAuxiliaryContent = settings.isOrdered()
+            ? resources.flatMapSequential(resourceMapper, settings.getConcurrency(), settings.getPrefetch())
+            : resources.flatMap(resourceMapper, settings.getConcurrency(), settings.getPrefetch());
+        return resourcesWithAuxiliaryContent.map(Derivable::derive);
     }
 
-    private <T, R, D extends Derivable<T>> List<T> fetchListWithAuxiliaryContent(Supplier<Flux<R>> resourceSupplier,
+    private <T, R, D extends Derivable<T>> List<T> fetchListWithAuxiliaryContent(FetchOperation operation,
+                                                                                 Supplier<Flux<R>> resourceSupplier,
                                                                                  Function<R, Mono<D>> resourceMapper) {
-        return fetchFluxWithAuxiliaryContent(resourceSupplier, resourceMapper).collectList()
-                                                                              .block();
+        return fetchFluxWithAuxiliaryContent(operation, resourceSupplier, resourceMapper).collectList()
+                                                                                         .block();
+    }
+
+    /**
+     * @return the override of the operation, if there is one, and otherwise the settings of all listings or, for the operations that
+     *         change entities in bulk, {@link ConcurrencySettings#BULK_MUTATION_DEFAULT}
+     */
+    private ConcurrencySettings getConcurrencySettings(FetchOperation operation) {
+        ConcurrencySettings override = concurrencySettingsOverrides.get(operation);
+        if (override != null) {
+            return override;
+        }
+        return BULK_MUTATIONS.contains(operation) ? ConcurrencySettings.BULK_MUTATION_DEFAULT : concurrencySettings;
     }
 
     private <T, R, D extends Derivable<T>> List<T> fetchList(Supplier<Flux<R>> resourceSupplier, Function<R, D> resourceMapper) {
@@ -2708,4 +3974,655 @@ public class CloudControllerRestClientImpl implements CloudControllerRestClient
                                .map(Derivable::derive);
     }
 
+    private Mono<CloudApplication> getRequiredApplication(String applicationName) {
+        return reactiveClient.getApplication(applicationName)
+                             .switchIfEmpty(notFoundError("Application " + applicationName + " not found."));
+    }
+
+    private Mono<CloudPackage> getRequiredPackage(UUID packageGuid) {
+        return reactiveClient.getPackage(packageGuid)
+                             .switchIfEmpty(notFoundError("Package " + packageGuid + " not found."));
+    }
+
+    private Mono<CloudServiceBroker> getRequiredServiceBroker(String name) {
+        return reactiveClient.getServiceBroker(name)
+                             .switchIfEmpty(notFoundError("Service broker " + name + " not found."));
+    }
+
+    private Mono<CloudServiceInstance> getRequiredServiceInstance(String serviceInstanceName) {
+        return reactiveClient.getServiceInstance(serviceInstanceName)
+                             .switchIfEmpty(notFoundError("Service instance " + serviceInstanceName + " not found."));
+    }
+
+    private Mono<UUID> getRequiredServiceInstanceGuid(String serviceInstanceName) {
+        return getRequiredServiceInstance(serviceInstanceName).map(this::getGuid);
+    }
+
+    /**
+     * Looks the service instance up by name only, without its plan, offering and metadata, which watching does not need.
+     */
+    private Mono<UUID> findServiceInstanceGuid(String serviceInstanceName) {
+        return getServiceInstanceResourcesByNamesInBatches(List.of(serviceInstanceName)).next()
+                                                                                        .map(this::getGuid);
+    }
+
+    private Mono<CloudServiceInstance> doWatchServiceInstance(UUID serviceInstanceGuid, String serviceInstanceName) {
+        return fromWatch(() -> serviceInstanceWatcher.watch(serviceInstanceGuid.toString(), serviceInstanceName));
+    }
+
+    private static <T> Mono<T> notFoundError(String description) {
+        return Mono.error(() -> new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found", description));
+    }
+
+    /**
+     * Starts the watch on subscription. Cancelling the subscription cancels the future of the watch, so that the watcher stops polling the
+     * entity, once no one else watches it.
+     */
+    private static <T> Mono<T> fromWatch(Supplier<CompletableFuture<T>> watch) {
+        return Mono.defer(() -> {
+            CompletableFuture<T> future = watch.get();
+            return Mono.fromFuture(future)
+                       .doOnCancel(() -> future.cancel(true));
+        });
+    }
+
+    /**
+     * Implements the non-blocking operations on top of the same resource helpers as the blocking ones, which only subscribe to its
+     * results and wait for them.
+     */
+    private class ReactiveClient implements ReactiveCloudControllerRestClient {
+
+        @Override
+        public Mono<CloudApplication> getApplication(String applicationName) {
+            Mono<CloudApplication> application = fetchMonoWithAuxiliaryContent(() -> getApplicationByName(applicationName),
+                                                                                CloudControllerRestClientImpl.this::zipWithAuxiliaryApplicationContent);
+            return application.flatMap(CloudControllerRestClientImpl.this::addMetadata);
+        }
+
+        @Override
+        public Mono<CloudApplication> getApplication(UUID applicationGuid) {
+            Mono<CloudApplication> application = fetchMonoWithAuxiliaryContent(() -> getApplicationByGuid(applicationGuid),
+                                                                                CloudControllerRestClientImpl.this::zipWithAuxiliaryApplicationContent);
+            return application.flatMap(CloudControllerRestClientImpl.this::addMetadata);
+        }
+
+        @Override
+        public Mono<Map<String, String>> getApplicationEnvironment(UUID applicationGuid) {
+            return getApplicationEnvironmentResponse(applicationGuid).map(GetApplicationEnvironmentResponse::getEnvironmentVariables)
+                                                                     .map(EnvironmentUtil::parse);
+        }
+
+        @Override
+        public Flux<CloudApplication> getApplications() {
+            Flux<CloudApplication> applications = fetchFluxWithAuxiliaryContent(FetchOperation.APPLICATIONS,
+                                                                                CloudControllerRestClientImpl.this::getApplicationResources,
+                                                                                CloudControllerRestClientImpl.this::zipWithAuxiliaryApplicationContent);
+            return applications.buffer(STREAMING_BATCH_SIZE)
+                               .concatMap(CloudControllerRestClientImpl.this::addMetadata);
+        }
+
+        @Override
+        public Mono<CloudBuild> getBuild(UUID buildGuid) {
+            return fetchMono(() -> getBuildResource(buildGuid), ImmutableRawCloudBuild::of);
+        }
+
+        @Override
+        public Flux<CloudBuild> getBuildsForApplication(UUID applicationGuid) {
+            return fetchFlux(() -> getBuildResourcesByApplicationGuid(applicationGuid), ImmutableRawCloudBuild::of);
+        }
+
+        @Override
+        public Flux<CloudEvent> getEvents() {
+            return fetchFlux(CloudControllerRestClientImpl.this::getEventResources, ImmutableRawCloudEvent::of);
+        }
+
+        @Override
+        public Flux<CloudEvent> getEventsByActee(UUID uuid) {
+            return fetchFlux(() -> getEventResourcesByActee(uuid.toString()), ImmutableRawCloudEvent::of);
+        }
+
+        @Override
+        public Mono<CloudOrganization> getOrganization(String organizationName) {
+            return fetchMono(() -> getOrganizationResourceByName(organizationName), ImmutableRawCloudOrganization::of);
+        }
+
+        @Override
+        public Flux<CloudOrganization> getOrganizations() {
+            return fetchFlux(CloudControllerRestClientImpl.this::getOrganizationResources, ImmutableRawCloudOrganization::of);
+        }
+
+        @Override
+        public Mono<CloudPackage> getPackage(UUID packageGuid) {
+            return fetchMono(() -> getPackageResource(packageGuid), ImmutableRawCloudPackage::of);
+        }
+
+        @Override
+        public Mono<Upload> getUploadStatus(UUID packageGuid) {
+            return getPackage(packageGuid).map(CloudControllerRestClientImpl.this::toUpload);
+        }
+
+        @Override
+        public Flux<CloudPackage> getPackagesForApplication(UUID applicationGuid) {
+            return fetchFlux(() -> getPackages(applicationGuid.toString()), ImmutableRawCloudPackage::of);
+        }
+
+        @Override
+        public Flux<CloudServiceBinding> getServiceBindings(UUID serviceInstanceGuid) {
+            return fetchFlux(() -> getServiceBindingResourcesByServiceInstanceGuid(serviceInstanceGuid),
+                             ImmutableRawCloudServiceBinding::of);
+        }
+
+        @Override
+        public Mono<CloudServiceBroker> getServiceBroker(String name) {
+            return fetchMono(() -> getServiceBrokerResourceByName(name), ImmutableRawCloudServiceBroker::of);
+        }
+
+        @Override
+        public Flux<CloudServiceBroker> getServiceBrokers() {
+            return fetchFlux(CloudControllerRestClientImpl.this::getServiceBrokerResources, ImmutableRawCloudServiceBroker::of);
+        }
+
+        @Override
+        public Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName) {
+            Mono<CloudServiceInstance> serviceInstance = fetchMonoWithAuxiliaryContent(() -> getServiceInstanceResourceByName(serviceInstanceName),
+                                                                                       CloudControllerRestClientImpl.this::zipWithAuxiliaryServiceInstanceContent);
+            return serviceInstance.flatMapMany(instance -> addServiceInstancesMetadata(Collections.singletonList(instance)))
+                                  .next();
+        }
+
+        @Override
+        public Flux<CloudServiceInstance> getServiceInstances() {
+            Flux<CloudServiceInstance> serviceInstances = fetchFluxWithAuxiliaryContent(FetchOperation.SERVICE_INSTANCES,
+                                                                                        CloudControllerRestClientImpl.this::getServiceInstanceResources,
+                                                                                        CloudControllerRestClientImpl.this::zipWithAuxiliaryServiceInstanceContent);
+            return serviceInstances.buffer(STREAMING_BATCH_SIZE)
+                                   .concatMap(CloudControllerRestClientImpl.this::addServiceInstancesMetadata);
+        }
+
+        @Override
+        public Flux<CloudServiceOffering> getServiceOfferings() {
+            return fetchFluxWithAuxiliaryContent(FetchOperation.SERVICE_OFFERINGS, CloudControllerRestClientImpl.this::getServiceResources,
+                                                 CloudControllerRestClientImpl.this::zipWithAuxiliaryServiceOfferingContent);
+        }
+
+        @Override
+        public Mono<CloudSpace> getSpace(UUID spaceGuid) {
+            return fetchMonoWithAuxiliaryContent(() -> getSpaceResource(spaceGuid),
+                                                 CloudControllerRestClientImpl.this::zipWithAuxiliarySpaceContent);
+        }
+
+        @Override
+        public Flux<CloudSpace> getSpaces() {
+            return fetchFluxWithAuxiliaryContent(FetchOperation.SPACES, CloudControllerRestClientImpl.this::getSpaceResources,
+                                                 CloudControllerRestClientImpl.this::zipWithAuxiliarySpaceContent);
+        }
+
+        @Override
+        public Mono<CloudStack> getStack(String name) {
+            return fetchMono(() -> getStackResourceByName(name), ImmutableRawCloudStack::of);
+        }
+
+        @Override
+        public Flux<CloudStack> getStacks() {
+            return fetchFlux(CloudControllerRestClientImpl.this::getStackResources, ImmutableRawCloudStack::of);
+        }
+
+        @Override
+        public Mono<CloudTask> getTask(UUID taskGuid) {
+            return fetchMono(() -> getTaskResource(taskGuid), ImmutableRawCloudTask::of);
+        }
+
+        @Override
+        public Mono<Void> addDomain(String domainName) {
+            assertSpaceProvided("add domain");
+            Mono<Void> creation = Mono.defer(() -> doCreateDomain(domainName))
+                                      .doOnNext(domainGuid -> domainIndex.put(domainName, domainGuid))
+                                      .then();
+            return findDomainByName(domainName).hasElement()
+                                               .flatMap(exists -> exists ? Mono.empty() : creation);
+        }
+
+        @Override
+        public Mono<Void> addRoute(String host, String domainName, String path) {
+            assertSpaceProvided("add route for domain");
+            return getRequiredDomainGuid(domainName).flatMap(domainGuid -> doAddRoute(domainGuid, host, path))
+                                                    .then();
+        }
+
+        @Override
+        public Mono<Void> bindServiceInstance(String applicationName, String serviceInstanceName, Map<String, Object> parameters) {
+            return getRequiredServiceInstanceGuid(serviceInstanceName).flatMap(guid -> doBindServiceInstance(applicationName, guid,
+                                                                                                             parameters));
+        }
+
+        @Override
+        public Mono<Void> createApplication(String name, Staging staging, Integer disk, Integer memory, Set<CloudRouteSummary> routes) {
+            Lifecycle lifecycle = buildApplicationLifecycle(staging);
+            CreateApplicationRequest applicationRequest = createApplicationRequestBuilder(name).lifecycle(lifecycle)
+                                                                                               .build();
+            return delegate.applicationsV3()
+                           .create(applicationRequest)
+                           .map(response -> UUID.fromString(response.getId()))
+                           .doOnNext(applicationGuid -> applicationGuids.put(name, applicationGuid))
+                           .flatMap(applicationGuid -> updateApplicationAttributes(applicationGuid, staging, disk, memory, routes));
+        }
+
+        @Override
+        public Mono<Void> createServiceInstance(CloudServiceInstance serviceInstance) {
+            assertSpaceProvided("create service instance");
+            Assert.notNull(serviceInstance, "Service instance must not be null.");
+
+            Mono<CloudServicePlan> servicePlan = findPlanForService(serviceInstance, serviceInstance.getPlan());
+            return servicePlan.flatMap(plan -> doCreateServiceInstance(serviceInstance, getGuid(plan)));
+        }
+
+        @Override
+        public Mono<Void> createServiceBroker(CloudServiceBroker serviceBroker) {
+            Assert.notNull(serviceBroker, "Service broker must not be null.");
+
+            return delegate.serviceBrokers()
+                           .create(CreateServiceBrokerRequest.builder()
+                                                             .name(serviceBroker.getName())
+                                                             .brokerUrl(serviceBroker.getUrl())
+                                                             .authenticationUsername(serviceBroker.getUsername())
+                                                             .authenticationPassword(serviceBroker.getPassword())
+                                                             .spaceId(serviceBroker.getSpaceGuid())
+                                                             .build())
+                           .then(Mono.fromRunnable(serviceOfferingCache::invalidateAll));
+        }
+
+        @Override
+        public Mono<CloudServiceKey> createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters) {
+            return getRequiredServiceInstance(serviceInstanceName).flatMap(serviceInstance -> doCreateServiceKey(serviceInstance,
+                                                                                                                 serviceKeyName,
+                                                                                                                 parameters));
+        }
+
+        @Override
+        public Mono<Void> createUserProvidedServiceInstance(CloudServiceInstance serviceInstance, Map<String, Object> credentials,
+                                                            String syslogDrainUrl) {
+            assertSpaceProvided("create service instance");
+            Assert.notNull(serviceInstance, "Service instance must not be null.");
+
+            return delegate.userProvidedServiceInstances()
+                           .create(CreateUserProvidedServiceInstanceRequest.builder()
+                                                                           .spaceId(getTargetSpaceGuid().toString())
+                                                                           .name(serviceInstance.getName())
+                                                                           .credentials(credentials)
+                                                                           .syslogDrainUrl(syslogDrainUrl)
+                                                                           .build())
+                           .then();
+        }
+
+        @Override
+        public Mono<Void> deleteAllApplications() {
+            return getApplicationResources().collectList()
+                                            .flatMap(CloudControllerRestClientImpl.this::deleteApplications)
+                                            .doOnTerminate(applicationGuids::invalidateAll);
+        }
+
+        @Override
+        public Mono<Void> deleteAllServiceInstances() {
+            return deleteAll(FetchOperation.DELETE_SERVICE_INSTANCES, "service instances", getServiceInstanceResources(),
+                             serviceInstance -> serviceInstance.getEntity()
+                                                               .getName(),
+                             serviceInstance -> deleteServiceInstanceMono(getGuid(serviceInstance)));
+        }
+
+        @Override
+        public Mono<CloudJob> requestApplicationDeletion(String applicationName) {
+            return getCurrentApplicationGuidMono(applicationName).flatMap(CloudControllerRestClientImpl.this::doDeleteApplication)
+                                                                 .doOnSuccess(job -> applicationGuids.invalidate(applicationName));
+        }
+
+        @Override
+        public Mono<Void> deleteDomain(String domainName) {
+            assertSpaceProvided("delete domain");
+            return getRequiredDomain(domainName).flatMap(CloudControllerRestClientImpl.this::deleteUnusedDomain)
+                                                .then(Mono.fromRunnable(() -> domainIndex.remove(domainName)));
+        }
+
+        @Override
+        public Flux<CloudRoute> deleteOrphanedRoutes() {
+            assertSpaceProvided("access organization domains");
+            Flux<CloudDomain> domains = findDomainsByOrganizationGuid(getTargetOrganizationGuid());
+            return domains.concatMap(domain -> fetchOrphanRoutes(domain.getName()))
+                          .collectList()
+                          .flatMapIterable(Function.identity())
+                          .concatMap(route -> deleteOrphanRoute(route).thenReturn(route));
+        }
+
+        @Override
+        public Mono<Void> deleteRoute(String host, String domainName, String path) {
+            assertSpaceProvided("delete route for domain");
+            Mono<UUID> routeGuid = getRequiredDomainGuid(domainName).flatMap(domainGuid -> getRouteGuid(domainGuid, host, path));
+            return routeGuid.switchIfEmpty(notFoundError("Host " + host + " not found for domain " + domainName + "."))
+                            .flatMap(CloudControllerRestClientImpl.this::doDeleteRoute);
+        }
+
+        @Override
+        public Mono<Void> deleteServiceInstance(String serviceInstanceName) {
+            return getRequiredServiceInstance(serviceInstanceName).flatMap(serviceInstance -> deleteServiceInstance(serviceInstance));
+        }
+
+        @Override
+        public Mono<Void> deleteServiceInstance(CloudServiceInstance serviceInstance) {
+            return deleteServiceInstanceMono(getGuid(serviceInstance)).then();
+        }
+
+        @Override
+        public Mono<Void> deleteServiceBroker(String name) {
+            return getRequiredServiceBroker(name).map(broker -> getGuid(broker))
+                                                 .flatMap(CloudControllerRestClientImpl.this::doDeleteServiceBroker);
+        }
+
+        @Override
+        public Mono<Void> deleteServiceKey(String serviceInstanceName, String serviceKeyName) {
+            return getRequiredServiceInstance(serviceInstanceName).flatMapMany(CloudControllerRestClientImpl.this::getServiceKeysFlux)
+                                                                  .filter(serviceKey -> serviceKey.getName()
+                                                                                                  .equals(serviceKeyName))
+                                                                  .next()
+                                                                  .switchIfEmpty(notFoundError("Service key " + serviceKeyName
+                                                                      + " not found."))
+                                                                  .flatMap(serviceKey -> deleteServiceKey(serviceKey));
+        }
+
+        @Override
+        public Mono<Void> deleteServiceKey(CloudServiceKey serviceKey) {
+            return doDeleteServiceKey(serviceKey.getMetadata()
+                                                .getGuid());
+        }
+
+        @Override
+        public Flux<CloudRoute> getRoutes(String domainName) {
+            assertSpaceProvided("get routes for domain");
+            return getRequiredDomain(domainName).flatMapMany(CloudControllerRestClientImpl.this::findRoutes);
+        }
+
+        @Override
+        public Mono<Void> rename(String applicationName, String newName) {
+            return getCurrentApplicationGuidMono(applicationName).flatMap(applicationGuid -> renameApplication(applicationGuid,
+                                                                                                               applicationName, newName));
+        }
+
+        @Override
+        public Mono<Void> restartApplication(String applicationName) {
+            return stopApplication(applicationName).then(Mono.defer(() -> startApplication(applicationName)));
+        }
+
+        @Override
+        public Mono<Void> startApplication(String applicationName) {
+            return doStartApplication(applicationName);
+        }
+
+        @Override
+        public Mono<Void> stopApplication(String applicationName) {
+            return doStopApplication(applicationName);
+        }
+
+        @Override
+        public Mono<Void> unbindServiceInstance(String applicationName, String serviceInstanceName) {
+            return getRequiredServiceInstanceGuid(serviceInstanceName).flatMap(guid -> doUnbindServiceInstance(applicationName, guid));
+        }
+
+        @Override
+        public Mono<Void> unbindServiceInstance(CloudApplication application, CloudServiceInstance serviceInstance) {
+            return doUnbindServiceInstance(getGuid(application), getGuid(serviceInstance));
+        }
+
+        @Override
+        public Mono<Void> updateApplicationDiskQuota(String applicationName, int diskQuota) {
+            return getWithApplicationGuidMono(applicationName,
+                                              applicationGuid -> scaleApplication(applicationGuid, request -> request.diskInMb(diskQuota)));
+        }
+
+        @Override
+        public Mono<Void> updateApplicationEnv(String applicationName, Map<String, String> env) {
+            return getWithApplicationGuidMono(applicationName, applicationGuid -> updateApplicationEnvironment(applicationGuid, env));
+        }
+
+        @Override
+        public Mono<Void> updateApplicationInstances(String applicationName, int instances) {
+            return getWithApplicationGuidMono(applicationName,
+                                              applicationGuid -> scaleApplication(applicationGuid,
+                                                                                  request -> request.instances(instances)));
+        }
+
+        @Override
+        public Mono<Void> updateApplicationMemory(String applicationName, int memory) {
+            return getWithApplicationGuidMono(applicationName,
+                                              applicationGuid -> scaleApplication(applicationGuid, request -> request.memoryInMb(memory)));
+        }
+
+        @Override
+        public Mono<Void> updateApplicationMetadata(UUID guid, Metadata metadata) {
+            UpdateApplicationRequest request = UpdateApplicationRequest.builder()
+                                                                       .applicationId(guid.toString())
+                                                                       .metadata(metadata)
+                                                                       .build();
+            return delegate.applicationsV3()
+                           .update(request)
+                           .then();
+        }
+
+        @Override
+        public Mono<Void> updateApplicationStaging(String applicationName, Staging staging) {
+            return getWithApplicationGuidMono(applicationName, applicationGuid -> doUpdateApplicationStaging(applicationGuid, staging));
+        }
+
+        @Override
+        public Mono<Void> updateApplicationRoutes(String applicationName, Set<CloudRouteSummary> updatedRoutes) {
+            return getRequiredApplication(applicationName).flatMap(application -> doUpdateApplicationRoutes(application, updatedRoutes));
+        }
+
+        @Override
+        public Mono<Void> updateServiceBroker(CloudServiceBroker serviceBroker) {
+            Assert.notNull(serviceBroker, "Service broker must not be null.");
+
+            return getRequiredServiceBroker(serviceBroker.getName()).flatMap(existingBroker -> doUpdateServiceBroker(serviceBroker,
+                                                                                                                     existingBroker));
+        }
+
+        @Override
+        public Mono<Void> updateServiceInstanceMetadata(UUID guid, Metadata metadata) {
+            return delegate.serviceInstancesV3()
+                           .update(UpdateServiceInstanceRequest.builder()
+                                                               .serviceInstanceId(guid.toString())
+                                                               .metadata(metadata)
+                                                               .build())
+                           .then();
+        }
+
+        @Override
+        public Mono<Void> updateServicePlanVisibilityForBroker(String name, boolean visibility) {
+            return getRequiredServiceBroker(name).flatMapMany(broker -> findServicePlansByBrokerGuid(getGuid(broker)))
+                                                 .concatMap(servicePlan -> updateServicePlanVisibility(servicePlan, visibility))
+                                                 .then();
+        }
+
+        @Override
+        public Mono<Void> updateServicePlan(String serviceName, String planName) {
+            return getRequiredServiceInstance(serviceName).flatMap(service -> doUpdateServicePlan(service, planName));
+        }
+
+        @Override
+        public Mono<Void> updateServiceParameters(String serviceName, Map<String, Object> parameters) {
+            return getRequiredServiceInstance(serviceName).flatMap(service -> doUpdateServiceParameters(service, parameters));
+        }
+
+        @Override
+        public Mono<Void> updateServiceTags(String serviceName, List<String> tags) {
+            return getRequiredServiceInstance(serviceName).flatMap(service -> doUpdateServiceTags(service, tags));
+        }
+
+        @Override
+        public Mono<Void> uploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
+            return startUpload(applicationName, file, callback).flatMap(cloudPackage -> uploadStatusPoller.poll(cloudPackage.getGuid(),
+                                                                                                                callback))
+                                                               .then();
+        }
+
+        @Override
+        public Mono<CloudPackage> asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback) {
+            return startUpload(applicationName, file, callback).doOnNext(cloudPackage -> processAsyncUploadInBackground(cloudPackage,
+                                                                                                                        callback));
+        }
+
+        /**
+         * Waits for the monitor, which was started in the background by {@link #asyncUploadApplication(String, Path, UploadStatusCallback)}
+         * for the package, if it is still running, instead of polling the upload again. Cancelling the returned {@link Mono} does not
+         * cancel that monitor.
+         */
+        @Override
+        public Mono<Upload> monitorUpload(UUID packageGuid, UploadStatusCallback callback) {
+            return Mono.defer(() -> {
+                CompletableFuture<Upload> backgroundUploadMonitor = backgroundUploadMonitors.get(packageGuid);
+                if (backgroundUploadMonitor != null) {
+                    return Mono.fromFuture(backgroundUploadMonitor);
+                }
+                return uploadStatusPoller.poll(packageGuid, callback);
+            });
+        }
+
+        @Override
+        public Mono<CloudPackage> watchPackage(UUID packageGuid) {
+            return fromWatch(() -> packageWatcher.watch(packageGuid));
+        }
+
+        @Override
+        public Flux<CloudTask> getTasks(String applicationName) {
+            Mono<List<CloudTask>> tasks = getWithApplicationGuidMono(applicationName,
+                                                                     applicationGuid -> getTasksFlux(applicationGuid).collectList());
+            return tasks.flatMapIterable(Function.identity());
+        }
+
+        @Override
+        public Mono<CloudTask> runTask(String applicationName, CloudTask task) {
+            return getWithApplicationGuidMono(applicationName,
+                                              applicationGuid -> fetchMono(() -> createTaskResource(applicationGuid, task),
+                                                                           ImmutableRawCloudTask::of));
+        }
+
+        @Override
+        public Mono<CloudTask> cancelTask(UUID taskGuid) {
+            return fetchMono(() -> cancelTaskResource(taskGuid), ImmutableRawCloudTask::of);
+        }
+
+        @Override
+        public Mono<CloudTask> watchTask(UUID taskGuid) {
+            return fromWatch(() -> taskWatcher.watch(taskGuid));
+        }
+
+        @Override
+        public Flux<CloudBuild> getBuildsForPackage(UUID packageGuid) {
+            return fetchFlux(() -> getBuildResourcesByPackageGuid(packageGuid), ImmutableRawCloudBuild::of);
+        }
+
+        @Override
+        public Mono<CloudBuild> createBuild(UUID packageGuid) {
+            return fetchMono(() -> createBuildResource(packageGuid), ImmutableRawCloudBuild::of);
+        }
+
+        @Override
+        public Mono<CloudBuild> watchBuild(CloudBuild build) {
+            return fromWatch(() -> buildWatcher.watch(build.getMetadata()
+                                                           .getGuid(),
+                                                      build.getPackageInfo()
+                                                           .getGuid()));
+        }
+
+        @Override
+        public Mono<Void> bindDropletToApp(UUID dropletGuid, UUID applicationGuid) {
+            return delegate.applicationsV3()
+                           .setCurrentDroplet(SetApplicationCurrentDropletRequest.builder()
+                                                                                 .applicationId(applicationGuid.toString())
+                                                                                 .data(Relationship.builder()
+                                                                                                   .id(dropletGuid.toString())
+                                                                                                   .build())
+                                                                                 .build())
+                           .then();
+        }
+
+        @Override
+        public Mono<DropletInfo> getCurrentDropletForApplication(UUID applicationGuid) {
+            GetApplicationCurrentDropletRequest request = GetApplicationCurrentDropletRequest.builder()
+                                                                                             .applicationId(applicationGuid.toString())
+                                                                                             .build();
+            return delegate.applicationsV3()
+                           .getCurrentDroplet(request)
+                           .map(CloudControllerRestClientImpl.this::tryParseDropletInfo);
+        }
+
+        @Override
+        public Mono<CloudPackage> createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo) {
+            return doCreateDockerPackage(applicationGuid, dockerInfo);
+        }
+
+        @Override
+        public Flux<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid) {
+            return fetchFlux(() -> getRoles(spaceGuid, userGuid), ImmutableRawUserRole::of);
+        }
+
+        @Override
+        public Mono<CloudServiceInstance> watchServiceInstance(String serviceInstanceName) {
+            assertSpaceProvided("watch service instance");
+            String description = "Service instance " + serviceInstanceName + " not found.";
+            return findServiceInstanceGuid(serviceInstanceName).switchIfEmpty(notFoundError(description))
+                                                               .flatMap(guid -> doWatchServiceInstance(guid, serviceInstanceName));
+        }
+
+        @Override
+        public Mono<PolledEvents> pollEvents(EventCursor cursor) {
+            return Mono.defer(() -> {
+                EventCursor startCursor = getStartCursor(cursor);
+                Flux<CloudEvent> events = fetchFlux(() -> getEventResourcesSince(startCursor.getActee(), startCursor.getTimestamp()),
+                                                    ImmutableRawCloudEvent::of);
+                return events.filter(startCursor::isNew)
+                             .collectList()
+                             .map(newEvents -> ImmutablePolledEvents.builder()
+                                                                    .events(newEvents)
+                                                                    .nextCursor(startCursor.advance(newEvents))
+                                                                    .build());
+            });
+        }
+
+        @Override
+        public Flux<ApplicationLog> getRecentLogs(UUID applicationGuid) {
+            return getRecentLogsFlux(applicationGuid).sort();
+        }
+
+        @Override
+        public Flux<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids, int maxLogs) {
+            return getNewestRecentLogs(applicationGuids, maxLogs);
+        }
+
+        @Override
+        public Flux<ApplicationLog> getRecentLogs(UUID applicationGuid, ApplicationLogQuery query) {
+            return readLogCache(applicationGuid, query);
+        }
+
+        @Override
+        public Mono<ApplicationLogBatch> getRecentLogBatch(UUID applicationGuid) {
+            return getRecentLogBatchMono(applicationGuid);
+        }
+
+        @Override
+        public Flux<ApplicationLog> streamLogs(UUID applicationGuid) {
+            return getLogStream(applicationGuid);
+        }
+
+        @Override
+        public Mono<CloudJob> getJob(UUID jobGuid) {
+            return getJobMono(jobGuid);
+        }
+
+        @Override
+        public Flux<CloudJob> awaitJobs(Collection<CloudJob> jobs, Duration timeout) {
+            int concurrency = getConcurrencySettings(FetchOperation.JOBS).getConcurrency();
+            return jobAwaiter.await(jobs, concurrency, timeout)
+                             .flatMapIterable(Function.identity());
+        }
+
+    }
+
 }
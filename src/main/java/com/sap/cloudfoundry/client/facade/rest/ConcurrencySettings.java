@@ -0,0 +1,57 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import org.immutables.value.Value;
+import org.springframework.util.Assert;
+
+import reactor.util.concurrent.Queues;
+
+/**
+ * Controls how many auxiliary requests are issued in parallel, when the resources of a listing are combined with additional content from
+ * the Cloud Controller (e.g. the summaries of applications or the plans of service instances). The defaults match those of Reactor's
+ * {@code flatMap}.
+ */
+@Value.Immutable
+public abstract class ConcurrencySettings {
+
+    public static final ConcurrencySettings DEFAULT = ImmutableConcurrencySettings.builder()
+                                                                                  .build();
+    /**
+     * The defaults of the operations, which change entities in bulk (e.g. deleting all applications), unless they are overridden. Each of
+     * their requests can cause considerable work in the Cloud Controller and in service brokers, so only a few of them are issued at once.
+     */
+    public static final ConcurrencySettings BULK_MUTATION_DEFAULT = ImmutableConcurrencySettings.builder()
+                                                                                                .concurrency(8)
+                                                                                                .build();
+
+    /**
+     * @return the maximum number of resources, whose auxiliary content is fetched in parallel
+     */
+    @Value.Default
+    public int getConcurrency() {
+        return Queues.SMALL_BUFFER_SIZE;
+    }
+
+    /**
+     * @return the number of results requested from each auxiliary request in advance
+     */
+    @Value.Default
+    public int getPrefetch() {
+        return Queues.XS_BUFFER_SIZE;
+    }
+
+    /**
+     * @return whether the results should be returned in the order of the listed resources, instead of in the order in which their
+     *         auxiliary content was fetched
+     */
+    @Value.Default
+    public boolean isOrdered() {
+        return false;
+    }
+
+    @Value.Check
+    protected void validate() {
+        Assert.isTrue(getConcurrency() > 0, "Concurrency must be positive");
+        Assert.isTrue(getPrefetch() > 0, "Prefetch must be positive");
+    }
+
+}
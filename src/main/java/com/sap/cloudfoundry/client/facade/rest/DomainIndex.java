@@ -0,0 +1,154 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Indexes the GUIDs of the domains of an organization (its private domains and the shared domains) by name. After the first load, the
+ * index is served immediately and is refreshed in the background once it becomes older than the refresh interval. Domains added or
+ * deleted through the owning client are applied to the index directly. Changes made during the first load are recorded and applied to its
+ * result. A refresh, which was started before such a change, is discarded, as its result may already be outdated.
+ */
+class DomainIndex {
+
+    static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainIndex.class);
+
+    private final Supplier<Mono<Map<String, UUID>>> loader;
+    private final long refreshIntervalInNanos;
+    private final LongSupplier nanoTimeSupplier;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, Optional<UUID>> changesBeforeFirstLoad = new HashMap<>();
+    private volatile Map<String, UUID> domainGuids;
+    private volatile long loadTime;
+    private Mono<Map<String, UUID>> initialLoad;
+
+    DomainIndex(Supplier<Mono<Map<String, UUID>>> loader) {
+        this(loader, DEFAULT_REFRESH_INTERVAL, System::nanoTime);
+    }
+
+    DomainIndex(Supplier<Mono<Map<String, UUID>>> loader, Duration refreshInterval, LongSupplier nanoTimeSupplier) {
+        this.loader = loader;
+        this.refreshIntervalInNanos = refreshInterval.toNanos();
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    public Mono<Map<String, UUID>> getDomainGuids() {
+        return Mono.defer(() -> {
+            Map<String, UUID> currentDomainGuids = domainGuids;
+            if (currentDomainGuids == null) {
+                return loadInitially();
+            }
+            if (nanoTimeSupplier.getAsLong() - loadTime >= refreshIntervalInNanos) {
+                refreshInBackground();
+            }
+            return Mono.just(Collections.unmodifiableMap(currentDomainGuids));
+        });
+    }
+
+    /**
+     * @return the index, after reloading it from the Cloud Controller. If a domain was added or deleted during the reload, its result is
+     *         discarded and the current index is returned instead.
+     */
+    public Mono<Map<String, UUID>> refresh() {
+        return load().map(Collections::unmodifiableMap);
+    }
+
+    public void put(String domainName, UUID domainGuid) {
+        applyChange(domainName, Optional.of(domainGuid));
+    }
+
+    public void remove(String domainName) {
+        applyChange(domainName, Optional.empty());
+    }
+
+    /**
+     * @param domainGuid the GUID of the added domain, or an empty {@link Optional} if the domain was removed
+     */
+    private synchronized void applyChange(String domainName, Optional<UUID> domainGuid) {
+        version.incrementAndGet();
+        if (domainGuids == null) {
+            changesBeforeFirstLoad.put(domainName, domainGuid);
+            return;
+        }
+        applyChange(domainGuids, domainName, domainGuid);
+    }
+
+    private static void applyChange(Map<String, UUID> domainGuids, String domainName, Optional<UUID> domainGuid) {
+        if (domainGuid.isPresent()) {
+            domainGuids.put(domainName, domainGuid.get());
+        } else {
+            domainGuids.remove(domainName);
+        }
+    }
+
+    private synchronized Mono<Map<String, UUID>> loadInitially() {
+        if (domainGuids != null) {
+            return Mono.just(Collections.unmodifiableMap(domainGuids));
+        }
+        if (initialLoad == null) {
+            initialLoad = load().map(Collections::unmodifiableMap)
+                                .doOnError(e -> resetInitialLoad())
+                                .cache();
+        }
+        return initialLoad;
+    }
+
+    private synchronized void resetInitialLoad() {
+        initialLoad = null;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        load().doFinally(signal -> refreshing.set(false))
+              .subscribe(null, DomainIndex::logRefreshFailure);
+    }
+
+    private static void logRefreshFailure(Throwable e) {
+        LOGGER.warn(MessageFormat.format("Could not refresh the domains of the organization: {0}", e.getMessage()), e);
+    }
+
+    private Mono<Map<String, UUID>> load() {
+        return Mono.defer(() -> {
+            long versionAtStart = version.get();
+            return loader.get()
+                         .<Map<String, UUID>> map(ConcurrentHashMap::new)
+                         .map(loadedDomainGuids -> install(loadedDomainGuids, versionAtStart));
+        });
+    }
+
+    /**
+     * @return the installed index, which is the current one if the loaded index is outdated
+     */
+    private synchronized Map<String, UUID> install(Map<String, UUID> loadedDomainGuids, long versionAtStart) {
+        if (domainGuids != null && version.get() != versionAtStart) {
+            return domainGuids;
+        }
+        if (domainGuids == null) {
+            changesBeforeFirstLoad.forEach((domainName, domainGuid) -> applyChange(loadedDomainGuids, domainName, domainGuid));
+            changesBeforeFirstLoad.clear();
+        }
+        domainGuids = loadedDomainGuids;
+        loadTime = nanoTimeSupplier.getAsLong();
+        return domainGuids;
+    }
+
+}
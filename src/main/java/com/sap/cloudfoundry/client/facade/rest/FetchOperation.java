@@ -0,0 +1,11 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+/**
+ * The listings, whose resources are combined with auxiliary content from the Cloud Controller, and the fan-out operations, which issue one
+ * request per entity, for which {@link ConcurrencySettings} can be overridden. The operations, which delete or unbind entities, default to
+ * {@link ConcurrencySettings#BULK_MUTATION_DEFAULT} rather than to the settings of the listings.
+ */
+public enum FetchOperation {
+    APPLICATIONS, SERVICE_INSTANCES, SERVICE_OFFERINGS, SPACES, RECENT_LOGS, DELETE_APPLICATIONS, UNBIND_SERVICE_INSTANCES,
+    DELETE_SERVICE_INSTANCES, JOBS
+}
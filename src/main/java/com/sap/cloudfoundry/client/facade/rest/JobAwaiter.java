@@ -0,0 +1,117 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Waits for asynchronous Cloud Controller jobs to complete. The Cloud Controller cannot list jobs, so the jobs that are still running are
+ * polled in parallel, up to a given number at a time, and all of them share the same {@link Backoff} between the rounds of polls. Jobs,
+ * which are already known to be finished or failed, are not polled at all.
+ */
+class JobAwaiter {
+
+    static final Duration DEFAULT_INITIAL_INTERVAL = Duration.ofMillis(250);
+    static final Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(5);
+
+    private final Function<UUID, Mono<CloudJob>> jobLoader;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final Scheduler scheduler;
+
+    JobAwaiter(Function<UUID, Mono<CloudJob>> jobLoader) {
+        this(jobLoader, DEFAULT_INITIAL_INTERVAL, DEFAULT_MAX_INTERVAL, Schedulers.parallel());
+    }
+
+    JobAwaiter(Function<UUID, Mono<CloudJob>> jobLoader, Duration initialInterval, Duration maxInterval, Scheduler scheduler) {
+        this.jobLoader = jobLoader;
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param jobs the jobs to wait for. {@code null} elements, e.g. for deletions without jobs, are skipped.
+     * @param concurrency the maximum number of jobs, which are polled at the same time
+     * @return the last polled states of the jobs, in the order of the given jobs, once all of them are finished or failed. An
+     *         {@link IllegalStateException} is signalled, if they do not complete within the timeout.
+     */
+    public Mono<List<CloudJob>> await(Collection<CloudJob> jobs, int concurrency, Duration timeout) {
+        return Mono.defer(() -> {
+            List<CloudJob> awaitedJobs = jobs.stream()
+                                             .filter(Objects::nonNull)
+                                             .collect(Collectors.toList());
+            Map<UUID, CloudJob> polledJobs = new LinkedHashMap<>();
+            awaitedJobs.forEach(job -> polledJobs.put(getGuid(job), job));
+            Backoff backoff = new Backoff(initialInterval, maxInterval);
+            return Mono.defer(() -> pollRunningJobs(polledJobs, concurrency))
+                       .repeatWhen(polls -> polls.concatMap(poll -> Mono.delay(backoff.nextInterval(), scheduler)))
+                       .takeUntil(runningJobCount -> runningJobCount == 0)
+                       .then(Mono.fromSupplier(() -> getPolledJobs(awaitedJobs, polledJobs)))
+                       .timeout(timeout, scheduler)
+                       .onErrorMap(TimeoutException.class, e -> new IllegalStateException(toTimeoutMessage(polledJobs, timeout), e));
+        });
+    }
+
+    private Mono<Integer> pollRunningJobs(Map<UUID, CloudJob> polledJobs, int concurrency) {
+        List<UUID> runningJobGuids = getRunningJobGuids(polledJobs);
+        return Flux.fromIterable(runningJobGuids)
+                   .flatMap(jobLoader, concurrency)
+                   .collectList()
+                   .map(jobs -> {
+                       synchronized (polledJobs) {
+                           jobs.forEach(job -> polledJobs.put(getGuid(job), job));
+                       }
+                       return getRunningJobGuids(polledJobs).size();
+                   });
+    }
+
+    private static List<UUID> getRunningJobGuids(Map<UUID, CloudJob> polledJobs) {
+        synchronized (polledJobs) {
+            return polledJobs.values()
+                             .stream()
+                             .filter(job -> !isDone(job))
+                             .map(JobAwaiter::getGuid)
+                             .collect(Collectors.toList());
+        }
+    }
+
+    private static List<CloudJob> getPolledJobs(Collection<CloudJob> jobs, Map<UUID, CloudJob> polledJobs) {
+        synchronized (polledJobs) {
+            return jobs.stream()
+                       .map(job -> polledJobs.get(getGuid(job)))
+                       .collect(Collectors.toList());
+        }
+    }
+
+    private static UUID getGuid(CloudJob job) {
+        return job.getMetadata()
+                  .getGuid();
+    }
+
+    private static boolean isDone(CloudJob job) {
+        return job.getStatus() == CloudJob.Status.FINISHED || job.getStatus() == CloudJob.Status.FAILED;
+    }
+
+    private static String toTimeoutMessage(Map<UUID, CloudJob> polledJobs, Duration timeout) {
+        List<UUID> runningJobGuids = getRunningJobGuids(polledJobs);
+        return MessageFormat.format("{0} of {1} jobs did not complete within {2} seconds: {3}", runningJobGuids.size(), polledJobs.size(),
+                                    timeout.getSeconds(), runningJobGuids);
+    }
+
+}
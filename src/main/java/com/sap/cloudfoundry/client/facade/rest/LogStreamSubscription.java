@@ -0,0 +1,131 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.StreamingLogToken;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Passes the logs of a live log stream to an {@link ApplicationLogListener}. The calls of the listener and {@link #cancel()} are
+ * mutually exclusive, so signals that were already queued when the stream was cancelled are discarded instead of being passed to the
+ * listener. Logs, which are dropped because the listener cannot keep up, are counted and reported in a summary at most once per
+ * {@link #DROPPED_LOGS_REPORT_INTERVAL}, and once more when the stream ends.
+ */
+class LogStreamSubscription implements StreamingLogToken {
+
+    static final Duration DROPPED_LOGS_REPORT_INTERVAL = Duration.ofSeconds(10);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogStreamSubscription.class);
+
+    private final UUID applicationGuid;
+    private final ApplicationLogListener listener;
+    private final Consumer<String> droppedLogsReporter;
+    private final LongSupplier nanoTime;
+    private final AtomicLong unreportedDroppedLogs = new AtomicLong();
+    private final AtomicLong lastReportTime;
+
+    private boolean cancelled;
+    private Disposable subscription;
+
+    LogStreamSubscription(UUID applicationGuid, ApplicationLogListener listener) {
+        this(applicationGuid, listener, LOGGER::warn, System::nanoTime);
+    }
+
+    LogStreamSubscription(UUID applicationGuid, ApplicationLogListener listener, Consumer<String> droppedLogsReporter,
+                          LongSupplier nanoTime) {
+        this.applicationGuid = applicationGuid;
+        this.listener = listener;
+        this.droppedLogsReporter = droppedLogsReporter;
+        this.nanoTime = nanoTime;
+        this.lastReportTime = new AtomicLong(nanoTime.getAsLong() - DROPPED_LOGS_REPORT_INTERVAL.toNanos());
+    }
+
+    LogStreamSubscription subscribeTo(Flux<? extends ApplicationLog> logs) {
+        Disposable newSubscription = logs.subscribe(this::onMessage, this::onError, this::onComplete);
+        synchronized (this) {
+            if (!cancelled) {
+                subscription = newSubscription;
+                return this;
+            }
+        }
+        newSubscription.dispose();
+        return this;
+    }
+
+    synchronized void onMessage(ApplicationLog log) {
+        if (!cancelled) {
+            listener.onMessage(log);
+        }
+    }
+
+    synchronized void onError(Throwable error) {
+        if (!cancelled) {
+            cancelled = true;
+            reportDroppedLogs();
+            listener.onError(error);
+        }
+    }
+
+    synchronized void onComplete() {
+        if (!cancelled) {
+            cancelled = true;
+            reportDroppedLogs();
+            listener.onComplete();
+        }
+    }
+
+    /**
+     * Counts a log, which is dropped because the listener cannot keep up. May be called concurrently with the listener.
+     */
+    void onDropped(ApplicationLog log) {
+        unreportedDroppedLogs.incrementAndGet();
+        long now = nanoTime.getAsLong();
+        long lastReport = lastReportTime.get();
+        if (now - lastReport >= DROPPED_LOGS_REPORT_INTERVAL.toNanos() && lastReportTime.compareAndSet(lastReport, now)) {
+            reportDroppedLogs();
+        }
+    }
+
+    /**
+     * Stop streaming logs. If the listener is being called at the moment, waits for that call to return, unless this method is called
+     * by the listener itself.
+     */
+    @Override
+    public void cancel() {
+        Disposable currentSubscription;
+        synchronized (this) {
+            if (cancelled && subscription == null) {
+                return;
+            }
+            cancelled = true;
+            currentSubscription = subscription;
+            subscription = null;
+        }
+        if (currentSubscription != null) {
+            currentSubscription.dispose();
+        }
+        reportDroppedLogs();
+    }
+
+    private void reportDroppedLogs() {
+        long droppedLogs = unreportedDroppedLogs.getAndSet(0);
+        if (droppedLogs > 0) {
+            String message = MessageFormat.format("Dropped {0} logs of application \"{1}\", because the listener could not keep up",
+                                                  droppedLogs, applicationGuid);
+            droppedLogsReporter.accept(message);
+        }
+    }
+
+}
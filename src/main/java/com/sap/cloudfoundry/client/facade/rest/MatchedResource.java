@@ -0,0 +1,34 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.sap.cloudfoundry.client.facade.Nullable;
+
+/**
+ * A file of an application in the resource matching API of the Cloud Controller. The same representation is used to ask the Cloud
+ * Controller, which files it already has, and to tell it, which of them to copy into an uploaded package.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableMatchedResource.class)
+@JsonDeserialize(as = ImmutableMatchedResource.class)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+interface MatchedResource {
+
+    ResourceChecksum getChecksum();
+
+    @JsonProperty("size_in_bytes")
+    long getSize();
+
+    String getPath();
+
+    /**
+     * @return the Unix permissions of the file as an octal string
+     */
+    @Nullable
+    String getMode();
+
+}
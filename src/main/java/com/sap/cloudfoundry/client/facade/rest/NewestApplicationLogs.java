@@ -0,0 +1,74 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+
+/**
+ * Keeps the newest logs of several applications, up to a maximum number. The logs are kept in a single min-heap, which is bounded by the
+ * maximum, so once it is full, each new log either evicts the oldest log or is dropped itself. That way the logs of an application never
+ * have to be collected or sorted as a whole, and no more than the maximum number of logs is ever held. Logs can be added concurrently.
+ */
+class NewestApplicationLogs {
+
+    /**
+     * Logs with equal timestamps are ordered by the index of their application and then by the order in which they were added.
+     */
+    private static final Comparator<Entry> OLDEST_FIRST = Comparator.comparing((Entry entry) -> entry.log)
+                                                                    .thenComparingInt(entry -> entry.applicationIndex)
+                                                                    .thenComparingLong(entry -> entry.sequenceNumber);
+
+    private final int maxLogs;
+    private final PriorityQueue<Entry> heap;
+    private long nextSequenceNumber;
+
+    NewestApplicationLogs(int maxLogs) {
+        this.maxLogs = maxLogs;
+        this.heap = new PriorityQueue<>(Math.min(maxLogs, 1024), OLDEST_FIRST);
+    }
+
+    /**
+     * @param applicationIndex the position of the application in the requested order, which breaks ties between equal timestamps
+     */
+    synchronized void add(ApplicationLog log, int applicationIndex) {
+        Entry entry = new Entry(log, applicationIndex, nextSequenceNumber++);
+        if (heap.size() < maxLogs) {
+            heap.add(entry);
+        } else if (OLDEST_FIRST.compare(entry, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(entry);
+        }
+    }
+
+    /**
+     * @return the kept logs, sorted by timestamp
+     */
+    synchronized List<ApplicationLog> toSortedList() {
+        List<Entry> entries = new ArrayList<>(heap);
+        Collections.sort(entries, OLDEST_FIRST);
+        List<ApplicationLog> logs = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            logs.add(entry.log);
+        }
+        return logs;
+    }
+
+    private static class Entry {
+
+        private final ApplicationLog log;
+        private final int applicationIndex;
+        private final long sequenceNumber;
+
+        Entry(ApplicationLog log, int applicationIndex, long sequenceNumber) {
+            this.log = log;
+            this.applicationIndex = applicationIndex;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Iterates over the entities of a paginated listing. A page is requested only when the entities of all previous pages have been consumed,
+ * so at most one page of entities is held in memory. The number of pages is taken from the response for the first page.
+ *
+ * @param <P> the type of the responses for the pages
+ * @param <T> the type of the entities, to which the responses are mapped
+ */
+class PageByPageIterator<P, T> implements Iterator<T> {
+
+    private final IntFunction<Mono<P>> pageRequester;
+    private final ToIntFunction<P> totalPagesExtractor;
+    private final Function<P, Mono<List<T>>> pageMapper;
+
+    private int nextPage = 1;
+    private int totalPages = 1;
+    private Iterator<T> currentPage = Collections.emptyIterator();
+
+    PageByPageIterator(IntFunction<Mono<P>> pageRequester, ToIntFunction<P> totalPagesExtractor, Function<P, Mono<List<T>>> pageMapper) {
+        this.pageRequester = pageRequester;
+        this.totalPagesExtractor = totalPagesExtractor;
+        this.pageMapper = pageMapper;
+    }
+
+    static <P, T> Stream<T> stream(IntFunction<Mono<P>> pageRequester, ToIntFunction<P> totalPagesExtractor,
+                                   Function<P, Mono<List<T>>> pageMapper) {
+        Iterator<T> iterator = new PageByPageIterator<>(pageRequester, totalPagesExtractor, pageMapper);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext() && nextPage <= totalPages) {
+            requestNextPage();
+        }
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    private void requestNextPage() {
+        P response = pageRequester.apply(nextPage)
+                                  .block();
+        if (response == null) {
+            totalPages = 0;
+            return;
+        }
+        if (nextPage == 1) {
+            totalPages = totalPagesExtractor.applyAsInt(response);
+        }
+        nextPage++;
+        List<T> entities = pageMapper.apply(response)
+                                     .block();
+        currentPage = entities == null ? Collections.emptyIterator() : entities.iterator();
+    }
+
+}
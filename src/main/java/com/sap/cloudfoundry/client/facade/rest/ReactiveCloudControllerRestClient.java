@@ -0,0 +1,227 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.cloudfoundry.client.v3.Metadata;
+
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogBatch;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogQuery;
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudBuild;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
+import com.sap.cloudfoundry.client.facade.domain.CloudOrganization;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
+import com.sap.cloudfoundry.client.facade.domain.CloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBinding;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceBroker;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceKey;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceOffering;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.CloudStack;
+import com.sap.cloudfoundry.client.facade.domain.CloudTask;
+import com.sap.cloudfoundry.client.facade.domain.DockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.DropletInfo;
+import com.sap.cloudfoundry.client.facade.domain.EventCursor;
+import com.sap.cloudfoundry.client.facade.domain.PolledEvents;
+import com.sap.cloudfoundry.client.facade.domain.Staging;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+import com.sap.cloudfoundry.client.facade.domain.UserRole;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of the operations of {@link CloudControllerRestClient}. No request is sent before the returned publishers are
+ * subscribed to. Lookups of entities that do not exist complete empty, instead of failing with a "Not Found" error, while operations on
+ * such entities fail with it. The uploads of input streams and directories, as well as the log streaming with listeners, are only
+ * available through the blocking client.
+ */
+public interface ReactiveCloudControllerRestClient {
+
+    Mono<CloudApplication> getApplication(String applicationName);
+
+    Mono<CloudApplication> getApplication(UUID applicationGuid);
+
+    Mono<Map<String, String>> getApplicationEnvironment(UUID applicationGuid);
+
+    Flux<CloudApplication> getApplications();
+
+    Mono<CloudBuild> getBuild(UUID buildGuid);
+
+    Flux<CloudBuild> getBuildsForApplication(UUID applicationGuid);
+
+    Flux<CloudEvent> getEvents();
+
+    Flux<CloudEvent> getEventsByActee(UUID uuid);
+
+    Mono<CloudOrganization> getOrganization(String organizationName);
+
+    Flux<CloudOrganization> getOrganizations();
+
+    Mono<CloudPackage> getPackage(UUID packageGuid);
+
+    Flux<CloudPackage> getPackagesForApplication(UUID applicationGuid);
+
+    Mono<Upload> getUploadStatus(UUID packageGuid);
+
+    Flux<CloudServiceBinding> getServiceBindings(UUID serviceInstanceGuid);
+
+    Mono<CloudServiceBroker> getServiceBroker(String name);
+
+    Flux<CloudServiceBroker> getServiceBrokers();
+
+    Mono<CloudServiceInstance> getServiceInstance(String serviceInstanceName);
+
+    Flux<CloudServiceInstance> getServiceInstances();
+
+    Flux<CloudServiceOffering> getServiceOfferings();
+
+    Mono<CloudSpace> getSpace(UUID spaceGuid);
+
+    Flux<CloudSpace> getSpaces();
+
+    Mono<CloudStack> getStack(String name);
+
+    Flux<CloudStack> getStacks();
+
+    Mono<CloudTask> getTask(UUID taskGuid);
+
+    Mono<Void> addDomain(String domainName);
+
+    Mono<Void> addRoute(String host, String domainName, String path);
+
+    Mono<Void> bindServiceInstance(String applicationName, String serviceInstanceName, Map<String, Object> parameters);
+
+    Mono<Void> createApplication(String name, Staging staging, Integer disk, Integer memory, Set<CloudRouteSummary> routes);
+
+    Mono<Void> createServiceInstance(CloudServiceInstance serviceInstance);
+
+    Mono<Void> createServiceBroker(CloudServiceBroker serviceBroker);
+
+    Mono<CloudServiceKey> createServiceKey(String serviceInstanceName, String serviceKeyName, Map<String, Object> parameters);
+
+    Mono<Void> createUserProvidedServiceInstance(CloudServiceInstance serviceInstance, Map<String, Object> credentials,
+                                                 String syslogDrainUrl);
+
+    Mono<Void> deleteAllApplications();
+
+    Mono<Void> deleteAllServiceInstances();
+
+    Mono<CloudJob> requestApplicationDeletion(String applicationName);
+
+    Mono<Void> deleteDomain(String domainName);
+
+    Flux<CloudRoute> deleteOrphanedRoutes();
+
+    Mono<Void> deleteRoute(String host, String domainName, String path);
+
+    Mono<Void> deleteServiceInstance(String serviceInstanceName);
+
+    Mono<Void> deleteServiceInstance(CloudServiceInstance serviceInstance);
+
+    Mono<Void> deleteServiceBroker(String name);
+
+    Mono<Void> deleteServiceKey(String serviceInstanceName, String serviceKeyName);
+
+    Mono<Void> deleteServiceKey(CloudServiceKey serviceKey);
+
+    Flux<CloudRoute> getRoutes(String domainName);
+
+    Mono<Void> rename(String applicationName, String newName);
+
+    Mono<Void> restartApplication(String applicationName);
+
+    Mono<Void> startApplication(String applicationName);
+
+    Mono<Void> stopApplication(String applicationName);
+
+    Mono<Void> unbindServiceInstance(String applicationName, String serviceInstanceName);
+
+    Mono<Void> unbindServiceInstance(CloudApplication application, CloudServiceInstance serviceInstance);
+
+    Mono<Void> updateApplicationDiskQuota(String applicationName, int diskQuota);
+
+    Mono<Void> updateApplicationEnv(String applicationName, Map<String, String> env);
+
+    Mono<Void> updateApplicationInstances(String applicationName, int instances);
+
+    Mono<Void> updateApplicationMemory(String applicationName, int memory);
+
+    Mono<Void> updateApplicationMetadata(UUID guid, Metadata metadata);
+
+    Mono<Void> updateApplicationStaging(String applicationName, Staging staging);
+
+    Mono<Void> updateApplicationRoutes(String applicationName, Set<CloudRouteSummary> updatedRoutes);
+
+    Mono<Void> updateServiceBroker(CloudServiceBroker serviceBroker);
+
+    Mono<Void> updateServiceInstanceMetadata(UUID guid, Metadata metadata);
+
+    Mono<Void> updateServicePlanVisibilityForBroker(String name, boolean visibility);
+
+    Mono<Void> updateServicePlan(String serviceName, String planName);
+
+    Mono<Void> updateServiceParameters(String serviceName, Map<String, Object> parameters);
+
+    Mono<Void> updateServiceTags(String serviceName, List<String> tags);
+
+    Mono<Void> uploadApplication(String applicationName, Path file, UploadStatusCallback callback);
+
+    Mono<CloudPackage> asyncUploadApplication(String applicationName, Path file, UploadStatusCallback callback);
+
+    Mono<Upload> monitorUpload(UUID packageGuid, UploadStatusCallback callback);
+
+    Mono<CloudPackage> watchPackage(UUID packageGuid);
+
+    Flux<CloudTask> getTasks(String applicationName);
+
+    Mono<CloudTask> runTask(String applicationName, CloudTask task);
+
+    Mono<CloudTask> cancelTask(UUID taskGuid);
+
+    Mono<CloudTask> watchTask(UUID taskGuid);
+
+    Flux<CloudBuild> getBuildsForPackage(UUID packageGuid);
+
+    Mono<CloudBuild> createBuild(UUID packageGuid);
+
+    Mono<CloudBuild> watchBuild(CloudBuild build);
+
+    Mono<Void> bindDropletToApp(UUID dropletGuid, UUID applicationGuid);
+
+    Mono<DropletInfo> getCurrentDropletForApplication(UUID applicationGuid);
+
+    Mono<CloudPackage> createDockerPackage(UUID applicationGuid, DockerInfo dockerInfo);
+
+    Flux<UserRole> getUserRolesBySpaceAndUser(UUID spaceGuid, UUID userGuid);
+
+    Mono<CloudServiceInstance> watchServiceInstance(String serviceInstanceName);
+
+    Mono<PolledEvents> pollEvents(EventCursor cursor);
+
+    Flux<ApplicationLog> getRecentLogs(UUID applicationGuid);
+
+    Flux<ApplicationLog> getRecentLogs(Collection<UUID> applicationGuids, int maxLogs);
+
+    Flux<ApplicationLog> getRecentLogs(UUID applicationGuid, ApplicationLogQuery query);
+
+    Mono<ApplicationLogBatch> getRecentLogBatch(UUID applicationGuid);
+
+    Flux<ApplicationLog> streamLogs(UUID applicationGuid);
+
+    Mono<CloudJob> getJob(UUID jobGuid);
+
+    Flux<CloudJob> awaitJobs(Collection<CloudJob> jobs, Duration timeout);
+
+}
@@ -0,0 +1,91 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+
+/**
+ * An input stream, which keeps a copy of the bytes read from the underlying stream, up to a limit, so that the underlying stream can be
+ * read again from its start. Closing it does not close the underlying stream, which stays owned by whoever opened it.
+ */
+class ReplayableInputStream extends FilterInputStream {
+
+    private final int replayLimit;
+    private ByteArrayOutputStream readBytes = new ByteArrayOutputStream();
+
+    ReplayableInputStream(InputStream inputStream, int replayLimit) {
+        super(inputStream);
+        this.replayLimit = replayLimit;
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            record(new byte[] { (byte) b }, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        int count = super.read(b, off, len);
+        if (count > 0) {
+            record(b, off, count);
+        }
+        return count;
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) {
+            readBytes = null;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        // The underlying stream is closed by its owner.
+    }
+
+    /**
+     * @return whether all bytes read so far have been kept, which is also the case, if none were read at all
+     */
+    synchronized boolean isReplayable() {
+        return readBytes != null;
+    }
+
+    /**
+     * @return a stream of the bytes read so far, followed by the rest of the underlying stream
+     */
+    synchronized InputStream replay() {
+        if (!isReplayable()) {
+            throw new IllegalStateException("More than " + replayLimit + " bytes were read from the stream");
+        }
+        InputStream replayedBytes = new ByteArrayInputStream(readBytes.toByteArray());
+        readBytes = null;
+        return new SequenceInputStream(replayedBytes, in);
+    }
+
+    private void record(byte[] b, int off, int len) {
+        if (readBytes == null) {
+            return;
+        }
+        if (readBytes.size() + len > replayLimit) {
+            readBytes = null;
+            return;
+        }
+        readBytes.write(b, off, len);
+    }
+
+}
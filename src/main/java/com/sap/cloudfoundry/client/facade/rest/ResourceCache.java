@@ -0,0 +1,149 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A bounded cache of Cloud Controller resources, whose entries expire after a fixed time to live. Concurrent lookups of a missing key are
+ * coalesced into a single load, as the cached value is the (replaying) {@link Mono} of that load. Failed and empty loads are not cached.
+ */
+class ResourceCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final long timeToLiveInNanos;
+    private final int maxSize;
+    private final LongSupplier nanoTimeSupplier;
+
+    ResourceCache(Duration timeToLive, int maxSize) {
+        this(timeToLive, maxSize, System::nanoTime);
+    }
+
+    ResourceCache(Duration timeToLive, int maxSize, LongSupplier nanoTimeSupplier) {
+        this.timeToLiveInNanos = timeToLive.toNanos();
+        this.maxSize = maxSize;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    public Mono<V> get(K key, Function<K, Mono<? extends V>> loader) {
+        return Mono.defer(() -> getEntry(key, loader).value);
+    }
+
+    /**
+     * @return the cached value, or an empty {@link Mono} if the key is not cached. Unlike {@link #get(Object, Function)}, this does not
+     *         affect the hit and load counts.
+     */
+    public Mono<V> getIfPresent(K key) {
+        return Mono.defer(() -> {
+            Entry<V> entry = entries.get(key);
+            return entry == null || isExpired(entry) ? Mono.empty() : entry.value;
+        });
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Entry<>(Mono.just(value), computeExpirationTime()));
+        evictIfNecessary();
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of lookups that were served from the cache, i.e. the number of requests that were saved
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of lookups that resulted in a load
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    private Entry<V> getEntry(K key, Function<K, Mono<? extends V>> loader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        Entry<V> entry = entries.compute(key, (k, existingEntry) -> {
+            if (existingEntry != null && !isExpired(existingEntry)) {
+                return existingEntry;
+            }
+            loaded.set(true);
+            return load(k, loader);
+        });
+        if (loaded.get()) {
+            loadCount.incrementAndGet();
+            evictIfNecessary();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    private Entry<V> load(K key, Function<K, Mono<? extends V>> loader) {
+        Entry<V> entry = new Entry<>(computeExpirationTime());
+        Mono<V> value = loader.apply(key)
+                              .map(Function.<V> identity());
+        entry.value = value.doOnError(e -> entries.remove(key, entry))
+                           .switchIfEmpty(Mono.fromRunnable(() -> entries.remove(key, entry)))
+                           .cache();
+        return entry;
+    }
+
+    private void evictIfNecessary() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        entries.values()
+               .removeIf(this::isExpired);
+        while (entries.size() > maxSize) {
+            entries.entrySet()
+                   .stream()
+                   .min(Comparator.comparingLong(mapEntry -> mapEntry.getValue().expirationTime))
+                   .ifPresent(mapEntry -> entries.remove(mapEntry.getKey(), mapEntry.getValue()));
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return nanoTimeSupplier.getAsLong() - entry.expirationTime >= 0;
+    }
+
+    private long computeExpirationTime() {
+        return nanoTimeSupplier.getAsLong() + timeToLiveInNanos;
+    }
+
+    private static class Entry<V> {
+
+        private final long expirationTime;
+        private Mono<V> value;
+
+        Entry(long expirationTime) {
+            this.expirationTime = expirationTime;
+        }
+
+        Entry(Mono<V> value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * The checksum of a resource in the resource matching API of the Cloud Controller.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableResourceChecksum.class)
+@JsonDeserialize(as = ImmutableResourceChecksum.class)
+interface ResourceChecksum {
+
+    /**
+     * @return the SHA-1 checksum of the file as a hexadecimal string
+     */
+    @Value.Parameter
+    String getValue();
+
+}
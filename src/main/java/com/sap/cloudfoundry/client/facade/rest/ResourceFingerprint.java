@@ -0,0 +1,73 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.util.Objects;
+
+/**
+ * Identifies a file of an application by its SHA-1 checksum and size, as expected by the resource matching API of the Cloud Controller.
+ */
+final class ResourceFingerprint {
+
+    /**
+     * The mode, with which matched files are restored by the Cloud Controller, if their archive entries have no Unix permissions. It keeps
+     * scripts executable.
+     */
+    static final String DEFAULT_MODE = "744";
+
+    private final String path;
+    private final String sha1;
+    private final long size;
+    private final String mode;
+
+    /**
+     * @param mode the Unix permissions of the file as an octal string, or {@code null} to use {@link #DEFAULT_MODE}
+     */
+    ResourceFingerprint(String path, String sha1, long size, String mode) {
+        this.path = path;
+        this.sha1 = sha1;
+        this.size = size;
+        this.mode = mode == null ? DEFAULT_MODE : mode;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    String getSha1() {
+        return sha1;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    String getMode() {
+        return mode;
+    }
+
+    MatchedResource toMatchedResource() {
+        return ImmutableMatchedResource.builder()
+                                       .checksum(ImmutableResourceChecksum.of(sha1))
+                                       .size(size)
+                                       .path(path)
+                                       .mode(mode)
+                                       .build();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof ResourceFingerprint)) {
+            return false;
+        }
+        ResourceFingerprint other = (ResourceFingerprint) object;
+        return size == other.size && path.equals(other.path) && sha1.equals(other.sha1) && mode.equals(other.mode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, sha1, size, mode);
+    }
+
+}
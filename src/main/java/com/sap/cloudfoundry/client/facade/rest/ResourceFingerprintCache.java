@@ -0,0 +1,298 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.text.MessageFormat;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the SHA-1 checksums of application files on disk, so that the files of an application, which are deployed again, do not have to
+ * be hashed again. A checksum is keyed by the path, size and modification time of its file and, for archive entries, by their CRC-32 as
+ * well, which makes it unlikely that a changed file is mistaken for an unchanged one. The cache is bounded: once it has more than the
+ * maximum number of entries, those that were used least recently are evicted. It is thread-safe. Failures to read or write the cache file
+ * are logged, but do not fail the upload, as the checksums can always be computed again.
+ * <p>
+ * As the cached checksums decide which files are uploaded, the cache file is kept in a directory of the current user, which is only
+ * accessible by that user, and a cache file owned by another user is ignored.
+ */
+class ResourceFingerprintCache {
+
+    /**
+     * The system property, with which the location of the cache file can be overridden.
+     */
+    static final String LOCATION_PROPERTY = "cloudfoundry.client.resourceFingerprintCache";
+    static final Path DEFAULT_LOCATION = getDefaultLocation();
+    static final long NO_CHECKSUM = -1;
+    private static final int MAX_SIZE = 200_000;
+    private static final String SEPARATOR = "\t";
+    private static final Set<PosixFilePermission> DIRECTORY_PERMISSIONS = PosixFilePermissions.fromString("rwx------");
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceFingerprintCache.class);
+
+    private final Path file;
+    private final int maxSize;
+    private final UserPrincipal owner;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Orders the uses of the entries, including those of earlier loads of the cache, from the least to the most recent one.
+     */
+    private final AtomicLong useCounter = new AtomicLong();
+    private volatile boolean modified;
+
+    private ResourceFingerprintCache(Path file, int maxSize, UserPrincipal owner) {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.owner = owner;
+    }
+
+    static ResourceFingerprintCache load(Path file) {
+        return load(file, MAX_SIZE);
+    }
+
+    static ResourceFingerprintCache load(Path file, int maxSize) {
+        return load(file, maxSize, getCurrentUser());
+    }
+
+    /**
+     * @param owner the user, who must own the cache file for it to be loaded, or {@code null} if ownership cannot be checked
+     */
+    static ResourceFingerprintCache load(Path file, int maxSize, UserPrincipal owner) {
+        ResourceFingerprintCache cache = new ResourceFingerprintCache(file, maxSize, owner);
+        cache.read();
+        return cache;
+    }
+
+    /**
+     * @return the location specified by {@link #LOCATION_PROPERTY}, or else {@code cf-java-client/resource-fingerprints} in the cache
+     *         directory of the user, which is {@code $XDG_CACHE_HOME} or {@code ~/.cache}
+     */
+    private static Path getDefaultLocation() {
+        String location = System.getProperty(LOCATION_PROPERTY);
+        if (location != null && !location.isEmpty()) {
+            return Paths.get(location);
+        }
+        String cacheHome = System.getenv("XDG_CACHE_HOME");
+        Path cacheHomePath = cacheHome == null ? null : Paths.get(cacheHome);
+        Path cacheDirectory = cacheHomePath != null && cacheHomePath.isAbsolute() ? cacheHomePath
+            : Paths.get(System.getProperty("user.home"), ".cache");
+        return cacheDirectory.resolve("cf-java-client")
+                             .resolve("resource-fingerprints");
+    }
+
+    private static UserPrincipal getCurrentUser() {
+        try {
+            return FileSystems.getDefault()
+                              .getUserPrincipalLookupService()
+                              .lookupPrincipalByName(System.getProperty("user.name"));
+        } catch (IOException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the cached SHA-1 checksum of the file, or {@code null} if there is none
+     */
+    public String get(String path, long size, long lastModified, long checksum) {
+        Entry entry = entries.get(new Key(path, size, lastModified, checksum));
+        if (entry == null) {
+            return null;
+        }
+        entry.lastUse = useCounter.incrementAndGet();
+        return entry.sha1;
+    }
+
+    public void put(String path, long size, long lastModified, long checksum, String sha1) {
+        if (containsLineBreak(path)) {
+            return;
+        }
+        entries.put(new Key(path, size, lastModified, checksum), new Entry(sha1, useCounter.incrementAndGet()));
+        modified = true;
+        if (entries.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    private synchronized void evictLeastRecentlyUsed() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        // A tenth of the entries is evicted at once, so that not every put has to look for the least recently used entry.
+        int evictedCount = entries.size() - (maxSize - maxSize / 10);
+        entries.entrySet()
+               .stream()
+               .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUse))
+               .limit(evictedCount)
+               .map(Map.Entry::getKey)
+               .collect(Collectors.toList())
+               .forEach(entries::remove);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes the cache to its file, if it was modified since it was loaded or last saved.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        modified = false;
+        List<Map.Entry<Key, Entry>> entriesToSave = entries.entrySet()
+                                                           .stream()
+                                                           .sorted(Comparator.comparingLong(entry -> -entry.getValue().lastUse))
+                                                           .limit(maxSize)
+                                                           .collect(Collectors.toList());
+        try {
+            createDirectory(file.getParent());
+            Path temporaryFile = Files.createTempFile(file.getParent(), "resource-fingerprints", null);
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<Key, Entry> entry : entriesToSave) {
+                    writer.write(toLine(entry.getKey(), entry.getValue()));
+                    writer.newLine();
+                }
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn(MessageFormat.format("Could not save the resource fingerprint cache \"{0}\": {1}", file, e.getMessage()), e);
+        }
+    }
+
+    private static void createDirectory(Path directory) throws IOException {
+        if (Files.isDirectory(directory)) {
+            return;
+        }
+        if (FileSystems.getDefault()
+                       .supportedFileAttributeViews()
+                       .contains("posix")) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(DIRECTORY_PERMISSIONS));
+        } else {
+            Files.createDirectories(directory);
+        }
+    }
+
+    private void read() {
+        if (!isOwnedByCurrentUser()) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                addLine(line);
+            }
+            evictLeastRecentlyUsed();
+        } catch (NoSuchFileException e) {
+            // Nothing was cached yet.
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn(MessageFormat.format("Could not load the resource fingerprint cache \"{0}\": {1}", file, e.getMessage()), e);
+            entries.clear();
+        }
+    }
+
+    private boolean isOwnedByCurrentUser() {
+        if (owner == null || !Files.exists(file)) {
+            return true;
+        }
+        try {
+            UserPrincipal fileOwner = Files.getOwner(file);
+            if (owner.equals(fileOwner)) {
+                return true;
+            }
+            LOGGER.warn(MessageFormat.format("Ignoring the resource fingerprint cache \"{0}\", because it is owned by {1} instead of {2}",
+                                             file, fileOwner.getName(), owner.getName()));
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn(MessageFormat.format("Ignoring the resource fingerprint cache \"{0}\", because its owner could not be checked: {1}",
+                                             file, e.getMessage()),
+                        e);
+        }
+        return false;
+    }
+
+    private void addLine(String line) {
+        // The path is the last field, as it may contain the separator.
+        String[] fields = line.split(SEPARATOR, 6);
+        if (fields.length != 6) {
+            return;
+        }
+        Key key = new Key(fields[5], Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+        long lastUse = Long.parseLong(fields[4]);
+        entries.put(key, new Entry(fields[3], lastUse));
+        useCounter.accumulateAndGet(lastUse, Math::max);
+    }
+
+    private static String toLine(Key key, Entry entry) {
+        return String.join(SEPARATOR, Long.toString(key.size), Long.toString(key.lastModified), Long.toString(key.checksum), entry.sha1,
+                           Long.toString(entry.lastUse), key.path);
+    }
+
+    private static boolean containsLineBreak(String path) {
+        return path.indexOf('\n') >= 0 || path.indexOf('\r') >= 0;
+    }
+
+    private static class Key {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+        private final long checksum;
+
+        Key(String path, long size, long lastModified, long checksum) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) object;
+            return size == other.size && lastModified == other.lastModified && checksum == other.checksum && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, lastModified, checksum);
+        }
+
+    }
+
+    private static class Entry {
+
+        private final String sha1;
+        private volatile long lastUse;
+
+        Entry(String sha1, long lastUse) {
+            this.sha1 = sha1;
+            this.lastUse = lastUse;
+        }
+
+    }
+
+}
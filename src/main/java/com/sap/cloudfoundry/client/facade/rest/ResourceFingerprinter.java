@@ -0,0 +1,139 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Fingerprints the files of application archives for resource matching. The entries of an archive are hashed in parallel in a fork/join
+ * pool, and their checksums are kept in a {@link ResourceFingerprintCache}, so that the files of an application, which are deployed again,
+ * are not hashed again.
+ */
+class ResourceFingerprinter {
+
+    /**
+     * The number of entries, below which the entries of a task are hashed sequentially instead of being split among subtasks.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 32;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ForkJoinPool pool;
+    private final ResourceFingerprintCache cache;
+
+    ResourceFingerprinter(ForkJoinPool pool, ResourceFingerprintCache cache) {
+        this.pool = pool;
+        this.cache = cache;
+    }
+
+    /**
+     * @return the fingerprinter shared by all clients, which caches checksums in {@link ResourceFingerprintCache#DEFAULT_LOCATION}
+     */
+    static ResourceFingerprinter getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * @return the fingerprints of the files of the archive, in the order of their entries
+     */
+    public List<ResourceFingerprint> fingerprint(Path archive) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            List<ZipEntry> entries = Collections.list(zipFile.entries())
+                                                .stream()
+                                                .filter(entry -> !entry.isDirectory())
+                                                .collect(Collectors.toList());
+            Map<String, String> modes = ApplicationArchive.readModes(archive);
+            ResourceFingerprint[] fingerprints = new ResourceFingerprint[entries.size()];
+            try {
+                pool.invoke(new FingerprintTask(zipFile, modes, entries, fingerprints, 0, entries.size()));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            cache.save();
+            return Arrays.asList(fingerprints);
+        }
+    }
+
+    private ResourceFingerprint fingerprint(ZipFile zipFile, ZipEntry entry, String mode, byte[] buffer) throws IOException {
+        long checksum = entry.getCrc();
+        if (checksum != ResourceFingerprintCache.NO_CHECKSUM) {
+            String sha1 = cache.get(entry.getName(), entry.getSize(), entry.getTime(), checksum);
+            if (sha1 != null) {
+                return new ResourceFingerprint(entry.getName(), sha1, entry.getSize(), mode);
+            }
+        }
+        ResourceFingerprint fingerprint;
+        try (InputStream inputStream = zipFile.getInputStream(entry)) {
+            fingerprint = ApplicationArchive.fingerprint(entry.getName(), mode, inputStream, buffer);
+        }
+        if (checksum != ResourceFingerprintCache.NO_CHECKSUM) {
+            cache.put(entry.getName(), fingerprint.getSize(), entry.getTime(), checksum, fingerprint.getSha1());
+        }
+        return fingerprint;
+    }
+
+    private class FingerprintTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient ZipFile zipFile;
+        private final transient Map<String, String> modes;
+        private final transient List<ZipEntry> entries;
+        private final ResourceFingerprint[] fingerprints;
+        private final int from;
+        private final int to;
+
+        FingerprintTask(ZipFile zipFile, Map<String, String> modes, List<ZipEntry> entries, ResourceFingerprint[] fingerprints, int from,
+                        int to) {
+            this.zipFile = zipFile;
+            this.modes = modes;
+            this.entries = entries;
+            this.fingerprints = fingerprints;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                computeSequentially();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FingerprintTask(zipFile, modes, entries, fingerprints, from, middle),
+                      new FingerprintTask(zipFile, modes, entries, fingerprints, middle, to));
+        }
+
+        private void computeSequentially() {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try {
+                for (int i = from; i < to; i++) {
+                    ZipEntry entry = entries.get(i);
+                    fingerprints[i] = fingerprint(zipFile, entry, modes.get(entry.getName()), buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+    private static class DefaultHolder {
+
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime()
+                                                                         .availableProcessors());
+        private static final ResourceFingerprintCache CACHE = ResourceFingerprintCache.load(ResourceFingerprintCache.DEFAULT_LOCATION);
+        private static final ResourceFingerprinter INSTANCE = new ResourceFingerprinter(POOL, CACHE);
+
+    }
+
+}
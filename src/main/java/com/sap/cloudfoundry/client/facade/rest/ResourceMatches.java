@@ -0,0 +1,20 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.util.List;
+
+import org.immutables.value.Value;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * The body of the requests to and the responses of {@code POST /v3/resource_matches}.
+ */
+@Value.Immutable
+@JsonSerialize(as = ImmutableResourceMatches.class)
+@JsonDeserialize(as = ImmutableResourceMatches.class)
+interface ResourceMatches {
+
+    List<MatchedResource> getResources();
+
+}
@@ -0,0 +1,85 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.serviceplans.ServicePlanEntity;
+import org.cloudfoundry.client.v2.services.ServiceEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches the services and service plans used when deriving service instances and offerings. Many service instances share a small number
+ * of plans, so this saves up to two requests per managed service instance. The visibility of services and plans depends on the user, which
+ * is why each client has its own cache. The cache must be invalidated whenever the service brokers, which provide the services and plans,
+ * are changed.
+ */
+class ServiceOfferingCache {
+
+    static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
+    static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final ResourceCache<UUID, Resource<ServiceEntity>> services;
+    private final ResourceCache<UUID, Resource<ServicePlanEntity>> servicePlans;
+    private final ResourceCache<UUID, List<Resource<ServicePlanEntity>>> servicePlansByServiceGuid;
+
+    ServiceOfferingCache() {
+        this(DEFAULT_TIME_TO_LIVE, DEFAULT_MAX_SIZE);
+    }
+
+    ServiceOfferingCache(Duration timeToLive, int maxSize) {
+        this.services = new ResourceCache<>(timeToLive, maxSize);
+        this.servicePlans = new ResourceCache<>(timeToLive, maxSize);
+        this.servicePlansByServiceGuid = new ResourceCache<>(timeToLive, maxSize);
+    }
+
+    public Mono<Resource<ServiceEntity>> getService(UUID serviceGuid, Function<UUID, Mono<? extends Resource<ServiceEntity>>> loader) {
+        return services.get(serviceGuid, loader);
+    }
+
+    public void putService(Resource<ServiceEntity> service) {
+        services.put(getGuid(service), service);
+    }
+
+    public Mono<Resource<ServicePlanEntity>> getServicePlan(UUID servicePlanGuid,
+                                                           Function<UUID, Mono<? extends Resource<ServicePlanEntity>>> loader) {
+        return servicePlans.get(servicePlanGuid, loader);
+    }
+
+    public Flux<Resource<ServicePlanEntity>> getServicePlans(UUID serviceGuid,
+                                                             Function<UUID, Flux<? extends Resource<ServicePlanEntity>>> loader) {
+        return servicePlansByServiceGuid.get(serviceGuid, key -> loadServicePlans(key, loader))
+                                        .flatMapIterable(Function.identity());
+    }
+
+    public void invalidateAll() {
+        services.invalidateAll();
+        servicePlans.invalidateAll();
+        servicePlansByServiceGuid.invalidateAll();
+    }
+
+    /**
+     * @return the number of service and service plan lookups that were served from the cache
+     */
+    public long getSavedRequestsCount() {
+        return services.getHitCount() + servicePlans.getHitCount() + servicePlansByServiceGuid.getHitCount();
+    }
+
+    private Mono<List<Resource<ServicePlanEntity>>> loadServicePlans(UUID serviceGuid,
+                                                                     Function<UUID, Flux<? extends Resource<ServicePlanEntity>>> loader) {
+        return loader.apply(serviceGuid)
+                     .<Resource<ServicePlanEntity>> map(Function.identity())
+                     .doOnNext(servicePlan -> servicePlans.put(getGuid(servicePlan), servicePlan))
+                     .collectList();
+    }
+
+    private static UUID getGuid(Resource<?> resource) {
+        return UUID.fromString(resource.getMetadata()
+                                       .getId());
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.immutables.value.Value;
+import org.springframework.util.Assert;
+
+/**
+ * Controls for how long the resources of the targeted space are served from the snapshot of a {@link CachingCloudControllerRestClient},
+ * before they are requested from the Cloud Controller again.
+ */
+@Value.Immutable
+public abstract class SnapshotCacheSettings {
+
+    public static final SnapshotCacheSettings DEFAULT = ImmutableSnapshotCacheSettings.builder()
+                                                                                      .build();
+
+    /**
+     * @return the time to live of the cached resources, used unless overridden for a specific resource type
+     */
+    @Value.Default
+    public Duration getTimeToLive() {
+        return Duration.ofSeconds(30);
+    }
+
+    public abstract Map<CachedResourceType, Duration> getTimeToLiveOverrides();
+
+    /**
+     * @return the maximum number of entries cached for each resource type
+     */
+    @Value.Default
+    public int getMaxSize() {
+        return 1000;
+    }
+
+    public Duration getTimeToLive(CachedResourceType resourceType) {
+        return getTimeToLiveOverrides().getOrDefault(resourceType, getTimeToLive());
+    }
+
+    @Value.Check
+    protected void validate() {
+        Assert.isTrue(!getTimeToLive().isNegative() && !getTimeToLive().isZero(), "Time to live must be positive");
+        getTimeToLiveOverrides().values()
+                                .forEach(timeToLive -> Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(),
+                                                                     "Time to live must be positive"));
+        Assert.isTrue(getMaxSize() > 0, "Max size must be positive");
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.stacks.StackEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches the stacks of a Cloud Foundry installation by GUID and by name. Stacks are rarely changed and are visible to all users, so a
+ * single cache is shared by all clients of the same Cloud Controller.
+ */
+class StackCache {
+
+    static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final int MAX_SIZE = 100;
+    private static final String ALL_STACKS_KEY = "*";
+    private static final Map<String, StackCache> SHARED_CACHES = new ConcurrentHashMap<>();
+
+    private final ResourceCache<UUID, Resource<StackEntity>> stacksByGuid;
+    private final ResourceCache<String, Resource<StackEntity>> stacksByName;
+    private final ResourceCache<String, List<Resource<StackEntity>>> allStacks;
+
+    StackCache(Duration timeToLive) {
+        this(new ResourceCache<>(timeToLive, MAX_SIZE), new ResourceCache<>(timeToLive, MAX_SIZE), new ResourceCache<>(timeToLive, 1));
+    }
+
+    StackCache(ResourceCache<UUID, Resource<StackEntity>> stacksByGuid, ResourceCache<String, Resource<StackEntity>> stacksByName,
+               ResourceCache<String, List<Resource<StackEntity>>> allStacks) {
+        this.stacksByGuid = stacksByGuid;
+        this.stacksByName = stacksByName;
+        this.allStacks = allStacks;
+    }
+
+    static StackCache forController(URL controllerUrl) {
+        return SHARED_CACHES.computeIfAbsent(controllerUrl.toString(), url -> new StackCache(DEFAULT_TIME_TO_LIVE));
+    }
+
+    public Mono<Resource<StackEntity>> getStack(UUID guid, Function<UUID, Mono<? extends Resource<StackEntity>>> loader) {
+        return stacksByGuid.get(guid, key -> loader.apply(key)
+                                                   .doOnNext(stack -> stacksByName.put(getName(stack), stack)));
+    }
+
+    public Mono<Resource<StackEntity>> getStack(String name, Function<String, Mono<? extends Resource<StackEntity>>> loader) {
+        return stacksByName.get(name, key -> loader.apply(key)
+                                                   .doOnNext(stack -> stacksByGuid.put(getGuid(stack), stack)));
+    }
+
+    public Flux<Resource<StackEntity>> getStacks(Supplier<Flux<? extends Resource<StackEntity>>> loader) {
+        return allStacks.get(ALL_STACKS_KEY, key -> loadAllStacks(loader))
+                        .flatMapIterable(Function.identity());
+    }
+
+    public void invalidateAll() {
+        stacksByGuid.invalidateAll();
+        stacksByName.invalidateAll();
+        allStacks.invalidateAll();
+    }
+
+    /**
+     * @return the number of stack lookups that were served from the cache, instead of with a request to the Cloud Controller
+     */
+    public long getSavedRequestsCount() {
+        return stacksByGuid.getHitCount() + stacksByName.getHitCount() + allStacks.getHitCount();
+    }
+
+    private Mono<List<Resource<StackEntity>>> loadAllStacks(Supplier<Flux<? extends Resource<StackEntity>>> loader) {
+        return loader.get()
+                     .<Resource<StackEntity>> map(Function.identity())
+                     .doOnNext(stack -> {
+                         stacksByGuid.put(getGuid(stack), stack);
+                         stacksByName.put(getName(stack), stack);
+                     })
+                     .collectList();
+    }
+
+    private static UUID getGuid(Resource<StackEntity> stack) {
+        return UUID.fromString(stack.getMetadata()
+                                    .getId());
+    }
+
+    private static String getName(Resource<StackEntity> stack) {
+        return stack.getEntity()
+                    .getName();
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.domain.CloudEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Watches Cloud Controller entities of one type, until they reach a terminal state. Instead of one request per entity, the entities that
+ * are watched at the time of a tick are polled together, with as few list requests as their filters fit in. An entity is identified by a
+ * key, e.g. its GUID or its name, and is listed by filtering on its key, unless it is watched with another filter, e.g. the GUID of the
+ * package of a build. Ticks are scheduled only while there are entities to watch.
+ */
+class StatusWatcher<K, T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatusWatcher.class);
+
+    static final Duration DEFAULT_POLLING_INTERVAL = Duration.ofSeconds(2);
+    static final int MAX_CONSECUTIVE_FAILED_POLLS = 3;
+
+    private final Function<List<K>, Flux<T>> batchLoader;
+    private final Function<List<K>, List<List<K>>> batcher;
+    private final Function<T, K> keyExtractor;
+    private final Predicate<T> terminalState;
+    private final Duration pollingInterval;
+    private final Scheduler scheduler;
+    private final Map<K, Watch<K, T>> watches = new ConcurrentHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private int consecutiveFailedPolls;
+
+    /**
+     * @param batchLoader lists the entities, which match a batch of filters
+     * @param batcher splits the filters of a tick into batches, which fit in one list request
+     * @param keyExtractor the key of a listed entity
+     */
+    StatusWatcher(Function<List<K>, Flux<T>> batchLoader, Function<List<K>, List<List<K>>> batcher, Function<T, K> keyExtractor,
+                  Predicate<T> terminalState) {
+        this(batchLoader, batcher, keyExtractor, terminalState, DEFAULT_POLLING_INTERVAL, Schedulers.parallel());
+    }
+
+    StatusWatcher(Function<List<K>, Flux<T>> batchLoader, Function<List<K>, List<List<K>>> batcher, Function<T, K> keyExtractor,
+                  Predicate<T> terminalState, Duration pollingInterval, Scheduler scheduler) {
+        this.batchLoader = batchLoader;
+        this.batcher = batcher;
+        this.keyExtractor = keyExtractor;
+        this.terminalState = terminalState;
+        this.pollingInterval = pollingInterval;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Creates a watcher of entities, which are identified and listed by their GUIDs.
+     */
+    static <T extends CloudEntity> StatusWatcher<UUID, T> byGuid(Function<List<UUID>, Flux<T>> batchLoader,
+                                                                 Function<List<UUID>, List<List<UUID>>> batcher,
+                                                                 Predicate<T> terminalState, Duration pollingInterval) {
+        return new StatusWatcher<>(batchLoader, batcher, StatusWatcher::getGuid, terminalState, pollingInterval, Schedulers.parallel());
+    }
+
+    private static UUID getGuid(CloudEntity entity) {
+        return entity.getMetadata()
+                     .getGuid();
+    }
+
+    public CompletableFuture<T> watch(K key) {
+        return watch(key, key);
+    }
+
+    /**
+     * @return a future, which is completed with the entity, once it is polled in a terminal state, or exceptionally, if it is not listed
+     *         any more or the polls keep failing. Cancelling it does not affect other watchers of the same entity. Once all watchers of
+     *         the entity have cancelled their futures, it is not polled any more.
+     */
+    public CompletableFuture<T> watch(K key, K filter) {
+        Watch<K, T> watch = watches.compute(key, (watchedKey, existingWatch) -> {
+            Watch<K, T> keyWatch = existingWatch == null ? new Watch<>(filter) : existingWatch;
+            keyWatch.watchers++;
+            return keyWatch;
+        });
+        schedulePoll();
+        CompletableFuture<T> future = watch.future.copy();
+        future.whenComplete((entity, e) -> {
+            if (future.isCancelled()) {
+                release(key, watch);
+            }
+        });
+        return future;
+    }
+
+    private void release(K key, Watch<K, T> watch) {
+        watches.computeIfPresent(key, (watchedKey, existingWatch) -> existingWatch == watch && --existingWatch.watchers == 0 ? null
+            : existingWatch);
+    }
+
+    int getWatchedCount() {
+        return watches.size();
+    }
+
+    private void schedulePoll() {
+        if (watches.isEmpty() || !polling.compareAndSet(false, true)) {
+            return;
+        }
+        Mono.delay(pollingInterval, scheduler)
+            .then(Mono.defer(this::poll))
+            .doFinally(signal -> {
+                polling.set(false);
+                schedulePoll();
+            })
+            .subscribe();
+    }
+
+    private Mono<Void> poll() {
+        Map<K, Watch<K, T>> polledWatches = new HashMap<>(watches);
+        List<K> filters = polledWatches.values()
+                                       .stream()
+                                       .map(watch -> watch.filter)
+                                       .distinct()
+                                       .collect(Collectors.toList());
+        return Flux.fromIterable(batcher.apply(filters))
+                   .concatMap(batchLoader)
+                   .collectMap(keyExtractor)
+                   .doOnNext(entities -> complete(polledWatches, entities))
+                   .onErrorResume(e -> {
+                       handleFailedPoll(polledWatches, e);
+                       return Mono.empty();
+                   })
+                   .then();
+    }
+
+    private void complete(Map<K, Watch<K, T>> polledWatches, Map<K, T> entities) {
+        consecutiveFailedPolls = 0;
+        polledWatches.forEach((key, watch) -> {
+            T entity = entities.get(key);
+            if (entity == null) {
+                watches.remove(key);
+                watch.future.completeExceptionally(new CloudOperationException(HttpStatus.NOT_FOUND, "Not Found",
+                                                                               "Entity " + key + " not found."));
+            } else if (terminalState.test(entity)) {
+                watches.remove(key);
+                watch.future.complete(entity);
+            }
+        });
+    }
+
+    private void handleFailedPoll(Map<K, Watch<K, T>> polledWatches, Throwable e) {
+        consecutiveFailedPolls++;
+        LOGGER.warn(MessageFormat.format("Could not poll the states of {0} entities: {1}", polledWatches.size(), e.getMessage()), e);
+        if (consecutiveFailedPolls < MAX_CONSECUTIVE_FAILED_POLLS) {
+            return;
+        }
+        consecutiveFailedPolls = 0;
+        polledWatches.forEach((key, watch) -> {
+            watches.remove(key);
+            watch.future.completeExceptionally(e);
+        });
+    }
+
+    private static class Watch<K, T> {
+
+        private final K filter;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private int watchers;
+
+        Watch(K filter) {
+            this.filter = filter;
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.Status;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Polls the status of package uploads, until they are processed by the Cloud Controller. No thread is held while waiting for the next
+ * poll, as the polls of all uploads are scheduled on a shared scheduler. The polling interval starts short, so that small uploads are
+ * noticed to be ready quickly, and is doubled after each poll, up to a maximum. The callbacks of an upload are invoked on the bounded
+ * elastic scheduler, as they may block.
+ */
+class UploadStatusPoller {
+
+    static final Duration DEFAULT_INITIAL_INTERVAL = Duration.ofMillis(250);
+    static final Duration DEFAULT_MAX_INTERVAL = Duration.ofSeconds(5);
+
+    private final Function<UUID, Mono<Upload>> statusLoader;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final Scheduler scheduler;
+
+    UploadStatusPoller(Function<UUID, Mono<Upload>> statusLoader) {
+        this(statusLoader, DEFAULT_INITIAL_INTERVAL, DEFAULT_MAX_INTERVAL, Schedulers.parallel());
+    }
+
+    UploadStatusPoller(Function<UUID, Mono<Upload>> statusLoader, Duration initialInterval, Duration maxInterval, Scheduler scheduler) {
+        this.statusLoader = statusLoader;
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @return the last polled status of the upload, once it is ready, has failed, or the callback unsubscribed. Failures are reported to
+     *         {@link UploadStatusCallback#onError(String)} and are not signalled as errors, unless the status could not be polled.
+     */
+    public Mono<Upload> poll(UUID packageGuid, UploadStatusCallback callback) {
+        UploadStatusCallback uploadCallback = callback == null ? UploadStatusCallback.NONE : callback;
+        return Mono.defer(() -> {
+            Backoff backoff = new Backoff(initialInterval, maxInterval);
+            return Mono.defer(() -> statusLoader.apply(packageGuid))
+                       .repeatWhen(polls -> polls.concatMap(poll -> Mono.delay(backoff.nextInterval(), scheduler)))
+                       .publishOn(Schedulers.boundedElastic(), 1)
+                       .takeUntil(upload -> isDone(upload, uploadCallback))
+                       .last();
+        });
+    }
+
+    private static boolean isDone(Upload upload, UploadStatusCallback callback) {
+        Status status = upload.getStatus();
+        boolean unsubscribe = callback.onProgress(status.toString());
+        if (unsubscribe || status == Status.READY) {
+            return true;
+        }
+        if (status == Status.EXPIRED || status == Status.FAILED) {
+            callback.onError(upload.getErrorDetails()
+                                   .getDescription());
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -11,6 +11,7 @@ open module com.sap.cloudfoundry.client.facade {
     requires spring.web;
     requires spring.webflux;
     requires reactor.core;
+    requires io.netty.buffer;
     requires io.netty.handler;
     requires reactor.netty;
     requires org.apache.commons.logging;
@@ -0,0 +1,70 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.cloudfoundry.client.v3.Error;
+import org.cloudfoundry.client.v3.jobs.GetJobResponse;
+import org.cloudfoundry.client.v3.jobs.Job;
+import org.cloudfoundry.client.v3.jobs.JobState;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudJob;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableErrorDetails;
+
+public class RawCloudJobTest {
+
+    private static final String OPERATION = "app.delete";
+    private static final int ERROR_CODE = 10008;
+    private static final String ERROR_TITLE = "CF-UnprocessableEntity";
+    private static final String ERROR_DETAIL = "something went wrong";
+    private static final JobState STATE = JobState.FAILED;
+
+    private static final CloudJob.Status EXPECTED_STATUS = CloudJob.Status.FAILED;
+
+    @Test
+    public void testDerive() {
+        RawCloudEntityTest.testDerive(buildExpectedJob(), buildRawJob());
+    }
+
+    @Test
+    public void testDeriveWithJobInProgress() {
+        CloudJob job = ImmutableRawCloudJob.of(buildTestResource(JobState.PROCESSING))
+                                           .derive();
+
+        assertEquals(CloudJob.Status.RUNNING, job.getStatus());
+    }
+
+    private static CloudJob buildExpectedJob() {
+        return ImmutableCloudJob.builder()
+                                .metadata(RawCloudEntityTest.EXPECTED_METADATA_PARSED_FROM_V3_RESOURCE)
+                                .name(OPERATION)
+                                .status(EXPECTED_STATUS)
+                                .errorDetails(ImmutableErrorDetails.builder()
+                                                                   .code(ERROR_CODE)
+                                                                   .description(ERROR_DETAIL)
+                                                                   .errorCode(ERROR_TITLE)
+                                                                   .build())
+                                .build();
+    }
+
+    private static RawCloudJob buildRawJob() {
+        return ImmutableRawCloudJob.of(buildTestResource(STATE));
+    }
+
+    private static Job buildTestResource(JobState state) {
+        return GetJobResponse.builder()
+                             .id(RawCloudEntityTest.GUID_STRING)
+                             .createdAt(RawCloudEntityTest.CREATED_AT_STRING)
+                             .updatedAt(RawCloudEntityTest.UPDATED_AT_STRING)
+                             .operation(OPERATION)
+                             .state(state)
+                             .error(Error.builder()
+                                         .code(ERROR_CODE)
+                                         .title(ERROR_TITLE)
+                                         .detail(ERROR_DETAIL)
+                                         .build())
+                             .build();
+    }
+
+}
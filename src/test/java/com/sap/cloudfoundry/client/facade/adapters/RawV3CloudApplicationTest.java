@@ -0,0 +1,273 @@
+package com.sap.cloudfoundry.client.facade.adapters;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.DockerData;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.LifecycleType;
+import org.cloudfoundry.client.v3.Relationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.droplets.Buildpack;
+import org.cloudfoundry.client.v3.droplets.DropletResource;
+import org.cloudfoundry.client.v3.droplets.DropletState;
+import org.cloudfoundry.client.v3.processes.Data;
+import org.cloudfoundry.client.v3.processes.HealthCheck;
+import org.cloudfoundry.client.v3.processes.HealthCheckType;
+import org.cloudfoundry.client.v3.processes.ProcessRelationships;
+import org.cloudfoundry.client.v3.processes.ProcessResource;
+import org.cloudfoundry.client.v3.routes.Application;
+import org.cloudfoundry.client.v3.routes.Destination;
+import org.cloudfoundry.client.v3.routes.RouteRelationships;
+import org.cloudfoundry.client.v3.routes.RouteResource;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableDockerInfo;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableStaging;
+import com.sap.cloudfoundry.client.facade.domain.PackageState;
+import com.sap.cloudfoundry.client.facade.domain.Staging;
+
+class RawV3CloudApplicationTest {
+
+    private static final int MEMORY = 256;
+    private static final int DISK_QUOTA = 512;
+    private static final int INSTANCES = 3;
+    private static final String BUILDPACK = "ruby_buildpack";
+    private static final String DETECTED_BUILDPACK = "ruby 2.7";
+    private static final String COMMAND = "rails server";
+    private static final String HEALTH_CHECK_HTTP_ENDPOINT = "/ping";
+    private static final Integer HEALTH_CHECK_TIMEOUT = 180;
+    private static final String STAGING_ERROR = "blabla";
+    private static final String DOCKER_IMAGE = "cloudfoundry/my-image";
+    private static final String STACK_NAME = "cflinuxfs3";
+    private static final String SPACE_NAME = "test";
+    private static final String ROUTE_GUID = "5b5b9d4b-6e1f-4a76-9e0b-0b4c4ad7cc25";
+    private static final String DOMAIN_GUID = "e2ff2b6b-c9c6-4d5a-9d2d-7a6fdb0e7d1e";
+    private static final String DOMAIN_NAME = "example.com";
+    private static final List<String> SERVICES = List.of("foo", "bar");
+    private static final CloudSpace SPACE = ImmutableCloudSpace.builder()
+                                                               .name(SPACE_NAME)
+                                                               .build();
+
+    @MethodSource
+    @ParameterizedTest
+    void testDerive(CloudApplication expectedApplication, RawV3CloudApplication rawApplication) {
+        RawCloudEntityTest.testDerive(expectedApplication, rawApplication);
+    }
+
+    public static Stream<Arguments> testDerive() {
+        return Stream.of(Arguments.of(buildApplication(), buildRawApplication()),
+                         Arguments.of(buildApplicationWithoutProcessAndDroplet(), buildRawApplicationWithoutProcessAndDroplet()),
+                         Arguments.of(buildDockerApplication(), buildRawDockerApplication()));
+    }
+
+    private static CloudApplication buildApplication() {
+        return ImmutableCloudApplication.builder()
+                                        .metadata(RawCloudEntityTest.EXPECTED_METADATA_V3)
+                                        .v3Metadata(RawCloudEntityTest.V3_METADATA)
+                                        .name(RawCloudEntityTest.NAME)
+                                        .routes(Collections.singleton(ImmutableCloudRouteSummary.builder()
+                                                                                                .host("foo")
+                                                                                                .path("/does/this/work")
+                                                                                                .domain(DOMAIN_NAME)
+                                                                                                .domainGuid(UUID.fromString(DOMAIN_GUID))
+                                                                                                .guid(UUID.fromString(ROUTE_GUID))
+                                                                                                .build()))
+                                        .memory(MEMORY)
+                                        .diskQuota(DISK_QUOTA)
+                                        .instances(INSTANCES)
+                                        .state(CloudApplication.State.STARTED)
+                                        .packageState(PackageState.FAILED)
+                                        .stagingError(STAGING_ERROR)
+                                        .staging(buildStaging())
+                                        .services(SERVICES)
+                                        .env(Collections.emptyMap())
+                                        .space(SPACE)
+                                        .build();
+    }
+
+    private static Staging buildStaging() {
+        return ImmutableStaging.builder()
+                               .buildpacks(List.of(BUILDPACK))
+                               .stack(STACK_NAME)
+                               .command(COMMAND)
+                               .detectedBuildpack(DETECTED_BUILDPACK)
+                               .healthCheckType("http")
+                               .healthCheckHttpEndpoint(HEALTH_CHECK_HTTP_ENDPOINT)
+                               .healthCheckTimeout(HEALTH_CHECK_TIMEOUT)
+                               .build();
+    }
+
+    private static CloudApplication buildApplicationWithoutProcessAndDroplet() {
+        return ImmutableCloudApplication.builder()
+                                        .from(buildApplication())
+                                        .memory(0)
+                                        .diskQuota(0)
+                                        .instances(1)
+                                        .routes(Collections.emptySet())
+                                        .services(Collections.emptyList())
+                                        .packageState(PackageState.PENDING)
+                                        .stagingError(null)
+                                        .staging(ImmutableStaging.builder()
+                                                                 .buildpacks(List.of(BUILDPACK))
+                                                                 .stack(STACK_NAME)
+                                                                 .build())
+                                        .build();
+    }
+
+    private static CloudApplication buildDockerApplication() {
+        return ImmutableCloudApplication.builder()
+                                        .from(buildApplicationWithoutProcessAndDroplet())
+                                        .packageState(PackageState.STAGED)
+                                        .staging(ImmutableStaging.builder()
+                                                                 .dockerInfo(ImmutableDockerInfo.builder()
+                                                                                                .image(DOCKER_IMAGE)
+                                                                                                .build())
+                                                                 .build())
+                                        .build();
+    }
+
+    private static RawV3CloudApplication buildRawApplication() {
+        return ImmutableRawV3CloudApplication.builder()
+                                             .application(buildApplicationResource(buildBuildpackLifecycle()))
+                                             .process(buildProcessResource())
+                                             .droplet(buildDropletResource())
+                                             .addRoute(buildRouteResource())
+                                             .domainNames(Map.of(DOMAIN_GUID, DOMAIN_NAME))
+                                             .services(SERVICES)
+                                             .space(SPACE)
+                                             .build();
+    }
+
+    private static RawV3CloudApplication buildRawApplicationWithoutProcessAndDroplet() {
+        return ImmutableRawV3CloudApplication.builder()
+                                             .application(buildApplicationResource(buildBuildpackLifecycle()))
+                                             .space(SPACE)
+                                             .build();
+    }
+
+    private static RawV3CloudApplication buildRawDockerApplication() {
+        return ImmutableRawV3CloudApplication.builder()
+                                             .application(buildApplicationResource(Lifecycle.builder()
+                                                                                            .type(LifecycleType.DOCKER)
+                                                                                            .data(DockerData.builder()
+                                                                                                            .build())
+                                                                                            .build()))
+                                             .droplet(DropletResource.builder()
+                                                                     .from(buildDropletResource())
+                                                                     .state(DropletState.STAGED)
+                                                                     .buildpacks(Collections.emptyList())
+                                                                     .error(null)
+                                                                     .image(DOCKER_IMAGE)
+                                                                     .build())
+                                             .space(SPACE)
+                                             .build();
+    }
+
+    private static Lifecycle buildBuildpackLifecycle() {
+        return Lifecycle.builder()
+                        .type(LifecycleType.BUILDPACK)
+                        .data(BuildpackData.builder()
+                                           .buildpack(BUILDPACK)
+                                           .stack(STACK_NAME)
+                                           .build())
+                        .build();
+    }
+
+    private static ApplicationResource buildApplicationResource(Lifecycle lifecycle) {
+        return ApplicationResource.builder()
+                                  .metadata(RawCloudEntityTest.V3_METADATA)
+                                  .createdAt(RawCloudEntityTest.CREATED_AT_STRING)
+                                  .updatedAt(RawCloudEntityTest.UPDATED_AT_STRING)
+                                  .state(ApplicationState.STARTED)
+                                  .id(RawCloudEntityTest.GUID_STRING)
+                                  .lifecycle(lifecycle)
+                                  .name(RawCloudEntityTest.NAME)
+                                  .build();
+    }
+
+    private static ProcessResource buildProcessResource() {
+        return ProcessResource.builder()
+                              .id(RawCloudEntityTest.GUID_STRING)
+                              .createdAt(RawCloudEntityTest.CREATED_AT_STRING)
+                              .type("web")
+                              .command(COMMAND)
+                              .instances(INSTANCES)
+                              .memoryInMb(MEMORY)
+                              .diskInMb(DISK_QUOTA)
+                              .healthCheck(HealthCheck.builder()
+                                                      .type(HealthCheckType.HTTP)
+                                                      .data(Data.builder()
+                                                                .endpoint(HEALTH_CHECK_HTTP_ENDPOINT)
+                                                                .timeout(HEALTH_CHECK_TIMEOUT)
+                                                                .build())
+                                                      .build())
+                              .metadata(RawCloudEntityTest.V3_METADATA)
+                              .relationships(ProcessRelationships.builder()
+                                                                 .app(ToOneRelationship.builder()
+                                                                                       .data(Relationship.builder()
+                                                                                                         .id(RawCloudEntityTest.GUID_STRING)
+                                                                                                         .build())
+                                                                                       .build())
+                                                                 .build())
+                              .build();
+    }
+
+    private static DropletResource buildDropletResource() {
+        return DropletResource.builder()
+                              .id(RawCloudEntityTest.GUID_STRING)
+                              .createdAt(RawCloudEntityTest.CREATED_AT_STRING)
+                              .state(DropletState.FAILED)
+                              .error(STAGING_ERROR)
+                              .lifecycle(buildBuildpackLifecycle())
+                              .executionMetadata("")
+                              .buildpack(Buildpack.builder()
+                                                  .name(BUILDPACK)
+                                                  .buildpackName(BUILDPACK)
+                                                  .detectOutput(DETECTED_BUILDPACK)
+                                                  .build())
+                              .build();
+    }
+
+    private static RouteResource buildRouteResource() {
+        return RouteResource.builder()
+                            .id(ROUTE_GUID)
+                            .createdAt(RawCloudEntityTest.CREATED_AT_STRING)
+                            .host("foo")
+                            .path("/does/this/work")
+                            .url("foo.example.com/does/this/work")
+                            .metadata(RawCloudEntityTest.V3_METADATA)
+                            .relationships(RouteRelationships.builder()
+                                                             .domain(ToOneRelationship.builder()
+                                                                                      .data(Relationship.builder()
+                                                                                                        .id(DOMAIN_GUID)
+                                                                                                        .build())
+                                                                                      .build())
+                                                             .space(ToOneRelationship.builder()
+                                                                                     .data(Relationship.builder()
+                                                                                                       .id(RawCloudEntityTest.GUID_STRING)
+                                                                                                       .build())
+                                                                                     .build())
+                                                             .build())
+                            .destination(Destination.builder()
+                                                    .application(Application.builder()
+                                                                            .applicationId(RawCloudEntityTest.GUID_STRING)
+                                                                            .build())
+                                                    .build())
+                            .build();
+    }
+
+}
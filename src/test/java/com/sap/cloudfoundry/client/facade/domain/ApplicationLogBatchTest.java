@@ -0,0 +1,183 @@
+package com.sap.cloudfoundry.client.facade.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class ApplicationLogBatchTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationLogBatchTest.class);
+
+    private static final String APPLICATION_GUID = "1803e5a7-40c7-438e-b2be-e2045c9b7cda";
+    private static final String SOURCE_NAME = "APP/PROC/WEB";
+    private static final int BENCHMARK_LOG_COUNT = 200_000;
+    private static final int BENCHMARK_ROUNDS = 5;
+
+    @Test
+    void testLogsAreOrderedByTimestamp() {
+        ApplicationLogBatch batch = ApplicationLogBatch.builder()
+                                                       .add(buildLog("third", 3000))
+                                                       .add(buildLog("first", 1000))
+                                                       .add(buildLog("second", 2000))
+                                                       .add(buildLog("also third", 3000))
+                                                       .build();
+
+        assertEquals(List.of("first", "second", "third", "also third"), getMessages(batch));
+        assertEquals(1000, batch.getTimestamp(0));
+    }
+
+    @Test
+    void testViewMaterializesEqualLogs() {
+        List<ApplicationLog> logs = new ArrayList<>();
+        ApplicationLogBatch.Builder builder = ApplicationLogBatch.builder();
+        for (int i = 0; i < 1000; i++) {
+            ApplicationLog log = buildLog("message " + i, i);
+            logs.add(log);
+            builder.add(log);
+        }
+
+        ApplicationLogBatch batch = builder.build();
+
+        assertEquals(logs, batch.asList());
+    }
+
+    @Test
+    void testSourceNamesAreStoredOnce() {
+        ApplicationLogBatch batch = ApplicationLogBatch.builder()
+                                                       .add(buildLog("first", 1000))
+                                                       .add(buildLog("second", 2000))
+                                                       .build();
+
+        assertSame(batch.getSourceName(0), batch.getSourceName(1));
+        assertSame(batch.getApplicationGuid(0), batch.getApplicationGuid(1));
+    }
+
+    @Test
+    void testMessageView() {
+        ApplicationLogBatch batch = ApplicationLogBatch.builder()
+                                                       .add(buildLog("first", 1000))
+                                                       .add(buildLog("ERROR: second", 2000))
+                                                       .build();
+
+        CharSequence message = batch.getMessageView(1);
+
+        assertEquals("ERROR", message.subSequence(0, 5)
+                                     .toString());
+        assertEquals(13, message.length());
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        ApplicationLogBatch batch = ApplicationLogBatch.builder()
+                                                       .add(buildLog("first", 1000))
+                                                       .build();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.getMessage(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.asList()
+                                                                 .get(-1));
+    }
+
+    /**
+     * Logs the time and the memory allocated by the current thread to collect logs, once as a sorted list with one {@link ApplicationLog}
+     * per message, as returned by {@code getRecentLogs}, and once as a batch, as returned by {@code getRecentLogBatch}. Every log gets its
+     * own copies of the application GUID and source name, like logs decoded from envelopes. Run with
+     * {@code mvn test -Dtest=ApplicationLogBatchTest -Dbenchmark=true} and an SLF4J binding on the test class path.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkBatchAgainstListOfLogs() {
+        for (int round = 1; round <= BENCHMARK_ROUNDS; round++) {
+            reportAllocation("list of logs, round " + round, ApplicationLogBatchTest::collectLogList);
+            reportAllocation("batch, round " + round, ApplicationLogBatchTest::collectLogBatch);
+        }
+    }
+
+    private static List<ApplicationLog> collectLogList() {
+        List<ApplicationLog> logs = new ArrayList<>();
+        for (int i = 0; i < BENCHMARK_LOG_COUNT; i++) {
+            logs.add(buildLog("benchmark message " + i, getBenchmarkTimestamp(i)));
+        }
+        Collections.sort(logs);
+        return logs;
+    }
+
+    private static ApplicationLogBatch collectLogBatch() {
+        ApplicationLogBatch.Builder builder = ApplicationLogBatch.builder();
+        for (int i = 0; i < BENCHMARK_LOG_COUNT; i++) {
+            long timestamp = getBenchmarkTimestamp(i);
+            builder.add(new String(APPLICATION_GUID), "benchmark message " + i, timestamp,
+                        timestamp % 2 == 0 ? ApplicationLog.MessageType.STDERR : ApplicationLog.MessageType.STDOUT, "0",
+                        new String(SOURCE_NAME));
+        }
+        return builder.build();
+    }
+
+    private static long getBenchmarkTimestamp(int index) {
+        return (index * 7919L) % BENCHMARK_LOG_COUNT;
+    }
+
+    private static void reportAllocation(String name, Supplier<Object> collector) {
+        long allocatedBefore = getAllocatedBytesOfCurrentThread();
+        long start = System.nanoTime();
+        Object logs = collector.get();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long allocatedBytes = getAllocatedBytesOfCurrentThread() - allocatedBefore;
+        LOGGER.info("{}: {} logs in {} ms, {} KiB allocated", name, BENCHMARK_LOG_COUNT, millis, allocatedBytes / 1024);
+        assertEquals(BENCHMARK_LOG_COUNT, logs instanceof ApplicationLogBatch ? ((ApplicationLogBatch) logs).size()
+            : ((List<?>) logs).size());
+        assertTrue(allocatedBytes > 0, "No allocations were measured");
+    }
+
+    /**
+     * Reads {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} reflectively, since the module of the client, into which the
+     * tests are patched, does not read the management modules.
+     */
+    private static long getAllocatedBytesOfCurrentThread() {
+        try {
+            Object threadBean = Class.forName("java.lang.management.ManagementFactory")
+                                     .getMethod("getThreadMXBean")
+                                     .invoke(null);
+            Method getThreadAllocatedBytes = Class.forName("com.sun.management.ThreadMXBean")
+                                                  .getMethod("getThreadAllocatedBytes", long.class);
+            return (long) getThreadAllocatedBytes.invoke(threadBean, Thread.currentThread()
+                                                                           .getId());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot measure the allocated bytes: " + e.getMessage(), e);
+        }
+    }
+
+    private static ApplicationLog buildLog(String message, long timestamp) {
+        return ImmutableApplicationLog.builder()
+                                      .applicationGuid(new String(APPLICATION_GUID))
+                                      .message(message)
+                                      .timestamp(new Date(timestamp))
+                                      .messageType(timestamp % 2000 == 0 ? ApplicationLog.MessageType.STDERR
+                                          : ApplicationLog.MessageType.STDOUT)
+                                      .sourceId("0")
+                                      .sourceName(new String(SOURCE_NAME))
+                                      .build();
+    }
+
+    private static List<String> getMessages(ApplicationLogBatch batch) {
+        return batch.asList()
+                    .stream()
+                    .map(ApplicationLog::getMessage)
+                    .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ApplicationArchiveTest {
+
+    private static final String SCRIPT_NAME = "bin/start.sh";
+    private static final String TEXT_NAME = "README.md";
+    private static final String STORED_NAME = "lib/library.jar";
+    private static final long LAST_MODIFIED = 1_600_000_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testModesAreReadFromUnixEntries() throws IOException {
+        Path archive = createArchive();
+        setUnixModes(archive, Map.of(SCRIPT_NAME, 0755, TEXT_NAME, 0640));
+
+        assertEquals(Map.of(SCRIPT_NAME, "755", TEXT_NAME, "640"), ApplicationArchive.readModes(archive));
+    }
+
+    @Test
+    void testEntriesWithoutUnixModeAreOmitted() throws IOException {
+        assertEquals(Collections.emptyMap(), ApplicationArchive.readModes(createArchive()));
+    }
+
+    @Test
+    void testFingerprintsHaveModesOfEntries() throws IOException {
+        Path archive = createArchive();
+        setUnixModes(archive, Map.of(SCRIPT_NAME, 0755));
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            ResourceFingerprinter fingerprinter = new ResourceFingerprinter(pool, ResourceFingerprintCache.load(tempDir.resolve("cache")));
+
+            Map<String, String> modes = fingerprinter.fingerprint(archive)
+                                                     .stream()
+                                                     .collect(Collectors.toMap(ResourceFingerprint::getPath, ResourceFingerprint::getMode));
+
+            assertEquals(Map.of(SCRIPT_NAME, "755", TEXT_NAME, ResourceFingerprint.DEFAULT_MODE, STORED_NAME,
+                                ResourceFingerprint.DEFAULT_MODE),
+                         modes);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCopiedEntriesKeepTheirAttributes() throws IOException {
+        Path target = tempDir.resolve("reduced.zip");
+
+        ApplicationArchive.CopyResult result = ApplicationArchive.copyWithout(createArchive(), Set.of(TEXT_NAME), target);
+
+        assertEquals(2, result.getEntryCount());
+        try (ZipFile zipFile = new ZipFile(target.toFile())) {
+            List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+            assertEquals(List.of(SCRIPT_NAME, STORED_NAME), entries.stream()
+                                                                   .map(ZipEntry::getName)
+                                                                   .collect(Collectors.toList()));
+            for (ZipEntry entry : entries) {
+                assertEquals(LAST_MODIFIED, entry.getTime());
+                assertEquals("comment of " + entry.getName(), entry.getComment());
+            }
+            assertEquals(ZipEntry.STORED, zipFile.getEntry(STORED_NAME)
+                                                 .getMethod());
+            assertEquals(STORED_NAME, new String(zipFile.getInputStream(zipFile.getEntry(STORED_NAME))
+                                                        .readAllBytes(),
+                                                 StandardCharsets.UTF_8));
+        }
+    }
+
+    private Path createArchive() throws IOException {
+        Path archive = tempDir.resolve("application.zip");
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (String name : List.of(SCRIPT_NAME, TEXT_NAME, STORED_NAME)) {
+                byte[] content = name.getBytes(StandardCharsets.UTF_8);
+                ZipEntry entry = new ZipEntry(name);
+                entry.setTime(LAST_MODIFIED);
+                entry.setComment("comment of " + name);
+                if (name.equals(STORED_NAME)) {
+                    CRC32 crc = new CRC32();
+                    crc.update(content);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(content.length);
+                    entry.setCrc(crc.getValue());
+                }
+                outputStream.putNextEntry(entry);
+                outputStream.write(content);
+                outputStream.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+    /**
+     * Marks entries as added on Unix with the specified permissions, as {@link ZipOutputStream} cannot write them.
+     */
+    private static void setUnixModes(Path archive, Map<String, Integer> modes) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(archive))
+                                     .order(ByteOrder.LITTLE_ENDIAN);
+        for (int offset = 0; offset + 46 <= bytes.limit(); offset++) {
+            if (bytes.getInt(offset) != 0x02014b50) {
+                continue;
+            }
+            byte[] name = new byte[Short.toUnsignedInt(bytes.getShort(offset + 28))];
+            bytes.position(offset + 46);
+            bytes.get(name);
+            Integer mode = modes.get(new String(name, StandardCharsets.UTF_8));
+            if (mode != null) {
+                bytes.put(offset + 5, (byte) 3);
+                bytes.putInt(offset + 38, (0100000 | mode) << 16);
+            }
+        }
+        Files.write(archive, bytes.array());
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+class ApplicationDirectoryArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(ints = { Deflater.DEFAULT_COMPRESSION, Deflater.NO_COMPRESSION, Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION })
+    void testArchiveContainsFilesOfDirectory(int compressionLevel) throws IOException {
+        Path directory = Files.createDirectory(tempDir.resolve("application"));
+        Map<String, byte[]> files = new TreeMap<>();
+        files.put("index.js", "console.log('Hello');".getBytes(StandardCharsets.UTF_8));
+        files.put("empty.txt", new byte[0]);
+        files.put("lib/large.bin", createLargeContent());
+        files.put("lib/nested/exact.bin", new byte[128 * 1024]);
+        files.put("static/index.html", "<html></html>".getBytes(StandardCharsets.UTF_8));
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            writeFile(directory, file.getKey(), file.getValue());
+        }
+
+        Path archive = writeArchive(ApplicationDirectoryArchive.of(directory, compressionLevel));
+
+        assertEntries(files, readEntries(archive));
+        assertEntries(files, readStreamedEntries(archive));
+    }
+
+    @Test
+    void testIgnoredFilesAreExcluded() throws IOException {
+        Path directory = Files.createDirectory(tempDir.resolve("application"));
+        writeFile(directory, ".cfignore", "*.log\n!keep.log\nnode_modules/\n".getBytes(StandardCharsets.UTF_8));
+        for (String name : List.of("app.js", "debug.log", "keep.log", "manifest.yml", ".git/config", "node_modules/a/index.js",
+                                   "lib/node_modules.js")) {
+            writeFile(directory, name, name.getBytes(StandardCharsets.UTF_8));
+        }
+
+        ApplicationDirectoryArchive archive = ApplicationDirectoryArchive.of(directory, Deflater.DEFAULT_COMPRESSION);
+
+        assertEquals(List.of("app.js", "keep.log", "lib/node_modules.js"), archive.getFilePaths());
+        assertEquals(archive.getFilePaths(), List.copyOf(readEntries(writeArchive(archive)).keySet()));
+    }
+
+    @Test
+    void testInvalidCompressionLevelIsRejected() throws IOException {
+        Path directory = Files.createDirectory(tempDir.resolve("application"));
+
+        assertThrows(IllegalArgumentException.class, () -> ApplicationDirectoryArchive.of(directory, 10));
+    }
+
+    private static void assertEntries(Map<String, byte[]> expectedEntries, Map<String, byte[]> entries) {
+        assertEquals(expectedEntries.keySet(), entries.keySet());
+        entries.forEach((name, content) -> assertArrayEquals(expectedEntries.get(name), content, name));
+    }
+
+    private Path writeArchive(ApplicationDirectoryArchive archive) {
+        Path file = tempDir.resolve("application.zip");
+        DataBufferUtils.write(archive.toDataBuffers(new DefaultDataBufferFactory()), file)
+                       .block();
+        return file;
+    }
+
+    private static void writeFile(Path directory, String name, byte[] content) throws IOException {
+        Path file = directory.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+    }
+
+    private static byte[] createLargeContent() {
+        byte[] content = new byte[1024 * 1024 + 17];
+        Random random = new Random(42);
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 3 == 0 ? random.nextInt() : 'a' + i % 26);
+        }
+        return content;
+    }
+
+    private static Map<String, byte[]> readEntries(Path archive) throws IOException {
+        Map<String, byte[]> entries = new TreeMap<>();
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                entries.put(entry.getName(), zipFile.getInputStream(entry)
+                                                    .readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static Map<String, byte[]> readStreamedEntries(Path archive) throws IOException {
+        Map<String, byte[]> entries = new TreeMap<>();
+        try (ZipInputStream inputStream = new ZipInputStream(Files.newInputStream(archive))) {
+            for (ZipEntry entry = inputStream.getNextEntry(); entry != null; entry = inputStream.getNextEntry()) {
+                entries.put(entry.getName(), inputStream.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+}
@@ -0,0 +1,249 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.domain.CloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.CloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudApplication;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudServiceInstance;
+
+class CachingCloudControllerRestClientTest {
+
+    private static final String APPLICATION_NAME = "foo";
+    private static final String NEW_APPLICATION_NAME = "bar";
+    private static final String DOMAIN = "example.com";
+    private static final String NEW_DOMAIN = "example.org";
+    private static final String OTHER_DOMAIN = "example.net";
+    private static final String SERVICE_INSTANCE_NAME = "database";
+
+    @Mock
+    private CloudControllerRestClient delegate;
+    private CachingCloudControllerRestClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        client = new CachingCloudControllerRestClient(delegate);
+    }
+
+    @Test
+    void testGetApplicationIsServedFromSnapshot() {
+        CloudApplication application = buildApplication(APPLICATION_NAME, DOMAIN);
+        Mockito.when(delegate.getApplication(APPLICATION_NAME, false))
+               .thenReturn(application);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(application, client.getApplication(APPLICATION_NAME));
+        }
+        assertEquals(application.getMetadata()
+                                .getGuid(),
+                     client.getApplicationGuid(APPLICATION_NAME));
+
+        Mockito.verify(delegate, Mockito.times(1))
+               .getApplication(APPLICATION_NAME, false);
+        CacheStatistics statistics = client.getCacheStatistics()
+                                           .get(CachedResourceType.APPLICATIONS);
+        assertEquals(3, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+    }
+
+    @Test
+    void testGetApplicationsFillsSnapshot() {
+        Mockito.when(delegate.getApplications())
+               .thenReturn(List.of(buildApplication(APPLICATION_NAME, DOMAIN), buildApplication(NEW_APPLICATION_NAME, DOMAIN)));
+
+        client.getApplications();
+        client.getApplications();
+        client.getApplication(NEW_APPLICATION_NAME);
+
+        Mockito.verify(delegate, Mockito.times(1))
+               .getApplications();
+        Mockito.verify(delegate, Mockito.never())
+               .getApplication(Mockito.anyString(), Mockito.anyBoolean());
+    }
+
+    @Test
+    void testMissingApplicationIsNotCached() {
+        Mockito.when(delegate.getApplication(APPLICATION_NAME))
+               .thenThrow(new CloudOperationException(HttpStatus.NOT_FOUND));
+
+        assertThrows(CloudOperationException.class, () -> client.getApplication(APPLICATION_NAME));
+        Mockito.when(delegate.getApplication(APPLICATION_NAME, false))
+               .thenReturn(buildApplication(APPLICATION_NAME, DOMAIN));
+        client.getApplication(APPLICATION_NAME);
+
+        Mockito.verify(delegate, Mockito.times(2))
+               .getApplication(APPLICATION_NAME, false);
+    }
+
+    @Test
+    void testMissingRequiredApplicationIsLookedUpOnce() {
+        CloudOperationException e = assertThrows(CloudOperationException.class, () -> client.getApplication(APPLICATION_NAME));
+
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+        Mockito.verify(delegate, Mockito.times(1))
+               .getApplication(APPLICATION_NAME, false);
+        Mockito.verify(delegate, Mockito.never())
+               .getApplication(APPLICATION_NAME);
+    }
+
+    @Test
+    void testCachedListsCannotBeModified() {
+        Mockito.when(delegate.getApplications())
+               .thenReturn(new ArrayList<>(List.of(buildApplication(APPLICATION_NAME, DOMAIN))));
+
+        List<CloudApplication> applications = client.getApplications();
+
+        assertThrows(UnsupportedOperationException.class, () -> applications.add(buildApplication(NEW_APPLICATION_NAME, DOMAIN)));
+        assertEquals(1, client.getApplications()
+                              .size());
+    }
+
+    @Test
+    void testCompletedServiceInstanceWatchInvalidatesServiceInstance() {
+        CloudServiceInstance serviceInstance = ImmutableCloudServiceInstance.builder()
+                                                                            .metadata(ImmutableCloudMetadata.of(UUID.randomUUID()))
+                                                                            .name(SERVICE_INSTANCE_NAME)
+                                                                            .build();
+        Mockito.when(delegate.getServiceInstance(SERVICE_INSTANCE_NAME, false))
+               .thenReturn(serviceInstance);
+        CompletableFuture<CloudServiceInstance> watch = new CompletableFuture<>();
+        Mockito.when(delegate.watchServiceInstance(SERVICE_INSTANCE_NAME))
+               .thenReturn(watch);
+        client.getServiceInstance(SERVICE_INSTANCE_NAME);
+
+        client.watchServiceInstance(SERVICE_INSTANCE_NAME);
+        client.getServiceInstance(SERVICE_INSTANCE_NAME);
+        watch.complete(serviceInstance);
+        client.getServiceInstance(SERVICE_INSTANCE_NAME);
+
+        Mockito.verify(delegate, Mockito.times(2))
+               .getServiceInstance(SERVICE_INSTANCE_NAME, false);
+    }
+
+    @Test
+    void testRenameInvalidatesOldAndNewName() {
+        Mockito.when(delegate.getApplication(Mockito.anyString(), Mockito.eq(false)))
+               .thenAnswer(invocation -> buildApplication(invocation.getArgument(0), DOMAIN));
+        client.getApplication(APPLICATION_NAME);
+        client.getApplication(NEW_APPLICATION_NAME, false);
+
+        client.rename(APPLICATION_NAME, NEW_APPLICATION_NAME);
+        client.getApplication(APPLICATION_NAME, false);
+        client.getApplication(NEW_APPLICATION_NAME);
+
+        Mockito.verify(delegate, Mockito.times(2))
+               .getApplication(APPLICATION_NAME, false);
+        Mockito.verify(delegate, Mockito.times(2))
+               .getApplication(NEW_APPLICATION_NAME, false);
+    }
+
+    @Test
+    void testFailedStopInvalidatesApplication() {
+        Mockito.when(delegate.getApplication(APPLICATION_NAME, false))
+               .thenReturn(buildApplication(APPLICATION_NAME, DOMAIN));
+        Mockito.doThrow(new CloudOperationException(HttpStatus.GATEWAY_TIMEOUT))
+               .when(delegate)
+               .stopApplication(APPLICATION_NAME);
+        client.getApplication(APPLICATION_NAME);
+
+        assertThrows(CloudOperationException.class, () -> client.stopApplication(APPLICATION_NAME));
+        client.getApplication(APPLICATION_NAME);
+
+        Mockito.verify(delegate, Mockito.times(2))
+               .getApplication(APPLICATION_NAME, false);
+    }
+
+    @Test
+    void testFailedDeletionOfOrphanedRoutesInvalidatesAllRoutes() {
+        Mockito.when(delegate.deleteOrphanedRoutes())
+               .thenThrow(new CloudOperationException(HttpStatus.BAD_GATEWAY));
+        client.getRoutes(DOMAIN);
+
+        assertThrows(CloudOperationException.class, () -> client.deleteOrphanedRoutes());
+        client.getRoutes(DOMAIN);
+
+        Mockito.verify(delegate, Mockito.times(2))
+               .getRoutes(DOMAIN);
+    }
+
+    @Test
+    void testUpdateApplicationRoutesInvalidatesAffectedDomains() {
+        Mockito.when(delegate.getApplication(APPLICATION_NAME, false))
+               .thenReturn(buildApplication(APPLICATION_NAME, DOMAIN));
+        client.getApplication(APPLICATION_NAME);
+        for (String domain : List.of(DOMAIN, NEW_DOMAIN, OTHER_DOMAIN)) {
+            client.getRoutes(domain);
+        }
+
+        client.updateApplicationRoutes(APPLICATION_NAME, Set.of(buildRoute(NEW_DOMAIN)));
+        for (String domain : List.of(DOMAIN, NEW_DOMAIN, OTHER_DOMAIN)) {
+            client.getRoutes(domain);
+        }
+        client.getApplication(APPLICATION_NAME);
+
+        Mockito.verify(delegate, Mockito.times(2))
+               .getRoutes(DOMAIN);
+        Mockito.verify(delegate, Mockito.times(2))
+               .getRoutes(NEW_DOMAIN);
+        Mockito.verify(delegate, Mockito.times(1))
+               .getRoutes(OTHER_DOMAIN);
+        Mockito.verify(delegate, Mockito.times(2))
+               .getApplication(APPLICATION_NAME, false);
+    }
+
+    @Test
+    void testDomainsAreInvalidatedByAddDomain() {
+        client.getDomains();
+        client.getSharedDomains();
+        client.getDomains();
+
+        client.addDomain(NEW_DOMAIN);
+        client.getDomains();
+
+        Mockito.verify(delegate, Mockito.times(2))
+               .getDomains();
+        Mockito.verify(delegate, Mockito.times(1))
+               .getSharedDomains();
+        CacheStatistics statistics = client.getCacheStatistics()
+                                           .get(CachedResourceType.DOMAINS);
+        assertEquals(1, statistics.getHitCount());
+        assertEquals(3, statistics.getMissCount());
+    }
+
+    private static CloudApplication buildApplication(String name, String domain) {
+        return ImmutableCloudApplication.builder()
+                                        .metadata(ImmutableCloudMetadata.of(UUID.randomUUID()))
+                                        .name(name)
+                                        .routes(Set.of(buildRoute(domain)))
+                                        .build();
+    }
+
+    private static CloudRouteSummary buildRoute(String domain) {
+        return ImmutableCloudRouteSummary.builder()
+                                         .host(APPLICATION_NAME)
+                                         .domain(domain)
+                                         .build();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CfIgnoreTest {
+
+    private static final CfIgnore CF_IGNORE = CfIgnore.parse(List.of("# Logs", "*.log", "!keep.log", "", "tmp/", "/build", "docs/**/*.md",
+                                                                     "  cache?  "));
+
+    // @formatter:off
+    static Stream<Arguments> testIsIgnored() {
+        return Stream.of(
+            Arguments.of("app.js", false, false),
+            Arguments.of("debug.log", false, true),
+            Arguments.of("lib/debug.log", false, true),
+            Arguments.of("keep.log", false, false),
+            Arguments.of("lib/keep.log", false, false),
+            Arguments.of("tmp", true, true),
+            Arguments.of("lib/tmp", true, true),
+            Arguments.of("tmp", false, false),
+            Arguments.of("build", true, true),
+            Arguments.of("lib/build", true, false),
+            Arguments.of("docs/README.md", false, true),
+            Arguments.of("docs/api/v3/README.md", false, true),
+            Arguments.of("README.md", false, false),
+            Arguments.of("cache1", false, true),
+            Arguments.of("cache12", false, false),
+            Arguments.of(".git", true, true),
+            Arguments.of(".cfignore", false, true),
+            Arguments.of("manifest.yml", false, true),
+            Arguments.of("config/manifest.yml", false, false),
+            Arguments.of("lib/.DS_Store", false, true)
+        );
+    }
+    // @formatter:on
+
+    @ParameterizedTest
+    @MethodSource
+    void testIsIgnored(String relativePath, boolean isDirectory, boolean expectedIgnored) {
+        assertEquals(expectedIgnored, CF_IGNORE.isIgnored(relativePath, isDirectory));
+    }
+
+}
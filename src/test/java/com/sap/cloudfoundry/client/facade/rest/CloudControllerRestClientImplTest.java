@@ -1,17 +1,87 @@
 package com.sap.cloudfoundry.client.facade.rest;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import org.cloudfoundry.client.CloudFoundryClient;
 import org.cloudfoundry.client.v2.ClientV2Exception;
+import org.cloudfoundry.client.v2.Metadata;
+import org.cloudfoundry.client.v2.OrderDirection;
 import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.applications.ApplicationsV2;
+import org.cloudfoundry.client.v2.applications.ListApplicationServiceBindingsRequest;
+import org.cloudfoundry.client.v2.applications.ListApplicationServiceBindingsResponse;
+import org.cloudfoundry.client.v2.events.EventEntity;
+import org.cloudfoundry.client.v2.events.EventResource;
+import org.cloudfoundry.client.v2.events.Events;
+import org.cloudfoundry.client.v2.events.ListEventsRequest;
+import org.cloudfoundry.client.v2.events.ListEventsResponse;
+import org.cloudfoundry.client.v2.organizations.GetOrganizationRequest;
+import org.cloudfoundry.client.v2.organizations.GetOrganizationResponse;
+import org.cloudfoundry.client.v2.organizations.OrganizationEntity;
+import org.cloudfoundry.client.v2.organizations.Organizations;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsRequest;
+import org.cloudfoundry.client.v2.routemappings.ListRouteMappingsResponse;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingEntity;
+import org.cloudfoundry.client.v2.routemappings.RouteMappingResource;
+import org.cloudfoundry.client.v2.routemappings.RouteMappings;
+import org.cloudfoundry.client.v2.routes.RouteEntity;
+import org.cloudfoundry.client.v2.routes.RouteResource;
+import org.cloudfoundry.client.v2.servicebindings.DeleteServiceBindingRequest;
+import org.cloudfoundry.client.v2.servicebindings.DeleteServiceBindingResponse;
+import org.cloudfoundry.client.v2.servicebindings.ServiceBindingEntity;
+import org.cloudfoundry.client.v2.servicebindings.ServiceBindingResource;
+import org.cloudfoundry.client.v2.servicebindings.ServiceBindingsV2;
+import org.cloudfoundry.client.v2.servicebrokers.ServiceBrokers;
+import org.cloudfoundry.client.v2.serviceinstances.DeleteServiceInstanceRequest;
+import org.cloudfoundry.client.v2.serviceinstances.LastOperation;
+import org.cloudfoundry.client.v2.serviceinstances.ServiceInstances;
+import org.cloudfoundry.client.v2.serviceinstances.UnionServiceInstanceEntity;
+import org.cloudfoundry.client.v2.serviceinstances.UnionServiceInstanceResource;
 import org.cloudfoundry.client.v2.serviceplans.GetServicePlanRequest;
 import org.cloudfoundry.client.v2.serviceplans.GetServicePlanResponse;
 import org.cloudfoundry.client.v2.serviceplans.ServicePlanEntity;
@@ -20,25 +90,102 @@ import org.cloudfoundry.client.v2.services.GetServiceRequest;
 import org.cloudfoundry.client.v2.services.GetServiceResponse;
 import org.cloudfoundry.client.v2.services.ServiceEntity;
 import org.cloudfoundry.client.v2.services.Services;
+import org.cloudfoundry.client.v2.spaces.ListSpaceRoutesResponse;
+import org.cloudfoundry.client.v2.spaces.ListSpaceServiceInstancesRequest;
+import org.cloudfoundry.client.v2.spaces.ListSpaceServiceInstancesResponse;
+import org.cloudfoundry.client.v2.spaces.ListSpacesResponse;
+import org.cloudfoundry.client.v2.spaces.SpaceEntity;
+import org.cloudfoundry.client.v2.spaces.SpaceResource;
+import org.cloudfoundry.client.v2.spaces.Spaces;
+import org.cloudfoundry.client.v2.stacks.ListStacksResponse;
+import org.cloudfoundry.client.v2.stacks.Stacks;
+import org.cloudfoundry.client.v3.BuildpackData;
+import org.cloudfoundry.client.v3.Checksum;
+import org.cloudfoundry.client.v3.ChecksumType;
+import org.cloudfoundry.client.v3.ClientV3Exception;
+import org.cloudfoundry.client.v3.Lifecycle;
+import org.cloudfoundry.client.v3.LifecycleType;
+import org.cloudfoundry.client.v3.Pagination;
+import org.cloudfoundry.client.v3.ToManyRelationship;
+import org.cloudfoundry.client.v3.ToOneRelationship;
+import org.cloudfoundry.client.v3.applications.ApplicationResource;
+import org.cloudfoundry.client.v3.applications.ApplicationState;
+import org.cloudfoundry.client.v3.applications.ApplicationsV3;
+import org.cloudfoundry.client.v3.applications.DeleteApplicationRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationEnvironmentRequest;
+import org.cloudfoundry.client.v3.applications.GetApplicationEnvironmentResponse;
+import org.cloudfoundry.client.v3.applications.ListApplicationsResponse;
+import org.cloudfoundry.client.v3.applications.ScaleApplicationRequest;
+import org.cloudfoundry.client.v3.domains.DomainRelationships;
+import org.cloudfoundry.client.v3.domains.DomainResource;
+import org.cloudfoundry.client.v3.domains.DomainsV3;
+import org.cloudfoundry.client.v3.domains.ListDomainsResponse;
+import org.cloudfoundry.client.v3.packages.BitsData;
+import org.cloudfoundry.client.v3.packages.CreatePackageResponse;
+import org.cloudfoundry.client.v3.packages.GetPackageResponse;
+import org.cloudfoundry.client.v3.packages.PackageState;
+import org.cloudfoundry.client.v3.packages.PackageType;
+import org.cloudfoundry.client.v3.packages.Packages;
+import org.cloudfoundry.client.v3.packages.UploadPackageRequest;
+import org.cloudfoundry.client.v3.packages.UploadPackageResponse;
 import org.cloudfoundry.doppler.DopplerClient;
+import org.cloudfoundry.doppler.Envelope;
+import org.cloudfoundry.doppler.EventType;
+import org.cloudfoundry.doppler.LogMessage;
+import org.cloudfoundry.doppler.MessageType;
+import org.cloudfoundry.logcache.v1.EnvelopeBatch;
+import org.cloudfoundry.logcache.v1.EnvelopeType;
+import org.cloudfoundry.logcache.v1.Log;
+import org.cloudfoundry.logcache.v1.LogCacheClient;
+import org.cloudfoundry.logcache.v1.LogType;
+import org.cloudfoundry.logcache.v1.ReadRequest;
+import org.cloudfoundry.logcache.v1.ReadResponse;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.BulkOperationException;
 import com.sap.cloudfoundry.client.facade.CloudCredentials;
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.StreamingLogToken;
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLogQuery;
+import com.sap.cloudfoundry.client.facade.domain.CloudEvent;
+import com.sap.cloudfoundry.client.facade.domain.CloudPackage;
+import com.sap.cloudfoundry.client.facade.domain.CloudRoute;
 import com.sap.cloudfoundry.client.facade.domain.CloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.CloudServiceInstance;
+import com.sap.cloudfoundry.client.facade.domain.CloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableApplicationLogQuery;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudServiceBroker;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
 import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudRouteSummary;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudSpace;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableEventCursor;
+import com.sap.cloudfoundry.client.facade.domain.PolledEvents;
+import com.sap.cloudfoundry.client.facade.domain.ServiceOperation;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
 import com.sap.cloudfoundry.client.facade.oauth2.OAuthClient;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
 
 class CloudControllerRestClientImplTest {
 
@@ -46,6 +193,17 @@ class CloudControllerRestClientImplTest {
     private static final URL CONTROLLER_URL = createUrl("https://localhost:8080");
 
     private static final String GUID = "1803e5a7-40c7-438e-b2be-e2045c9b7cda";
+    private static final String FIRST_ORGANIZATION_GUID = "0a2f3c8e-5b0f-4c0e-9d61-7c5a5b1c9f11";
+    private static final String SECOND_ORGANIZATION_GUID = "8d3f1a5c-2e4b-4c7d-a1b2-3c4d5e6f7a8b";
+    private static final String APPLICATION_NAME = "foo";
+    private static final String DOMAIN_NAME = "example.com";
+    private static final String PACKAGE_GUID = "7b2e4c9a-1f3d-4a8e-b6c5-0d9f2e1a3b47";
+    private static final String MATCHED_FILE_NAME = "matched.txt";
+    private static final String MATCHED_FILE_SHA1 = "c9af05abfd834dd0e97abf12b70a9779190f8e97";
+    private static final String UNMATCHED_FILE_NAME = "unmatched.txt";
+    private static final String RECREATED_APPLICATION_GUID = "5c1e9a7b-3d2f-4e6a-8b0c-9f4d2a1e7b3c";
+    private static final String SERVICE_INSTANCE_NAME = "database";
+    private static final String SERVICE_INSTANCE_GUID = "2f6d8b1a-9c4e-4b7f-a3d5-6e8c0b2d4f61";
 
     private static URL createUrl(String string) {
         try {
@@ -63,6 +221,8 @@ class CloudControllerRestClientImplTest {
     @Mock
     private DopplerClient dopplerClient;
     @Mock
+    private LogCacheClient logCacheClient;
+    @Mock
     private CloudFoundryClient delegate;
     private CloudControllerRestClientImpl controllerClient;
 
@@ -156,6 +316,1753 @@ class CloudControllerRestClientImplTest {
         assertNull(servicePlanResource);
     }
 
+    @Test
+    void testGetServicePlanResourceIsCached() {
+        ServicePlans servicePlans = mockServicePlans();
+
+        controllerClient.getServicePlanResource(UUID.fromString(GUID))
+                        .block();
+        Resource<ServicePlanEntity> servicePlanResource = controllerClient.getServicePlanResource(UUID.fromString(GUID))
+                                                                          .block();
+
+        assertEquals("v9.4-large", servicePlanResource.getEntity()
+                                                      .getName());
+        Mockito.verify(servicePlans, Mockito.times(1))
+               .get(Mockito.any());
+    }
+
+    @Test
+    void testCreateServiceBrokerInvalidatesServicePlanCache() {
+        ServicePlans servicePlans = mockServicePlans();
+        ServiceBrokers serviceBrokers = Mockito.mock(ServiceBrokers.class);
+        Mockito.when(delegate.serviceBrokers())
+               .thenReturn(serviceBrokers);
+        Mockito.when(serviceBrokers.create(Mockito.any()))
+               .thenReturn(Mono.empty());
+
+        controllerClient.getServicePlanResource(UUID.fromString(GUID))
+                        .block();
+        controllerClient.createServiceBroker(ImmutableCloudServiceBroker.builder()
+                                                                        .name("broker")
+                                                                        .url("https://broker.example.com")
+                                                                        .username("admin")
+                                                                        .password("admin")
+                                                                        .build());
+        controllerClient.getServicePlanResource(UUID.fromString(GUID))
+                        .block();
+
+        Mockito.verify(servicePlans, Mockito.times(2))
+               .get(Mockito.any());
+    }
+
+    @Test
+    void testRouteMappingsOfRoutesAreListedInBatches() {
+        int routeCount = 250;
+        List<String> routeGuids = Stream.generate(() -> UUID.randomUUID()
+                                                            .toString())
+                                        .limit(routeCount)
+                                        .collect(Collectors.toList());
+        mockDomainsV3();
+        Spaces spaces = Mockito.mock(Spaces.class);
+        Mockito.when(delegate.spaces())
+               .thenReturn(spaces);
+        Mockito.when(spaces.listRoutes(Mockito.any()))
+               .thenReturn(Mono.just(ListSpaceRoutesResponse.builder()
+                                                            .resources(routeGuids.stream()
+                                                                                 .map(CloudControllerRestClientImplTest::buildRouteResource)
+                                                                                 .collect(Collectors.toList()))
+                                                            .totalPages(1)
+                                                            .build()));
+        RouteMappings routeMappings = Mockito.mock(RouteMappings.class);
+        Mockito.when(delegate.routeMappings())
+               .thenReturn(routeMappings);
+        Mockito.when(routeMappings.list(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   ListRouteMappingsRequest request = invocation.getArgument(0);
+                   return Mono.just(ListRouteMappingsResponse.builder()
+                                                             .resources(request.getRouteIds()
+                                                                               .stream()
+                                                                               .flatMap(routeGuid -> buildRouteMappingResources(routeGuid,
+                                                                                                                                getApplicationCount(routeGuids,
+                                                                                                                                                    routeGuid)))
+                                                                               .collect(Collectors.toList()))
+                                                             .totalPages(1)
+                                                             .build());
+               });
+        controllerClient = createClientWithTarget();
+
+        List<CloudRoute> routes = controllerClient.getRoutes(DOMAIN_NAME);
+
+        ArgumentCaptor<ListRouteMappingsRequest> requests = ArgumentCaptor.forClass(ListRouteMappingsRequest.class);
+        Mockito.verify(routeMappings, Mockito.times(3))
+               .list(requests.capture());
+        assertEquals(routeGuids.size(), requests.getAllValues()
+                                                .stream()
+                                                .mapToInt(request -> request.getRouteIds()
+                                                                            .size())
+                                                .sum());
+        assertEquals(routeGuids, routes.stream()
+                                       .map(route -> route.getMetadata()
+                                                          .getGuid()
+                                                          .toString())
+                                       .collect(Collectors.toList()));
+        for (CloudRoute route : routes) {
+            String routeGuid = route.getMetadata()
+                                    .getGuid()
+                                    .toString();
+            assertEquals(getApplicationCount(routeGuids, routeGuid), route.getAppsUsingRoute(), routeGuid);
+            assertEquals(DOMAIN_NAME, route.getDomain()
+                                           .getName());
+        }
+    }
+
+    private void mockDomainsV3() {
+        DomainsV3 domains = Mockito.mock(DomainsV3.class);
+        Mockito.when(delegate.domainsV3())
+               .thenReturn(domains);
+        Mockito.when(domains.list(Mockito.any()))
+               .thenReturn(Mono.just(ListDomainsResponse.builder()
+                                                        .resource(DomainResource.builder()
+                                                                                .id(UUID.randomUUID()
+                                                                                        .toString())
+                                                                                .name(DOMAIN_NAME)
+                                                                                .createdAt("2021-01-01T00:00:00Z")
+                                                                                .isInternal(false)
+                                                                                .relationships(DomainRelationships.builder()
+                                                                                                                  .organization(ToOneRelationship.builder()
+                                                                                                                                                 .build())
+                                                                                                                  .sharedOrganizations(ToManyRelationship.builder()
+                                                                                                                                                         .build())
+                                                                                                                  .build())
+                                                                                .build())
+                                                        .pagination(Pagination.builder()
+                                                                              .totalPages(1)
+                                                                              .build())
+                                                        .build()));
+    }
+
+    private static RouteResource buildRouteResource(String routeGuid) {
+        return RouteResource.builder()
+                            .metadata(Metadata.builder()
+                                              .id(routeGuid)
+                                              .build())
+                            .entity(RouteEntity.builder()
+                                               .host("host-" + routeGuid)
+                                               .build())
+                            .build();
+    }
+
+    private static Stream<RouteMappingResource> buildRouteMappingResources(String routeGuid, int applicationCount) {
+        return Stream.generate(() -> RouteMappingResource.builder()
+                                                         .metadata(Metadata.builder()
+                                                                           .id(UUID.randomUUID()
+                                                                                   .toString())
+                                                                           .build())
+                                                         .entity(RouteMappingEntity.builder()
+                                                                                   .routeId(routeGuid)
+                                                                                   .applicationId(UUID.randomUUID()
+                                                                                                      .toString())
+                                                                                   .build())
+                                                         .build())
+                     .limit(applicationCount);
+    }
+
+    private static int getApplicationCount(List<String> routeGuids, String routeGuid) {
+        return routeGuids.indexOf(routeGuid) % 3;
+    }
+
+    @Test
+    void testGetSpacesInOrderOfCompletion() {
+        mockSpacesWithFirstOrganizationCompletingLast();
+
+        List<CloudSpace> spaces = controllerClient.getSpaces();
+
+        assertEquals(List.of("second", "first"), getNames(spaces));
+    }
+
+    @Test
+    void testGetSpacesInOrderOfListing() {
+        controllerClient = new CloudControllerRestClientImpl(CONTROLLER_URL, CREDENTIALS, webClient, oAuthClient, delegate, dopplerClient,
+                                                             null, ConcurrencySettings.DEFAULT,
+                                                             Map.of(FetchOperation.SPACES, ImmutableConcurrencySettings.builder()
+                                                                                                                       .isOrdered(true)
+                                                                                                                       .build()));
+        mockSpacesWithFirstOrganizationCompletingLast();
+
+        List<CloudSpace> spaces = controllerClient.getSpaces();
+
+        assertEquals(List.of("first", "second"), getNames(spaces));
+    }
+
+    @Test
+    void testGetMissingStack() {
+        Stacks stacks = Mockito.mock(Stacks.class);
+        Mockito.when(delegate.stacks())
+               .thenReturn(stacks);
+        Mockito.when(stacks.list(Mockito.any()))
+               .thenReturn(Mono.just(ListStacksResponse.builder()
+                                                       .resources(Collections.emptyList())
+                                                       .totalPages(1)
+                                                       .build()));
+
+        assertNull(controllerClient.getReactiveClient()
+                                   .getStack("cflinuxfs2")
+                                   .block());
+        CloudOperationException exception = assertThrows(CloudOperationException.class, () -> controllerClient.getStack("cflinuxfs2"));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
+    }
+
+    @Test
+    void testStreamEventsOfAllPages() {
+        Events events = Mockito.mock(Events.class);
+        Mockito.when(delegate.events())
+               .thenReturn(events);
+        Mockito.when(events.list(Mockito.any()))
+               .thenAnswer(invocation -> Mono.just(buildListEventsResponse(invocation.<ListEventsRequest> getArgument(0)
+                                                                                     .getPage(),
+                                                                           3)));
+
+        try (Stream<CloudEvent> stream = controllerClient.streamEvents()) {
+            List<String> types = stream.map(CloudEvent::getType)
+                                       .collect(Collectors.toList());
+            assertEquals(List.of("page-1", "page-2", "page-3"), types);
+        }
+    }
+
+    @Test
+    void testStreamEventsRequestsNextPageOnlyWhenPreviousPageIsConsumed() {
+        Events events = Mockito.mock(Events.class);
+        Mockito.when(delegate.events())
+               .thenReturn(events);
+        List<Integer> requestedPages = new CopyOnWriteArrayList<>();
+        Mockito.when(events.list(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   int page = invocation.<ListEventsRequest> getArgument(0)
+                                        .getPage();
+                   return Mono.fromSupplier(() -> {
+                       requestedPages.add(page);
+                       return buildListEventsResponse(page, 3);
+                   });
+               });
+
+        try (Stream<CloudEvent> stream = controllerClient.streamEvents()) {
+            Iterator<CloudEvent> iterator = stream.iterator();
+            assertEquals(List.of(), requestedPages);
+            for (int page = 1; page <= 3; page++) {
+                assertEquals("page-" + page, iterator.next()
+                                                     .getType());
+                assertEquals(page, requestedPages.size());
+            }
+            assertFalse(iterator.hasNext());
+        }
+        assertEquals(List.of(1, 2, 3), requestedPages);
+    }
+
+    @Test
+    void testPollEventsReturnsOnlyNewEvents() {
+        String firstEventGuid = "3f6c2a8e-1b4d-4e7a-9c5f-0d2e8b6a4c13";
+        String secondEventGuid = "9a1d7e3b-6c2f-4b8e-a5d0-4e7c1f9b2a68";
+        String thirdEventGuid = "e4b8c1f6-2a9d-4d3e-8f7b-5c0a6e2d9b41";
+        Events events = Mockito.mock(Events.class);
+        Mockito.when(delegate.events())
+               .thenReturn(events);
+        Mockito.when(events.list(Mockito.any()))
+               .thenReturn(Mono.just(buildListEventsResponse(Map.of(firstEventGuid, "2021-03-01T10:00:00Z", secondEventGuid,
+                                                                    "2021-03-01T10:00:05Z"))),
+                           Mono.just(buildListEventsResponse(Map.of(secondEventGuid, "2021-03-01T10:00:05Z", thirdEventGuid,
+                                                                    "2021-03-01T10:00:05Z"))));
+
+        PolledEvents firstPoll = controllerClient.pollEvents(ImmutableEventCursor.builder()
+                                                                                 .timestamp(Date.from(Instant.parse("2021-03-01T10:00:00Z")))
+                                                                                 .build());
+        PolledEvents secondPoll = controllerClient.pollEvents(firstPoll.getNextCursor());
+
+        assertEquals(2, firstPoll.getEvents()
+                                 .size());
+        assertEquals(List.of(UUID.fromString(thirdEventGuid)), getGuids(secondPoll.getEvents()));
+        assertEquals(Set.of(UUID.fromString(secondEventGuid), UUID.fromString(thirdEventGuid)), secondPoll.getNextCursor()
+                                                                                                          .getEventGuidsAtTimestamp());
+        ArgumentCaptor<ListEventsRequest> requestCaptor = ArgumentCaptor.forClass(ListEventsRequest.class);
+        Mockito.verify(events, Mockito.times(2))
+               .list(requestCaptor.capture());
+        ListEventsRequest secondRequest = requestCaptor.getAllValues()
+                                                       .get(1);
+        assertEquals(List.of("2021-03-01T10:00:05Z"), secondRequest.getTimestamps());
+        assertEquals(OrderDirection.ASCENDING, secondRequest.getOrderDirection());
+    }
+
+    @Test
+    void testFirstPollOfEventsStartsShortlyBeforeNow() {
+        Events events = Mockito.mock(Events.class);
+        Mockito.when(delegate.events())
+               .thenReturn(events);
+        Mockito.when(events.list(Mockito.any()))
+               .thenReturn(Mono.just(buildListEventsResponse(Map.of())));
+        Instant start = Instant.now();
+
+        PolledEvents poll = controllerClient.pollEvents(ImmutableEventCursor.builder()
+                                                                            .build());
+
+        ArgumentCaptor<ListEventsRequest> requestCaptor = ArgumentCaptor.forClass(ListEventsRequest.class);
+        Mockito.verify(events)
+               .list(requestCaptor.capture());
+        Instant requestedTimestamp = Instant.parse(requestCaptor.getValue()
+                                                                .getTimestamps()
+                                                                .get(0));
+        assertTrue(requestedTimestamp.isAfter(start.minus(Duration.ofMinutes(2))), requestedTimestamp.toString());
+        assertTrue(requestedTimestamp.isBefore(start), requestedTimestamp.toString());
+        assertEquals(requestedTimestamp, poll.getNextCursor()
+                                             .getTimestamp()
+                                             .toInstant()
+                                             .truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    private static ListEventsResponse buildListEventsResponse(Map<String, String> timestampsByEventGuid) {
+        List<EventResource> resources = new TreeMap<>(timestampsByEventGuid).entrySet()
+                                                                            .stream()
+                                                                            .map(entry -> buildEventResource(entry.getKey(),
+                                                                                                             entry.getValue()))
+                                                                            .collect(Collectors.toList());
+        return ListEventsResponse.builder()
+                                 .resources(resources)
+                                 .totalPages(1)
+                                 .build();
+    }
+
+    private static EventResource buildEventResource(String guid, String timestamp) {
+        return EventResource.builder()
+                            .metadata(Metadata.builder()
+                                              .id(guid)
+                                              .build())
+                            .entity(EventEntity.builder()
+                                               .timestamp(timestamp)
+                                               .build())
+                            .build();
+    }
+
+    private static List<UUID> getGuids(List<CloudEvent> events) {
+        return events.stream()
+                     .map(event -> event.getMetadata()
+                                        .getGuid())
+                     .collect(Collectors.toList());
+    }
+
+    private static ListEventsResponse buildListEventsResponse(int page, int totalPages) {
+        return ListEventsResponse.builder()
+                                 .resource(EventResource.builder()
+                                                        .metadata(Metadata.builder()
+                                                                          .id(UUID.randomUUID()
+                                                                                  .toString())
+                                                                          .build())
+                                                        .entity(EventEntity.builder()
+                                                                           .type("page-" + page)
+                                                                           .build())
+                                                        .build())
+                                 .totalPages(totalPages)
+                                 .build();
+    }
+
+    @Test
+    void testStreamLogsDeliversOnlyLogMessages() throws InterruptedException {
+        Mockito.when(dopplerClient.stream(Mockito.any()))
+               .thenReturn(Flux.just(buildLogEnvelope("first"), buildEnvelope(EventType.VALUE_METRIC), buildLogEnvelope("second")));
+        controllerClient = createClientWithTarget();
+        List<String> messages = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        controllerClient.streamLogs(UUID.fromString(GUID), new ApplicationLogListener() {
+            @Override
+            public void onMessage(ApplicationLog log) {
+                messages.add(log.getMessage());
+            }
+
+            @Override
+            public void onError(Throwable exception) {
+                Assertions.fail(exception);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second"), messages);
+    }
+
+    @Test
+    void testLogsOfSlowListenerAreBufferedUpToBufferSize() throws InterruptedException {
+        int logCount = 3 * CloudControllerRestClientImpl.LOG_STREAMING_BUFFER_SIZE;
+        CountDownLatch emitted = new CountDownLatch(1);
+        Mockito.when(dopplerClient.stream(Mockito.any()))
+               .thenReturn(Flux.range(0, logCount)
+                               .map(i -> buildLogEnvelope("log-" + i))
+                               .doOnComplete(emitted::countDown));
+        controllerClient = createClientWithTarget();
+        AtomicInteger deliveredCount = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        controllerClient.streamLogs(UUID.fromString(GUID), new ApplicationLogListener() {
+            @Override
+            public void onMessage(ApplicationLog log) {
+                deliveredCount.incrementAndGet();
+                awaitUninterruptibly(emitted);
+            }
+
+            @Override
+            public void onError(Throwable exception) {
+                Assertions.fail(exception);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertTrue(deliveredCount.get() <= CloudControllerRestClientImpl.LOG_STREAMING_BUFFER_SIZE + 2,
+                   "Delivered logs: " + deliveredCount.get());
+    }
+
+    @Test
+    void testCancelledLogStreamIsClosed() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mockito.when(dopplerClient.stream(Mockito.any()))
+               .thenReturn(Flux.<Envelope> never()
+                               .doOnCancel(() -> cancelled.set(true)));
+        controllerClient = createClientWithTarget();
+
+        StreamingLogToken token = controllerClient.streamLogs(UUID.fromString(GUID), Mockito.mock(ApplicationLogListener.class));
+        token.cancel();
+
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    void testRecentLogsOfSeveralApplicationsAreCappedAndOrderedAcrossApplications() {
+        List<UUID> applicationGuids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        mockRecentLogs(applicationGuids.get(0), 9, 1, 4);
+        mockRecentLogs(applicationGuids.get(1), 2, 8, 5);
+        mockRecentLogs(applicationGuids.get(2), 6, 3, 7);
+        controllerClient = createClientWithTarget();
+
+        List<ApplicationLog> logs = controllerClient.getRecentLogs(applicationGuids, 5);
+
+        assertEquals(List.of("5", "6", "7", "8", "9"), logs.stream()
+                                                           .map(ApplicationLog::getMessage)
+                                                           .collect(Collectors.toList()));
+        assertEquals(List.of(applicationGuids.get(1), applicationGuids.get(2), applicationGuids.get(2), applicationGuids.get(1),
+                             applicationGuids.get(0)),
+                     logs.stream()
+                         .map(log -> UUID.fromString(log.getApplicationGuid()))
+                         .collect(Collectors.toList()));
+    }
+
+    private void mockRecentLogs(UUID applicationGuid, long... timestamps) {
+        Flux<Envelope> envelopes = Flux.fromStream(Arrays.stream(timestamps)
+                                                         .mapToObj(timestamp -> buildLogEnvelope(applicationGuid.toString(),
+                                                                                                 Long.toString(timestamp),
+                                                                                                 TimeUnit.SECONDS.toNanos(timestamp))));
+        Mockito.when(dopplerClient.recentLogs(Mockito.argThat(request -> request != null && request.getApplicationId()
+                                                                                                .equals(applicationGuid.toString()))))
+               .thenReturn(envelopes);
+    }
+
+    private static Envelope buildLogEnvelope(String message) {
+        return buildLogEnvelope(GUID, message, System.nanoTime());
+    }
+
+    private static Envelope buildLogEnvelope(String applicationGuid, String message, long timestamp) {
+        return Envelope.builder()
+                       .from(buildEnvelope(EventType.LOG_MESSAGE))
+                       .logMessage(LogMessage.builder()
+                                             .applicationId(applicationGuid)
+                                             .message(message)
+                                             .messageType(MessageType.OUT)
+                                             .sourceInstance("0")
+                                             .sourceType("APP/PROC/WEB")
+                                             .timestamp(timestamp)
+                                             .build())
+                       .build();
+    }
+
+    private static Envelope buildEnvelope(EventType eventType) {
+        return Envelope.builder()
+                       .eventType(eventType)
+                       .origin("rep")
+                       .build();
+    }
+
+    @Test
+    void testGetRecentLogsReadsOnlyRequestedLogsFromLogCache() {
+        ArgumentCaptor<ReadRequest> requestCaptor = ArgumentCaptor.forClass(ReadRequest.class);
+        Mockito.when(logCacheClient.read(requestCaptor.capture()))
+               .thenReturn(Mono.just(ReadResponse.builder()
+                                                 .envelopes(EnvelopeBatch.builder()
+                                                                         .batch(buildLogCacheEnvelope("second", LogType.ERR, 2000),
+                                                                                buildLogCacheEnvelope("first", LogType.OUT, 1000))
+                                                                         .build())
+                                                 .build()));
+        controllerClient = new CloudControllerRestClientImpl(CONTROLLER_URL, CREDENTIALS, webClient, oAuthClient, delegate, dopplerClient,
+                                                             logCacheClient, null, ConcurrencySettings.DEFAULT, Collections.emptyMap());
+
+        ApplicationLogQuery query = ImmutableApplicationLogQuery.builder()
+                                                                .startTime(new Date(1000))
+                                                                .limit(10)
+                                                                .addMessageType(ApplicationLog.MessageType.STDERR)
+                                                                .build();
+
+        List<ApplicationLog> logs = controllerClient.getRecentLogs(UUID.fromString(GUID), query);
+
+        assertEquals(1, logs.size());
+        assertEquals("second", logs.get(0)
+                                   .getMessage());
+        assertEquals("APP/PROC/WEB", logs.get(0)
+                                         .getSourceName());
+        ReadRequest request = requestCaptor.getValue();
+        assertEquals(GUID, request.getSourceId());
+        assertEquals(List.of(EnvelopeType.LOG), request.getEnvelopeTypes());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1000), request.getStartTime());
+        assertEquals(10, request.getLimit());
+        assertTrue(request.getDescending());
+    }
+
+    @Test
+    void testGetRecentLogsReadsFurtherPagesUntilLimitOfRequestedTypesIsReached() {
+        ArgumentCaptor<ReadRequest> requestCaptor = ArgumentCaptor.forClass(ReadRequest.class);
+        Mockito.when(logCacheClient.read(requestCaptor.capture()))
+               .thenReturn(Mono.just(buildLogCacheResponse(buildLogCacheEnvelope("fourth", LogType.OUT, 4000),
+                                                           buildLogCacheEnvelope("third", LogType.ERR, 3000))),
+                           Mono.just(buildLogCacheResponse(buildLogCacheEnvelope("second", LogType.ERR, 2000),
+                                                           buildLogCacheEnvelope("first", LogType.ERR, 1000))));
+        controllerClient = new CloudControllerRestClientImpl(CONTROLLER_URL, CREDENTIALS, webClient, oAuthClient, delegate, dopplerClient,
+                                                             logCacheClient, null, ConcurrencySettings.DEFAULT, Collections.emptyMap());
+
+        ApplicationLogQuery query = ImmutableApplicationLogQuery.builder()
+                                                                .limit(2)
+                                                                .addMessageType(ApplicationLog.MessageType.STDERR)
+                                                                .build();
+
+        List<ApplicationLog> logs = controllerClient.getRecentLogs(UUID.fromString(GUID), query);
+
+        assertEquals(List.of("third", "second"), logs.stream()
+                                                     .map(ApplicationLog::getMessage)
+                                                     .collect(Collectors.toList()));
+        List<ReadRequest> requests = requestCaptor.getAllValues();
+        assertEquals(2, requests.size());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(3000), requests.get(1)
+                                                                  .getEndTime());
+        assertEquals(2, requests.get(1)
+                                .getLimit());
+    }
+
+    @Test
+    void testGetRecentLogsFailsWithoutLogCacheClient() {
+        controllerClient = createClientWithTarget();
+        ApplicationLogQuery query = ImmutableApplicationLogQuery.builder()
+                                                                .build();
+
+        assertThrows(IllegalStateException.class, () -> controllerClient.getRecentLogs(UUID.fromString(GUID), query));
+    }
+
+    private static ReadResponse buildLogCacheResponse(org.cloudfoundry.logcache.v1.Envelope... envelopes) {
+        return ReadResponse.builder()
+                           .envelopes(EnvelopeBatch.builder()
+                                                   .batch(envelopes)
+                                                   .build())
+                           .build();
+    }
+
+    private static org.cloudfoundry.logcache.v1.Envelope buildLogCacheEnvelope(String message, LogType type, long timeInMillis) {
+        return org.cloudfoundry.logcache.v1.Envelope.builder()
+                                                    .sourceId(GUID)
+                                                    .instanceId("0")
+                                                    .tag("source_type", "APP/PROC/WEB")
+                                                    .timestamp(TimeUnit.MILLISECONDS.toNanos(timeInMillis))
+                                                    .log(Log.builder()
+                                                            .payload(Base64.getEncoder()
+                                                                           .encodeToString(message.getBytes(StandardCharsets.UTF_8)))
+                                                            .type(type)
+                                                            .build())
+                                                    .build();
+    }
+
+    @Test
+    void testUploadOfUnknownSizeIsStreamed() throws IOException {
+        byte[] bits = buildUploadBits();
+        List<Long> progress = new CopyOnWriteArrayList<>();
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        Mockito.doAnswer(invocation -> progress.add(invocation.getArgument(0)))
+               .when(callback)
+               .onBytesUploaded(Mockito.anyLong());
+
+        RecordedUpload upload = uploadToStubServer(bits, -1, callback);
+
+        assertEquals("chunked", upload.transferEncoding);
+        assertTrue(containsSubarray(upload.body, bits));
+        assertEquals(bits.length, progress.get(progress.size() - 1));
+        Mockito.verify(callback)
+               .onProgress("READY");
+    }
+
+    @Test
+    void testUploadOfUnknownSizeIsSpooledIfContentLengthIsRequired() throws IOException {
+        byte[] bits = buildUploadBits();
+        List<Long> progress = new CopyOnWriteArrayList<>();
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        Mockito.doAnswer(invocation -> progress.add(invocation.getArgument(0)))
+               .when(callback)
+               .onBytesUploaded(Mockito.anyLong());
+        List<byte[]> spooledUploads = mockSpooledUploads();
+
+        uploadToLengthRequiringStubServer(client -> client.uploadApplication(APPLICATION_NAME, new ByteArrayInputStream(bits), callback));
+
+        assertEquals(1, spooledUploads.size());
+        assertArrayEquals(bits, spooledUploads.get(0));
+        assertTrue(progress.stream()
+                           .allMatch(uploadedBytes -> uploadedBytes <= bits.length));
+        assertEquals(bits.length, progress.get(progress.size() - 1));
+    }
+
+    @Test
+    void testUploadOfUnknownSizeFailsIfContentLengthIsRequiredAfterTooManyBytesWereRead() {
+        byte[] bits = new byte[4 * 1024 * 1024];
+        List<byte[]> spooledUploads = mockSpooledUploads();
+
+        UploadAction uploadAction = client -> client.uploadApplication(APPLICATION_NAME, new ByteArrayInputStream(bits), null);
+
+        CloudOperationException e = assertThrows(CloudOperationException.class, () -> uploadToLengthRequiringStubServer(uploadAction));
+
+        assertEquals(HttpStatus.LENGTH_REQUIRED, e.getStatusCode());
+        assertTrue(spooledUploads.isEmpty());
+    }
+
+    @Test
+    void testUploadOfKnownSizeHasContentLength() throws IOException {
+        byte[] bits = buildUploadBits();
+
+        RecordedUpload upload = uploadToStubServer(bits, bits.length, null);
+
+        assertNull(upload.transferEncoding);
+        assertEquals(String.valueOf(upload.body.length), upload.contentLength);
+        assertTrue(containsSubarray(upload.body, bits));
+    }
+
+    @Test
+    void testUploadOfDirectoryIsCompressedWhileStreamed(@TempDir Path tempDir) throws IOException {
+        Files.write(tempDir.resolve(CfIgnore.FILE_NAME), "*.log".getBytes(StandardCharsets.UTF_8));
+        Files.write(tempDir.resolve(MATCHED_FILE_NAME), MATCHED_FILE_NAME.getBytes(StandardCharsets.UTF_8));
+        Files.write(tempDir.resolve("debug.log"), new byte[0]);
+
+        RecordedUpload upload = uploadToStubServer(client -> client.uploadApplicationDirectory(APPLICATION_NAME, tempDir,
+                                                                                               Deflater.BEST_SPEED, null));
+
+        assertEquals("chunked", upload.transferEncoding);
+        assertEquals(List.of(MATCHED_FILE_NAME), getArchiveEntryNames(upload.body));
+    }
+
+    @Test
+    void testUploadOfDirectoryIsSpooledIfContentLengthIsRequired(@TempDir Path tempDir) throws IOException {
+        Files.write(tempDir.resolve(MATCHED_FILE_NAME), buildUploadBits());
+        List<Long> progress = new CopyOnWriteArrayList<>();
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        Mockito.doAnswer(invocation -> progress.add(invocation.getArgument(0)))
+               .when(callback)
+               .onBytesUploaded(Mockito.anyLong());
+        List<byte[]> spooledUploads = mockSpooledUploads();
+
+        uploadToLengthRequiringStubServer(client -> client.uploadApplicationDirectory(APPLICATION_NAME, tempDir, Deflater.NO_COMPRESSION,
+                                                                                      callback));
+
+        assertEquals(1, spooledUploads.size());
+        byte[] archive = spooledUploads.get(0);
+        assertEquals(List.of(MATCHED_FILE_NAME), getArchiveEntryNames(archive));
+        assertTrue(progress.stream()
+                           .allMatch(uploadedBytes -> uploadedBytes <= archive.length));
+        assertEquals(archive.length, progress.get(progress.size() - 1));
+    }
+
+    @Test
+    void testUploadOfArchiveSkipsMatchedResources(@TempDir Path tempDir) throws IOException {
+        Path archive = tempDir.resolve("application.zip");
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (String name : List.of(MATCHED_FILE_NAME, UNMATCHED_FILE_NAME)) {
+                outputStream.putNextEntry(new ZipEntry(name));
+                outputStream.write(name.getBytes(StandardCharsets.UTF_8));
+                outputStream.closeEntry();
+            }
+        }
+        mockApplicationsV3(GUID);
+        mockPackages();
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        String matchedResource = "{\"checksum\":{\"value\":\"" + MATCHED_FILE_SHA1 + "\"},\"size_in_bytes\":" + MATCHED_FILE_NAME.length()
+            + ",\"path\":\"" + MATCHED_FILE_NAME + "\",\"mode\":\"744\"}";
+        String resourceMatchResponse = "{\"resources\":[" + matchedResource + "]}";
+        RecordedUpload resourceMatch = new RecordedUpload();
+        RecordedUpload upload = new RecordedUpload();
+        DisposableServer server = HttpServer.create()
+                                            .host("localhost")
+                                            .port(0)
+                                            .route(routes -> routes.post("/v3/resource_matches",
+                                                                         (request, response) -> recordBody(request, resourceMatch)
+                                                                             .then(response.header("Content-Type", "application/json")
+                                                                                           .sendString(Mono.just(resourceMatchResponse))
+                                                                                           .then()))
+                                                                   .post("/v3/packages/" + PACKAGE_GUID + "/upload",
+                                                                         (request, response) -> recordBody(request, upload)
+                                                                             .then(response.send())))
+                                            .bindNow();
+        try {
+            controllerClient = createClientWithTarget(new URL("http://localhost:" + server.port()), WebClient.create());
+            controllerClient.uploadApplication(APPLICATION_NAME, archive, callback);
+        } finally {
+            server.disposeNow();
+        }
+
+        String resourceMatchRequest = new String(resourceMatch.body, StandardCharsets.UTF_8);
+        assertTrue(resourceMatchRequest.contains(MATCHED_FILE_SHA1));
+        assertTrue(resourceMatchRequest.contains(UNMATCHED_FILE_NAME));
+        assertTrue(resourceMatchRequest.contains("\"size_in_bytes\""));
+        String uploadRequest = new String(upload.body, StandardCharsets.ISO_8859_1);
+        assertTrue(uploadRequest.contains("name=\"resources\""));
+        assertTrue(uploadRequest.contains(MATCHED_FILE_SHA1));
+        assertTrue(uploadRequest.contains("\"size_in_bytes\":" + MATCHED_FILE_NAME.length()));
+        assertEquals(List.of(UNMATCHED_FILE_NAME), getArchiveEntryNames(upload.body));
+        InOrder inOrder = Mockito.inOrder(callback);
+        inOrder.verify(callback)
+               .onCheckResources();
+        inOrder.verify(callback)
+               .onMatchedFileNames(Set.of(UNMATCHED_FILE_NAME));
+        inOrder.verify(callback)
+               .onProcessMatchedResources(UNMATCHED_FILE_NAME.length());
+        inOrder.verify(callback)
+               .onProgress("READY");
+    }
+
+    // @formatter:off
+    static Stream<Arguments> testUploadOfArchiveFallsBackToWholeArchiveIfResourceMatchingFails() {
+        return Stream.of(
+                // (1) the Cloud Controller cannot match resources at the moment
+                Arguments.of(503, ""),
+                // (2) the path of the matched resource is missing
+                Arguments.of(200, "{\"resources\":[{\"checksum\":{\"value\":\"" + MATCHED_FILE_SHA1 + "\"},\"size_in_bytes\":1}]}"),
+                // (3) the matched resources are not a list
+                Arguments.of(200, "{\"resources\":{}}")
+        );
+    }
+    // @formatter:on
+
+    @ParameterizedTest
+    @MethodSource
+    void testUploadOfArchiveFallsBackToWholeArchiveIfResourceMatchingFails(int resourceMatchStatus, String resourceMatchResponse,
+                                                                           @TempDir Path tempDir)
+        throws IOException {
+        Path archive = tempDir.resolve("application.zip");
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (String name : List.of(MATCHED_FILE_NAME, UNMATCHED_FILE_NAME)) {
+                outputStream.putNextEntry(new ZipEntry(name));
+                outputStream.write(name.getBytes(StandardCharsets.UTF_8));
+                outputStream.closeEntry();
+            }
+        }
+        mockApplicationsV3(GUID);
+        mockPackages();
+        Mockito.when(delegate.packages()
+                             .upload(Mockito.any()))
+               .thenReturn(Mono.just(UploadPackageResponse.builder()
+                                                          .from(buildPackage(PackageState.PROCESSING_UPLOAD))
+                                                          .build()));
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        DisposableServer server = HttpServer.create()
+                                            .host("localhost")
+                                            .port(0)
+                                            .route(routes -> routes.post("/v3/resource_matches",
+                                                                         (request, response) -> response.status(resourceMatchStatus)
+                                                                                                        .header("Content-Type",
+                                                                                                                "application/json")
+                                                                                                        .sendString(Mono.just(resourceMatchResponse))
+                                                                                                        .then()))
+                                            .bindNow();
+        try {
+            controllerClient = createClientWithTarget(new URL("http://localhost:" + server.port()), WebClient.create());
+            controllerClient.uploadApplication(APPLICATION_NAME, archive, callback);
+        } finally {
+            server.disposeNow();
+        }
+
+        ArgumentCaptor<UploadPackageRequest> request = ArgumentCaptor.forClass(UploadPackageRequest.class);
+        Mockito.verify(delegate.packages())
+               .upload(request.capture());
+        assertEquals(archive, request.getValue()
+                                     .getBits());
+        Mockito.verify(callback)
+               .onMatchedFileNames(Set.of(MATCHED_FILE_NAME, UNMATCHED_FILE_NAME));
+    }
+
+    private static Mono<Void> recordBody(HttpServerRequest request, RecordedUpload recordedUpload) {
+        return request.receive()
+                      .aggregate()
+                      .asByteArray()
+                      .doOnNext(body -> recordedUpload.body = body)
+                      .then();
+    }
+
+    private static List<String> getArchiveEntryNames(byte[] multipartBody) throws IOException {
+        byte[] zipSignature = new byte[] { 'P', 'K', 3, 4 };
+        int offset = 0;
+        while (!Arrays.equals(multipartBody, offset, offset + zipSignature.length, zipSignature, 0, zipSignature.length)) {
+            offset++;
+        }
+        List<String> entryNames = new ArrayList<>();
+        try (ZipInputStream inputStream = new ZipInputStream(new ByteArrayInputStream(multipartBody, offset,
+                                                                                      multipartBody.length - offset))) {
+            for (ZipEntry entry = inputStream.getNextEntry(); entry != null; entry = inputStream.getNextEntry()) {
+                entryNames.add(entry.getName());
+            }
+        }
+        return entryNames;
+    }
+
+    private RecordedUpload uploadToStubServer(byte[] bits, long size, UploadStatusCallback callback) throws IOException {
+        return uploadToStubServer(client -> client.uploadApplication(APPLICATION_NAME, new ByteArrayInputStream(bits), size, callback));
+    }
+
+    private RecordedUpload uploadToStubServer(UploadAction uploadAction) throws IOException {
+        mockApplicationsV3(GUID);
+        mockPackages();
+        RecordedUpload upload = new RecordedUpload();
+        DisposableServer server = HttpServer.create()
+                                            .host("localhost")
+                                            .port(0)
+                                            .route(routes -> routes.post("/v3/packages/" + PACKAGE_GUID + "/upload",
+                                                                         (request, response) -> {
+                                                                             upload.transferEncoding = request.requestHeaders()
+                                                                                                              .get("Transfer-Encoding");
+                                                                             upload.contentLength = request.requestHeaders()
+                                                                                                           .get("Content-Length");
+                                                                             return request.receive()
+                                                                                           .aggregate()
+                                                                                           .asByteArray()
+                                                                                           .doOnNext(body -> upload.body = body)
+                                                                                           .then(response.send());
+                                                                         }))
+                                            .bindNow();
+        try {
+            URL controllerUrl = new URL("http://localhost:" + server.port());
+            controllerClient = createClientWithTarget(controllerUrl, WebClient.create());
+            uploadAction.upload(controllerClient);
+        } finally {
+            server.disposeNow();
+        }
+        return upload;
+    }
+
+    private void uploadToLengthRequiringStubServer(UploadAction uploadAction) throws IOException {
+        mockApplicationsV3(GUID);
+        DisposableServer server = HttpServer.create()
+                                            .host("localhost")
+                                            .port(0)
+                                            .route(routes -> routes.post("/v3/packages/" + PACKAGE_GUID + "/upload",
+                                                                         (request, response) -> request.receive()
+                                                                                                       .then(response.status(411)
+                                                                                                                     .send())))
+                                            .bindNow();
+        try {
+            controllerClient = createClientWithTarget(new URL("http://localhost:" + server.port()), WebClient.create());
+            uploadAction.upload(controllerClient);
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    private List<byte[]> mockSpooledUploads() {
+        mockPackages();
+        List<byte[]> spooledUploads = new CopyOnWriteArrayList<>();
+        Mockito.when(delegate.packages()
+                             .upload(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   UploadPackageRequest request = invocation.getArgument(0);
+                   spooledUploads.add(Files.readAllBytes(request.getBits()));
+                   return Mono.just(UploadPackageResponse.builder()
+                                                         .from(buildPackage(PackageState.PROCESSING_UPLOAD))
+                                                         .build());
+               });
+        return spooledUploads;
+    }
+
+    @Test
+    void testMonitorUploadReturnsTheMonitorOfAnAsyncUpload(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("application.txt"), "content");
+        mockApplicationsV3(GUID);
+        mockPackages();
+        Mockito.when(delegate.packages()
+                             .get(Mockito.any()))
+               .thenReturn(Mono.just(buildPackage(PackageState.PROCESSING_UPLOAD)));
+        Mockito.when(delegate.packages()
+                             .upload(Mockito.any()))
+               .thenReturn(Mono.just(UploadPackageResponse.builder()
+                                                          .from(buildPackage(PackageState.PROCESSING_UPLOAD))
+                                                          .build()));
+        UploadStatusCallback monitorCallback = Mockito.mock(UploadStatusCallback.class);
+        controllerClient = createClientWithTarget();
+
+        CloudPackage cloudPackage = controllerClient.asyncUploadApplication(APPLICATION_NAME, file, UploadStatusCallback.NONE);
+        CompletableFuture<Upload> monitor = controllerClient.monitorUpload(cloudPackage.getGuid(), monitorCallback);
+
+        assertSame(monitor, controllerClient.monitorUpload(cloudPackage.getGuid(), monitorCallback));
+        monitor.cancel(true);
+        CompletableFuture<Upload> newMonitor = controllerClient.monitorUpload(cloudPackage.getGuid(), UploadStatusCallback.NONE);
+        newMonitor.cancel(true);
+        assertNotSame(monitor, newMonitor);
+        Mockito.verifyNoInteractions(monitorCallback);
+    }
+
+    private void mockPackages() {
+        Packages packages = Mockito.mock(Packages.class);
+        Mockito.when(delegate.packages())
+               .thenReturn(packages);
+        Mockito.when(packages.create(Mockito.any()))
+               .thenReturn(Mono.just(CreatePackageResponse.builder()
+                                                          .from(buildPackage(PackageState.AWAITING_UPLOAD))
+                                                          .build()));
+        Mockito.when(packages.get(Mockito.any()))
+               .thenReturn(Mono.just(buildPackage(PackageState.READY)));
+    }
+
+    private static GetPackageResponse buildPackage(PackageState state) {
+        return GetPackageResponse.builder()
+                                 .id(PACKAGE_GUID)
+                                 .createdAt("2021-01-01T00:00:00Z")
+                                 .type(PackageType.BITS)
+                                 .state(state)
+                                 .data(BitsData.builder()
+                                               .checksum(Checksum.builder()
+                                                                 .type(ChecksumType.SHA256)
+                                                                 .value("")
+                                                                 .build())
+                                               .build())
+                                 .build();
+    }
+
+    private static byte[] buildUploadBits() {
+        byte[] bits = new byte[300 * 1024];
+        new Random(42).nextBytes(bits);
+        return bits;
+    }
+
+    private static boolean containsSubarray(byte[] array, byte[] subarray) {
+        for (int i = 0; i + subarray.length <= array.length; i++) {
+            if (Arrays.equals(array, i, i + subarray.length, subarray, 0, subarray.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @FunctionalInterface
+    private interface UploadAction {
+
+        void upload(CloudControllerRestClient client) throws IOException;
+
+    }
+
+    private static class RecordedUpload {
+
+        private volatile String transferEncoding;
+        private volatile String contentLength;
+        private volatile byte[] body;
+
+    }
+
+    @Test
+    void testApplicationGuidIsResolvedOnceForReads() {
+        ApplicationsV3 applications = mockApplicationsV3(GUID);
+        mockApplicationEnvironment(applications);
+        controllerClient = createClientWithTarget();
+
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+
+        Mockito.verify(applications, Mockito.times(1))
+               .list(Mockito.any());
+        Mockito.verify(applications, Mockito.times(2))
+               .getEnvironment(Mockito.any());
+    }
+
+    @Test
+    void testApplicationGuidIsResolvedAgainAfterInvalidation() {
+        ApplicationsV3 applications = mockApplicationsV3(GUID, RECREATED_APPLICATION_GUID);
+        mockApplicationEnvironment(applications);
+        controllerClient = createClientWithTarget();
+
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+        controllerClient.invalidateApplicationGuids();
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+
+        Mockito.verify(applications, Mockito.times(2))
+               .list(Mockito.any());
+        Mockito.verify(applications)
+               .getEnvironment(environmentRequestFor(RECREATED_APPLICATION_GUID));
+    }
+
+    @Test
+    void testApplicationGuidIsResolvedAgainIfNotFound() {
+        ApplicationsV3 applications = mockApplicationsV3(GUID, RECREATED_APPLICATION_GUID);
+        Mockito.when(applications.getEnvironment(environmentRequestFor(GUID)))
+               .thenReturn(Mono.error(new ClientV3Exception(HttpStatus.NOT_FOUND.value(), Collections.emptyList())));
+        Mockito.when(applications.getEnvironment(environmentRequestFor(RECREATED_APPLICATION_GUID)))
+               .thenReturn(Mono.just(GetApplicationEnvironmentResponse.builder()
+                                                                      .environmentVariables(Collections.emptyMap())
+                                                                      .build()));
+        controllerClient = createClientWithTarget();
+
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+
+        Mockito.verify(applications, Mockito.times(2))
+               .list(Mockito.any());
+        Mockito.verify(applications)
+               .getEnvironment(environmentRequestFor(RECREATED_APPLICATION_GUID));
+    }
+
+    @Test
+    void testApplicationGuidIsResolvedOnceForUpdates() {
+        ApplicationsV3 applications = mockApplicationsV3(GUID);
+        Mockito.when(applications.scale(Mockito.any()))
+               .thenReturn(Mono.empty());
+        Mockito.when(applications.updateEnvironmentVariables(Mockito.any()))
+               .thenReturn(Mono.empty());
+        controllerClient = createClientWithTarget();
+
+        controllerClient.updateApplicationMemory(APPLICATION_NAME, 256);
+        controllerClient.updateApplicationInstances(APPLICATION_NAME, 2);
+        controllerClient.updateApplicationDiskQuota(APPLICATION_NAME, 512);
+        controllerClient.updateApplicationEnv(APPLICATION_NAME, Map.of("key", "value"));
+        controllerClient.updateApplicationMemory(APPLICATION_NAME, 512);
+
+        Mockito.verify(applications, Mockito.times(1))
+               .list(Mockito.any());
+        Mockito.verify(applications, Mockito.times(4))
+               .scale(Mockito.argThat((ScaleApplicationRequest request) -> GUID.equals(request.getApplicationId())));
+    }
+
+    @Test
+    void testUpdatesResolveApplicationGuidAgainIfNotFound() {
+        ApplicationsV3 applications = mockApplicationsV3(GUID, RECREATED_APPLICATION_GUID);
+        mockApplicationEnvironment(applications);
+        Mockito.when(applications.scale(scaleRequestFor(GUID)))
+               .thenReturn(Mono.error(new ClientV3Exception(HttpStatus.NOT_FOUND.value(), Collections.emptyList())));
+        Mockito.when(applications.scale(scaleRequestFor(RECREATED_APPLICATION_GUID)))
+               .thenReturn(Mono.empty());
+        controllerClient = createClientWithTarget();
+
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+        controllerClient.updateApplicationMemory(APPLICATION_NAME, 256);
+        controllerClient.updateApplicationMemory(APPLICATION_NAME, 512);
+
+        Mockito.verify(applications, Mockito.times(2))
+               .list(Mockito.any());
+        Mockito.verify(applications, Mockito.times(2))
+               .scale(Mockito.argThat((ScaleApplicationRequest request) -> RECREATED_APPLICATION_GUID.equals(request.getApplicationId())));
+    }
+
+    @Test
+    void testDeletesAndRenamesResolveCurrentApplicationGuid() {
+        // The cached GUID still exists, e.g. because another client renamed the application and created a new one with its name.
+        ApplicationsV3 applications = mockApplicationsV3(GUID, RECREATED_APPLICATION_GUID);
+        mockApplicationEnvironment(applications);
+        Mockito.when(applications.update(Mockito.any()))
+               .thenReturn(Mono.empty());
+        Mockito.when(applications.delete(Mockito.any()))
+               .thenReturn(Mono.empty());
+        ApplicationsV2 applicationsV2 = Mockito.mock(ApplicationsV2.class);
+        Mockito.when(delegate.applicationsV2())
+               .thenReturn(applicationsV2);
+        Mockito.when(applicationsV2.listServiceBindings(Mockito.any()))
+               .thenReturn(Mono.just(ListApplicationServiceBindingsResponse.builder()
+                                                                           .resources(Collections.emptyList())
+                                                                           .totalPages(1)
+                                                                           .build()));
+        controllerClient = createClientWithTarget();
+
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+        assertEquals(UUID.fromString(RECREATED_APPLICATION_GUID), controllerClient.getApplicationGuid(APPLICATION_NAME));
+        controllerClient.rename(APPLICATION_NAME, "renamed");
+        controllerClient.deleteApplication(APPLICATION_NAME);
+
+        Mockito.verify(applications)
+               .update(Mockito.argThat(request -> RECREATED_APPLICATION_GUID.equals(request.getApplicationId())));
+        Mockito.verify(applications)
+               .delete(Mockito.argThat(request -> RECREATED_APPLICATION_GUID.equals(request.getApplicationId())));
+        Mockito.verify(applications, Mockito.never())
+               .delete(Mockito.argThat(request -> GUID.equals(request.getApplicationId())));
+    }
+
+    @Test
+    void testReactiveUpdateIsSentOnSubscriptionAndRetriedWithCurrentApplicationGuid() {
+        ApplicationsV3 applications = mockApplicationsV3(GUID, RECREATED_APPLICATION_GUID);
+        Mockito.when(applications.scale(scaleRequestFor(GUID)))
+               .thenReturn(Mono.error(new ClientV3Exception(HttpStatus.NOT_FOUND.value(), Collections.emptyList())));
+        Mockito.when(applications.scale(scaleRequestFor(RECREATED_APPLICATION_GUID)))
+               .thenReturn(Mono.empty());
+        controllerClient = createClientWithTarget();
+
+        Mono<Void> update = controllerClient.getReactiveClient()
+                                            .updateApplicationMemory(APPLICATION_NAME, 256);
+        Mockito.verify(applications, Mockito.never())
+               .list(Mockito.any());
+        update.block();
+
+        Mockito.verify(applications, Mockito.times(2))
+               .list(Mockito.any());
+        Mockito.verify(applications)
+               .scale(scaleRequestFor(RECREATED_APPLICATION_GUID));
+    }
+
+    @Test
+    void testResolveApplicationGuidsOmitsMissingApplications() {
+        ApplicationsV3 applications = mockApplicationsV3(GUID);
+        mockApplicationEnvironment(applications);
+        controllerClient = createClientWithTarget();
+
+        Map<String, UUID> applicationGuids = controllerClient.resolveApplicationGuids(List.of(APPLICATION_NAME, "missing"));
+        controllerClient.getApplicationEnvironment(APPLICATION_NAME);
+
+        assertEquals(Map.of(APPLICATION_NAME, UUID.fromString(GUID)), applicationGuids);
+        Mockito.verify(applications, Mockito.times(1))
+               .list(Mockito.any());
+    }
+
+    @Test
+    void testDeleteAllApplicationsReportsFailuresAfterDeletingTheOthers() {
+        List<String> applicationNames = List.of("first", "second", "third");
+        Map<String, String> applicationNamesByGuid = new HashMap<>();
+        applicationNames.forEach(applicationName -> applicationNamesByGuid.put(UUID.randomUUID()
+                                                                                   .toString(),
+                                                                               applicationName));
+        ApplicationsV3 applications = Mockito.mock(ApplicationsV3.class);
+        Mockito.when(delegate.applicationsV3())
+               .thenReturn(applications);
+        Mockito.when(applications.list(Mockito.any()))
+               .thenReturn(Mono.just(ListApplicationsResponse.builder()
+                                                             .resources(applicationNamesByGuid.entrySet()
+                                                                                              .stream()
+                                                                                              .map(application -> buildApplicationResource(application.getKey(),
+                                                                                                                                           application.getValue()))
+                                                                                              .collect(Collectors.toList()))
+                                                             .pagination(Pagination.builder()
+                                                                                   .totalPages(1)
+                                                                                   .build())
+                                                             .build()));
+        Mockito.when(applications.delete(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   DeleteApplicationRequest request = invocation.getArgument(0);
+                   return "second".equals(applicationNamesByGuid.get(request.getApplicationId()))
+                       ? Mono.error(new ClientV3Exception(HttpStatus.UNPROCESSABLE_ENTITY.value(), Collections.emptyList()))
+                       : Mono.empty();
+               });
+        ApplicationsV2 applicationsV2 = Mockito.mock(ApplicationsV2.class);
+        Mockito.when(delegate.applicationsV2())
+               .thenReturn(applicationsV2);
+        Mockito.when(applicationsV2.listServiceBindings(Mockito.any()))
+               .thenReturn(Mono.just(ListApplicationServiceBindingsResponse.builder()
+                                                                           .resources(Collections.emptyList())
+                                                                           .totalPages(1)
+                                                                           .build()));
+        controllerClient = createClientWithTarget();
+
+        BulkOperationException e = assertThrows(BulkOperationException.class, () -> controllerClient.deleteAllApplications());
+
+        assertEquals(Set.of("second"), e.getFailures()
+                                        .keySet());
+        assertTrue(e.getMessage()
+                    .startsWith("Could not delete 1 of 3 applications"), e.getMessage());
+        Mockito.verify(applications, Mockito.times(3))
+               .delete(Mockito.any());
+    }
+
+    @Test
+    void testServiceInstancesAreUnboundBeforeApplicationIsDeleted() {
+        String applicationGuid = UUID.randomUUID()
+                                     .toString();
+        ApplicationsV3 applications = mockApplicationsV3(applicationGuid);
+        List<String> requests = new CopyOnWriteArrayList<>();
+        Mockito.when(applications.delete(Mockito.any()))
+               .thenAnswer(invocation -> Mono.fromRunnable(() -> requests.add("delete application")));
+        List<String> bindingGuids = List.of(UUID.randomUUID()
+                                                .toString(),
+                                            UUID.randomUUID()
+                                                .toString());
+        ApplicationsV2 applicationsV2 = Mockito.mock(ApplicationsV2.class);
+        Mockito.when(delegate.applicationsV2())
+               .thenReturn(applicationsV2);
+        List<ServiceBindingResource> bindings = bindingGuids.stream()
+                                                            .map(CloudControllerRestClientImplTest::buildServiceBindingResource)
+                                                            .collect(Collectors.toList());
+        Mockito.when(applicationsV2.listServiceBindings(Mockito.any()))
+               .thenReturn(Mono.just(ListApplicationServiceBindingsResponse.builder()
+                                                                           .resources(bindings)
+                                                                           .totalPages(1)
+                                                                           .build()));
+        ServiceBindingsV2 serviceBindings = Mockito.mock(ServiceBindingsV2.class);
+        Mockito.when(delegate.serviceBindingsV2())
+               .thenReturn(serviceBindings);
+        Mockito.when(serviceBindings.delete(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   DeleteServiceBindingRequest request = invocation.getArgument(0);
+                   return Mono.<DeleteServiceBindingResponse> empty()
+                              .delaySubscription(Duration.ofMillis(20))
+                              .doOnSuccess(response -> requests.add("unbind " + request.getServiceBindingId()));
+               });
+        controllerClient = createClientWithTarget();
+
+        controllerClient.deleteAllApplications();
+
+        assertEquals(3, requests.size());
+        assertEquals(Set.of("unbind " + bindingGuids.get(0), "unbind " + bindingGuids.get(1)), Set.copyOf(requests.subList(0, 2)));
+        assertEquals("delete application", requests.get(2));
+    }
+
+    @Test
+    void testUnbindsOfAllApplicationsAreBoundedTogether() {
+        Map<String, String> applicationNamesByBindingGuid = mockApplicationsWithBindings(List.of("first", "second", "third"), 4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ServiceBindingsV2 serviceBindings = Mockito.mock(ServiceBindingsV2.class);
+        Mockito.when(delegate.serviceBindingsV2())
+               .thenReturn(serviceBindings);
+        Mockito.when(serviceBindings.delete(Mockito.any()))
+               .thenAnswer(invocation -> delayAndTrackConcurrency(inFlight, maxInFlight).then(Mono.empty()));
+        ConcurrencySettings unbindSettings = ImmutableConcurrencySettings.builder()
+                                                                         .concurrency(2)
+                                                                         .build();
+        controllerClient = createClientWithTarget(Map.of(FetchOperation.UNBIND_SERVICE_INSTANCES, unbindSettings));
+
+        controllerClient.deleteAllApplications();
+
+        assertEquals(2, maxInFlight.get());
+        Mockito.verify(serviceBindings, Mockito.times(applicationNamesByBindingGuid.size()))
+               .delete(Mockito.any());
+        Mockito.verify(delegate.applicationsV3(), Mockito.times(3))
+               .delete(Mockito.any());
+    }
+
+    @Test
+    void testApplicationIsNotDeletedIfUnbindFails() {
+        Map<String, String> applicationNamesByBindingGuid = mockApplicationsWithBindings(List.of("first", "second"), 2);
+        ServiceBindingsV2 serviceBindings = Mockito.mock(ServiceBindingsV2.class);
+        Mockito.when(delegate.serviceBindingsV2())
+               .thenReturn(serviceBindings);
+        Mockito.when(serviceBindings.delete(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   DeleteServiceBindingRequest request = invocation.getArgument(0);
+                   return "second".equals(applicationNamesByBindingGuid.get(request.getServiceBindingId()))
+                       ? Mono.error(clientV2Exception(HttpStatus.BAD_GATEWAY.value()))
+                       : Mono.empty();
+               });
+        controllerClient = createClientWithTarget();
+
+        BulkOperationException e = assertThrows(BulkOperationException.class, () -> controllerClient.deleteAllApplications());
+
+        assertEquals(Set.of("second"), e.getFailures()
+                                        .keySet());
+        assertTrue(e.getMessage()
+                    .startsWith("Could not delete 1 of 2 applications"), e.getMessage());
+        Mockito.verify(delegate.applicationsV3(), Mockito.times(1))
+               .delete(Mockito.any());
+    }
+
+    @Test
+    void testBulkDeletionsAreBoundedConservativelyByDefault() {
+        List<UnionServiceInstanceResource> resources = IntStream.range(0, 20)
+                                                                .mapToObj(i -> buildServiceInstanceResource("service-instance-" + i,
+                                                                                                            UUID.randomUUID()))
+                                                                .collect(Collectors.toList());
+        Spaces spaces = Mockito.mock(Spaces.class);
+        Mockito.when(delegate.spaces())
+               .thenReturn(spaces);
+        Mockito.when(spaces.listServiceInstances(Mockito.any()))
+               .thenReturn(Mono.just(ListSpaceServiceInstancesResponse.builder()
+                                                                       .resources(resources)
+                                                                       .totalPages(1)
+                                                                       .build()));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ServiceInstances serviceInstances = Mockito.mock(ServiceInstances.class);
+        Mockito.when(delegate.serviceInstances())
+               .thenReturn(serviceInstances);
+        Mockito.when(serviceInstances.delete(Mockito.any()))
+               .thenAnswer(invocation -> delayAndTrackConcurrency(inFlight, maxInFlight).then(Mono.empty()));
+        controllerClient = createClientWithTarget();
+
+        controllerClient.deleteAllServiceInstances();
+
+        assertEquals(ConcurrencySettings.BULK_MUTATION_DEFAULT.getConcurrency(), maxInFlight.get());
+    }
+
+    /**
+     * @return the name of the application by the GUID of each binding
+     */
+    private Map<String, String> mockApplicationsWithBindings(List<String> applicationNames, int bindingsPerApplication) {
+        Map<String, String> applicationNamesByGuid = new HashMap<>();
+        Map<String, List<ServiceBindingResource>> bindingsByApplicationGuid = new HashMap<>();
+        Map<String, String> applicationNamesByBindingGuid = new HashMap<>();
+        for (String applicationName : applicationNames) {
+            String applicationGuid = UUID.randomUUID()
+                                         .toString();
+            applicationNamesByGuid.put(applicationGuid, applicationName);
+            List<ServiceBindingResource> bindings = new ArrayList<>();
+            for (int i = 0; i < bindingsPerApplication; i++) {
+                String bindingGuid = UUID.randomUUID()
+                                         .toString();
+                bindings.add(buildServiceBindingResource(bindingGuid));
+                applicationNamesByBindingGuid.put(bindingGuid, applicationName);
+            }
+            bindingsByApplicationGuid.put(applicationGuid, bindings);
+        }
+        ApplicationsV3 applications = Mockito.mock(ApplicationsV3.class);
+        Mockito.when(delegate.applicationsV3())
+               .thenReturn(applications);
+        Mockito.when(applications.list(Mockito.any()))
+               .thenReturn(Mono.just(ListApplicationsResponse.builder()
+                                                             .resources(applicationNamesByGuid.entrySet()
+                                                                                              .stream()
+                                                                                              .map(application -> buildApplicationResource(application.getKey(),
+                                                                                                                                           application.getValue()))
+                                                                                              .collect(Collectors.toList()))
+                                                             .pagination(Pagination.builder()
+                                                                                   .totalPages(1)
+                                                                                   .build())
+                                                             .build()));
+        Mockito.when(applications.delete(Mockito.any()))
+               .thenReturn(Mono.empty());
+        ApplicationsV2 applicationsV2 = Mockito.mock(ApplicationsV2.class);
+        Mockito.when(delegate.applicationsV2())
+               .thenReturn(applicationsV2);
+        Mockito.when(applicationsV2.listServiceBindings(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   ListApplicationServiceBindingsRequest request = invocation.getArgument(0);
+                   List<ServiceBindingResource> bindings = bindingsByApplicationGuid.get(request.getApplicationId());
+                   return Mono.just(ListApplicationServiceBindingsResponse.builder()
+                                                                          .resources(bindings)
+                                                                          .totalPages(1)
+                                                                          .build());
+               });
+        return applicationNamesByBindingGuid;
+    }
+
+    private static Mono<Long> delayAndTrackConcurrency(AtomicInteger inFlight, AtomicInteger maxInFlight) {
+        return Mono.delay(Duration.ofMillis(10))
+                   .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                   .doOnNext(tick -> inFlight.decrementAndGet());
+    }
+
+    @Test
+    void testDeleteAllServiceInstancesReportsFailuresAfterDeletingTheOthers() {
+        Map<String, UUID> serviceInstanceGuids = Map.of("first", UUID.randomUUID(), "second", UUID.randomUUID(), "third",
+                                                        UUID.randomUUID());
+        List<UnionServiceInstanceResource> resources = serviceInstanceGuids.entrySet()
+                                                                           .stream()
+                                                                           .map(entry -> buildServiceInstanceResource(entry.getKey(),
+                                                                                                                      entry.getValue()))
+                                                                           .collect(Collectors.toList());
+        Spaces spaces = Mockito.mock(Spaces.class);
+        Mockito.when(delegate.spaces())
+               .thenReturn(spaces);
+        Mockito.when(spaces.listServiceInstances(Mockito.any()))
+               .thenReturn(Mono.just(ListSpaceServiceInstancesResponse.builder()
+                                                                       .resources(resources)
+                                                                       .totalPages(1)
+                                                                       .build()));
+        ServiceInstances serviceInstances = Mockito.mock(ServiceInstances.class);
+        Mockito.when(delegate.serviceInstances())
+               .thenReturn(serviceInstances);
+        Mockito.when(serviceInstances.delete(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   DeleteServiceInstanceRequest request = invocation.getArgument(0);
+                   String failingGuid = serviceInstanceGuids.get("second")
+                                                            .toString();
+                   return failingGuid.equals(request.getServiceInstanceId()) ? Mono.error(clientV2Exception(HttpStatus.BAD_GATEWAY.value()))
+                       : Mono.empty();
+               });
+        controllerClient = createClientWithTarget();
+
+        BulkOperationException e = assertThrows(BulkOperationException.class, () -> controllerClient.deleteAllServiceInstances());
+
+        assertEquals(Set.of("second"), e.getFailures()
+                                        .keySet());
+        assertTrue(e.getMessage()
+                    .startsWith("Could not delete 1 of 3 service instances"), e.getMessage());
+        Mockito.verify(serviceInstances, Mockito.times(3))
+               .delete(Mockito.any());
+    }
+
+    @Test
+    void testResolveServiceInstanceGuidsInBatchesOmitsMissingServiceInstances() {
+        Map<String, UUID> existingGuids = new HashMap<>();
+        for (int i = 0; i < 250; i++) {
+            existingGuids.put(String.format("service-instance-%03d", i), UUID.randomUUID());
+        }
+        mockServiceInstanceGuids(existingGuids);
+        controllerClient = createClientWithTarget();
+        List<String> names = new ArrayList<>(existingGuids.keySet());
+        names.add("missing");
+
+        Map<String, UUID> serviceInstanceGuids = controllerClient.resolveServiceInstanceGuids(names);
+
+        assertEquals(existingGuids, serviceInstanceGuids);
+        Mockito.verify(delegate.spaces(), Mockito.times(2))
+               .listServiceInstances(Mockito.any());
+    }
+
+    @Test
+    void testWatchedServiceInstanceCompletesWhenLastOperationSucceeded() throws Exception {
+        CloudServiceInstance serviceInstance = watchServiceInstance(buildServiceInstanceResource("create", "succeeded"));
+
+        assertEquals(UUID.fromString(SERVICE_INSTANCE_GUID), serviceInstance.getMetadata()
+                                                                            .getGuid());
+        assertEquals(ServiceOperation.State.SUCCEEDED, serviceInstance.getLastOperation()
+                                                                      .getState());
+    }
+
+    @Test
+    void testWatchedServiceInstanceCompletesWhenLastOperationFailed() throws Exception {
+        CloudServiceInstance serviceInstance = watchServiceInstance(buildServiceInstanceResource("update", "failed"));
+
+        assertEquals(ServiceOperation.Type.UPDATE, serviceInstance.getLastOperation()
+                                                                  .getType());
+        assertEquals(ServiceOperation.State.FAILED, serviceInstance.getLastOperation()
+                                                                   .getState());
+    }
+
+    @Test
+    void testWatchedServiceInstanceWithUnknownStateIsReportedAsFailed() throws Exception {
+        CloudServiceInstance serviceInstance = watchServiceInstance(buildServiceInstanceResource("create", "unknown"));
+
+        assertEquals(ServiceOperation.State.FAILED, serviceInstance.getLastOperation()
+                                                                   .getState());
+    }
+
+    @Test
+    void testWatchedServiceInstanceIsPolledUntilLastOperationIsDone() throws Exception {
+        List<ListSpaceServiceInstancesRequest> polls = new CopyOnWriteArrayList<>();
+
+        CloudServiceInstance serviceInstance = watchServiceInstance(polls, buildServiceInstanceResource("create", "in progress"),
+                                                                    buildServiceInstanceResource("create", "in progress"),
+                                                                    buildServiceInstanceResource("create", "succeeded"));
+
+        assertEquals(ServiceOperation.State.SUCCEEDED, serviceInstance.getLastOperation()
+                                                                      .getState());
+        assertEquals(3, polls.size());
+        assertTrue(polls.stream()
+                        .allMatch(request -> List.of(SERVICE_INSTANCE_NAME)
+                                                 .equals(request.getNames())));
+    }
+
+    @Test
+    void testDeletedServiceInstanceIsReportedAsNotFound() {
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> watchServiceInstance(buildServiceInstanceResource("delete", "in progress"), null));
+
+        assertTrue(e.getCause() instanceof CloudOperationException);
+        assertEquals(HttpStatus.NOT_FOUND, ((CloudOperationException) e.getCause()).getStatusCode());
+    }
+
+    @Test
+    void testRecreatedServiceInstanceIsReportedAsNotFound() {
+        UnionServiceInstanceResource recreatedServiceInstance = UnionServiceInstanceResource.builder()
+                                                                                            .from(buildServiceInstanceResource("create",
+                                                                                                                               "succeeded"))
+                                                                                            .metadata(Metadata.builder()
+                                                                                                              .id(UUID.randomUUID()
+                                                                                                                      .toString())
+                                                                                                              .build())
+                                                                                            .build();
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> watchServiceInstance(buildServiceInstanceResource("delete", "in progress"),
+                                                                       recreatedServiceInstance));
+
+        assertEquals(HttpStatus.NOT_FOUND, ((CloudOperationException) e.getCause()).getStatusCode());
+    }
+
+    @Test
+    void testWatchOfMissingServiceInstanceFails() {
+        mockServiceInstanceGuids(Collections.emptyMap());
+        controllerClient = createClientWithTarget();
+
+        CompletableFuture<CloudServiceInstance> future = controllerClient.watchServiceInstance(SERVICE_INSTANCE_NAME);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.NOT_FOUND, ((CloudOperationException) e.getCause()).getStatusCode());
+    }
+
+    @Test
+    void testReactiveWatchOfMissingServiceInstanceFails() {
+        mockServiceInstanceGuids(Collections.emptyMap());
+        controllerClient = createClientWithTarget();
+
+        Mono<CloudServiceInstance> watch = controllerClient.getReactiveClient()
+                                                           .watchServiceInstance(SERVICE_INSTANCE_NAME);
+
+        CloudOperationException e = assertThrows(CloudOperationException.class, watch::block);
+        assertEquals(HttpStatus.NOT_FOUND, e.getStatusCode());
+    }
+
+    private CloudServiceInstance watchServiceInstance(UnionServiceInstanceResource... polledServiceInstances) throws Exception {
+        return watchServiceInstance(new CopyOnWriteArrayList<>(), polledServiceInstances);
+    }
+
+    /**
+     * @param polledServiceInstances the service instance in the responses to the polls, or {@code null} if it is not listed
+     */
+    private CloudServiceInstance watchServiceInstance(List<ListSpaceServiceInstancesRequest> polls,
+                                                      UnionServiceInstanceResource... polledServiceInstances)
+        throws Exception {
+        Spaces spaces = Mockito.mock(Spaces.class);
+        Mockito.when(delegate.spaces())
+               .thenReturn(spaces);
+        AtomicInteger listCount = new AtomicInteger();
+        Mockito.when(spaces.listServiceInstances(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   // The first request resolves the name of the service instance, the following ones poll it.
+                   int pollIndex = listCount.getAndIncrement() - 1;
+                   UnionServiceInstanceResource serviceInstance = pollIndex < 0 ? polledServiceInstances[0]
+                       : polledServiceInstances[Math.min(pollIndex, polledServiceInstances.length - 1)];
+                   if (pollIndex >= 0) {
+                       polls.add(invocation.getArgument(0));
+                   }
+                   return Mono.just(ListSpaceServiceInstancesResponse.builder()
+                                                                     .resources(serviceInstance == null ? Collections.emptyList()
+                                                                         : List.of(serviceInstance))
+                                                                     .totalPages(1)
+                                                                     .build());
+               });
+        controllerClient = new CloudControllerRestClientImpl(CONTROLLER_URL, CREDENTIALS, webClient, oAuthClient, delegate, dopplerClient,
+                                                             null, ImmutableCloudSpace.builder()
+                                                                                      .metadata(ImmutableCloudMetadata.of(UUID.fromString(GUID)))
+                                                                                      .name("space")
+                                                                                      .build(),
+                                                             ConcurrencySettings.DEFAULT, Collections.emptyMap(), Duration.ofMillis(10));
+        return controllerClient.watchServiceInstance(SERVICE_INSTANCE_NAME)
+                               .get(5, TimeUnit.SECONDS);
+    }
+
+    private void mockServiceInstanceGuids(Map<String, UUID> serviceInstanceGuids) {
+        Spaces spaces = Mockito.mock(Spaces.class);
+        Mockito.when(delegate.spaces())
+               .thenReturn(spaces);
+        Mockito.when(spaces.listServiceInstances(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   ListSpaceServiceInstancesRequest request = invocation.getArgument(0);
+                   return Mono.just(ListSpaceServiceInstancesResponse.builder()
+                                                                     .resources(request.getNames()
+                                                                                       .stream()
+                                                                                       .filter(serviceInstanceGuids::containsKey)
+                                                                                       .map(name -> buildServiceInstanceResource(name,
+                                                                                                                                 serviceInstanceGuids.get(name)))
+                                                                                       .collect(Collectors.toList()))
+                                                                     .totalPages(1)
+                                                                     .build());
+               });
+    }
+
+    private static UnionServiceInstanceResource buildServiceInstanceResource(String operationType, String operationState) {
+        return UnionServiceInstanceResource.builder()
+                                           .metadata(Metadata.builder()
+                                                             .id(SERVICE_INSTANCE_GUID)
+                                                             .build())
+                                           .entity(UnionServiceInstanceEntity.builder()
+                                                                             .name(SERVICE_INSTANCE_NAME)
+                                                                             .type("managed_service_instance")
+                                                                             .lastOperation(LastOperation.builder()
+                                                                                                         .type(operationType)
+                                                                                                         .state(operationState)
+                                                                                                         .description("")
+                                                                                                         .build())
+                                                                             .build())
+                                           .build();
+    }
+
+    private static ServiceBindingResource buildServiceBindingResource(String guid) {
+        return ServiceBindingResource.builder()
+                                     .metadata(Metadata.builder()
+                                                       .id(guid)
+                                                       .build())
+                                     .entity(ServiceBindingEntity.builder()
+                                                                 .build())
+                                     .build();
+    }
+
+    private static UnionServiceInstanceResource buildServiceInstanceResource(String name, UUID guid) {
+        return UnionServiceInstanceResource.builder()
+                                           .metadata(Metadata.builder()
+                                                             .id(guid.toString())
+                                                             .build())
+                                           .entity(UnionServiceInstanceEntity.builder()
+                                                                             .name(name)
+                                                                             .build())
+                                           .build();
+    }
+
+    private CloudControllerRestClientImpl createClientWithTarget() {
+        return createClientWithTarget(CONTROLLER_URL, webClient);
+    }
+
+    private CloudControllerRestClientImpl createClientWithTarget(URL controllerUrl, WebClient webClient) {
+        return new CloudControllerRestClientImpl(controllerUrl, CREDENTIALS, webClient, oAuthClient, delegate, dopplerClient,
+                                                 buildTarget());
+    }
+
+    private CloudControllerRestClientImpl
+            createClientWithTarget(Map<FetchOperation, ConcurrencySettings> concurrencySettingsOverrides) {
+        return new CloudControllerRestClientImpl(CONTROLLER_URL, CREDENTIALS, webClient, oAuthClient, delegate, dopplerClient,
+                                                 buildTarget(), ConcurrencySettings.DEFAULT, concurrencySettingsOverrides);
+    }
+
+    private static CloudSpace buildTarget() {
+        return ImmutableCloudSpace.builder()
+                                  .metadata(ImmutableCloudMetadata.of(UUID.fromString(GUID)))
+                                  .name("space")
+                                  .build();
+    }
+
+    private static void mockApplicationEnvironment(ApplicationsV3 applications) {
+        Mockito.when(applications.getEnvironment(Mockito.any()))
+               .thenReturn(Mono.just(GetApplicationEnvironmentResponse.builder()
+                                                                      .environmentVariables(Collections.emptyMap())
+                                                                      .build()));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private static GetApplicationEnvironmentRequest environmentRequestFor(String applicationGuid) {
+        return Mockito.argThat(request -> request != null && applicationGuid.equals(request.getApplicationId()));
+    }
+
+    private static ScaleApplicationRequest scaleRequestFor(String applicationGuid) {
+        return Mockito.argThat(request -> request != null && applicationGuid.equals(request.getApplicationId()));
+    }
+
+    private ApplicationsV3 mockApplicationsV3(String applicationGuid, String... laterApplicationGuids) {
+        ApplicationsV3 applications = Mockito.mock(ApplicationsV3.class);
+        Mockito.when(delegate.applicationsV3())
+               .thenReturn(applications);
+        List<Mono<ListApplicationsResponse>> responses = Stream.concat(Stream.of(applicationGuid), Stream.of(laterApplicationGuids))
+                                                               .map(CloudControllerRestClientImplTest::buildListApplicationsResponse)
+                                                               .collect(Collectors.toList());
+        AtomicInteger listCount = new AtomicInteger();
+        Mockito.when(applications.list(Mockito.any()))
+               .thenAnswer(invocation -> responses.get(Math.min(listCount.getAndIncrement(), responses.size() - 1)));
+        return applications;
+    }
+
+    private static Mono<ListApplicationsResponse> buildListApplicationsResponse(String applicationGuid) {
+        return Mono.just(ListApplicationsResponse.builder()
+                                                 .resource(buildApplicationResource(applicationGuid, APPLICATION_NAME))
+                                                 .pagination(Pagination.builder()
+                                                                       .totalPages(1)
+                                                                       .build())
+                                                 .build());
+    }
+
+    private static ApplicationResource buildApplicationResource(String applicationGuid, String applicationName) {
+        return ApplicationResource.builder()
+                                  .id(applicationGuid)
+                                  .name(applicationName)
+                                  .createdAt("2021-01-01T00:00:00Z")
+                                  .state(ApplicationState.STARTED)
+                                  .lifecycle(Lifecycle.builder()
+                                                      .type(LifecycleType.BUILDPACK)
+                                                      .data(BuildpackData.builder()
+                                                                         .build())
+                                                      .build())
+                                  .build();
+    }
+
+    private void mockSpacesWithFirstOrganizationCompletingLast() {
+        Spaces spaces = Mockito.mock(Spaces.class);
+        Mockito.when(delegate.spaces())
+               .thenReturn(spaces);
+        Mockito.when(spaces.list(Mockito.any()))
+               .thenReturn(Mono.just(ListSpacesResponse.builder()
+                                                       .resources(buildSpaceResource("first", FIRST_ORGANIZATION_GUID),
+                                                                  buildSpaceResource("second", SECOND_ORGANIZATION_GUID))
+                                                       .totalPages(1)
+                                                       .build()));
+        Organizations organizations = Mockito.mock(Organizations.class);
+        Mockito.when(delegate.organizations())
+               .thenReturn(organizations);
+        CountDownLatch secondOrganizationEmitted = new CountDownLatch(1);
+        Mockito.when(organizations.get(Mockito.any()))
+               .thenAnswer(invocation -> {
+                   GetOrganizationRequest request = invocation.getArgument(0);
+                   GetOrganizationResponse response = buildOrganizationResponse(request.getOrganizationId());
+                   if (!FIRST_ORGANIZATION_GUID.equals(request.getOrganizationId())) {
+                       return Mono.just(response)
+                                  .doFinally(signal -> secondOrganizationEmitted.countDown());
+                   }
+                   return Mono.fromCallable(() -> {
+                       assertTrue(secondOrganizationEmitted.await(10, TimeUnit.SECONDS));
+                       return response;
+                   })
+                              .subscribeOn(Schedulers.boundedElastic());
+               });
+    }
+
+    private static SpaceResource buildSpaceResource(String name, String organizationGuid) {
+        return SpaceResource.builder()
+                            .metadata(org.cloudfoundry.client.v2.Metadata.builder()
+                                                                         .id(UUID.randomUUID()
+                                                                                 .toString())
+                                                                         .build())
+                            .entity(SpaceEntity.builder()
+                                               .name(name)
+                                               .organizationId(organizationGuid)
+                                               .build())
+                            .build();
+    }
+
+    private static GetOrganizationResponse buildOrganizationResponse(String organizationGuid) {
+        return GetOrganizationResponse.builder()
+                                      .metadata(org.cloudfoundry.client.v2.Metadata.builder()
+                                                                                   .id(organizationGuid)
+                                                                                   .build())
+                                      .entity(OrganizationEntity.builder()
+                                                                .name("org")
+                                                                .build())
+                                      .build();
+    }
+
+    private static List<String> getNames(List<CloudSpace> spaces) {
+        return spaces.stream()
+                     .map(CloudSpace::getName)
+                     .collect(Collectors.toList());
+    }
+
+    private ServicePlans mockServicePlans() {
+        GetServicePlanResponse response = GetServicePlanResponse.builder()
+                                                                .entity(ServicePlanEntity.builder()
+                                                                                         .name("v9.4-large")
+                                                                                         .free(false)
+                                                                                         .build())
+                                                                .build();
+        ServicePlans servicePlans = Mockito.mock(ServicePlans.class);
+        Mockito.when(delegate.servicePlans())
+               .thenReturn(servicePlans);
+        Mockito.when(servicePlans.get(Mockito.any()))
+               .thenReturn(Mono.just(response));
+        return servicePlans;
+    }
+
     private ClientV2Exception clientV2Exception(int statusCode) {
         return new ClientV2Exception(statusCode, 0, "", "");
     }
@@ -0,0 +1,145 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class DomainIndexTest {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final String DOMAIN = "example.com";
+    private static final String NEW_DOMAIN = "example.org";
+    private static final UUID DOMAIN_GUID = UUID.fromString("a3d8b0f1-7c4e-4b6a-9e2d-1f5c8a7b3e90");
+    private static final UUID NEW_DOMAIN_GUID = UUID.fromString("c7e2a9d4-5b1f-4e8c-a6d3-2b9f0e4c7a15");
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void testConcurrentInitialLoadsAreCoalesced() {
+        DomainIndex domainIndex = createDomainIndex(() -> Mono.just(Map.of(DOMAIN, DOMAIN_GUID))
+                                                              .delayElement(Duration.ofMillis(100)));
+
+        List<Map<String, UUID>> results = Flux.range(0, 10)
+                                              .flatMap(i -> domainIndex.getDomainGuids())
+                                              .collectList()
+                                              .block();
+
+        assertEquals(10, results.size());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void testStaleIndexIsServedAndRefreshedInBackground() {
+        AtomicInteger version = new AtomicInteger();
+        DomainIndex domainIndex = createDomainIndex(() -> Mono.just(version.getAndIncrement() == 0 ? Map.of(DOMAIN, DOMAIN_GUID)
+            : Map.of(DOMAIN, DOMAIN_GUID, NEW_DOMAIN, NEW_DOMAIN_GUID)));
+
+        assertEquals(1, getDomainGuids(domainIndex).size());
+        nanoTime.addAndGet(REFRESH_INTERVAL.toNanos());
+        assertEquals(1, getDomainGuids(domainIndex).size());
+        assertEquals(2, getDomainGuids(domainIndex).size());
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void testAddedAndRemovedDomainsAreApplied() {
+        DomainIndex domainIndex = createDomainIndex(() -> Mono.just(Map.of(DOMAIN, DOMAIN_GUID)));
+        getDomainGuids(domainIndex);
+
+        domainIndex.put(NEW_DOMAIN, NEW_DOMAIN_GUID);
+        domainIndex.remove(DOMAIN);
+
+        assertEquals(Map.of(NEW_DOMAIN, NEW_DOMAIN_GUID), getDomainGuids(domainIndex));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void testChangesDuringInitialLoadAreApplied() {
+        CompletableFuture<Map<String, UUID>> loadedDomainGuids = new CompletableFuture<>();
+        DomainIndex domainIndex = createDomainIndex(() -> Mono.fromFuture(loadedDomainGuids));
+        CompletableFuture<Map<String, UUID>> initialLoad = domainIndex.getDomainGuids()
+                                                                      .toFuture();
+
+        domainIndex.put(NEW_DOMAIN, NEW_DOMAIN_GUID);
+        domainIndex.remove(DOMAIN);
+        loadedDomainGuids.complete(Map.of(DOMAIN, DOMAIN_GUID));
+
+        assertEquals(Map.of(NEW_DOMAIN, NEW_DOMAIN_GUID), initialLoad.join());
+        assertEquals(Map.of(NEW_DOMAIN, NEW_DOMAIN_GUID), getDomainGuids(domainIndex));
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void testRefreshStartedBeforeChangeIsDiscarded() {
+        AtomicInteger version = new AtomicInteger();
+        DomainIndex[] domainIndex = new DomainIndex[1];
+        domainIndex[0] = createDomainIndex(() -> Mono.fromSupplier(() -> {
+            if (version.getAndIncrement() > 0) {
+                domainIndex[0].put(NEW_DOMAIN, NEW_DOMAIN_GUID);
+            }
+            return Map.of(DOMAIN, DOMAIN_GUID);
+        }));
+        getDomainGuids(domainIndex[0]);
+
+        nanoTime.addAndGet(REFRESH_INTERVAL.toNanos());
+        getDomainGuids(domainIndex[0]);
+
+        assertEquals(Map.of(DOMAIN, DOMAIN_GUID, NEW_DOMAIN, NEW_DOMAIN_GUID), getDomainGuids(domainIndex[0]));
+    }
+
+    @Test
+    void testExplicitRefreshStartedBeforeChangeReturnsCurrentIndex() {
+        AtomicInteger version = new AtomicInteger();
+        DomainIndex[] domainIndex = new DomainIndex[1];
+        domainIndex[0] = createDomainIndex(() -> Mono.fromSupplier(() -> {
+            if (version.getAndIncrement() > 0) {
+                domainIndex[0].put(NEW_DOMAIN, NEW_DOMAIN_GUID);
+            }
+            return Map.of(DOMAIN, DOMAIN_GUID);
+        }));
+        getDomainGuids(domainIndex[0]);
+
+        Map<String, UUID> refreshedDomainGuids = domainIndex[0].refresh()
+                                                               .block();
+
+        assertEquals(Map.of(DOMAIN, DOMAIN_GUID, NEW_DOMAIN, NEW_DOMAIN_GUID), refreshedDomainGuids);
+    }
+
+    @Test
+    void testFailedInitialLoadIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        DomainIndex domainIndex = createDomainIndex(() -> attempts.getAndIncrement() == 0
+            ? Mono.error(new IllegalStateException("Service unavailable"))
+            : Mono.just(Map.of(DOMAIN, DOMAIN_GUID)));
+
+        assertThrows(IllegalStateException.class, () -> getDomainGuids(domainIndex));
+
+        assertEquals(Map.of(DOMAIN, DOMAIN_GUID), getDomainGuids(domainIndex));
+    }
+
+    private DomainIndex createDomainIndex(Supplier<Mono<Map<String, UUID>>> loader) {
+        return new DomainIndex(() -> loader.get()
+                                           .doOnSubscribe(subscription -> loadCount.incrementAndGet()),
+                               REFRESH_INTERVAL, nanoTime::get);
+    }
+
+    private static Map<String, UUID> getDomainGuids(DomainIndex domainIndex) {
+        return domainIndex.getDomainGuids()
+                          .block();
+    }
+
+}
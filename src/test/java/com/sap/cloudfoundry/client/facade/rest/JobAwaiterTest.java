@@ -0,0 +1,151 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.domain.CloudJob;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudJob;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class JobAwaiterTest {
+
+    private static final Duration INITIAL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration MAX_INTERVAL = Duration.ofMillis(40);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final int CONCURRENCY = 2;
+
+    private final Map<UUID, AtomicInteger> remainingPolls = new ConcurrentHashMap<>();
+    private final Map<UUID, CloudJob.Status> finalStatuses = new ConcurrentHashMap<>();
+    private final AtomicInteger polls = new AtomicInteger();
+    private final AtomicInteger runningPolls = new AtomicInteger();
+    private final AtomicInteger maxRunningPolls = new AtomicInteger();
+
+    @Test
+    void testJobsAreAwaitedTogether() {
+        List<CloudJob> jobs = List.of(createJob(0, CloudJob.Status.FINISHED), createJob(3, CloudJob.Status.FAILED),
+                                      createJob(1, CloudJob.Status.FINISHED));
+
+        List<CloudJob> completedJobs = createAwaiter().await(jobs, CONCURRENCY, TIMEOUT)
+                                                      .block();
+
+        List<CloudJob.Status> statuses = completedJobs.stream()
+                                                      .map(CloudJob::getStatus)
+                                                      .collect(Collectors.toList());
+        assertEquals(getGuids(jobs), getGuids(completedJobs));
+        assertEquals(List.of(CloudJob.Status.FINISHED, CloudJob.Status.FAILED, CloudJob.Status.FINISHED), statuses);
+        assertEquals(1 + 4 + 2, polls.get());
+    }
+
+    @Test
+    void testCompletedJobsAreNotPolled() {
+        CloudJob job = ImmutableCloudJob.copyOf(createJob(0, CloudJob.Status.FINISHED))
+                                        .withStatus(CloudJob.Status.FINISHED);
+
+        List<CloudJob> completedJobs = createAwaiter().await(List.of(job), CONCURRENCY, TIMEOUT)
+                                                      .block();
+
+        assertEquals(List.of(job), completedJobs);
+        assertEquals(0, polls.get());
+    }
+
+    @Test
+    void testNullJobsAreSkipped() {
+        CloudJob job = createJob(1, CloudJob.Status.FINISHED);
+        List<CloudJob> jobs = new ArrayList<>();
+        jobs.add(null);
+        jobs.add(job);
+
+        List<CloudJob> completedJobs = createAwaiter().await(jobs, CONCURRENCY, TIMEOUT)
+                                                      .block();
+
+        assertEquals(getGuids(List.of(job)), getGuids(completedJobs));
+        assertEquals(CloudJob.Status.FINISHED, completedJobs.get(0)
+                                                            .getStatus());
+    }
+
+    @Test
+    void testPollsAreBoundedByConcurrency() {
+        List<CloudJob> jobs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            jobs.add(createJob(2, CloudJob.Status.FINISHED));
+        }
+        JobAwaiter awaiter = new JobAwaiter(this::getJobCountingRunningPolls, INITIAL_INTERVAL, MAX_INTERVAL, Schedulers.parallel());
+
+        awaiter.await(jobs, CONCURRENCY, TIMEOUT)
+               .block();
+
+        assertEquals(10 * 3, polls.get());
+        assertTrue(maxRunningPolls.get() <= CONCURRENCY, "Polls running at the same time: " + maxRunningPolls.get());
+    }
+
+    @Test
+    void testTimeoutIsReported() {
+        List<CloudJob> jobs = List.of(createJob(0, CloudJob.Status.FINISHED), createJob(Integer.MAX_VALUE, CloudJob.Status.FINISHED));
+        JobAwaiter awaiter = createAwaiter();
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> awaiter.await(jobs, CONCURRENCY, Duration.ofMillis(100))
+                                                                                         .block());
+
+        assertTrue(e.getMessage()
+                    .startsWith("1 of 2 jobs did not complete"), e.getMessage());
+    }
+
+    private JobAwaiter createAwaiter() {
+        return new JobAwaiter(this::getJob, INITIAL_INTERVAL, MAX_INTERVAL, Schedulers.parallel());
+    }
+
+    /**
+     * @param runningPolls the number of polls, which report the job as running, before it reaches its final status
+     */
+    private CloudJob createJob(int runningPolls, CloudJob.Status finalStatus) {
+        UUID guid = UUID.randomUUID();
+        remainingPolls.put(guid, new AtomicInteger(runningPolls));
+        finalStatuses.put(guid, finalStatus);
+        return ImmutableCloudJob.builder()
+                                .metadata(ImmutableCloudMetadata.of(guid))
+                                .build();
+    }
+
+    private Mono<CloudJob> getJob(UUID guid) {
+        return Mono.fromSupplier(() -> {
+            polls.incrementAndGet();
+            boolean running = remainingPolls.get(guid)
+                                            .getAndDecrement() > 0;
+            return ImmutableCloudJob.builder()
+                                    .metadata(ImmutableCloudMetadata.of(guid))
+                                    .status(running ? CloudJob.Status.RUNNING : finalStatuses.get(guid))
+                                    .build();
+        });
+    }
+
+    private Mono<CloudJob> getJobCountingRunningPolls(UUID guid) {
+        return getJob(guid).delayElement(Duration.ofMillis(5))
+                           .doOnSubscribe(subscription -> maxRunningPolls.accumulateAndGet(runningPolls.incrementAndGet(), Math::max))
+                           .doOnNext(job -> runningPolls.decrementAndGet());
+    }
+
+    private static List<UUID> getGuids(List<CloudJob> jobs) {
+        List<UUID> guids = new ArrayList<>();
+        for (CloudJob job : jobs) {
+            guids.add(job.getMetadata()
+                         .getGuid());
+        }
+        return guids;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.sap.cloudfoundry.client.facade.ApplicationLogListener;
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+
+import reactor.core.publisher.Flux;
+
+class LogStreamSubscriptionTest {
+
+    private static final UUID APPLICATION_GUID = UUID.fromString("0e1a3b5c-7d9f-4a2b-8c4d-6e8f0a2b4c6d");
+
+    private final ApplicationLogListener listener = Mockito.mock(ApplicationLogListener.class);
+    private final List<String> reports = new ArrayList<>();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final LogStreamSubscription subscription = new LogStreamSubscription(APPLICATION_GUID, listener, reports::add,
+                                                                                 nanoTime::get);
+
+    @Test
+    void testQueuedSignalsAreNotPassedToListenerAfterCancel() {
+        AtomicBoolean disposed = new AtomicBoolean();
+        subscription.subscribeTo(Flux.<ApplicationLog> never()
+                                     .doOnCancel(() -> disposed.set(true)));
+
+        subscription.cancel();
+        subscription.onMessage(Mockito.mock(ApplicationLog.class));
+        subscription.onError(new IllegalStateException());
+        subscription.onComplete();
+
+        assertTrue(disposed.get());
+        Mockito.verifyNoInteractions(listener);
+    }
+
+    @Test
+    void testListenerIsNotCalledAfterCompletion() {
+        subscription.onComplete();
+        subscription.onMessage(Mockito.mock(ApplicationLog.class));
+        subscription.onComplete();
+
+        Mockito.verify(listener)
+               .onComplete();
+        Mockito.verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    void testDroppedLogsAreReportedInSummaries() {
+        ApplicationLog log = Mockito.mock(ApplicationLog.class);
+        subscription.onDropped(log);
+        for (int i = 0; i < 500; i++) {
+            subscription.onDropped(log);
+        }
+        nanoTime.addAndGet(LogStreamSubscription.DROPPED_LOGS_REPORT_INTERVAL.toNanos());
+        subscription.onDropped(log);
+        subscription.onDropped(log);
+        subscription.onDropped(log);
+        subscription.cancel();
+
+        assertEquals(List.of(getReport(1), getReport(501), getReport(2)), reports);
+    }
+
+    private static String getReport(int droppedLogs) {
+        return "Dropped " + droppedLogs + " logs of application \"" + APPLICATION_GUID + "\", because the listener could not keep up";
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloudfoundry.client.facade.domain.ApplicationLog;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableApplicationLog;
+
+class NewestApplicationLogsTest {
+
+    @Test
+    void testLogsAreSortedByTimestamp() {
+        NewestApplicationLogs newestLogs = new NewestApplicationLogs(Integer.MAX_VALUE);
+        addLogs(newestLogs, "a", 0, 7, 1, 4);
+        addLogs(newestLogs, "c", 2, 6, 3);
+        addLogs(newestLogs, "b", 1, 5, 2);
+
+        assertEquals(List.of("a1", "b2", "c3", "a4", "b5", "c6", "a7"), getMessages(newestLogs.toSortedList()));
+    }
+
+    @Test
+    void testOldestLogsAreDropped() {
+        NewestApplicationLogs newestLogs = new NewestApplicationLogs(3);
+        addLogs(newestLogs, "a", 0, 7, 1, 4);
+        addLogs(newestLogs, "b", 1, 2, 5);
+
+        assertEquals(List.of("a4", "b5", "a7"), getMessages(newestLogs.toSortedList()));
+    }
+
+    @Test
+    void testLogsWithEqualTimestampsKeepTheOrderOfTheApplications() {
+        NewestApplicationLogs newestLogs = new NewestApplicationLogs(Integer.MAX_VALUE);
+        addLogs(newestLogs, "b", 2, 1, 2);
+        addLogs(newestLogs, "a", 0, 2, 1);
+
+        assertEquals(List.of("a1", "b1", "a2", "b2"), getMessages(newestLogs.toSortedList()));
+    }
+
+    @Test
+    void testLogsOfOneApplicationWithEqualTimestampsKeepTheirOrder() {
+        NewestApplicationLogs newestLogs = new NewestApplicationLogs(2);
+        newestLogs.add(buildLog("first", "a", 1), 0);
+        newestLogs.add(buildLog("second", "a", 1), 0);
+        newestLogs.add(buildLog("third", "a", 1), 0);
+
+        assertEquals(List.of("second", "third"), getMessages(newestLogs.toSortedList()));
+    }
+
+    private static void addLogs(NewestApplicationLogs newestLogs, String applicationName, int applicationIndex, long... timestamps) {
+        for (long timestamp : timestamps) {
+            newestLogs.add(buildLog(applicationName + timestamp, applicationName, timestamp), applicationIndex);
+        }
+    }
+
+    private static ApplicationLog buildLog(String message, String applicationGuid, long timestamp) {
+        return ImmutableApplicationLog.builder()
+                                      .applicationGuid(applicationGuid)
+                                      .message(message)
+                                      .timestamp(new Date(timestamp))
+                                      .messageType(ApplicationLog.MessageType.STDOUT)
+                                      .sourceId("0")
+                                      .sourceName("APP/PROC/WEB")
+                                      .build();
+    }
+
+    private static List<String> getMessages(List<ApplicationLog> logs) {
+        return logs.stream()
+                   .map(ApplicationLog::getMessage)
+                   .collect(Collectors.toList());
+    }
+
+}
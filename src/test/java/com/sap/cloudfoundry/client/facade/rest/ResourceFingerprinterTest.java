@@ -0,0 +1,213 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class ResourceFingerprinterTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceFingerprinterTest.class);
+
+    private static final long LAST_MODIFIED = 1_600_000_000_000L;
+    private static final int BENCHMARK_FILE_COUNT = 40_000;
+    private static final int BENCHMARK_FILE_SIZE = 4 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testFingerprintsAreInEntryOrder() throws IOException {
+        Path archive = createArchive(tempDir.resolve("application.zip"), 500, 100, "");
+        ResourceFingerprinter fingerprinter = createFingerprinter();
+
+        List<ResourceFingerprint> fingerprints = fingerprinter.fingerprint(archive);
+
+        assertEquals(500, fingerprints.size());
+        for (int i = 0; i < fingerprints.size(); i++) {
+            ResourceFingerprint fingerprint = fingerprints.get(i);
+            byte[] content = createContent(i, 100, "");
+            assertEquals(getFileName(i), fingerprint.getPath());
+            assertEquals(content.length, fingerprint.getSize());
+            assertEquals(ApplicationArchive.fingerprint("", null, new ByteArrayInputStream(content), new byte[16])
+                                           .getSha1(),
+                         fingerprint.getSha1());
+        }
+    }
+
+    @Test
+    void testChecksumsAreReusedAcrossLoadsOfTheCache() throws IOException {
+        Path archive = createArchive(tempDir.resolve("application.zip"), 10, 100, "");
+        List<ResourceFingerprint> fingerprints = createFingerprinter().fingerprint(archive);
+
+        ResourceFingerprintCache cache = ResourceFingerprintCache.load(getCacheFile());
+
+        assertEquals(10, cache.size());
+        assertEquals(fingerprints, new ResourceFingerprinter(pool, cache).fingerprint(archive));
+    }
+
+    @Test
+    void testChangedContentIsHashedAgain() throws IOException {
+        Path archive = createArchive(tempDir.resolve("application.zip"), 1, 100, "");
+        Path changedArchive = createArchive(tempDir.resolve("changed.zip"), 1, 100, "changed");
+        ResourceFingerprinter fingerprinter = createFingerprinter();
+
+        String sha1 = fingerprinter.fingerprint(archive)
+                                   .get(0)
+                                   .getSha1();
+        String changedSha1 = fingerprinter.fingerprint(changedArchive)
+                                          .get(0)
+                                          .getSha1();
+
+        assertNotEquals(sha1, changedSha1);
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        ResourceFingerprintCache cache = ResourceFingerprintCache.load(getCacheFile(), 2);
+        for (int i = 0; i < 3; i++) {
+            cache.put(getFileName(i), 1, LAST_MODIFIED, i, "sha1-" + i);
+        }
+        cache.save();
+
+        ResourceFingerprintCache loadedCache = ResourceFingerprintCache.load(getCacheFile());
+
+        assertEquals(2, loadedCache.size());
+        assertNull(loadedCache.get(getFileName(0), 1, LAST_MODIFIED, 0));
+        assertEquals("sha1-2", loadedCache.get(getFileName(2), 1, LAST_MODIFIED, 2));
+    }
+
+    @Test
+    void testCacheIsBoundedInMemory() {
+        ResourceFingerprintCache cache = ResourceFingerprintCache.load(getCacheFile(), 10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(getFileName(i), 1, LAST_MODIFIED, i, "sha1-" + i);
+        }
+        assertEquals("sha1-0", cache.get(getFileName(0), 1, LAST_MODIFIED, 0));
+
+        cache.put(getFileName(10), 1, LAST_MODIFIED, 10, "sha1-10");
+
+        assertEquals(9, cache.size());
+        assertEquals("sha1-0", cache.get(getFileName(0), 1, LAST_MODIFIED, 0));
+        assertNull(cache.get(getFileName(1), 1, LAST_MODIFIED, 1));
+        assertNull(cache.get(getFileName(2), 1, LAST_MODIFIED, 2));
+    }
+
+    @Test
+    void testCacheOfAnotherUserIsIgnored() throws IOException {
+        ResourceFingerprintCache cache = ResourceFingerprintCache.load(getCacheFile());
+        cache.put(getFileName(0), 1, LAST_MODIFIED, 0, "sha1-0");
+        cache.save();
+        UserPrincipal otherUser = () -> "other-user";
+
+        assertEquals(0, ResourceFingerprintCache.load(getCacheFile(), 10, otherUser)
+                                                .size());
+        assertEquals(1, ResourceFingerprintCache.load(getCacheFile(), 10, Files.getOwner(getCacheFile()))
+                                                .size());
+    }
+
+    @Test
+    @EnabledOnOs({ OS.LINUX, OS.MAC })
+    void testCacheDirectoryIsOnlyAccessibleByOwner() throws IOException {
+        ResourceFingerprintCache cache = ResourceFingerprintCache.load(getCacheFile());
+        cache.put(getFileName(0), 1, LAST_MODIFIED, 0, "sha1-0");
+        cache.save();
+
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(getCacheFile().getParent()));
+    }
+
+    /**
+     * Logs the throughput of fingerprinting a synthetic archive, with and without cached checksums. Run with
+     * {@code mvn test -Dtest=ResourceFingerprinterTest -Dbenchmark=true} and an SLF4J binding on the test class path.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkFingerprinting() throws IOException {
+        Path archive = createArchive(tempDir.resolve("application.zip"), BENCHMARK_FILE_COUNT, BENCHMARK_FILE_SIZE, "");
+        ForkJoinPool sequentialPool = new ForkJoinPool(1);
+        ForkJoinPool parallelPool = new ForkJoinPool(Runtime.getRuntime()
+                                                            .availableProcessors());
+        try {
+            ResourceFingerprintCache emptyCache = ResourceFingerprintCache.load(tempDir.resolve("sequential-cache"));
+            reportThroughput("sequential", new ResourceFingerprinter(sequentialPool, emptyCache), archive);
+            ResourceFingerprinter fingerprinter = new ResourceFingerprinter(parallelPool, ResourceFingerprintCache.load(getCacheFile()));
+            reportThroughput("parallel", fingerprinter, archive);
+            reportThroughput("cached", fingerprinter, archive);
+        } finally {
+            sequentialPool.shutdown();
+            parallelPool.shutdown();
+        }
+    }
+
+    private static void reportThroughput(String name, ResourceFingerprinter fingerprinter, Path archive) throws IOException {
+        long start = System.nanoTime();
+        int fileCount = fingerprinter.fingerprint(archive)
+                                     .size();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        LOGGER.info("{}: {} files in {} s ({} files/s)", name, fileCount, String.format("%.2f", seconds),
+                    String.format("%.0f", fileCount / seconds));
+    }
+
+    private ResourceFingerprinter createFingerprinter() {
+        return new ResourceFingerprinter(pool, ResourceFingerprintCache.load(getCacheFile()));
+    }
+
+    private Path getCacheFile() {
+        return tempDir.resolve("cache")
+                      .resolve("resource-fingerprints");
+    }
+
+    private static Path createArchive(Path archive, int fileCount, int fileSize, String salt) throws IOException {
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (int i = 0; i < fileCount; i++) {
+                ZipEntry entry = new ZipEntry(getFileName(i));
+                entry.setTime(LAST_MODIFIED);
+                outputStream.putNextEntry(entry);
+                outputStream.write(createContent(i, fileSize, salt));
+                outputStream.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+    private static byte[] createContent(int index, int size, String salt) {
+        byte[] content = new byte[size];
+        new Random(index).nextBytes(content);
+        byte[] saltBytes = salt.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(saltBytes, 0, content, 0, saltBytes.length);
+        return content;
+    }
+
+    private static String getFileName(int index) {
+        return "dir" + (index % 10) + "/file" + index + ".txt";
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.cloudfoundry.client.CloudFoundryClient;
+import org.cloudfoundry.client.v2.Metadata;
+import org.cloudfoundry.client.v2.Resource;
+import org.cloudfoundry.client.v2.stacks.GetStackRequest;
+import org.cloudfoundry.client.v2.stacks.GetStackResponse;
+import org.cloudfoundry.client.v2.stacks.ListStacksRequest;
+import org.cloudfoundry.client.v2.stacks.ListStacksResponse;
+import org.cloudfoundry.client.v2.stacks.StackEntity;
+import org.cloudfoundry.client.v2.stacks.StackResource;
+import org.cloudfoundry.client.v2.stacks.Stacks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class StackCacheTest {
+
+    private static final String STACK_GUID = "4a5c9c82-94e1-4b37-a3a6-0e0f5b3ba0a5";
+    private static final String STACK_NAME = "cflinuxfs3";
+    private static final String OTHER_STACK_GUID = "b6e3c2a5-0b1c-4d58-9b3f-7c9bdf3b8f1e";
+    private static final String OTHER_STACK_NAME = "windows";
+
+    @Mock
+    private CloudFoundryClient delegate;
+    @Mock
+    private Stacks stacks;
+    private StackCache stackCache;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this)
+                          .close();
+        Mockito.when(delegate.stacks())
+               .thenReturn(stacks);
+        stackCache = new StackCache(StackCache.DEFAULT_TIME_TO_LIVE);
+    }
+
+    @Test
+    void testGetStackByGuidIsLoadedOnce() {
+        Mockito.when(stacks.get(Mockito.any()))
+               .thenReturn(Mono.just(buildGetStackResponse(STACK_GUID, STACK_NAME)));
+
+        for (int i = 0; i < 10; i++) {
+            Resource<StackEntity> stack = getStack(UUID.fromString(STACK_GUID)).block();
+            assertEquals(STACK_NAME, stack.getEntity()
+                                          .getName());
+        }
+
+        Mockito.verify(stacks, Mockito.times(1))
+               .get(Mockito.any());
+        assertEquals(9, stackCache.getSavedRequestsCount());
+    }
+
+    @Test
+    void testConcurrentMissesAreCoalesced() {
+        Mockito.when(stacks.get(Mockito.any()))
+               .thenReturn(Mono.just(buildGetStackResponse(STACK_GUID, STACK_NAME))
+                               .delayElement(Duration.ofMillis(100)));
+
+        List<Resource<StackEntity>> loadedStacks = Flux.range(0, 20)
+                                                       .flatMap(i -> getStack(UUID.fromString(STACK_GUID)))
+                                                       .collectList()
+                                                       .block();
+
+        assertEquals(20, loadedStacks.size());
+        Mockito.verify(stacks, Mockito.times(1))
+               .get(Mockito.any());
+        assertEquals(19, stackCache.getSavedRequestsCount());
+    }
+
+    @Test
+    void testGetStackByNameAfterGetStackByGuid() {
+        Mockito.when(stacks.get(Mockito.any()))
+               .thenReturn(Mono.just(buildGetStackResponse(STACK_GUID, STACK_NAME)));
+
+        getStack(UUID.fromString(STACK_GUID)).block();
+        Resource<StackEntity> stack = getStack(STACK_NAME).block();
+
+        assertEquals(STACK_GUID, stack.getMetadata()
+                                      .getId());
+        Mockito.verify(stacks, Mockito.never())
+               .list(Mockito.any());
+        assertEquals(1, stackCache.getSavedRequestsCount());
+    }
+
+    @Test
+    void testGetStacksPopulatesLookupsByGuidAndName() {
+        Mockito.when(stacks.list(Mockito.any()))
+               .thenReturn(Mono.just(ListStacksResponse.builder()
+                                                       .resources(buildStackResource(STACK_GUID, STACK_NAME),
+                                                                 buildStackResource(OTHER_STACK_GUID, OTHER_STACK_NAME))
+                                                       .totalPages(1)
+                                                       .build()));
+
+        assertEquals(2, getStacks().size());
+        assertEquals(2, getStacks().size());
+        getStack(UUID.fromString(OTHER_STACK_GUID)).block();
+        getStack(STACK_NAME).block();
+
+        Mockito.verify(stacks, Mockito.times(1))
+               .list(Mockito.any());
+        Mockito.verify(stacks, Mockito.never())
+               .get(Mockito.any());
+        assertEquals(3, stackCache.getSavedRequestsCount());
+    }
+
+    @Test
+    void testFailedLoadIsNotCached() {
+        Mockito.when(stacks.get(Mockito.any()))
+               .thenReturn(Mono.error(new IllegalStateException("Service unavailable")))
+               .thenReturn(Mono.just(buildGetStackResponse(STACK_GUID, STACK_NAME)));
+
+        assertThrows(IllegalStateException.class, () -> getStack(UUID.fromString(STACK_GUID)).block());
+        Resource<StackEntity> stack = getStack(UUID.fromString(STACK_GUID)).block();
+
+        assertEquals(STACK_NAME, stack.getEntity()
+                                      .getName());
+        Mockito.verify(stacks, Mockito.times(2))
+               .get(Mockito.any());
+    }
+
+    @Test
+    void testExpiredStackIsReloaded() {
+        AtomicLong nanoTime = new AtomicLong();
+        Duration timeToLive = Duration.ofMinutes(1);
+        stackCache = new StackCache(new ResourceCache<>(timeToLive, 10, nanoTime::get),
+                                    new ResourceCache<>(timeToLive, 10, nanoTime::get),
+                                    new ResourceCache<>(timeToLive, 1, nanoTime::get));
+        Mockito.when(stacks.get(Mockito.any()))
+               .thenReturn(Mono.just(buildGetStackResponse(STACK_GUID, STACK_NAME)));
+
+        getStack(UUID.fromString(STACK_GUID)).block();
+        nanoTime.addAndGet(timeToLive.minusSeconds(1)
+                                     .toNanos());
+        getStack(UUID.fromString(STACK_GUID)).block();
+        nanoTime.addAndGet(timeToLive.toNanos());
+        getStack(UUID.fromString(STACK_GUID)).block();
+
+        Mockito.verify(stacks, Mockito.times(2))
+               .get(Mockito.any());
+        assertEquals(1, stackCache.getSavedRequestsCount());
+    }
+
+    private Mono<Resource<StackEntity>> getStack(UUID guid) {
+        return stackCache.getStack(guid, key -> delegate.stacks()
+                                                        .get(GetStackRequest.builder()
+                                                                            .stackId(key.toString())
+                                                                            .build()));
+    }
+
+    private Mono<Resource<StackEntity>> getStack(String name) {
+        return stackCache.getStack(name, key -> delegate.stacks()
+                                                        .list(ListStacksRequest.builder()
+                                                                               .name(key)
+                                                                               .build())
+                                                        .flatMapMany(response -> Flux.fromIterable(response.getResources()))
+                                                        .singleOrEmpty());
+    }
+
+    private List<Resource<StackEntity>> getStacks() {
+        return stackCache.getStacks(() -> delegate.stacks()
+                                                  .list(ListStacksRequest.builder()
+                                                                         .build())
+                                                  .flatMapMany(response -> Flux.fromIterable(response.getResources())))
+                         .collectList()
+                         .block();
+    }
+
+    private static GetStackResponse buildGetStackResponse(String guid, String name) {
+        return GetStackResponse.builder()
+                               .metadata(buildMetadata(guid))
+                               .entity(buildStackEntity(name))
+                               .build();
+    }
+
+    private static StackResource buildStackResource(String guid, String name) {
+        return StackResource.builder()
+                            .metadata(buildMetadata(guid))
+                            .entity(buildStackEntity(name))
+                            .build();
+    }
+
+    private static Metadata buildMetadata(String guid) {
+        return Metadata.builder()
+                       .id(guid)
+                       .build();
+    }
+
+    private static StackEntity buildStackEntity(String name) {
+        return StackEntity.builder()
+                          .name(name)
+                          .build();
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.sap.cloudfoundry.client.facade.CloudOperationException;
+import com.sap.cloudfoundry.client.facade.domain.CloudTask;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudMetadata;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableCloudTask;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+class StatusWatcherTest {
+
+    private static final Duration POLLING_INTERVAL = Duration.ofMillis(10);
+    private static final int BATCH_SIZE = 10;
+    private static final long TIMEOUT_IN_SECONDS = 10;
+
+    private final Map<UUID, CloudTask.State> states = new ConcurrentHashMap<>();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private final AtomicInteger failingListRequests = new AtomicInteger();
+    private final List<List<UUID>> requestedBatches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testWatchedEntitiesArePolledInBatches() throws Exception {
+        List<UUID> guids = createTasks(25, CloudTask.State.RUNNING);
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch watchesRegistered = new CountDownLatch(1);
+        // Holds back the first tick, until all entities are watched.
+        executor.execute(() -> awaitUninterruptibly(watchesRegistered));
+        try {
+            StatusWatcher<UUID, CloudTask> watcher = createWatcher(Schedulers.fromExecutorService(executor));
+            List<CompletableFuture<CloudTask>> futures = guids.stream()
+                                                             .map(watcher::watch)
+                                                             .collect(Collectors.toList());
+            watchesRegistered.countDown();
+
+            waitForListRequests(3);
+            guids.forEach(guid -> states.put(guid, CloudTask.State.SUCCEEDED));
+
+            for (CompletableFuture<CloudTask> future : futures) {
+                assertEquals(CloudTask.State.SUCCEEDED, future.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)
+                                                              .getState());
+            }
+            assertTrue(requestedBatches.stream()
+                                       .allMatch(batch -> batch.size() <= BATCH_SIZE));
+            List<UUID> firstPolledGuids = requestedBatches.subList(0, 3)
+                                                          .stream()
+                                                          .flatMap(List::stream)
+                                                          .collect(Collectors.toList());
+            assertEquals(guids.size(), firstPolledGuids.size());
+            assertTrue(firstPolledGuids.containsAll(guids));
+            assertEquals(0, watcher.getWatchedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testPollingStopsWhenNothingIsWatched() throws Exception {
+        UUID guid = createTasks(1, CloudTask.State.FAILED).get(0);
+        StatusWatcher<UUID, CloudTask> watcher = createWatcher();
+
+        watcher.watch(guid)
+               .get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+        int listRequestsAfterCompletion = listRequests.get();
+        Thread.sleep(POLLING_INTERVAL.multipliedBy(5)
+                                     .toMillis());
+
+        assertEquals(listRequestsAfterCompletion, listRequests.get());
+    }
+
+    @Test
+    void testMissingEntityIsReportedAsNotFound() {
+        StatusWatcher<UUID, CloudTask> watcher = createWatcher();
+
+        CompletableFuture<CloudTask> future = watcher.watch(UUID.randomUUID());
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof CloudOperationException);
+        assertEquals(HttpStatus.NOT_FOUND, ((CloudOperationException) e.getCause()).getStatusCode());
+    }
+
+    @Test
+    void testTransientFailuresAreRetried() throws Exception {
+        UUID guid = createTasks(1, CloudTask.State.SUCCEEDED).get(0);
+        failingListRequests.set(StatusWatcher.MAX_CONSECUTIVE_FAILED_POLLS - 1);
+        StatusWatcher<UUID, CloudTask> watcher = createWatcher();
+
+        CloudTask task = watcher.watch(guid)
+                                .get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(guid, task.getMetadata()
+                               .getGuid());
+    }
+
+    @Test
+    void testPersistentFailuresAreReported() {
+        UUID guid = createTasks(1, CloudTask.State.SUCCEEDED).get(0);
+        failingListRequests.set(StatusWatcher.MAX_CONSECUTIVE_FAILED_POLLS);
+        StatusWatcher<UUID, CloudTask> watcher = createWatcher();
+
+        CompletableFuture<CloudTask> future = watcher.watch(guid);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals(0, watcher.getWatchedCount());
+    }
+
+    @Test
+    void testWatchersOfTheSameEntityShareItsPolls() throws Exception {
+        UUID guid = createTasks(1, CloudTask.State.RUNNING).get(0);
+        StatusWatcher<UUID, CloudTask> watcher = createWatcher();
+        CompletableFuture<CloudTask> cancelledFuture = watcher.watch(guid);
+        CompletableFuture<CloudTask> future = watcher.watch(guid);
+
+        cancelledFuture.cancel(false);
+        waitForListRequests(1);
+        states.put(guid, CloudTask.State.SUCCEEDED);
+
+        assertEquals(CloudTask.State.SUCCEEDED, future.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)
+                                                      .getState());
+        assertTrue(cancelledFuture.isCancelled());
+    }
+
+    @Test
+    void testEntityIsNotPolledOnceAllWatchersCancelled() throws Exception {
+        UUID guid = createTasks(1, CloudTask.State.RUNNING).get(0);
+        StatusWatcher<UUID, CloudTask> watcher = createWatcher();
+        CompletableFuture<CloudTask> firstFuture = watcher.watch(guid);
+        CompletableFuture<CloudTask> secondFuture = watcher.watch(guid);
+
+        firstFuture.cancel(false);
+        assertEquals(1, watcher.getWatchedCount());
+        secondFuture.cancel(false);
+        assertEquals(0, watcher.getWatchedCount());
+        int listRequestsAfterCancellation = listRequests.get();
+        Thread.sleep(POLLING_INTERVAL.multipliedBy(5)
+                                     .toMillis());
+
+        assertTrue(listRequests.get() <= listRequestsAfterCancellation + 1);
+    }
+
+    private StatusWatcher<UUID, CloudTask> createWatcher() {
+        return createWatcher(Schedulers.parallel());
+    }
+
+    private StatusWatcher<UUID, CloudTask> createWatcher(Scheduler scheduler) {
+        return new StatusWatcher<>(this::listTasks, StatusWatcherTest::toBatches, StatusWatcherTest::getGuid,
+                                   task -> task.getState() == CloudTask.State.SUCCEEDED || task.getState() == CloudTask.State.FAILED,
+                                   POLLING_INTERVAL, scheduler);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private static UUID getGuid(CloudTask task) {
+        return task.getMetadata()
+                   .getGuid();
+    }
+
+    private List<UUID> createTasks(int count, CloudTask.State state) {
+        List<UUID> guids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID guid = UUID.randomUUID();
+            states.put(guid, state);
+            guids.add(guid);
+        }
+        return guids;
+    }
+
+    private Flux<CloudTask> listTasks(List<UUID> guids) {
+        listRequests.incrementAndGet();
+        requestedBatches.add(guids);
+        if (failingListRequests.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            return Flux.error(new IllegalStateException("Service unavailable"));
+        }
+        return Flux.fromIterable(guids)
+                   .filter(states::containsKey)
+                   .map(guid -> ImmutableCloudTask.builder()
+                                                  .metadata(ImmutableCloudMetadata.of(guid))
+                                                  .state(states.get(guid))
+                                                  .build());
+    }
+
+    private void waitForListRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_IN_SECONDS);
+        while (listRequests.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static List<List<UUID>> toBatches(List<UUID> guids) {
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int i = 0; i < guids.size(); i += BATCH_SIZE) {
+            batches.add(guids.subList(i, Math.min(i + BATCH_SIZE, guids.size())));
+        }
+        return batches;
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.sap.cloudfoundry.client.facade.rest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.sap.cloudfoundry.client.facade.UploadStatusCallback;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableErrorDetails;
+import com.sap.cloudfoundry.client.facade.domain.ImmutableUpload;
+import com.sap.cloudfoundry.client.facade.domain.Status;
+import com.sap.cloudfoundry.client.facade.domain.Upload;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+class UploadStatusPollerTest {
+
+    private static final UUID PACKAGE_GUID = UUID.fromString("4e6f1c2a-8b3d-4f5e-9a7c-1d2e3f4a5b6c");
+    private static final Duration INITIAL_INTERVAL = Duration.ofMillis(20);
+    private static final Duration MAX_INTERVAL = Duration.ofMillis(80);
+    private static final String ERROR_DESCRIPTION = "Upload failed";
+
+    private final List<Long> pollTimes = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testPollingIntervalIsIncreasedUpToMaximum() {
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        UploadStatusPoller poller = createPoller(Status.PROCESSING_UPLOAD, Status.PROCESSING_UPLOAD, Status.PROCESSING_UPLOAD,
+                                                 Status.PROCESSING_UPLOAD, Status.READY);
+
+        Upload upload = poller.poll(PACKAGE_GUID, callback)
+                              .block();
+
+        assertEquals(Status.READY, upload.getStatus());
+        assertEquals(5, pollTimes.size());
+        List<Duration> expectedIntervals = List.of(INITIAL_INTERVAL, INITIAL_INTERVAL.multipliedBy(2), MAX_INTERVAL, MAX_INTERVAL);
+        for (int i = 0; i < expectedIntervals.size(); i++) {
+            long interval = pollTimes.get(i + 1) - pollTimes.get(i);
+            assertTrue(interval >= expectedIntervals.get(i)
+                                                    .toNanos(),
+                       "Interval " + i + " was too short: " + interval);
+        }
+        Mockito.verify(callback, Mockito.times(4))
+               .onProgress(Status.PROCESSING_UPLOAD.toString());
+        Mockito.verify(callback)
+               .onProgress(Status.READY.toString());
+    }
+
+    @Test
+    void testFailedUploadIsReportedToCallback() {
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        UploadStatusPoller poller = createPoller(Status.PROCESSING_UPLOAD, Status.FAILED);
+
+        Upload upload = poller.poll(PACKAGE_GUID, callback)
+                              .toFuture()
+                              .join();
+
+        assertEquals(Status.FAILED, upload.getStatus());
+        Mockito.verify(callback)
+               .onError(ERROR_DESCRIPTION);
+    }
+
+    @Test
+    void testPollingStopsWhenCallbackUnsubscribes() {
+        UploadStatusCallback callback = Mockito.mock(UploadStatusCallback.class);
+        Mockito.when(callback.onProgress(Mockito.anyString()))
+               .thenReturn(true);
+        UploadStatusPoller poller = createPoller(Status.PROCESSING_UPLOAD, Status.READY);
+
+        Upload upload = poller.poll(PACKAGE_GUID, callback)
+                              .block();
+
+        assertEquals(Status.PROCESSING_UPLOAD, upload.getStatus());
+        assertEquals(1, pollTimes.size());
+    }
+
+    private UploadStatusPoller createPoller(Status... statuses) {
+        AtomicInteger polls = new AtomicInteger();
+        return new UploadStatusPoller(packageGuid -> Mono.fromSupplier(() -> {
+            pollTimes.add(System.nanoTime());
+            return buildUpload(statuses[Math.min(polls.getAndIncrement(), statuses.length - 1)]);
+        }), INITIAL_INTERVAL, MAX_INTERVAL, Schedulers.parallel());
+    }
+
+    private static Upload buildUpload(Status status) {
+        return ImmutableUpload.builder()
+                              .status(status)
+                              .errorDetails(ImmutableErrorDetails.builder()
+                                                                 .description(ERROR_DESCRIPTION)
+                                                                 .build())
+                              .build();
+    }
+
+}